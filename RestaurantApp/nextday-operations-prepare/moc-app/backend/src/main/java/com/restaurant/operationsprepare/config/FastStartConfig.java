@@ -0,0 +1,52 @@
+package com.restaurant.operationsprepare.config;
+
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+/**
+ * 起動時間の短縮（fast-start プロファイル）
+ *
+ * 最初の業務リクエストに不要なBean（springdoc など、app.fast-start.lazy-packages のパッケージのもの）を
+ * 遅延初期化し、起動時には作らない。業務のBean（コントローラ・サービス・リポジトリ）は従来どおり起動時に作る。
+ * Spring AOT（mvn -Pfast-start package）はこのプロファイルで処理するため、遅延初期化の指定は
+ * 生成されたBean定義にも含まれる。
+ */
+@Configuration
+@Profile("fast-start")
+public class FastStartConfig {
+
+    @Bean
+    static BeanFactoryPostProcessor lazyInitializationPostProcessor(Environment environment) {
+        List<String> lazyPackages = Binder.get(environment)
+                .bind("app.fast-start.lazy-packages", Bindable.listOf(String.class))
+                .orElse(List.of());
+        return beanFactory -> {
+            for (String beanName : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+                String className = declaringClassName(definition);
+                if (className != null && lazyPackages.stream().anyMatch(className::startsWith)) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    /**
+     * Beanを定義したクラス（@Bean メソッドの場合は設定クラス）の名前
+     */
+    private static String declaringClassName(BeanDefinition definition) {
+        if (definition instanceof AnnotatedBeanDefinition annotated && annotated.getFactoryMethodMetadata() != null) {
+            return annotated.getFactoryMethodMetadata().getDeclaringClassName();
+        }
+        return definition.getBeanClassName();
+    }
+}
@@ -0,0 +1,58 @@
+package com.restaurant.operationsprepare.config;
+
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * バイナリ形式（CBOR / Smile）のリクエスト・レスポンス
+ *
+ * Accept（Content-Type）が application/cbor または application/x-jackson-smile の場合に、
+ * JSONと同じ形のデータをバイナリで送受信する。指定がない場合（* / * を含む）はJSONのまま。
+ * Spring MVC の既定の変換は spring.jackson.* の設定を使わないため、JSONと同じ設定の ObjectMapper で作り直し、
+ * JSONの変換の直後に置く。
+ * UUIDはバイナリ形式でもJSONと同じ文字列で返す（Jackson の既定では16バイトのバイナリになり、
+ * クライアントで形が変わるため）。
+ */
+@Configuration
+public class WireFormatConfig implements WebMvcConfigurer {
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    @Autowired
+    private ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+
+        int jsonIndex = -1;
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter) {
+                jsonIndex = i;
+            }
+        }
+        int index = jsonIndex >= 0 ? jsonIndex + 1 : converters.size();
+        converters.add(index, new MappingJackson2CborHttpMessageConverter(
+                binaryObjectMapperBuilder().factory(new CBORFactory()).build()));
+        converters.add(index + 1, new MappingJackson2SmileHttpMessageConverter(
+                binaryObjectMapperBuilder().factory(new SmileFactory()).build()));
+    }
+
+    private Jackson2ObjectMapperBuilder binaryObjectMapperBuilder() {
+        return objectMapperBuilder.getObject().serializerByType(UUID.class, ToStringSerializer.instance);
+    }
+}
@@ -1,5 +1,9 @@
 package com.restaurant.operationsprepare.controller;
 
+import com.restaurant.operationsprepare.dto.InventoryStatusDictionary;
+import com.restaurant.operationsprepare.dto.InventoryStatusPatchRequest;
+import com.restaurant.operationsprepare.dto.InventoryStatusUpdateResponse;
+import com.restaurant.operationsprepare.dto.InventoryStatusView;
 import com.restaurant.operationsprepare.entity.InventoryStatus;
 import com.restaurant.operationsprepare.service.InventoryStatusService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -12,6 +16,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -37,7 +42,7 @@ public class InventoryStatusController {
             
             ## 処理フロー
             1. inventory_statusテーブルをbusiness_dateで検索
-            2. item情報を外部キー結合（LEFT JOIN）で取得
+            2. item情報を外部キー結合（JOIN）で取得し、読み取り専用DTOに射影
             3. item.nameで昇順ソート
             
             ## 返却データ
@@ -58,34 +63,73 @@ public class InventoryStatusController {
             """
     )
     @GetMapping
-    public ResponseEntity<List<InventoryStatus>> getInventoryStatusByDate(
+    public ResponseEntity<List<InventoryStatusView>> getInventoryStatusByDate(
             @Parameter(description = "業務日付（YYYY-MM-DD形式）", required = true, example = "2025-09-27")
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate businessDate) {
-        List<InventoryStatus> statuses = inventoryStatusService.getInventoryStatusByDate(businessDate);
+        List<InventoryStatusView> statuses = inventoryStatusService.getInventoryStatusViewsByDate(businessDate);
         return ResponseEntity.ok(statuses);
     }
 
+    @Operation(summary = "業務日付で在庫ステータスを取得（辞書形式）", description = """
+            `encoding=dictionary` を指定した場合、業務日付の在庫ステータスを辞書形式で返します。
+
+            ## 返却データ
+            - items: 品物（1回ずつ）
+            - codes: ステータスの値（1回ずつ）
+            - rows: 在庫ステータス。品物は items の添字、各ステータスは codes の添字で参照する
+
+            ## 形式
+            - Accept: application/cbor または application/x-jackson-smile でバイナリ形式、それ以外はJSON
+            """)
+    @GetMapping(params = "encoding=dictionary")
+    public ResponseEntity<InventoryStatusDictionary> getInventoryStatusDictionaryByDate(
+            @Parameter(description = "業務日付（YYYY-MM-DD形式）", required = true, example = "2025-09-27")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate businessDate) {
+        return ResponseEntity.ok(inventoryStatusService.getInventoryStatusDictionaryByDate(businessDate));
+    }
+
+    @Operation(summary = "業務日付で在庫ステータスを取得（項目を指定）", description = """
+            `fields` を指定した場合、指定した項目だけを返します。
+
+            ## 項目
+            - カンマ区切りのJSONの項目名（例: `id,replenishmentStatus,version`）
+            - id は指定しなくても常に返す
+            - item を指定した場合だけ品物情報を返す
+            - 指定できない項目がある場合は 400 Bad Request
+
+            ## パフォーマンス
+            - 指定しなかった項目の列はSQLで取得しない（JPQLの射影。エンティティを作らない）
+            """)
+    @GetMapping(params = {"fields", "!encoding"})
+    public ResponseEntity<List<Map<String, Object>>> getInventoryStatusFieldsByDate(
+            @Parameter(description = "業務日付（YYYY-MM-DD形式）", required = true, example = "2025-09-27")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate businessDate,
+            @Parameter(description = "返却する項目（カンマ区切り）", required = true, example = "id,replenishmentStatus,version")
+            @RequestParam String fields) {
+        return ResponseEntity.ok(inventoryStatusService.getInventoryStatusFieldsByDate(businessDate, fields));
+    }
+
     @Operation(summary = "補充先で在庫ステータスを取得", description = "指定した業務日付と補充先の在庫ステータスを取得します")
     @GetMapping("/destination/{destinationId}")
-    public ResponseEntity<List<InventoryStatus>> getInventoryStatusByDateAndDestination(
+    public ResponseEntity<List<InventoryStatusView>> getInventoryStatusByDateAndDestination(
             @Parameter(description = "業務日付", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate businessDate,
             @Parameter(description = "補充先ID", required = true) @PathVariable UUID destinationId) {
-        List<InventoryStatus> statuses = inventoryStatusService.getInventoryStatusByDateAndDestination(businessDate, destinationId);
+        List<InventoryStatusView> statuses = inventoryStatusService.getInventoryStatusViewsByDateAndDestination(businessDate, destinationId);
         return ResponseEntity.ok(statuses);
     }
 
     @GetMapping("/source/{sourceId}")
-    public ResponseEntity<List<InventoryStatus>> getInventoryStatusByDateAndSource(
+    public ResponseEntity<List<InventoryStatusView>> getInventoryStatusByDateAndSource(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate businessDate,
             @PathVariable UUID sourceId) {
-        List<InventoryStatus> statuses = inventoryStatusService.getInventoryStatusByDateAndSource(businessDate, sourceId);
+        List<InventoryStatusView> statuses = inventoryStatusService.getInventoryStatusViewsByDateAndSource(businessDate, sourceId);
         return ResponseEntity.ok(statuses);
     }
 
     @GetMapping("/pending")
-    public ResponseEntity<List<InventoryStatus>> getPendingItemsByDate(
+    public ResponseEntity<List<InventoryStatusView>> getPendingItemsByDate(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate businessDate) {
-        List<InventoryStatus> statuses = inventoryStatusService.getPendingItemsByDate(businessDate);
+        List<InventoryStatusView> statuses = inventoryStatusService.getPendingItemViewsByDate(businessDate);
         return ResponseEntity.ok(statuses);
     }
 
@@ -103,11 +147,53 @@ public class InventoryStatusController {
         return ResponseEntity.ok(savedStatus);
     }
 
+    @Operation(summary = "在庫ステータスを更新", description = """
+            在庫ステータスの全項目を更新します。
+
+            ## 楽観ロック
+            - リクエストの version が現在のバージョンと一致する場合のみ更新し、version を1増やして返す
+            - 一致しない（他の端末が先に更新した）場合: 409 Conflict
+
+            ## 補充数の差分
+            - 業務日付の補充数を算出済み（/api/replenishment-suggestions）の場合、在庫数の変更で
+              算出結果が変わった品物を replenishmentDeltas に返す（その品物だけを算出し直す）
+            - 補充数を反映済み（/api/replenishment-suggestions/apply）の業務日付では、差分を同じ更新で
+              在庫ステータスにも書き込む（返す在庫ステータスとバージョンは書き込み後の値）。
+              ただし、この更新で補充数を変更した場合は、変更後の補充数を残して書き込まない
+            - 算出結果はサーバーのインスタンスごとに保持するため、差分はこのリクエストを処理した
+              インスタンスで算出・反映した業務日付についてのみ返す。複数インスタンスの構成では
+              差分がなくても一覧を再取得して確認すること
+            """)
     @PutMapping("/{id}")
-    public ResponseEntity<InventoryStatus> updateInventoryStatus(@PathVariable UUID id, @RequestBody InventoryStatus inventoryStatus) {
+    public ResponseEntity<InventoryStatusUpdateResponse> updateInventoryStatus(@PathVariable UUID id, @RequestBody InventoryStatus inventoryStatus) {
         inventoryStatus.setId(id);
-        InventoryStatus savedStatus = inventoryStatusService.saveInventoryStatus(inventoryStatus);
-        return ResponseEntity.ok(savedStatus);
+        return ResponseEntity.ok(inventoryStatusService.updateInventoryStatus(inventoryStatus));
+    }
+
+    @Operation(summary = "在庫ステータスをフィールド単位で更新", description = """
+            変更した項目だけを送り、他の端末の更新とフィールド単位でマージします。
+
+            ## リクエスト
+            - version: 編集を始めた時点のバージョン
+            - changes: 変更する項目の新しい値（null の項目は変更しない）
+            - original: 編集前の値
+
+            ## 正常系
+            - バージョン一致、または他の端末が別の項目だけを更新していた場合: 変更を反映して返す
+
+            ## 異常系
+            - 他の端末が同じ項目を別の値に変更していた場合: 409 Conflict
+              （conflicts に競合した項目名、current に最新の在庫ステータスを返す。何も反映しない）
+
+            ## 補充数の差分
+            - PUT と同じく、算出結果が変わった品物を replenishmentDeltas に返す
+              （反映済みの業務日付では在庫ステータスにも書き込む。changes に補充数を含む場合は書き込まない）
+            - 差分はこのリクエストを処理したインスタンスで算出・反映した業務日付についてのみ返す
+            """)
+    @PatchMapping("/{id}")
+    public ResponseEntity<InventoryStatusUpdateResponse> mergeInventoryStatus(@PathVariable UUID id,
+                                                                              @RequestBody InventoryStatusPatchRequest request) {
+        return ResponseEntity.ok(inventoryStatusService.patchInventoryStatus(id, request));
     }
 
     @PostMapping("/batch")
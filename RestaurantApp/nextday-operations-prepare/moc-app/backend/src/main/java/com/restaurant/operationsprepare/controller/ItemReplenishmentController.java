@@ -1,7 +1,9 @@
 package com.restaurant.operationsprepare.controller;
 
-import com.restaurant.operationsprepare.entity.ItemReplenishment;
+import com.restaurant.operationsprepare.dto.ItemReplenishmentView;
+import com.restaurant.operationsprepare.dto.ReplenishmentGraph;
 import com.restaurant.operationsprepare.service.ItemReplenishmentService;
+import com.restaurant.operationsprepare.service.ReplenishmentGraphService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -17,28 +19,40 @@ public class ItemReplenishmentController {
     @Autowired
     private ItemReplenishmentService itemReplenishmentService;
 
+    @Autowired
+    private ReplenishmentGraphService replenishmentGraphService;
+
     @GetMapping
-    public ResponseEntity<List<ItemReplenishment>> getAllItemReplenishments() {
-        List<ItemReplenishment> replenishments = itemReplenishmentService.getAllItemReplenishments();
+    public ResponseEntity<List<ItemReplenishmentView>> getAllItemReplenishments() {
+        List<ItemReplenishmentView> replenishments = itemReplenishmentService.getAllItemReplenishmentViews();
         return ResponseEntity.ok(replenishments);
     }
 
+    /**
+     * 補充経路グラフ（品物・場所・補充パターン）をまとめて取得する
+     * 補充パターンは items / places の添字で品物・場所を参照する
+     */
+    @GetMapping("/graph")
+    public ResponseEntity<ReplenishmentGraph> getReplenishmentGraph() {
+        return ResponseEntity.ok(replenishmentGraphService.getGraph());
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<ItemReplenishment> getItemReplenishmentById(@PathVariable UUID id) {
-        return itemReplenishmentService.getItemReplenishmentById(id)
+    public ResponseEntity<ItemReplenishmentView> getItemReplenishmentById(@PathVariable UUID id) {
+        return itemReplenishmentService.getItemReplenishmentViewById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @GetMapping("/source/{sourceId}")
-    public ResponseEntity<List<ItemReplenishment>> getItemReplenishmentsBySource(@PathVariable UUID sourceId) {
-        List<ItemReplenishment> replenishments = itemReplenishmentService.getItemReplenishmentsBySource(sourceId);
+    public ResponseEntity<List<ItemReplenishmentView>> getItemReplenishmentsBySource(@PathVariable UUID sourceId) {
+        List<ItemReplenishmentView> replenishments = itemReplenishmentService.getItemReplenishmentViewsBySource(sourceId);
         return ResponseEntity.ok(replenishments);
     }
 
     @GetMapping("/destination/{destinationId}")
-    public ResponseEntity<List<ItemReplenishment>> getItemReplenishmentsByDestination(@PathVariable UUID destinationId) {
-        List<ItemReplenishment> replenishments = itemReplenishmentService.getItemReplenishmentsByDestination(destinationId);
+    public ResponseEntity<List<ItemReplenishmentView>> getItemReplenishmentsByDestination(@PathVariable UUID destinationId) {
+        List<ItemReplenishmentView> replenishments = itemReplenishmentService.getItemReplenishmentViewsByDestination(destinationId);
         return ResponseEntity.ok(replenishments);
     }
 }
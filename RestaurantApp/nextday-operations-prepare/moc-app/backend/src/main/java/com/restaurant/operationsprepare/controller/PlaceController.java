@@ -1,12 +1,17 @@
 package com.restaurant.operationsprepare.controller;
 
+import com.restaurant.operationsprepare.config.WireFormatConfig;
 import com.restaurant.operationsprepare.entity.Place;
+import com.restaurant.operationsprepare.service.MasterDataResponseCache;
 import com.restaurant.operationsprepare.service.PlaceService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -17,7 +22,31 @@ public class PlaceController {
     @Autowired
     private PlaceService placeService;
 
+    @Autowired
+    private MasterDataResponseCache masterDataResponseCache;
+
+    /**
+     * 一覧をJSONで返す（JSON変換・gzip圧縮したレスポンスをマスタが変更されるまで使い回す）
+     */
     @GetMapping
+    public ResponseEntity<byte[]> getAllPlacesJson(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return masterDataResponseCache.getJson(MasterDataResponseCache.PLACES, acceptEncoding, placeService::getAllPlaces);
+    }
+
+    /**
+     * 一覧の指定した項目（fields、カンマ区切り）だけを返す
+     * 指定しなかった項目の列は取得しない（id は常に返す。キャッシュは使わない）
+     */
+    @GetMapping(params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getAllPlaceFields(@RequestParam String fields) {
+        return ResponseEntity.ok(placeService.getAllPlaceFields(fields));
+    }
+
+    /**
+     * 一覧をJSON以外（CBOR / Smile）で返す
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_CBOR_VALUE, WireFormatConfig.APPLICATION_SMILE_VALUE})
     public ResponseEntity<List<Place>> getAllPlaces() {
         List<Place> places = placeService.getAllPlaces();
         return ResponseEntity.ok(places);
@@ -0,0 +1,51 @@
+package com.restaurant.operationsprepare.controller;
+
+import com.restaurant.operationsprepare.dto.ReplenishmentSuggestion;
+import com.restaurant.operationsprepare.service.ReplenishmentComputationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/replenishment-suggestions")
+@CrossOrigin(origins = "http://localhost:3000")
+@Tag(name = "補充数の算出", description = "予約から補充数・作成ステータスを算出するAPI")
+public class ReplenishmentSuggestionController {
+
+    @Autowired
+    private ReplenishmentComputationService replenishmentComputationService;
+
+    @Operation(summary = "予約から補充数を算出", description = """
+            指定した業務日付の予約から、全品物の補充数・作成ステータスを算出します（在庫ステータスは変更しない）。
+
+            ## 算出方法
+            1. 予約数を商品ごとに合計し、商品品物対応（product_item）の数量を掛けて品物ごとの必要数にする
+               （対応がない商品は同じ名前の品物を1つずつ使う）
+            2. 必要数から在庫ステータスの在庫数を引いた不足分を補充数とする（不足がなければ0）
+            3. 補充数が1以上の品物は「要作成」、それ以外は「作成不要」とする
+            """)
+    @GetMapping
+    public ResponseEntity<List<ReplenishmentSuggestion>> getSuggestions(
+            @Parameter(description = "業務日付", required = true, example = "2025-09-27")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate businessDate) {
+        return ResponseEntity.ok(replenishmentComputationService.computeSuggestions(businessDate));
+    }
+
+    @Operation(summary = "予約から算出した補充数を在庫ステータスに反映", description = """
+            算出した補充数・作成ステータスを業務日付の在庫ステータスに反映し、算出結果を返します。
+            在庫ステータスがない品物は、必要数がある場合のみ作成します。
+            """)
+    @PostMapping("/apply")
+    public ResponseEntity<List<ReplenishmentSuggestion>> applySuggestions(
+            @Parameter(description = "業務日付", required = true, example = "2025-09-27")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate businessDate) {
+        return ResponseEntity.ok(replenishmentComputationService.applySuggestions(businessDate));
+    }
+}
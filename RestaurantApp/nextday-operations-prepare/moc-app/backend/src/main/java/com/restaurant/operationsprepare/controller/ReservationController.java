@@ -0,0 +1,93 @@
+package com.restaurant.operationsprepare.controller;
+
+import com.restaurant.operationsprepare.dto.ReservationImportResult;
+import com.restaurant.operationsprepare.exception.InvalidRequestException;
+import com.restaurant.operationsprepare.service.ReservationImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+
+@RestController
+@RequestMapping("/api/reservations")
+@CrossOrigin(origins = "http://localhost:3000")
+@Tag(name = "予約", description = "予約の取り込みAPI")
+public class ReservationController {
+
+    private static final String TEXT_CSV = "text/csv";
+
+    private static final String TEXT_TSV = "text/tab-separated-values";
+
+    @Autowired
+    private ReservationImportService reservationImportService;
+
+    @Operation(summary = "予約を取り込み", description = """
+            予約システムから出力した予約（CSV/TSV）をリクエスト本文で受け取り、
+            ファイルに含まれる業務日付の予約を置き換えます。
+
+            ## 形式
+            - 列は「業務日付, 商品名, 予約数」の順（1行目が見出しの場合は列名で判断）
+            - 業務日付は yyyy-MM-dd または yyyy/M/d
+            - `format` を省略した場合、Content-Type が text/tab-separated-values なら TSV、それ以外は CSV
+            - 文字コードは Content-Type の charset（省略時は UTF-8。扱えない charset の場合は 400）
+
+            ## 処理
+            - 本文を先頭から1行ずつ読み、まとめてJDBCバッチで登録する（ファイル全体をメモリに読み込まない）
+            - すべての業務日付の置き換えを1トランザクションで行う
+            - 不正な行は取り込まず、行番号とともにレスポンスの errors に含める
+
+            ## 例
+            `curl -X POST -H 'Content-Type: text/csv' --data-binary @reservations.csv http://localhost:8080/api/reservations/import`
+            """)
+    @PostMapping(value = "/import", consumes = {TEXT_CSV, TEXT_TSV, MediaType.TEXT_PLAIN_VALUE,
+            MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<ReservationImportResult> importReservations(
+            @Parameter(description = "ファイルの形式（CSV / TSV）", example = "CSV")
+            @RequestParam(required = false) ReservationImportService.Format format,
+            HttpServletRequest request) throws IOException {
+        try (Reader reader = new InputStreamReader(request.getInputStream(),
+                resolveCharset(request.getCharacterEncoding()))) {
+            return ResponseEntity.ok(reservationImportService.importReservations(reader,
+                    resolveFormat(format, request.getContentType())));
+        }
+    }
+
+    /**
+     * Content-Type の charset（省略時は UTF-8）
+     *
+     * @throws InvalidRequestException charset の名前が不正、またはこのJVMで扱えない場合（400）
+     */
+    private static Charset resolveCharset(String characterEncoding) {
+        if (characterEncoding == null) {
+            return StandardCharsets.UTF_8;
+        }
+        try {
+            return Charset.forName(characterEncoding);
+        } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+            throw new InvalidRequestException("Unsupported charset: " + characterEncoding);
+        }
+    }
+
+    private static ReservationImportService.Format resolveFormat(ReservationImportService.Format format,
+                                                                 String contentType) {
+        if (format != null) {
+            return format;
+        }
+        if (contentType != null && contentType.startsWith(TEXT_TSV)) {
+            return ReservationImportService.Format.TSV;
+        }
+        return ReservationImportService.Format.CSV;
+    }
+}
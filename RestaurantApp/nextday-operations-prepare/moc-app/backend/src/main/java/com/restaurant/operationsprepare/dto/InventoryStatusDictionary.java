@@ -0,0 +1,75 @@
+package com.restaurant.operationsprepare.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 在庫ステータスの一覧（辞書形式）
+ *
+ * 業務日付・品物・ステータスの文字列をそれぞれ1回だけ持ち、行は items / codes の
+ * 添字で参照する。行ごとに品物や同じステータス名を繰り返さない。
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryStatusDictionary {
+
+    @JsonProperty("businessDate")
+    private LocalDate businessDate;
+
+    private List<ItemView> items;
+
+    private List<String> codes; // ステータスの値（各ステータスは codes の添字で参照する）
+
+    private List<Row> rows;
+
+    /**
+     * 在庫ステータス1件
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Row {
+
+        private UUID id;
+
+        private int item; // items の添字
+
+        @JsonProperty("inventoryCheckStatus")
+        private int inventoryCheckStatus; // codes の添字（在庫確認ステータス）
+
+        @JsonProperty("replenishmentStatus")
+        private int replenishmentStatus; // codes の添字（補充ステータス）
+
+        @JsonProperty("preparationStatus")
+        private int preparationStatus; // codes の添字（作成ステータス）
+
+        @JsonProperty("orderRequestStatus")
+        private int orderRequestStatus; // codes の添字（発注依頼ステータス）
+
+        @JsonProperty("inventoryCount")
+        private Integer inventoryCount; // 在庫数
+
+        @JsonProperty("replenishmentCount")
+        private Integer replenishmentCount; // 補充数
+
+        @JsonProperty("replenishmentNote")
+        private String replenishmentNote; // 補充メモ
+
+        @JsonProperty("version")
+        private Integer version; // 楽観ロック用バージョン列
+
+        @JsonProperty("createdAt")
+        private LocalDateTime createdAt;
+
+        @JsonProperty("updatedAt")
+        private LocalDateTime updatedAt;
+    }
+}
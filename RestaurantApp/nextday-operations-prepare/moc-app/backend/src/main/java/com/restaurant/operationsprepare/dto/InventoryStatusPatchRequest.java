@@ -0,0 +1,55 @@
+package com.restaurant.operationsprepare.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 在庫ステータスのフィールド単位マージ更新リクエスト
+ *
+ * version はクライアントが編集を始めた時点のバージョン。
+ * changes に変更する項目の新しい値、original に編集前（取得時点）の値を入れる。
+ * null の項目は変更しない（補充メモを空にする場合は空文字を送る）。
+ */
+@Data
+@NoArgsConstructor
+public class InventoryStatusPatchRequest {
+
+    @JsonProperty("version")
+    private Integer version;
+
+    @JsonProperty("changes")
+    private Fields changes;
+
+    @JsonProperty("original")
+    private Fields original;
+
+    /**
+     * 更新可能な項目
+     */
+    @Data
+    @NoArgsConstructor
+    public static class Fields {
+
+        @JsonProperty("inventoryCheckStatus")
+        private String inventoryCheckStatus; // 在庫確認ステータス
+
+        @JsonProperty("replenishmentStatus")
+        private String replenishmentStatus; // 補充ステータス
+
+        @JsonProperty("preparationStatus")
+        private String preparationStatus; // 作成ステータス
+
+        @JsonProperty("orderRequestStatus")
+        private String orderRequestStatus; // 発注依頼ステータス
+
+        @JsonProperty("inventoryCount")
+        private Integer inventoryCount; // 在庫数
+
+        @JsonProperty("replenishmentCount")
+        private Integer replenishmentCount; // 補充数
+
+        @JsonProperty("replenishmentNote")
+        private String replenishmentNote; // 補充メモ
+    }
+}
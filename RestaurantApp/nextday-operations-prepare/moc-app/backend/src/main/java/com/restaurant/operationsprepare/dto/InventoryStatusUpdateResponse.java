@@ -0,0 +1,30 @@
+package com.restaurant.operationsprepare.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.restaurant.operationsprepare.entity.InventoryStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 在庫ステータスの更新結果
+ *
+ * 在庫ステータスの項目はそのまま展開し（従来のレスポンスと同じ形）、
+ * 補充数の算出結果が変わった品物があれば replenishmentDeltas に追加する
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryStatusUpdateResponse {
+
+    @JsonUnwrapped
+    private InventoryStatus inventoryStatus;
+
+    @JsonProperty("replenishmentDeltas")
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private List<ReplenishmentDelta> replenishmentDeltas;
+}
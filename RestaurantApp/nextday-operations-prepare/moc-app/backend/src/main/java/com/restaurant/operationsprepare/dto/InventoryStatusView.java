@@ -0,0 +1,84 @@
+package com.restaurant.operationsprepare.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 在庫ステータスの参照用DTO
+ *
+ * 一覧取得用。JPQLのコンストラクタ式で在庫ステータスと品物を1クエリで取得し、
+ * エンティティを管理対象にしない（スナップショットやダーティチェックを行わない）。
+ * JSONの形は InventoryStatus エンティティと同じ
+ */
+@Data
+@NoArgsConstructor
+public class InventoryStatusView {
+
+    private UUID id;
+
+    @JsonProperty("businessDate")
+    private LocalDate businessDate;
+
+    @JsonProperty("item")
+    private ItemView item;
+
+    @JsonProperty("inventoryCheckStatus")
+    private String inventoryCheckStatus; // 在庫確認ステータス
+
+    @JsonProperty("replenishmentStatus")
+    private String replenishmentStatus; // 補充ステータス
+
+    @JsonProperty("preparationStatus")
+    private String preparationStatus; // 作成ステータス
+
+    @JsonProperty("orderRequestStatus")
+    private String orderRequestStatus; // 発注依頼ステータス
+
+    @JsonProperty("inventoryCount")
+    private Integer inventoryCount; // 在庫数
+
+    @JsonProperty("replenishmentCount")
+    private Integer replenishmentCount; // 補充数
+
+    @JsonProperty("replenishmentNote")
+    private String replenishmentNote; // 補充メモ
+
+    @JsonProperty("version")
+    private Integer version; // 楽観ロック用バージョン列
+
+    @JsonProperty("createdAt")
+    private LocalDateTime createdAt;
+
+    @JsonProperty("updatedAt")
+    private LocalDateTime updatedAt;
+
+    /**
+     * JPQLのコンストラクタ式用（品物の列はフラットに受け取る）
+     */
+    public InventoryStatusView(UUID id, LocalDate businessDate,
+                               String inventoryCheckStatus, String replenishmentStatus,
+                               String preparationStatus, String orderRequestStatus,
+                               Integer inventoryCount, Integer replenishmentCount, String replenishmentNote, Integer version,
+                               LocalDateTime createdAt, LocalDateTime updatedAt,
+                               UUID itemId, String itemName, String itemDescription, String itemUnit,
+                               LocalDateTime itemCreatedAt, LocalDateTime itemUpdatedAt) {
+        this.id = id;
+        this.businessDate = businessDate;
+        this.inventoryCheckStatus = inventoryCheckStatus;
+        this.replenishmentStatus = replenishmentStatus;
+        this.preparationStatus = preparationStatus;
+        this.orderRequestStatus = orderRequestStatus;
+        this.inventoryCount = inventoryCount;
+        this.replenishmentCount = replenishmentCount;
+        this.replenishmentNote = replenishmentNote;
+        this.version = version;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.item = new ItemView(itemId, itemName, itemDescription, itemUnit, itemCreatedAt, itemUpdatedAt);
+    }
+}
@@ -0,0 +1,53 @@
+package com.restaurant.operationsprepare.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 補充パターンの参照用DTO
+ *
+ * 品物・補充元・補充先を結合して1クエリで取得し、初期化済みの値だけを持つ。
+ * 遅延ロードの関連を持たないため、トランザクション終了後（コネクション返却後）にJSONへ変換できる
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemReplenishmentView {
+
+    private UUID id;
+
+    @JsonProperty("itemId")
+    private UUID itemId;
+
+    @JsonProperty("itemName")
+    private String itemName;
+
+    @JsonProperty("sourceLocationId")
+    private UUID sourceLocationId;
+
+    @JsonProperty("sourceLocationName")
+    private String sourceLocationName;
+
+    @JsonProperty("destinationLocationId")
+    private UUID destinationLocationId;
+
+    @JsonProperty("destinationLocationName")
+    private String destinationLocationName;
+
+    @JsonProperty("replenishmentType")
+    private String replenishmentType; // 補充パターン区分
+
+    @JsonProperty("orderRequestDestination")
+    private String orderRequestDestination; // 作成・発注依頼先
+
+    @JsonProperty("createdAt")
+    private LocalDateTime createdAt;
+
+    @JsonProperty("updatedAt")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,33 @@
+package com.restaurant.operationsprepare.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 品物の参照用DTO（InventoryStatusView に含める品物情報）
+ * JSONの形は Item エンティティと同じ
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemView {
+
+    private UUID id;
+
+    private String name;
+
+    private String description;
+
+    private String unit;
+
+    @JsonProperty("createdAt")
+    private LocalDateTime createdAt;
+
+    @JsonProperty("updatedAt")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,26 @@
+package com.restaurant.operationsprepare.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 場所の参照用DTO（補充経路グラフに含める場所情報）
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlaceView {
+
+    private UUID id;
+
+    private String type; // 補充元先区分
+
+    private String name;
+
+    @JsonProperty("displayOrder")
+    private Integer displayOrder;
+}
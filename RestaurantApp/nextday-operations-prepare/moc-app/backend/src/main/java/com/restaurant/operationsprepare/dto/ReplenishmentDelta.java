@@ -0,0 +1,38 @@
+package com.restaurant.operationsprepare.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 在庫ステータスの更新で変わった品物の補充数・作成ステータス（算出結果の差分）
+ *
+ * 画面は該当する品物と補充パターンの行だけを書き換え、一覧を再取得しない
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReplenishmentDelta {
+
+    @JsonProperty("itemId")
+    private UUID itemId;
+
+    @JsonProperty("requiredCount")
+    private int requiredCount; // 必要数
+
+    @JsonProperty("inventoryCount")
+    private int inventoryCount; // 在庫数
+
+    @JsonProperty("replenishmentCount")
+    private int replenishmentCount; // 補充数
+
+    @JsonProperty("preparationStatus")
+    private String preparationStatus; // 作成ステータス
+
+    @JsonProperty("replenishmentIds")
+    private List<UUID> replenishmentIds; // 品物の補充パターン（item_replenishment）のID
+}
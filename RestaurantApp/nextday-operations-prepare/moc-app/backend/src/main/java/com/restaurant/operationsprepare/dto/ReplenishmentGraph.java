@@ -0,0 +1,50 @@
+package com.restaurant.operationsprepare.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 補充経路グラフ
+ *
+ * 品物と場所をそれぞれ1回だけ持ち、補充パターン（辺）は items / places の
+ * 添字で参照する。行ごとに品物・場所を入れ子で繰り返さない。
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReplenishmentGraph {
+
+    private List<ItemView> items;
+
+    private List<PlaceView> places;
+
+    private List<Edge> edges;
+
+    /**
+     * 補充パターン（品物を補充元から補充先へ補充する経路）
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Edge {
+
+        private UUID id;
+
+        private int item; // items の添字
+
+        private int source; // places の添字（補充元）
+
+        private int destination; // places の添字（補充先）
+
+        @JsonProperty("replenishmentType")
+        private String replenishmentType; // 補充パターン区分
+
+        @JsonProperty("orderRequestDestination")
+        private String orderRequestDestination; // 作成・発注依頼先
+    }
+}
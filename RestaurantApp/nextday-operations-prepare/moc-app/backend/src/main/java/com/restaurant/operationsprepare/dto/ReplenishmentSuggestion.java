@@ -0,0 +1,35 @@
+package com.restaurant.operationsprepare.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 予約から算出した品物ごとの補充数・作成ステータス
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReplenishmentSuggestion {
+
+    @JsonProperty("itemId")
+    private UUID itemId;
+
+    @JsonProperty("itemName")
+    private String itemName;
+
+    @JsonProperty("requiredCount")
+    private int requiredCount; // 必要数（予約数 × 商品1つあたりの数量の合計）
+
+    @JsonProperty("inventoryCount")
+    private int inventoryCount; // 在庫数（在庫ステータスがない場合は0）
+
+    @JsonProperty("replenishmentCount")
+    private int replenishmentCount; // 補充数（必要数から在庫数を引いた不足分）
+
+    @JsonProperty("preparationStatus")
+    private String preparationStatus; // 作成ステータス（不足があれば「要作成」）
+}
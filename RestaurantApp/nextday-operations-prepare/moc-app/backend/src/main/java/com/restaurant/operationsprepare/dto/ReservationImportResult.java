@@ -0,0 +1,47 @@
+package com.restaurant.operationsprepare.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 予約の取り込み結果
+ *
+ * 不正な行は取り込まずに行番号とともに errors に追加する（件数は errorCount、一覧は先頭から上限件数まで）
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationImportResult {
+
+    @JsonProperty("importedCount")
+    private long importedCount; // 登録した予約の件数
+
+    @JsonProperty("businessDates")
+    private List<LocalDate> businessDates; // 予約を置き換えた業務日付
+
+    @JsonProperty("errorCount")
+    private long errorCount; // 不正な行の件数
+
+    @JsonProperty("errors")
+    private List<RowError> errors;
+
+    /**
+     * 取り込まなかった行
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+
+        @JsonProperty("lineNumber")
+        private long lineNumber; // 行番号（1始まり）
+
+        @JsonProperty("message")
+        private String message;
+    }
+}
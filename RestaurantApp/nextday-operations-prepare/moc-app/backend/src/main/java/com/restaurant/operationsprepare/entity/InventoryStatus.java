@@ -3,7 +3,10 @@ package com.restaurant.operationsprepare.entity;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 import org.hibernate.annotations.UpdateTimestamp;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -27,7 +30,9 @@ public class InventoryStatus {
     @JsonProperty("businessDate")
     private LocalDate businessDate;
 
+    // 結合せずIDで解決し、2次キャッシュの品物を使う（一覧取得はエンティティグラフ/DTOで結合する）
     @ManyToOne(fetch = FetchType.EAGER)
+    @Fetch(FetchMode.SELECT)
     @JoinColumn(name = "item_id", nullable = false)
     @JsonProperty("item")
     private Item item;
@@ -60,6 +65,12 @@ public class InventoryStatus {
     @JsonProperty("replenishmentNote")
     private String replenishmentNote; // 補充メモ
 
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version")
+    @JsonProperty("version")
+    private Integer version; // 楽観ロック用バージョン列
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     @JsonProperty("createdAt")
@@ -3,6 +3,8 @@ package com.restaurant.operationsprepare.entity;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import com.fasterxml.jackson.annotation.JsonBackReference;
@@ -12,6 +14,8 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "item_replenishment")
 @Table(name = "item_replenishment")
 @Data
 @EqualsAndHashCode(callSuper = false)
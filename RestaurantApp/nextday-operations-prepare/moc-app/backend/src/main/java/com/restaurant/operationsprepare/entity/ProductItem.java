@@ -0,0 +1,50 @@
+package com.restaurant.operationsprepare.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 商品と品物の対応（予約の商品1つに使う品物と数量）
+ */
+@Entity
+@Table(name = "product_item",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"product_name", "item_id"}))
+@Data
+@EqualsAndHashCode(callSuper = false)
+public class ProductItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "product_name", nullable = false, columnDefinition = "TEXT")
+    @JsonProperty("productName")
+    private String productName; // 商品名（reservation.product_name）
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "item_id", nullable = false)
+    @JsonBackReference
+    private Item item;
+
+    @Column(name = "quantity", nullable = false)
+    @JsonProperty("quantity")
+    private Integer quantity; // 商品1つあたりの品物の数量
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    @JsonProperty("createdAt")
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    @JsonProperty("updatedAt")
+    private LocalDateTime updatedAt;
+}
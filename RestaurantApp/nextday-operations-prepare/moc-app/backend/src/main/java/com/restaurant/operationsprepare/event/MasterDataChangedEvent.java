@@ -0,0 +1,17 @@
+package com.restaurant.operationsprepare.event;
+
+/**
+ * マスタ（品物・場所・補充パターン）が追加・更新・削除されたことを通知するイベント
+ *
+ * マスタから作成したキャッシュの無効化に使う
+ *
+ * @param entityType 変更されたエンティティ（"item", "place", "item_replenishment"）
+ */
+public record MasterDataChangedEvent(String entityType) {
+
+    public static final String ITEM = "item";
+
+    public static final String PLACE = "place";
+
+    public static final String ITEM_REPLENISHMENT = "item_replenishment";
+}
@@ -0,0 +1,13 @@
+package com.restaurant.operationsprepare.event;
+
+import java.time.LocalDate;
+
+/**
+ * 業務日付の予約が置き換えられたことを通知するイベント
+ *
+ * 予約から作成したキャッシュ（補充数の算出結果）の無効化に使う
+ *
+ * @param businessDate 予約が変わった業務日付
+ */
+public record ReservationChangedEvent(LocalDate businessDate) {
+}
@@ -0,0 +1,82 @@
+package com.restaurant.operationsprepare.exception;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    @ExceptionHandler(MergeConflictException.class)
+    public ResponseEntity<Map<String, Object>> handleMergeConflictException(MergeConflictException e) {
+        logger.warn("Merge conflict: {} {}", e.getMessage(), e.getConflicts());
+        Map<String, Object> error = new LinkedHashMap<>();
+        error.put("message", "Conflict: " + e.getMessage());
+        error.put("conflicts", e.getConflicts());
+        error.put("current", e.getCurrent());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    @ExceptionHandler(OptimisticLockException.class)
+    public ResponseEntity<Map<String, String>> handleOptimisticLockException(OptimisticLockException e) {
+        logger.warn("Optimistic lock exception: {}", e.getMessage());
+        Map<String, String> error = new HashMap<>();
+        error.put("message", "Conflict: " + e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    @ExceptionHandler(InvalidFieldsException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidFieldsException(InvalidFieldsException e) {
+        logger.warn("Invalid fields: {}", e.getMessage());
+        Map<String, String> error = new HashMap<>();
+        error.put("message", e.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidRequestException(InvalidRequestException e) {
+        logger.warn("Invalid request: {}", e.getMessage());
+        Map<String, String> error = new HashMap<>();
+        error.put("message", e.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    /**
+     * Content-Type を解釈できない場合（charset の名前が不正、またはこのJVMで扱えないなど）は400にする
+     * 解釈できたうえで対応していないメディアタイプの場合は、そのまま既定の処理（415）に任せる
+     */
+    @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
+    public ResponseEntity<Map<String, String>> handleHttpMediaTypeNotSupportedException(
+            HttpMediaTypeNotSupportedException e) throws HttpMediaTypeNotSupportedException {
+        if (e.getContentType() != null) {
+            throw e;
+        }
+        logger.warn("Invalid content type: {}", e.getMessage());
+        Map<String, String> error = new HashMap<>();
+        error.put("message", e.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    /**
+     * 読み込みからコミットまでの間に他の更新が入った場合（@Version によるUPDATE件数0）
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, String>> handleObjectOptimisticLockingFailureException(
+            ObjectOptimisticLockingFailureException e) {
+        logger.warn("Optimistic locking failure: {}", e.getMessage());
+        Map<String, String> error = new HashMap<>();
+        error.put("message", "Conflict: Version mismatch. The data has been updated by another user.");
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+}
@@ -0,0 +1,14 @@
+package com.restaurant.operationsprepare.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 一覧APIの fields パラメータに指定できない項目名が含まれる場合
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidFieldsException extends RuntimeException {
+    public InvalidFieldsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.restaurant.operationsprepare.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * リクエストの内容が不正な場合（一括保存で更新する行にバージョンがないなど）
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidRequestException extends RuntimeException {
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,29 @@
+package com.restaurant.operationsprepare.exception;
+
+import java.util.List;
+
+/**
+ * フィールド単位マージで競合した場合の例外
+ *
+ * 競合した項目名と最新の値を返し、クライアントが一覧を再取得せずに解決できるようにする
+ */
+public class MergeConflictException extends OptimisticLockException {
+
+    private final List<String> conflicts;
+
+    private final Object current;
+
+    public MergeConflictException(String message, List<String> conflicts, Object current) {
+        super(message);
+        this.conflicts = conflicts;
+        this.current = current;
+    }
+
+    public List<String> getConflicts() {
+        return conflicts;
+    }
+
+    public Object getCurrent() {
+        return current;
+    }
+}
@@ -0,0 +1,11 @@
+package com.restaurant.operationsprepare.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class OptimisticLockException extends RuntimeException {
+    public OptimisticLockException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,116 @@
+package com.restaurant.operationsprepare.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.UUID;
+
+/**
+ * 大きなテーブルの既存行をチャンク単位で更新するマイグレーションの基底クラス
+ *
+ * 主キー（UUID）の順に batch-size 件ずつ範囲を区切って UPDATE し、1チャンクごとにコミットする。
+ * 1回の UPDATE が持つ行ロックとWALを小さく保ち、チャンクの間に pause-ms だけ待つことで
+ * 稼働中のアプリケーションの更新やレプリケーションを止めずに埋め込める。
+ * トランザクション外で実行するため、途中で失敗しても完了したチャンクは残り、再実行すると続きから処理される
+ * （更新対象の条件 {@link #pendingCondition()} に一致する行だけを更新する）。
+ *
+ * Spring Boot は JavaMigration のBeanを Flyway に登録するため、サブクラスは @Component とし
+ * Flyway の命名規則（V&lt;バージョン&gt;__&lt;説明&gt;）のクラス名にする。
+ */
+public abstract class BatchedBackfillMigration extends BaseJavaMigration {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchedBackfillMigration.class);
+
+    // 範囲の下限の初期値（gen_random_uuid() / UUID.randomUUID() では生成されない）
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+
+    @Value("${app.migration.backfill.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${app.migration.backfill.pause-ms:100}")
+    private long pauseMillis;
+
+    /**
+     * 更新するテーブル名
+     */
+    protected abstract String tableName();
+
+    /**
+     * 更新する列と値（UPDATE の SET 句）
+     */
+    protected abstract String setClause();
+
+    /**
+     * 更新が必要な行の条件（埋め込み済みの行を除外し、再実行できるようにする）
+     */
+    protected abstract String pendingCondition();
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(true);
+        try {
+            backfill(connection);
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private void backfill(Connection connection) throws Exception {
+        String table = tableName();
+        // 下限から batch-size 件目の主キー（残りが batch-size 件未満なら行なし）
+        String selectUpperBound = "SELECT id FROM " + table + " WHERE id > ? ORDER BY id OFFSET ? LIMIT 1";
+        String update = "UPDATE " + table + " SET " + setClause()
+                + " WHERE id > ? AND id <= ? AND (" + pendingCondition() + ")";
+        String updateLast = "UPDATE " + table + " SET " + setClause()
+                + " WHERE id > ? AND (" + pendingCondition() + ")";
+
+        long updatedTotal = 0;
+        int chunks = 0;
+        UUID lowerBound = MIN_ID;
+        try (PreparedStatement selectStatement = connection.prepareStatement(selectUpperBound);
+             PreparedStatement updateStatement = connection.prepareStatement(update)) {
+            UUID upperBound;
+            while ((upperBound = nextUpperBound(selectStatement, lowerBound)) != null) {
+                updateStatement.setObject(1, lowerBound);
+                updateStatement.setObject(2, upperBound);
+                updatedTotal += updateStatement.executeUpdate();
+                chunks++;
+                lowerBound = upperBound;
+                if (chunks % 100 == 0) {
+                    logger.info("Backfill {}: {} rows updated in {} chunks", table, updatedTotal, chunks);
+                }
+                if (pauseMillis > 0) {
+                    Thread.sleep(pauseMillis);
+                }
+            }
+        }
+        // batch-size 件未満の残り
+        try (PreparedStatement updateStatement = connection.prepareStatement(updateLast)) {
+            updateStatement.setObject(1, lowerBound);
+            updatedTotal += updateStatement.executeUpdate();
+            chunks++;
+        }
+        logger.info("Backfill {} completed: {} rows updated in {} chunks", table, updatedTotal, chunks);
+    }
+
+    private UUID nextUpperBound(PreparedStatement selectStatement, UUID lowerBound) throws Exception {
+        selectStatement.setObject(1, lowerBound);
+        selectStatement.setInt(2, batchSize - 1);
+        try (ResultSet resultSet = selectStatement.executeQuery()) {
+            return resultSet.next() ? resultSet.getObject(1, UUID.class) : null;
+        }
+    }
+}
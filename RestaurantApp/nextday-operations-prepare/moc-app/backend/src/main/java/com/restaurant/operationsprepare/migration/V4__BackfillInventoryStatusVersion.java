@@ -0,0 +1,27 @@
+package com.restaurant.operationsprepare.migration;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * V3 で追加した inventory_status.version の既存行を 0 で埋める
+ *
+ * 埋め終わった後に V5 で NOT NULL 制約を付与する。
+ */
+@Component
+public class V4__BackfillInventoryStatusVersion extends BatchedBackfillMigration {
+
+    @Override
+    protected String tableName() {
+        return "inventory_status";
+    }
+
+    @Override
+    protected String setClause() {
+        return "version = 0";
+    }
+
+    @Override
+    protected String pendingCondition() {
+        return "version IS NULL";
+    }
+}
@@ -0,0 +1,157 @@
+package com.restaurant.operationsprepare.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 一覧APIの fields パラメータ用の射影（選択された項目の列だけを取得する）
+ *
+ * JPQLの SELECT 句に選択された項目のパスだけを並べ、エンティティを作らずに
+ * JSONの項目名をキーとした Map で返す。項目の並びは定義順。
+ */
+@Repository
+public class FieldProjectionRepository {
+
+    /** 品物の項目（JSONの項目名 → JPQLのパス） */
+    private static final Map<String, String> ITEM_PATHS = paths(
+            "id", "i.id",
+            "name", "i.name",
+            "description", "i.description",
+            "unit", "i.unit",
+            "createdAt", "i.createdAt",
+            "updatedAt", "i.updatedAt");
+
+    /** 場所の項目（JSONの項目名 → JPQLのパス） */
+    private static final Map<String, String> PLACE_PATHS = paths(
+            "id", "p.id",
+            "type", "p.type",
+            "name", "p.name",
+            "displayOrder", "p.displayOrder",
+            "createdAt", "p.createdAt",
+            "updatedAt", "p.updatedAt");
+
+    /** 在庫ステータスの項目（JSONの項目名 → JPQLのパス。item は ITEM_PATHS のすべての項目） */
+    private static final Map<String, String> INVENTORY_STATUS_PATHS = paths(
+            "id", "ins.id",
+            "businessDate", "ins.businessDate",
+            "item", null,
+            "inventoryCheckStatus", "ins.inventoryCheckStatus",
+            "replenishmentStatus", "ins.replenishmentStatus",
+            "preparationStatus", "ins.preparationStatus",
+            "orderRequestStatus", "ins.orderRequestStatus",
+            "inventoryCount", "ins.inventoryCount",
+            "replenishmentCount", "ins.replenishmentCount",
+            "replenishmentNote", "ins.replenishmentNote",
+            "version", "ins.version",
+            "createdAt", "ins.createdAt",
+            "updatedAt", "ins.updatedAt");
+
+    /** fields パラメータで指定できる品物の項目 */
+    public static final Set<String> ITEM_FIELDS = ITEM_PATHS.keySet();
+
+    /** fields パラメータで指定できる場所の項目 */
+    public static final Set<String> PLACE_FIELDS = PLACE_PATHS.keySet();
+
+    /** fields パラメータで指定できる在庫ステータスの項目 */
+    public static final Set<String> INVENTORY_STATUS_FIELDS = INVENTORY_STATUS_PATHS.keySet();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 品物を名前順に取得する
+     */
+    public List<Map<String, Object>> findItems(FieldSelection fields) {
+        return select(columns(fields, ITEM_PATHS, Map.of()), "FROM Item i ORDER BY i.name", Map.of());
+    }
+
+    /**
+     * 場所を区分・表示順に取得する（GET /api/places と同じ並び）
+     */
+    public List<Map<String, Object>> findPlaces(FieldSelection fields) {
+        return select(columns(fields, PLACE_PATHS, Map.of()), "FROM Place p ORDER BY p.type, p.displayOrder ASC", Map.of());
+    }
+
+    /**
+     * 業務日付の在庫ステータスを品物名順に取得する
+     * 品物は並び順のため常に結合し、fields に item がある場合だけ品物の列を取得する
+     */
+    public List<Map<String, Object>> findInventoryStatusesByBusinessDate(LocalDate businessDate,
+                                                                         FieldSelection fields) {
+        return select(columns(fields, INVENTORY_STATUS_PATHS, Map.of("item", ITEM_PATHS)),
+                "FROM InventoryStatus ins JOIN ins.item i WHERE ins.businessDate = :businessDate ORDER BY i.name",
+                Map.of("businessDate", businessDate));
+    }
+
+    private List<Map<String, Object>> select(List<Column> columns, String from, Map<String, Object> parameters) {
+        StringBuilder jpql = new StringBuilder("SELECT ");
+        for (int i = 0; i < columns.size(); i++) {
+            jpql.append(i == 0 ? "" : ", ").append(columns.get(i).path());
+        }
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql.append(' ').append(from).toString(), Tuple.class);
+        parameters.forEach(query::setParameter);
+
+        List<Tuple> tuples = query.getResultList();
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int i = 0; i < columns.size(); i++) {
+                Column column = columns.get(i);
+                if (column.parent() == null) {
+                    row.put(column.field(), tuple.get(i));
+                } else {
+                    @SuppressWarnings("unchecked")
+                    Map<String, Object> parent = (Map<String, Object>) row.computeIfAbsent(column.parent(),
+                            key -> new LinkedHashMap<String, Object>());
+                    parent.put(column.field(), tuple.get(i));
+                }
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    /**
+     * 選択された項目の列（nested の項目は、その項目のすべての列を中に入れる）
+     */
+    private static List<Column> columns(FieldSelection fields, Map<String, String> paths,
+                                        Map<String, Map<String, String>> nested) {
+        List<Column> columns = new ArrayList<>();
+        paths.forEach((field, path) -> {
+            if (!fields.contains(field)) {
+                return;
+            }
+            if (nested.containsKey(field)) {
+                nested.get(field).forEach((child, childPath) -> columns.add(new Column(field, child, childPath)));
+            } else {
+                columns.add(new Column(null, field, path));
+            }
+        });
+        return columns;
+    }
+
+    private static Map<String, String> paths(String... fieldsAndPaths) {
+        Map<String, String> paths = new LinkedHashMap<>();
+        for (int i = 0; i < fieldsAndPaths.length; i += 2) {
+            paths.put(fieldsAndPaths[i], fieldsAndPaths[i + 1]);
+        }
+        return Collections.unmodifiableMap(paths);
+    }
+
+    /**
+     * SELECT 句の1列（parent がある場合はその項目の中に入れる）
+     */
+    private record Column(String parent, String field, String path) {
+    }
+}
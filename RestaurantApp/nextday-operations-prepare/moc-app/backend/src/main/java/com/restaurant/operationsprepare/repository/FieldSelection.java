@@ -0,0 +1,70 @@
+package com.restaurant.operationsprepare.repository;
+
+import com.restaurant.operationsprepare.exception.InvalidFieldsException;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 一覧APIの fields パラメータで選択された項目（JSONの項目名）
+ *
+ * FieldProjectionRepository で選択された項目のパスだけを JPQL の SELECT 句に並べ、
+ * 選択されていない項目はレスポンスにも含めない。
+ * id は行を識別するため常に含める。
+ */
+public final class FieldSelection {
+
+    private static final String ID = "id";
+
+    private final Set<String> fields;
+
+    private FieldSelection(Set<String> fields) {
+        this.fields = Collections.unmodifiableSet(fields);
+    }
+
+    /**
+     * すべての項目を選択する
+     */
+    public static FieldSelection all(Set<String> allowed) {
+        return new FieldSelection(new LinkedHashSet<>(allowed));
+    }
+
+    /**
+     * fields パラメータ（カンマ区切りの項目名）を解析する
+     *
+     * @param fields  fields パラメータ（null または空の場合はすべての項目）
+     * @param allowed 指定できる項目名
+     * @throws InvalidFieldsException 指定できない項目名が含まれる場合
+     */
+    public static FieldSelection parse(String fields, Set<String> allowed) {
+        if (fields == null || fields.isBlank()) {
+            return all(allowed);
+        }
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add(ID);
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!allowed.contains(name)) {
+                throw new InvalidFieldsException("指定できない項目です: " + name + "（指定できる項目: "
+                        + String.join(", ", allowed) + "）");
+            }
+            selected.add(name);
+        }
+        return new FieldSelection(selected);
+    }
+
+    public boolean contains(String field) {
+        return fields.contains(field);
+    }
+
+    /**
+     * 選択された項目名（id を含む）
+     */
+    public Set<String> getFields() {
+        return fields;
+    }
+}
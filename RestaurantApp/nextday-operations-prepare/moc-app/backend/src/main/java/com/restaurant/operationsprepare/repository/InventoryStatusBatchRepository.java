@@ -0,0 +1,53 @@
+package com.restaurant.operationsprepare.repository;
+
+import com.restaurant.operationsprepare.entity.InventoryStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 在庫ステータスの一括保存（InventoryStatusRepository のカスタム実装）
+ */
+public interface InventoryStatusBatchRepository {
+
+    /**
+     * 在庫ステータスをJDBCバッチでまとめて保存する
+     *
+     * idがnullのものは新規登録、idがあるものは既存行の更新として扱う。
+     * 更新する行は書き込む前にバージョンをまとめて確かめ（500件ごとに1回のSELECT）、
+     * エンティティを読み込まずにJDBCバッチでUPDATEする。1件でも確認に失敗した場合は何も書き込まない。
+     * 保存後は品物を結合して読み直した結果を入力順で返す。
+     *
+     * @param inventoryStatuses 保存する在庫ステータス
+     * @return 保存後の在庫ステータス（入力順）
+     * @throws com.restaurant.operationsprepare.exception.InvalidRequestException
+     *         営業日・品物のID・更新する行のバージョンがない、または同じIDが重複している場合（400）
+     * @throws com.restaurant.operationsprepare.exception.OptimisticLockException
+     *         更新する行が削除されている、またはバージョンが一致しない場合（409）
+     */
+    List<InventoryStatus> saveAllInBatch(List<InventoryStatus> inventoryStatuses);
+
+    /**
+     * 補充数・作成ステータスをJDBCバッチでまとめて更新する
+     *
+     * エンティティを読み込まずにUPDATEのみ発行し、バージョンを1増やす。
+     *
+     * @param updates 更新する在庫ステータスと値
+     * @return 更新した行数
+     */
+    int updateReplenishments(List<ReplenishmentUpdate> updates);
+
+    /**
+     * 永続化コンテキストで管理している在庫ステータスをDBの値で読み直す
+     *
+     * updateReplenishments はエンティティを経由しないため、同じトランザクションで読み込み済みの
+     * エンティティに更新後の値とバージョンを反映する場合に使う。
+     */
+    void refresh(InventoryStatus inventoryStatus);
+
+    /**
+     * 補充数・作成ステータスの更新内容
+     */
+    record ReplenishmentUpdate(UUID id, int replenishmentCount, String preparationStatus) {
+    }
+}
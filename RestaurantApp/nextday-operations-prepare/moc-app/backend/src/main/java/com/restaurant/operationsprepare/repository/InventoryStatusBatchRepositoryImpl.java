@@ -0,0 +1,220 @@
+package com.restaurant.operationsprepare.repository;
+
+import com.restaurant.operationsprepare.entity.InventoryStatus;
+import com.restaurant.operationsprepare.exception.InvalidRequestException;
+import com.restaurant.operationsprepare.exception.OptimisticLockException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public class InventoryStatusBatchRepositoryImpl implements InventoryStatusBatchRepository {
+
+    // 読み直し時のIN句の最大件数
+    private static final int RELOAD_CHUNK_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // hibernate.jdbc.batch_size と揃え、1バッチ分ごとにflush/clearする
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    @Override
+    @Transactional
+    public List<InventoryStatus> saveAllInBatch(List<InventoryStatus> inventoryStatuses) {
+        List<InventoryStatus> updates = new ArrayList<>();
+        for (InventoryStatus status : inventoryStatuses) {
+            if (status.getBusinessDate() == null || status.getItem() == null || status.getItem().getId() == null) {
+                throw new InvalidRequestException("businessDate and item.id are required for inventory status");
+            }
+            if (status.getId() != null) {
+                updates.add(status);
+            }
+        }
+        // 書き込む前に全件のバージョンを確かめ、1件でも古ければ何も書き込まない
+        checkVersions(updates);
+
+        List<UUID> ids = new ArrayList<>(inventoryStatuses.size());
+        int pending = 0;
+        for (InventoryStatus status : inventoryStatuses) {
+            if (status.getId() == null) {
+                entityManager.persist(status);
+                // 永続化コンテキストの肥大化を防ぐため、バッチ単位で書き出して切り離す
+                if (++pending % batchSize == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+            ids.add(status.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        updateInBatch(updates);
+
+        return reloadWithItems(ids);
+    }
+
+    @Override
+    @Transactional
+    public int updateReplenishments(List<ReplenishmentUpdate> updates) {
+        if (updates.isEmpty()) {
+            return 0;
+        }
+        Session session = entityManager.unwrap(Session.class);
+        // 永続化コンテキストの未反映の変更を先に書き出す
+        session.flush();
+        return session.doReturningWork(connection -> {
+            int updated = 0;
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "UPDATE inventory_status SET replenishment_count = ?, preparation_status = ?,"
+                            + " version = version + 1, updated_at = ? WHERE id = ?")) {
+                Timestamp now = new Timestamp(System.currentTimeMillis());
+                for (int i = 0; i < updates.size(); i++) {
+                    ReplenishmentUpdate update = updates.get(i);
+                    statement.setInt(1, update.replenishmentCount());
+                    statement.setString(2, update.preparationStatus());
+                    statement.setTimestamp(3, now);
+                    statement.setObject(4, update.id());
+                    statement.addBatch();
+                    if ((i + 1) % batchSize == 0 || i == updates.size() - 1) {
+                        for (int count : statement.executeBatch()) {
+                            updated += Math.max(count, 0);
+                        }
+                    }
+                }
+            }
+            return updated;
+        });
+    }
+
+    @Override
+    @Transactional
+    public void refresh(InventoryStatus inventoryStatus) {
+        entityManager.refresh(inventoryStatus);
+    }
+
+    /**
+     * 更新する在庫ステータスのバージョンが現在の値と一致するか、500件ごとに1回のSELECTで確かめる
+     *
+     * @throws InvalidRequestException バージョンがない、または同じIDが重複している場合
+     * @throws OptimisticLockException 行が削除されている、またはバージョンが一致しない場合
+     */
+    private void checkVersions(List<InventoryStatus> updates) {
+        Map<UUID, Integer> requested = new HashMap<>(updates.size() * 2);
+        for (InventoryStatus status : updates) {
+            if (status.getVersion() == null) {
+                throw new InvalidRequestException("version is required to update inventory status: " + status.getId());
+            }
+            if (requested.put(status.getId(), status.getVersion()) != null) {
+                throw new InvalidRequestException("duplicate inventory status id: " + status.getId());
+            }
+        }
+
+        List<UUID> ids = new ArrayList<>(requested.keySet());
+        Map<UUID, Integer> current = new HashMap<>(ids.size() * 2);
+        for (int from = 0; from < ids.size(); from += RELOAD_CHUNK_SIZE) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + RELOAD_CHUNK_SIZE, ids.size()));
+            entityManager.createQuery(
+                            "SELECT ins.id, ins.version FROM InventoryStatus ins WHERE ins.id IN :ids", Object[].class)
+                    .setParameter("ids", chunk)
+                    .getResultList()
+                    .forEach(row -> current.put((UUID) row[0], (Integer) row[1]));
+        }
+
+        List<UUID> deleted = new ArrayList<>();
+        List<UUID> stale = new ArrayList<>();
+        requested.forEach((id, version) -> {
+            if (!current.containsKey(id)) {
+                deleted.add(id);
+            } else if (!version.equals(current.get(id))) {
+                stale.add(id);
+            }
+        });
+        if (!deleted.isEmpty()) {
+            throw new OptimisticLockException("The data has been deleted by another user. ids=" + deleted);
+        }
+        if (!stale.isEmpty()) {
+            throw new OptimisticLockException(
+                    "Version mismatch. The data has been updated by another user. ids=" + stale);
+        }
+    }
+
+    /**
+     * 既存行をJDBCバッチで更新する（エンティティを読み込まず、バージョンが一致する行のみ更新）
+     *
+     * @throws OptimisticLockException 確認後に他の更新がコミットされ、更新できない行があった場合
+     */
+    private void updateInBatch(List<InventoryStatus> updates) {
+        if (updates.isEmpty()) {
+            return;
+        }
+        Session session = entityManager.unwrap(Session.class);
+        session.doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "UPDATE inventory_status SET business_date = ?, item_id = ?, inventory_check_status = ?,"
+                            + " replenishment_status = ?, preparation_status = ?, order_request_status = ?,"
+                            + " inventory_count = ?, replenishment_count = ?, replenishment_note = ?,"
+                            + " version = version + 1, updated_at = ? WHERE id = ? AND version = ?")) {
+                Timestamp now = new Timestamp(System.currentTimeMillis());
+                for (int i = 0; i < updates.size(); i++) {
+                    InventoryStatus status = updates.get(i);
+                    statement.setDate(1, Date.valueOf(status.getBusinessDate()));
+                    statement.setObject(2, status.getItem().getId());
+                    statement.setString(3, status.getInventoryCheckStatus());
+                    statement.setString(4, status.getReplenishmentStatus());
+                    statement.setString(5, status.getPreparationStatus());
+                    statement.setString(6, status.getOrderRequestStatus());
+                    statement.setObject(7, status.getInventoryCount(), Types.INTEGER);
+                    statement.setObject(8, status.getReplenishmentCount(), Types.INTEGER);
+                    statement.setString(9, status.getReplenishmentNote());
+                    statement.setTimestamp(10, now);
+                    statement.setObject(11, status.getId());
+                    statement.setInt(12, status.getVersion());
+                    statement.addBatch();
+                    if ((i + 1) % batchSize == 0 || i == updates.size() - 1) {
+                        for (int count : statement.executeBatch()) {
+                            if (count == 0) {
+                                throw new OptimisticLockException(
+                                        "Version mismatch. The data has been updated by another user.");
+                            }
+                        }
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * 保存した在庫ステータスを品物と結合して読み直し、入力順に並べる
+     */
+    private List<InventoryStatus> reloadWithItems(List<UUID> ids) {
+        Map<UUID, InventoryStatus> statusesById = new HashMap<>(ids.size() * 2);
+        for (int from = 0; from < ids.size(); from += RELOAD_CHUNK_SIZE) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + RELOAD_CHUNK_SIZE, ids.size()));
+            entityManager.createQuery(
+                            "SELECT ins FROM InventoryStatus ins JOIN FETCH ins.item WHERE ins.id IN :ids",
+                            InventoryStatus.class)
+                    .setParameter("ids", chunk)
+                    .getResultList()
+                    .forEach(status -> statusesById.put(status.getId(), status));
+        }
+
+        List<InventoryStatus> result = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            result.add(statusesById.get(id));
+        }
+        return result;
+    }
+}
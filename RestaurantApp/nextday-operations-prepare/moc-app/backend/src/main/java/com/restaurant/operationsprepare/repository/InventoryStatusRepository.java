@@ -1,6 +1,8 @@
 package com.restaurant.operationsprepare.repository;
 
+import com.restaurant.operationsprepare.dto.InventoryStatusView;
 import com.restaurant.operationsprepare.entity.InventoryStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,12 +14,18 @@ import java.util.UUID;
 import java.util.Optional;
 
 @Repository
-public interface InventoryStatusRepository extends JpaRepository<InventoryStatus, UUID> {
+public interface InventoryStatusRepository extends JpaRepository<InventoryStatus, UUID>, InventoryStatusBatchRepository {
 
+    // item は EAGER のため、エンティティを返すクエリは @EntityGraph で結合取得する
+    // （指定しないと品物ごとに追加のSELECTが発行される）
+
+    @EntityGraph(attributePaths = "item")
     List<InventoryStatus> findByBusinessDateOrderByItemName(LocalDate businessDate);
 
+    // 1件取得は結合せず、品物は2次キャッシュから解決する
     Optional<InventoryStatus> findByBusinessDateAndItemId(LocalDate businessDate, UUID itemId);
 
+    @EntityGraph(attributePaths = "item")
     @Query("SELECT ins FROM InventoryStatus ins " +
            "WHERE ins.businessDate = :businessDate " +
            "AND ins.item.id IN (SELECT DISTINCT ir.item.id FROM ItemReplenishment ir " +
@@ -27,6 +35,7 @@ public interface InventoryStatusRepository extends JpaRepository<InventoryStatus
             @Param("businessDate") LocalDate businessDate,
             @Param("destinationId") UUID destinationId);
 
+    @EntityGraph(attributePaths = "item")
     @Query("SELECT ins FROM InventoryStatus ins " +
            "WHERE ins.businessDate = :businessDate " +
            "AND ins.item.id IN (SELECT DISTINCT ir.item.id FROM ItemReplenishment ir " +
@@ -36,6 +45,7 @@ public interface InventoryStatusRepository extends JpaRepository<InventoryStatus
             @Param("businessDate") LocalDate businessDate,
             @Param("sourceId") UUID sourceId);
 
+    @EntityGraph(attributePaths = "item")
     @Query("SELECT ins FROM InventoryStatus ins " +
            "WHERE ins.businessDate = :businessDate " +
            "AND (ins.inventoryCheckStatus = '未確認' " +
@@ -44,4 +54,55 @@ public interface InventoryStatusRepository extends JpaRepository<InventoryStatus
            "OR ins.orderRequestStatus = '要発注依頼') " +
            "ORDER BY ins.item.name")
     List<InventoryStatus> findPendingItemsByBusinessDate(@Param("businessDate") LocalDate businessDate);
+
+    // 一覧API用の読み取り専用DTO射影（品物を内部結合し1クエリで取得、エンティティは管理対象にしない）
+
+    String VIEW_SELECT = "SELECT new com.restaurant.operationsprepare.dto.InventoryStatusView(" +
+           "ins.id, ins.businessDate, ins.inventoryCheckStatus, ins.replenishmentStatus, " +
+           "ins.preparationStatus, ins.orderRequestStatus, ins.inventoryCount, ins.replenishmentCount, " +
+           "ins.replenishmentNote, ins.version, ins.createdAt, ins.updatedAt, " +
+           "i.id, i.name, i.description, i.unit, i.createdAt, i.updatedAt) " +
+           "FROM InventoryStatus ins JOIN ins.item i ";
+
+    @Query(VIEW_SELECT +
+           "WHERE ins.businessDate = :businessDate " +
+           "ORDER BY i.name")
+    List<InventoryStatusView> findViewsByBusinessDate(@Param("businessDate") LocalDate businessDate);
+
+    @Query(VIEW_SELECT +
+           "WHERE ins.businessDate = :businessDate " +
+           "AND i.id IN (SELECT ir.item.id FROM ItemReplenishment ir " +
+           "WHERE ir.destinationLocation.id = :destinationId) " +
+           "ORDER BY i.name")
+    List<InventoryStatusView> findViewsByBusinessDateAndDestinationLocationId(
+            @Param("businessDate") LocalDate businessDate,
+            @Param("destinationId") UUID destinationId);
+
+    @Query(VIEW_SELECT +
+           "WHERE ins.businessDate = :businessDate " +
+           "AND i.id IN (SELECT ir.item.id FROM ItemReplenishment ir " +
+           "WHERE ir.sourceLocation.id = :sourceId) " +
+           "ORDER BY i.name")
+    List<InventoryStatusView> findViewsByBusinessDateAndSourceLocationId(
+            @Param("businessDate") LocalDate businessDate,
+            @Param("sourceId") UUID sourceId);
+
+    @Query(VIEW_SELECT +
+           "WHERE ins.businessDate = :businessDate " +
+           "AND (ins.inventoryCheckStatus = '未確認' " +
+           "OR ins.replenishmentStatus = '要補充' " +
+           "OR ins.preparationStatus = '要作成' " +
+           "OR ins.orderRequestStatus = '要発注依頼') " +
+           "ORDER BY i.name")
+    List<InventoryStatusView> findPendingViewsByBusinessDate(@Param("businessDate") LocalDate businessDate);
+
+    /**
+     * 業務日付の在庫数・補充数・作成ステータスを取得する（補充数の算出用。エンティティを作らない）
+     *
+     * @return [在庫ステータスID, 品物ID, 在庫数, 補充数, 作成ステータス] のリスト
+     */
+    @Query("SELECT ins.id, ins.item.id, ins.inventoryCount, ins.replenishmentCount, ins.preparationStatus " +
+           "FROM InventoryStatus ins " +
+           "WHERE ins.businessDate = :businessDate")
+    List<Object[]> findReplenishmentStatesByBusinessDate(@Param("businessDate") LocalDate businessDate);
 }
@@ -1,18 +1,64 @@
 package com.restaurant.operationsprepare.repository;
 
+import com.restaurant.operationsprepare.dto.ItemReplenishmentView;
 import com.restaurant.operationsprepare.entity.ItemReplenishment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface ItemReplenishmentRepository extends JpaRepository<ItemReplenishment, UUID> {
 
+    // 参照用のエンティティ取得はスナップショットを作らない（ダーティチェック対象外）
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<ItemReplenishment> findBySourceLocationId(UUID sourceLocationId);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<ItemReplenishment> findByDestinationLocationId(UUID destinationLocationId);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<ItemReplenishment> findByItemId(UUID itemId);
+
+    // 補充経路グラフ用（品物・補充元・補充先を結合取得）
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT ir FROM ItemReplenishment ir " +
+           "JOIN FETCH ir.item i " +
+           "JOIN FETCH ir.sourceLocation s " +
+           "JOIN FETCH ir.destinationLocation d " +
+           "ORDER BY i.name, s.displayOrder, d.displayOrder")
+    List<ItemReplenishment> findAllWithItemAndPlaces();
+
+    // API用（読み取り専用DTO、品物・補充元・補充先を結合して1クエリで取得）
+
+    String VIEW_SELECT = "SELECT new com.restaurant.operationsprepare.dto.ItemReplenishmentView(" +
+           "ir.id, i.id, i.name, s.id, s.name, d.id, d.name, " +
+           "ir.replenishmentType, ir.orderRequestDestination, ir.createdAt, ir.updatedAt) " +
+           "FROM ItemReplenishment ir JOIN ir.item i JOIN ir.sourceLocation s JOIN ir.destinationLocation d ";
+
+    @Query(VIEW_SELECT +
+           "ORDER BY s.displayOrder, d.displayOrder, i.name")
+    List<ItemReplenishmentView> findAllViews();
+
+    @Query(VIEW_SELECT +
+           "WHERE ir.id = :id")
+    Optional<ItemReplenishmentView> findViewById(@Param("id") UUID id);
+
+    @Query(VIEW_SELECT +
+           "WHERE s.id = :sourceId " +
+           "ORDER BY d.displayOrder, i.name")
+    List<ItemReplenishmentView> findViewsBySourceLocationId(@Param("sourceId") UUID sourceId);
+
+    @Query(VIEW_SELECT +
+           "WHERE d.id = :destinationId " +
+           "ORDER BY s.displayOrder, i.name")
+    List<ItemReplenishmentView> findViewsByDestinationLocationId(@Param("destinationId") UUID destinationId);
 }
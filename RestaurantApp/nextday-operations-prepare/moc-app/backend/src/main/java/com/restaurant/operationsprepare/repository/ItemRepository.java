@@ -25,4 +25,12 @@ public interface ItemRepository extends JpaRepository<Item, UUID> {
     List<Item> findBySourceLocationId(@Param("sourceId") UUID sourceId);
 
     List<Item> findByNameContainingIgnoreCaseOrderByName(String name);
+
+    /**
+     * 全品物のIDと名前を名前順に取得する（補充数の算出で品物を添字で扱うため）
+     *
+     * @return [品物ID, 品物名] のリスト
+     */
+    @Query("SELECT i.id, i.name FROM Item i ORDER BY i.name, i.id")
+    List<Object[]> findAllIdsAndNamesOrderByName();
 }
@@ -1,8 +1,11 @@
 package com.restaurant.operationsprepare.repository;
 
 import com.restaurant.operationsprepare.entity.Place;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,8 +14,11 @@ import java.util.UUID;
 @Repository
 public interface PlaceRepository extends JpaRepository<Place, UUID> {
 
+    // 結果をクエリキャッシュに保持（場所の追加・更新・削除で自動的に無効化される）
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Place> findByTypeOrderByDisplayOrderAsc(String type);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT p FROM Place p ORDER BY p.type, p.displayOrder ASC")
     List<Place> findAllOrderedByTypeAndDisplayOrder();
 }
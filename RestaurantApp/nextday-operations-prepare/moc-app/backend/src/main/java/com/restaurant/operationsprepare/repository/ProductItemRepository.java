@@ -0,0 +1,21 @@
+package com.restaurant.operationsprepare.repository;
+
+import com.restaurant.operationsprepare.entity.ProductItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ProductItemRepository extends JpaRepository<ProductItem, UUID> {
+
+    /**
+     * 商品と品物の対応を品物を結合せずに取得する（補充数の算出用）
+     *
+     * @return [商品名, 品物ID, 数量] のリスト
+     */
+    @Query("SELECT pi.productName, pi.item.id, pi.quantity FROM ProductItem pi")
+    List<Object[]> findAllUsages();
+}
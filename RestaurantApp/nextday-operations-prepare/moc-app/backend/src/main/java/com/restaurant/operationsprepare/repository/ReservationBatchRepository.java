@@ -0,0 +1,34 @@
+package com.restaurant.operationsprepare.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 予約の一括取り込み（ReservationRepository のカスタム実装）
+ */
+public interface ReservationBatchRepository {
+
+    /**
+     * 業務日付の予約をすべて削除する
+     *
+     * @param businessDate 業務日付
+     * @return 削除した行数
+     */
+    int deleteAllByBusinessDate(LocalDate businessDate);
+
+    /**
+     * 予約をJDBCバッチでまとめて登録する
+     *
+     * エンティティを作らずにINSERTのみ発行する。
+     *
+     * @param rows 登録する予約
+     * @return 登録した行数
+     */
+    int insertAll(List<ReservationRow> rows);
+
+    /**
+     * 取り込む予約1行
+     */
+    record ReservationRow(LocalDate businessDate, String productName, int reservationCount) {
+    }
+}
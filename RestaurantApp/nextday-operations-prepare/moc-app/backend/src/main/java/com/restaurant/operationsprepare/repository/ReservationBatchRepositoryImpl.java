@@ -0,0 +1,61 @@
+package com.restaurant.operationsprepare.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public class ReservationBatchRepositoryImpl implements ReservationBatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int deleteAllByBusinessDate(LocalDate businessDate) {
+        Session session = entityManager.unwrap(Session.class);
+        session.flush();
+        return session.doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "DELETE FROM reservation WHERE business_date = ?")) {
+                statement.setDate(1, Date.valueOf(businessDate));
+                return statement.executeUpdate();
+            }
+        });
+    }
+
+    @Override
+    @Transactional
+    public int insertAll(List<ReservationRow> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        Session session = entityManager.unwrap(Session.class);
+        return session.doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO reservation (id, business_date, product_name, reservation_count, created_at, updated_at)"
+                            + " VALUES (?, ?, ?, ?, ?, ?)")) {
+                Timestamp now = new Timestamp(System.currentTimeMillis());
+                for (ReservationRow row : rows) {
+                    statement.setObject(1, UUID.randomUUID());
+                    statement.setDate(2, Date.valueOf(row.businessDate()));
+                    statement.setString(3, row.productName());
+                    statement.setInt(4, row.reservationCount());
+                    statement.setTimestamp(5, now);
+                    statement.setTimestamp(6, now);
+                    statement.addBatch();
+                }
+                // reWriteBatchedInserts では件数が返らない（SUCCESS_NO_INFO）ため、送った行数を返す
+                statement.executeBatch();
+                return rows.size();
+            }
+        });
+    }
+}
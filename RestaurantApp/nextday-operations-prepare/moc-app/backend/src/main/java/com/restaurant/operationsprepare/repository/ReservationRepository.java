@@ -0,0 +1,27 @@
+package com.restaurant.operationsprepare.repository;
+
+import com.restaurant.operationsprepare.entity.Reservation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ReservationRepository extends JpaRepository<Reservation, UUID>, ReservationBatchRepository {
+
+    List<Reservation> findByBusinessDateOrderByProductName(LocalDate businessDate);
+
+    /**
+     * 業務日付の予約数を商品ごとに合計する（補充数の算出用）
+     *
+     * @return [商品名, 予約数の合計(Long)] のリスト
+     */
+    @Query("SELECT r.productName, SUM(r.reservationCount) FROM Reservation r " +
+           "WHERE r.businessDate = :businessDate " +
+           "GROUP BY r.productName")
+    List<Object[]> sumReservationCountByProductName(@Param("businessDate") LocalDate businessDate);
+}
@@ -0,0 +1,163 @@
+package com.restaurant.operationsprepare.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 区切り文字形式（CSV/TSV）のテキストを1レコードずつ読む
+ *
+ * ファイル全体を読み込まず、固定長のバッファで先頭から順に読む。
+ * CSVはダブルクォートで囲んだ項目（区切り文字・改行・"" を含む）に対応し、
+ * TSVは引用符を使わない（項目中の " はそのまま値にする）。
+ * 空行は読み飛ばし、行番号はレコードの開始行（1始まり）を返す。
+ */
+final class DelimitedRecordReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Reader reader;
+
+    private final char delimiter;
+
+    private final boolean quoted;
+
+    private final char[] buffer = new char[BUFFER_SIZE];
+
+    private int position;
+
+    private int limit;
+
+    // 次に読む文字の行番号
+    private long line = 1;
+
+    private long recordLine;
+
+    private boolean started;
+
+    private final StringBuilder field = new StringBuilder();
+
+    DelimitedRecordReader(Reader reader, char delimiter, boolean quoted) {
+        this.reader = reader;
+        this.delimiter = delimiter;
+        this.quoted = quoted;
+    }
+
+    /**
+     * 最後に読んだレコードの開始行
+     */
+    long recordLine() {
+        return recordLine;
+    }
+
+    /**
+     * 次のレコードを読む
+     *
+     * @return 項目のリスト（終端の場合は null）
+     * @throws MalformedRecordException 引用符が閉じられていない場合
+     */
+    List<String> next() throws IOException {
+        int c;
+        // 空行を読み飛ばす
+        do {
+            c = read();
+            if (c == '\r') {
+                c = read();
+            }
+        } while (c == '\n');
+        if (c < 0) {
+            return null;
+        }
+        recordLine = line;
+
+        List<String> fields = new ArrayList<>();
+        field.setLength(0);
+        boolean inQuotes = false;
+        boolean wasQuoted = false;
+        while (true) {
+            if (c < 0) {
+                if (inQuotes) {
+                    throw new MalformedRecordException("引用符が閉じられていません");
+                }
+                fields.add(field.toString());
+                return fields;
+            }
+            if (inQuotes) {
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        inQuotes = false;
+                        c = following;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == delimiter) {
+                fields.add(field.toString());
+                field.setLength(0);
+                wasQuoted = false;
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r') {
+                    int following = read();
+                    if (following != '\n') {
+                        unread();
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else if (quoted && c == '"' && field.isEmpty() && !wasQuoted) {
+                inQuotes = true;
+                wasQuoted = true;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (position >= limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        char c = buffer[position++];
+        if (!started) {
+            started = true;
+            // 先頭のBOM（表計算ソフトの出力）は読み飛ばす
+            if (c == '\uFEFF') {
+                return read();
+            }
+        }
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+
+    /**
+     * 直前に読んだ1文字（改行以外）を戻す
+     */
+    private void unread() {
+        if (position > 0) {
+            position--;
+        }
+    }
+
+    /**
+     * レコードの形式が不正な場合（以降のレコードは読めない）
+     */
+    static class MalformedRecordException extends IOException {
+
+        MalformedRecordException(String message) {
+            super(message);
+        }
+    }
+}
@@ -1,23 +1,72 @@
 package com.restaurant.operationsprepare.service;
 
+import com.restaurant.operationsprepare.dto.InventoryStatusDictionary;
+import com.restaurant.operationsprepare.dto.InventoryStatusPatchRequest;
+import com.restaurant.operationsprepare.dto.InventoryStatusUpdateResponse;
+import com.restaurant.operationsprepare.dto.InventoryStatusView;
+import com.restaurant.operationsprepare.dto.ItemView;
 import com.restaurant.operationsprepare.entity.InventoryStatus;
+import com.restaurant.operationsprepare.exception.MergeConflictException;
+import com.restaurant.operationsprepare.exception.OptimisticLockException;
+import com.restaurant.operationsprepare.repository.FieldProjectionRepository;
+import com.restaurant.operationsprepare.repository.FieldSelection;
 import com.restaurant.operationsprepare.repository.InventoryStatusRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 @Service
 @Transactional
 public class InventoryStatusService {
 
+    private static final String VERSION_MISMATCH = "Version mismatch. The data has been updated by another user.";
+
+    private static final String NOT_FOUND = "The data has been deleted by another user.";
+
+    /** フィールド単位マージの対象項目 */
+    private static final List<MergeField<?>> MERGE_FIELDS = List.of(
+            new MergeField<>("inventoryCheckStatus",
+                    InventoryStatusPatchRequest.Fields::getInventoryCheckStatus,
+                    InventoryStatus::getInventoryCheckStatus, InventoryStatus::setInventoryCheckStatus),
+            new MergeField<>("replenishmentStatus",
+                    InventoryStatusPatchRequest.Fields::getReplenishmentStatus,
+                    InventoryStatus::getReplenishmentStatus, InventoryStatus::setReplenishmentStatus),
+            new MergeField<>("preparationStatus",
+                    InventoryStatusPatchRequest.Fields::getPreparationStatus,
+                    InventoryStatus::getPreparationStatus, InventoryStatus::setPreparationStatus),
+            new MergeField<>("orderRequestStatus",
+                    InventoryStatusPatchRequest.Fields::getOrderRequestStatus,
+                    InventoryStatus::getOrderRequestStatus, InventoryStatus::setOrderRequestStatus),
+            new MergeField<>("inventoryCount",
+                    InventoryStatusPatchRequest.Fields::getInventoryCount,
+                    InventoryStatus::getInventoryCount, InventoryStatus::setInventoryCount),
+            new MergeField<>("replenishmentCount",
+                    InventoryStatusPatchRequest.Fields::getReplenishmentCount,
+                    InventoryStatus::getReplenishmentCount, InventoryStatus::setReplenishmentCount),
+            new MergeField<>("replenishmentNote",
+                    InventoryStatusPatchRequest.Fields::getReplenishmentNote,
+                    InventoryStatus::getReplenishmentNote, InventoryStatus::setReplenishmentNote));
+
     @Autowired
     private InventoryStatusRepository inventoryStatusRepository;
 
+    @Autowired
+    private FieldProjectionRepository fieldProjectionRepository;
+
+    @Autowired
+    private ReplenishmentComputationService replenishmentComputationService;
+
     @Transactional(readOnly = true)
     public List<InventoryStatus> getInventoryStatusByDate(LocalDate businessDate) {
         return inventoryStatusRepository.findByBusinessDateOrderByItemName(businessDate);
@@ -38,20 +87,214 @@ public class InventoryStatusService {
         return inventoryStatusRepository.findPendingItemsByBusinessDate(businessDate);
     }
 
+    // 一覧API用（読み取り専用DTO、品物を結合して1クエリで取得）
+
+    @Transactional(readOnly = true)
+    public List<InventoryStatusView> getInventoryStatusViewsByDate(LocalDate businessDate) {
+        return inventoryStatusRepository.findViewsByBusinessDate(businessDate);
+    }
+
+    /**
+     * 業務日付の在庫ステータスの指定した項目だけを取得する（品物名順）
+     *
+     * @param fields カンマ区切りの項目名（空の場合はすべての項目。item は品物情報）
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getInventoryStatusFieldsByDate(LocalDate businessDate, String fields) {
+        return fieldProjectionRepository.findInventoryStatusesByBusinessDate(businessDate,
+                FieldSelection.parse(fields, FieldProjectionRepository.INVENTORY_STATUS_FIELDS));
+    }
+
+    @Transactional(readOnly = true)
+    public List<InventoryStatusView> getInventoryStatusViewsByDateAndDestination(LocalDate businessDate, UUID destinationId) {
+        return inventoryStatusRepository.findViewsByBusinessDateAndDestinationLocationId(businessDate, destinationId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<InventoryStatusView> getInventoryStatusViewsByDateAndSource(LocalDate businessDate, UUID sourceId) {
+        return inventoryStatusRepository.findViewsByBusinessDateAndSourceLocationId(businessDate, sourceId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<InventoryStatusView> getPendingItemViewsByDate(LocalDate businessDate) {
+        return inventoryStatusRepository.findPendingViewsByBusinessDate(businessDate);
+    }
+
+    /**
+     * 業務日付の在庫ステータスを辞書形式で取得する
+     *
+     * 品物とステータスの値を1回だけ持ち、各行は添字で参照する（行の並びは一覧APIと同じ）
+     */
+    @Transactional(readOnly = true)
+    public InventoryStatusDictionary getInventoryStatusDictionaryByDate(LocalDate businessDate) {
+        List<InventoryStatusView> views = inventoryStatusRepository.findViewsByBusinessDate(businessDate);
+
+        List<ItemView> items = new ArrayList<>();
+        List<String> codes = new ArrayList<>();
+        Map<UUID, Integer> itemIndexes = new HashMap<>();
+        Map<String, Integer> codeIndexes = new HashMap<>();
+        Function<String, Integer> codeIndex = code -> codeIndexes.computeIfAbsent(code, key -> {
+            codes.add(key);
+            return codes.size() - 1;
+        });
+
+        List<InventoryStatusDictionary.Row> rows = new ArrayList<>(views.size());
+        for (InventoryStatusView view : views) {
+            int item = itemIndexes.computeIfAbsent(view.getItem().getId(), key -> {
+                items.add(view.getItem());
+                return items.size() - 1;
+            });
+            rows.add(new InventoryStatusDictionary.Row(view.getId(), item,
+                    codeIndex.apply(view.getInventoryCheckStatus()),
+                    codeIndex.apply(view.getReplenishmentStatus()),
+                    codeIndex.apply(view.getPreparationStatus()),
+                    codeIndex.apply(view.getOrderRequestStatus()),
+                    view.getInventoryCount(), view.getReplenishmentCount(), view.getReplenishmentNote(),
+                    view.getVersion(), view.getCreatedAt(), view.getUpdatedAt()));
+        }
+        return new InventoryStatusDictionary(businessDate, items, codes, rows);
+    }
+
     @Transactional(readOnly = true)
     public Optional<InventoryStatus> getInventoryStatusByDateAndItem(LocalDate businessDate, UUID itemId) {
         return inventoryStatusRepository.findByBusinessDateAndItemId(businessDate, itemId);
     }
 
     public InventoryStatus saveInventoryStatus(InventoryStatus inventoryStatus) {
-        return inventoryStatusRepository.save(inventoryStatus);
+        if (inventoryStatus.getId() == null) {
+            // 新規作成
+            return inventoryStatusRepository.save(inventoryStatus);
+        }
+        // 更新（楽観ロック対応）：取得時点のバージョンと一致する場合のみ全項目を上書きする
+        InventoryStatus current = inventoryStatusRepository.findById(inventoryStatus.getId())
+                .orElseThrow(() -> new OptimisticLockException(NOT_FOUND));
+        if (!Objects.equals(current.getVersion(), inventoryStatus.getVersion())) {
+            throw new OptimisticLockException(VERSION_MISMATCH);
+        }
+        if (inventoryStatus.getBusinessDate() != null) {
+            current.setBusinessDate(inventoryStatus.getBusinessDate());
+        }
+        if (inventoryStatus.getItem() != null) {
+            current.setItem(inventoryStatus.getItem());
+        }
+        current.setInventoryCheckStatus(inventoryStatus.getInventoryCheckStatus());
+        current.setReplenishmentStatus(inventoryStatus.getReplenishmentStatus());
+        current.setPreparationStatus(inventoryStatus.getPreparationStatus());
+        current.setOrderRequestStatus(inventoryStatus.getOrderRequestStatus());
+        current.setInventoryCount(inventoryStatus.getInventoryCount());
+        current.setReplenishmentCount(inventoryStatus.getReplenishmentCount());
+        current.setReplenishmentNote(inventoryStatus.getReplenishmentNote());
+        // 更新後のバージョンを返すため即時にUPDATEを発行する
+        return inventoryStatusRepository.saveAndFlush(current);
+    }
+
+    /**
+     * 在庫ステータスの全項目を更新し、補充数の算出結果の差分を返す
+     * 補充数を反映済みの業務日付では、差分を同じトランザクションで在庫ステータスに書き込む
+     * （補充数を変更する更新では、変更後の補充数を残す）
+     */
+    public InventoryStatusUpdateResponse updateInventoryStatus(InventoryStatus inventoryStatus) {
+        // 補充数を変更する更新では、指定された補充数を算出結果で上書きしない
+        boolean replenishmentCountRequested = inventoryStatus.getId() != null
+                && inventoryStatusRepository.findById(inventoryStatus.getId())
+                        .map(current -> !Objects.equals(current.getReplenishmentCount(),
+                                inventoryStatus.getReplenishmentCount()))
+                        .orElse(false);
+        InventoryStatus savedStatus = saveInventoryStatus(inventoryStatus);
+        return new InventoryStatusUpdateResponse(savedStatus,
+                replenishmentComputationService.recomputeItem(savedStatus, replenishmentCountRequested));
+    }
+
+    /**
+     * フィールド単位マージで在庫ステータスを更新し、補充数の算出結果の差分を返す
+     * 補充数を反映済みの業務日付では、差分を同じトランザクションで在庫ステータスに書き込む
+     * （変更項目に補充数を含む場合は、変更後の補充数を残す）
+     */
+    public InventoryStatusUpdateResponse patchInventoryStatus(UUID id, InventoryStatusPatchRequest request) {
+        InventoryStatus savedStatus = mergeInventoryStatus(id, request);
+        boolean replenishmentCountRequested = request.getChanges() != null
+                && request.getChanges().getReplenishmentCount() != null;
+        return new InventoryStatusUpdateResponse(savedStatus,
+                replenishmentComputationService.recomputeItem(savedStatus, replenishmentCountRequested));
+    }
+
+    /**
+     * フィールド単位マージで在庫ステータスを更新する
+     *
+     * バージョンが一致すれば変更項目をそのまま反映する。
+     * 一致しない場合も、変更項目ごとに現在値が編集前の値（または変更後の値）と同じであれば、
+     * 他の端末はその項目を変更していないため反映する（別々の項目の同時更新はどちらも成功する）。
+     * 1項目でも他の端末と異なる値に変更されていれば何も反映せず、競合した項目名と最新の値を返す。
+     *
+     * @param id 在庫ステータスID
+     * @param request 編集開始時のバージョン、変更後の値、編集前の値
+     * @return 更新後の在庫ステータス
+     */
+    public InventoryStatus mergeInventoryStatus(UUID id, InventoryStatusPatchRequest request) {
+        InventoryStatus current = inventoryStatusRepository.findById(id)
+                .orElseThrow(() -> new OptimisticLockException(NOT_FOUND));
+        InventoryStatusPatchRequest.Fields changes = request.getChanges();
+        if (changes == null) {
+            return current;
+        }
+        InventoryStatusPatchRequest.Fields original = request.getOriginal() != null
+                ? request.getOriginal() : new InventoryStatusPatchRequest.Fields();
+        boolean sameVersion = Objects.equals(current.getVersion(), request.getVersion());
+
+        List<String> conflicts = new ArrayList<>();
+        if (!sameVersion) {
+            for (MergeField<?> field : MERGE_FIELDS) {
+                if (field.conflicts(changes, original, current)) {
+                    conflicts.add(field.name());
+                }
+            }
+        }
+        if (!conflicts.isEmpty()) {
+            throw new MergeConflictException(VERSION_MISMATCH, conflicts, current);
+        }
+
+        for (MergeField<?> field : MERGE_FIELDS) {
+            field.apply(changes, current);
+        }
+        // 読み込み後に他の更新がコミットされていれば @Version によりここで検出される
+        return inventoryStatusRepository.saveAndFlush(current);
     }
 
     public List<InventoryStatus> saveInventoryStatuses(List<InventoryStatus> inventoryStatuses) {
-        return inventoryStatusRepository.saveAll(inventoryStatuses);
+        return inventoryStatusRepository.saveAllInBatch(inventoryStatuses);
     }
 
     public void deleteInventoryStatus(UUID id) {
         inventoryStatusRepository.deleteById(id);
     }
+
+    /**
+     * マージ対象の1項目（リクエストと在庫ステータスの値の取り出し方）
+     */
+    private record MergeField<T>(String name,
+                                 Function<InventoryStatusPatchRequest.Fields, T> requested,
+                                 Function<InventoryStatus, T> current,
+                                 BiConsumer<InventoryStatus, T> setter) {
+
+        /**
+         * 他の端末が同じ項目を別の値に変更していればtrue（変更しない項目は競合しない）
+         */
+        boolean conflicts(InventoryStatusPatchRequest.Fields changes,
+                          InventoryStatusPatchRequest.Fields original,
+                          InventoryStatus status) {
+            T value = requested.apply(changes);
+            if (value == null) {
+                return false;
+            }
+            T now = current.apply(status);
+            return !Objects.equals(now, value) && !Objects.equals(now, requested.apply(original));
+        }
+
+        void apply(InventoryStatusPatchRequest.Fields changes, InventoryStatus status) {
+            T value = requested.apply(changes);
+            if (value != null) {
+                setter.accept(status, value);
+            }
+        }
+    }
 }
@@ -1,8 +1,11 @@
 package com.restaurant.operationsprepare.service;
 
+import com.restaurant.operationsprepare.dto.ItemReplenishmentView;
 import com.restaurant.operationsprepare.entity.ItemReplenishment;
+import com.restaurant.operationsprepare.event.MasterDataChangedEvent;
 import com.restaurant.operationsprepare.repository.ItemReplenishmentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +20,9 @@ public class ItemReplenishmentService {
     @Autowired
     private ItemReplenishmentRepository itemReplenishmentRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Transactional(readOnly = true)
     public List<ItemReplenishment> getAllItemReplenishments() {
         return itemReplenishmentRepository.findAll();
@@ -37,11 +43,36 @@ public class ItemReplenishmentService {
         return itemReplenishmentRepository.findByDestinationLocationId(destinationId);
     }
 
+    // API用（読み取り専用DTO、関連を結合して1クエリで取得）
+
+    @Transactional(readOnly = true)
+    public List<ItemReplenishmentView> getAllItemReplenishmentViews() {
+        return itemReplenishmentRepository.findAllViews();
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<ItemReplenishmentView> getItemReplenishmentViewById(UUID id) {
+        return itemReplenishmentRepository.findViewById(id);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ItemReplenishmentView> getItemReplenishmentViewsBySource(UUID sourceId) {
+        return itemReplenishmentRepository.findViewsBySourceLocationId(sourceId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ItemReplenishmentView> getItemReplenishmentViewsByDestination(UUID destinationId) {
+        return itemReplenishmentRepository.findViewsByDestinationLocationId(destinationId);
+    }
+
     public ItemReplenishment saveItemReplenishment(ItemReplenishment itemReplenishment) {
-        return itemReplenishmentRepository.save(itemReplenishment);
+        ItemReplenishment saved = itemReplenishmentRepository.save(itemReplenishment);
+        eventPublisher.publishEvent(new MasterDataChangedEvent(MasterDataChangedEvent.ITEM_REPLENISHMENT));
+        return saved;
     }
 
     public void deleteItemReplenishment(UUID id) {
         itemReplenishmentRepository.deleteById(id);
+        eventPublisher.publishEvent(new MasterDataChangedEvent(MasterDataChangedEvent.ITEM_REPLENISHMENT));
     }
 }
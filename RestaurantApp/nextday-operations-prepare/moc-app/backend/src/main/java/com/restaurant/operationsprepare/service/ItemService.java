@@ -1,12 +1,17 @@
 package com.restaurant.operationsprepare.service;
 
 import com.restaurant.operationsprepare.entity.Item;
+import com.restaurant.operationsprepare.event.MasterDataChangedEvent;
+import com.restaurant.operationsprepare.repository.FieldProjectionRepository;
+import com.restaurant.operationsprepare.repository.FieldSelection;
 import com.restaurant.operationsprepare.repository.ItemRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -17,11 +22,28 @@ public class ItemService {
     @Autowired
     private ItemRepository itemRepository;
 
+    @Autowired
+    private FieldProjectionRepository fieldProjectionRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Transactional(readOnly = true)
     public List<Item> getAllItems() {
         return itemRepository.findAll();
     }
 
+    /**
+     * 全品物の指定した項目だけを取得する（名前順）
+     *
+     * @param fields カンマ区切りの項目名（空の場合はすべての項目）
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getAllItemFields(String fields) {
+        return fieldProjectionRepository.findItems(
+                FieldSelection.parse(fields, FieldProjectionRepository.ITEM_FIELDS));
+    }
+
     @Transactional(readOnly = true)
     public Optional<Item> getItemById(UUID id) {
         return itemRepository.findById(id);
@@ -38,10 +60,13 @@ public class ItemService {
     }
 
     public Item saveItem(Item item) {
-        return itemRepository.save(item);
+        Item saved = itemRepository.save(item);
+        eventPublisher.publishEvent(new MasterDataChangedEvent(MasterDataChangedEvent.ITEM));
+        return saved;
     }
 
     public void deleteItem(UUID id) {
         itemRepository.deleteById(id);
+        eventPublisher.publishEvent(new MasterDataChangedEvent(MasterDataChangedEvent.ITEM));
     }
 }
@@ -0,0 +1,59 @@
+package com.restaurant.operationsprepare.service;
+
+import com.restaurant.operationsprepare.event.MasterDataChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * マスタ（品物・場所・補充パターン）から作ったメモリ上のキャッシュの有効性
+ *
+ * キャッシュは作成時の版（Stamp）と合わせて保持し、使う前に isCurrent で確認する。
+ * 版は次の場合に古くなる。
+ * - このインスタンスでのマスタ変更のコミット後（MasterDataChangedEvent）
+ * - 作成から有効期限（app.master-data-cache.ttl）が過ぎた場合
+ * 品物・補充パターンは SQL で直接変更され、他のインスタンスでの変更もイベントでは届かないため、
+ * これらの変更は有効期限が過ぎるまで反映されない。キャッシュは2次キャッシュ（application.conf。有効期限1時間）の
+ * エンティティから作られることがあるため、反映の遅れは最大でおよそ有効期限と2次キャッシュの有効期限の合計になる。
+ */
+@Component
+public class MasterDataCacheVersion {
+
+    // 2次キャッシュの item / place / item_replenishment の有効期限と同じ
+    @Value("${app.master-data-cache.ttl:1h}")
+    private Duration ttl;
+
+    // マスタ変更のたびに進める世代番号（作成中に変更された古いキャッシュを使わないため）
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 現在の版（キャッシュを作り始める前に取得し、作ったキャッシュと合わせて保持する）
+     */
+    public Stamp current() {
+        return new Stamp(generation.get(), System.nanoTime());
+    }
+
+    /**
+     * 版が作成後に変更されておらず、有効期限内か
+     */
+    public boolean isCurrent(Stamp stamp) {
+        return stamp.generation() == generation.get() && System.nanoTime() - stamp.createdAt() < ttl.toNanos();
+    }
+
+    /**
+     * マスタ変更のコミット後に、それまでの版を古くする
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMasterDataChanged(MasterDataChangedEvent event) {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * キャッシュの版（世代番号と作成時刻（System.nanoTime））
+     */
+    public record Stamp(long generation, long createdAt) {
+    }
+}
@@ -0,0 +1,138 @@
+package com.restaurant.operationsprepare.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * マスタ一覧（品物・場所）のJSONレスポンスのキャッシュ
+ *
+ * JSONに変換したバイト列と gzip で圧縮したバイト列を保持し、マスタが変更されるか有効期限が過ぎるまで
+ * （MasterDataCacheVersion）使い回す。リクエストごとにJSON変換・圧縮を行わない。
+ * 品物は SQL で直接変更されるため、その変更や他のインスタンスでの変更は、レスポンスの有効期限
+ * （app.master-data-cache.ttl。既定1時間）と2次キャッシュの有効期限（1時間）を合わせた時間まで古いまま返すことがある。
+ * 圧縮済みのレスポンスには Content-Encoding を付けるため、サーバーの圧縮（server.compression）は重ねて行われない。
+ * 無効にした場合はリクエストごとにJSONに変換し、圧縮はサーバーの圧縮に任せる。
+ */
+@Service
+public class MasterDataResponseCache {
+
+    public static final String ITEMS = "items";
+
+    public static final String PLACES = "places";
+
+    private static final String GZIP = "gzip";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.master-data-response-cache.enabled:true}")
+    private boolean enabled;
+
+    // これより小さいレスポンスは圧縮しない（サーバーの圧縮と同じしきい値）
+    @Value("${server.compression.min-response-size:2KB}")
+    private DataSize minCompressSize;
+
+    @Autowired
+    private MasterDataCacheVersion masterDataCacheVersion;
+
+    private final Map<String, CachedResponse> cache = new ConcurrentHashMap<>();
+
+    /**
+     * キャッシュしたJSONレスポンスを返す（キャッシュがない場合は loader の結果から作成する）
+     *
+     * @param key            キャッシュのキー（ITEMS / PLACES）
+     * @param acceptEncoding リクエストの Accept-Encoding
+     * @param loader         レスポンスにするデータの取得
+     */
+    public ResponseEntity<byte[]> getJson(String key, String acceptEncoding, Supplier<?> loader) {
+        CachedResponse response = get(key, loader);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (response.gzip() != null && acceptsGzip(acceptEncoding)) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(response.gzip());
+        }
+        return builder.body(response.json());
+    }
+
+    CachedResponse get(String key, Supplier<?> loader) {
+        CachedResponse current = cache.get(key);
+        if (current != null && masterDataCacheVersion.isCurrent(current.version())) {
+            return current;
+        }
+        // 作成中にマスタが変更された場合は、次回の取得で古い版として作り直される
+        MasterDataCacheVersion.Stamp version = masterDataCacheVersion.current();
+        CachedResponse response = build(version, loader.get());
+        if (enabled) {
+            cache.put(key, response);
+        }
+        return response;
+    }
+
+    private CachedResponse build(MasterDataCacheVersion.Stamp version, Object value) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize master data response", e);
+        }
+        byte[] gzip = enabled && json.length >= minCompressSize.toBytes() ? gzip(json) : null;
+        return new CachedResponse(version, json, gzip);
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * Accept-Encoding に gzip（または *）が含まれ、q=0 で除外されていないか
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.split(";");
+            String coding = tokens[0].trim().toLowerCase(Locale.ROOT);
+            if (!coding.equals(GZIP) && !coding.equals("*")) {
+                continue;
+            }
+            boolean excluded = false;
+            for (int i = 1; i < tokens.length; i++) {
+                String parameter = tokens[i].trim().replace(" ", "");
+                if (parameter.matches("q=0(\\.0{0,3})?")) {
+                    excluded = true;
+                }
+            }
+            if (!excluded) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    record CachedResponse(MasterDataCacheVersion.Stamp version, byte[] json, byte[] gzip) {
+    }
+}
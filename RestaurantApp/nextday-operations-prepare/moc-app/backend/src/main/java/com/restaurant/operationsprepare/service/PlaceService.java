@@ -1,12 +1,17 @@
 package com.restaurant.operationsprepare.service;
 
 import com.restaurant.operationsprepare.entity.Place;
+import com.restaurant.operationsprepare.event.MasterDataChangedEvent;
+import com.restaurant.operationsprepare.repository.FieldProjectionRepository;
+import com.restaurant.operationsprepare.repository.FieldSelection;
 import com.restaurant.operationsprepare.repository.PlaceRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -16,11 +21,28 @@ public class PlaceService {
     @Autowired
     private PlaceRepository placeRepository;
 
+    @Autowired
+    private FieldProjectionRepository fieldProjectionRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Transactional(readOnly = true)
     public List<Place> getAllPlaces() {
         return placeRepository.findAllOrderedByTypeAndDisplayOrder();
     }
 
+    /**
+     * 全場所の指定した項目だけを取得する（区分・表示順）
+     *
+     * @param fields カンマ区切りの項目名（空の場合はすべての項目）
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getAllPlaceFields(String fields) {
+        return fieldProjectionRepository.findPlaces(
+                FieldSelection.parse(fields, FieldProjectionRepository.PLACE_FIELDS));
+    }
+
     @Transactional(readOnly = true)
     public List<Place> getPlacesByType(String type) {
         return placeRepository.findByTypeOrderByDisplayOrderAsc(type);
@@ -37,10 +59,13 @@ public class PlaceService {
     }
 
     public Place savePlace(Place place) {
-        return placeRepository.save(place);
+        Place saved = placeRepository.save(place);
+        eventPublisher.publishEvent(new MasterDataChangedEvent(MasterDataChangedEvent.PLACE));
+        return saved;
     }
 
     public void deletePlace(UUID id) {
         placeRepository.deleteById(id);
+        eventPublisher.publishEvent(new MasterDataChangedEvent(MasterDataChangedEvent.PLACE));
     }
 }
@@ -0,0 +1,394 @@
+package com.restaurant.operationsprepare.service;
+
+import com.restaurant.operationsprepare.dto.ReplenishmentDelta;
+import com.restaurant.operationsprepare.dto.ReplenishmentGraph;
+import com.restaurant.operationsprepare.dto.ReplenishmentSuggestion;
+import com.restaurant.operationsprepare.entity.InventoryStatus;
+import com.restaurant.operationsprepare.event.MasterDataChangedEvent;
+import com.restaurant.operationsprepare.event.ReservationChangedEvent;
+import com.restaurant.operationsprepare.repository.InventoryStatusBatchRepository.ReplenishmentUpdate;
+import com.restaurant.operationsprepare.repository.InventoryStatusRepository;
+import com.restaurant.operationsprepare.repository.ItemRepository;
+import com.restaurant.operationsprepare.repository.ProductItemRepository;
+import com.restaurant.operationsprepare.repository.ReservationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 予約から品物ごとの補充数・作成ステータスを算出する
+ *
+ * 業務日付の予約を商品ごとに合計し、商品と品物の対応（product_item）で品物ごとの必要数に展開する。
+ * 対応がない商品は同じ名前の品物を1つずつ使うものとして扱う。
+ * 必要数から在庫数を引いた不足分を補充数とし、不足がある品物の作成ステータスを「要作成」にする。
+ *
+ * 品物は名前順の添字で扱い、必要数・在庫数・補充数をその添字の int 配列に持つ。
+ * 品物・在庫ステータスのエンティティを作らず、数回のクエリと配列の1回の走査で全品物を算出する。
+ *
+ * 全品物を算出した業務日付は、品物ごとの必要数と算出結果を保持する。必要数は予約と商品品物対応だけで決まり、
+ * 在庫数の変更はその品物の補充数にしか影響しないため、在庫ステータス1件の更新では
+ * 保持した必要数からその品物だけを算出し直し、変わった算出結果と補充パターンを差分として返す。
+ * 算出結果を在庫ステータスに反映済みの業務日付では、差分を在庫ステータスにも書き込む。
+ * 保持する状態は、反映・在庫ステータスの更新のトランザクションがコミットされてから変更する
+ * （ロールバックされた更新の算出結果を、以降の差分の基準にしない）。
+ *
+ * 保持する状態はインスタンスごとのメモリにあるため、差分はリクエストを処理したインスタンスが
+ * 算出・反映した業務日付についてのみ返す（他のインスタンスの算出・反映は考慮しない）。
+ */
+@Service
+@Transactional(readOnly = true)
+public class ReplenishmentComputationService {
+
+    static final String PREPARATION_REQUIRED = "要作成";
+
+    static final String PREPARATION_NOT_REQUIRED = "作成不要";
+
+    // 算出結果を保持する業務日付の数（超えた場合は古い日付から破棄する）
+    private static final int MAX_RETAINED_DAYS = 7;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ProductItemRepository productItemRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private InventoryStatusRepository inventoryStatusRepository;
+
+    @Autowired
+    private ReplenishmentGraphService replenishmentGraphService;
+
+    // マスタ・予約の変更のたびに進める世代番号（算出中に変更された古い状態を保持しないため）
+    private final AtomicLong generation = new AtomicLong();
+
+    // 全品物を算出した業務日付ごとの必要数と算出結果
+    private final ConcurrentSkipListMap<LocalDate, DayState> dayStates = new ConcurrentSkipListMap<>();
+
+    /**
+     * 業務日付の予約から全品物の補充数・作成ステータスを算出する（在庫ステータスは変更しない）
+     *
+     * @param businessDate 業務日付
+     * @return 品物ごとの算出結果（品物名順）
+     */
+    public List<ReplenishmentSuggestion> computeSuggestions(LocalDate businessDate) {
+        long currentGeneration = generation.get();
+        ItemIndex items = loadItems();
+        int[] required = requiredCounts(items, businessDate);
+        CurrentStatuses current = loadStatuses(items, businessDate);
+        int[] replenishment = replenishmentCounts(required, current.inventory());
+        retain(businessDate, currentGeneration, items, required, replenishment, false);
+        return toSuggestions(items, required, current.inventory(), replenishment);
+    }
+
+    /**
+     * 業務日付の予約から算出した補充数・作成ステータスを在庫ステータスに反映する
+     *
+     * 在庫ステータスはエンティティを作らずに業務日付の分を1クエリで読み、
+     * 値が変わるものだけをJDBCバッチで更新する。
+     * 在庫ステータスがない品物は、必要数がある場合のみ新規に作成する。
+     *
+     * @param businessDate 業務日付
+     * @return 品物ごとの算出結果（品物名順）
+     */
+    @Transactional
+    public List<ReplenishmentSuggestion> applySuggestions(LocalDate businessDate) {
+        long currentGeneration = generation.get();
+        ItemIndex items = loadItems();
+        int[] required = requiredCounts(items, businessDate);
+        CurrentStatuses current = loadStatuses(items, businessDate);
+        int[] replenishment = replenishmentCounts(required, current.inventory());
+
+        List<ReplenishmentUpdate> updates = new ArrayList<>();
+        List<InventoryStatus> created = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            String preparationStatus = preparationStatus(replenishment[i]);
+            if (current.ids()[i] == null) {
+                if (required[i] > 0) {
+                    created.add(newInventoryStatus(businessDate, items.ids()[i], replenishment[i], preparationStatus));
+                }
+            } else if (!Objects.equals(current.replenishmentCounts()[i], replenishment[i])
+                    || !preparationStatus.equals(current.preparationStatuses()[i])) {
+                updates.add(new ReplenishmentUpdate(current.ids()[i], replenishment[i], preparationStatus));
+            }
+        }
+        inventoryStatusRepository.updateReplenishments(updates);
+        inventoryStatusRepository.saveAll(created);
+
+        retain(businessDate, currentGeneration, items, required, replenishment, true);
+        return toSuggestions(items, required, current.inventory(), replenishment);
+    }
+
+    /**
+     * 在庫ステータス1件の更新後に、その品物の補充数・作成ステータスだけを算出し直す
+     *
+     * 業務日付の全品物の算出時に保持した必要数と、更新後の在庫数から補充数を求める。
+     * 全品物を算出していない業務日付の場合や、算出結果が変わらない場合は空を返す。
+     * 算出のみ（computeSuggestions）の業務日付ではDBにアクセスしない。
+     * 反映済み（applySuggestions）の業務日付では、変わった補充数・作成ステータスを呼び出し元の
+     * トランザクションで在庫ステータスに書き込み、status を書き込み後の値（バージョンを含む）で読み直す。
+     * ただし、更新のリクエストで補充数が指定された場合は、指定された値を残すため書き込まない。
+     * 保持する算出結果は呼び出し元のトランザクションのコミット後に変更する。
+     *
+     * @param status 更新後の在庫ステータス（反映済みの業務日付では永続化コンテキストで管理しているもの）
+     * @param replenishmentCountRequested 更新のリクエストで補充数が指定された場合は true
+     * @return 算出結果が変わった品物の差分
+     */
+    @Transactional
+    public List<ReplenishmentDelta> recomputeItem(InventoryStatus status, boolean replenishmentCountRequested) {
+        DayState state = dayStates.get(status.getBusinessDate());
+        if (state == null || status.getItem() == null) {
+            return List.of();
+        }
+        Integer ordinal = state.items().ordinals().get(status.getItem().getId());
+        if (ordinal == null) {
+            return List.of();
+        }
+        int inventory = status.getInventoryCount() != null ? status.getInventoryCount() : 0;
+        int required = state.required()[ordinal];
+        int replenishment = Math.max(0, required - inventory);
+        synchronized (state) {
+            if (state.replenishment()[ordinal] == replenishment) {
+                return List.of();
+            }
+        }
+        afterCommit(() -> {
+            synchronized (state) {
+                state.replenishment()[ordinal] = replenishment;
+            }
+        });
+        if (state.applied() && !replenishmentCountRequested) {
+            inventoryStatusRepository.updateReplenishments(List.of(
+                    new ReplenishmentUpdate(status.getId(), replenishment, preparationStatus(replenishment))));
+            inventoryStatusRepository.refresh(status);
+        }
+        return List.of(new ReplenishmentDelta(status.getItem().getId(), required, inventory, replenishment,
+                preparationStatus(replenishment),
+                state.replenishmentIdsByItem().getOrDefault(status.getItem().getId(), List.of())));
+    }
+
+    /**
+     * マスタ（品物・補充パターン）の変更のコミット後に、保持している算出結果を破棄する
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMasterDataChanged(MasterDataChangedEvent event) {
+        generation.incrementAndGet();
+        dayStates.clear();
+    }
+
+    /**
+     * 予約の置き換えのコミット後に、その業務日付の算出結果を破棄する（必要数が変わるため）
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        generation.incrementAndGet();
+        dayStates.remove(event.businessDate());
+    }
+
+    /**
+     * 全品物の算出結果を業務日付ごとに保持する（算出中にマスタ・予約が変更された場合は保持しない）
+     * 反映済みの業務日付を算出し直した場合は、反映済みのまま保持する
+     * 保持はトランザクションのコミット後に行う（反映がロールバックされた業務日付を反映済みとしない）
+     *
+     * @param applied 算出結果を在庫ステータスに反映した場合は true
+     */
+    private void retain(LocalDate businessDate, long startGeneration, ItemIndex items,
+                        int[] required, int[] replenishment, boolean applied) {
+        Map<UUID, List<UUID>> replenishmentIds = replenishmentIdsByItem();
+        afterCommit(() -> {
+            DayState previous = dayStates.get(businessDate);
+            DayState state = new DayState(items, required, replenishment, replenishmentIds,
+                    applied || (previous != null && previous.applied()));
+            if (generation.get() != startGeneration) {
+                return;
+            }
+            dayStates.put(businessDate, state);
+            while (dayStates.size() > MAX_RETAINED_DAYS) {
+                dayStates.pollFirstEntry();
+            }
+        });
+    }
+
+    /**
+     * トランザクションのコミット後に実行する（トランザクション外の場合はすぐに実行する）
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 品物ごとの補充パターンのID（キャッシュ済みの補充経路グラフから作る）
+     */
+    private Map<UUID, List<UUID>> replenishmentIdsByItem() {
+        ReplenishmentGraph graph = replenishmentGraphService.getGraph();
+        Map<UUID, List<UUID>> replenishmentIds = new HashMap<>();
+        for (ReplenishmentGraph.Edge edge : graph.getEdges()) {
+            replenishmentIds.computeIfAbsent(graph.getItems().get(edge.getItem()).getId(), id -> new ArrayList<>())
+                    .add(edge.getId());
+        }
+        return replenishmentIds;
+    }
+
+    /**
+     * 品物ごとの補充数（必要数から在庫数を引いた不足分。不足がなければ0）
+     */
+    static int[] replenishmentCounts(int[] required, int[] inventory) {
+        int[] replenishment = new int[required.length];
+        for (int i = 0; i < required.length; i++) {
+            replenishment[i] = Math.max(0, required[i] - inventory[i]);
+        }
+        return replenishment;
+    }
+
+    static String preparationStatus(int replenishmentCount) {
+        return replenishmentCount > 0 ? PREPARATION_REQUIRED : PREPARATION_NOT_REQUIRED;
+    }
+
+    /**
+     * 業務日付の予約を品物ごとの必要数（品物の添字の配列）に展開する
+     */
+    private int[] requiredCounts(ItemIndex items, LocalDate businessDate) {
+        int[] required = new int[items.size()];
+        List<Object[]> totals = reservationRepository.sumReservationCountByProductName(businessDate);
+        if (totals.isEmpty()) {
+            return required;
+        }
+        Map<String, Long> reservationCounts = new HashMap<>(totals.size() * 2);
+        for (Object[] total : totals) {
+            reservationCounts.put((String) total[0], (Long) total[1]);
+        }
+
+        Set<String> mappedProducts = new HashSet<>();
+        for (Object[] usage : productItemRepository.findAllUsages()) {
+            String productName = (String) usage[0];
+            mappedProducts.add(productName);
+            Long reservationCount = reservationCounts.get(productName);
+            if (reservationCount != null) {
+                int ordinal = items.ordinalOf((UUID) usage[1]);
+                required[ordinal] = Math.toIntExact(required[ordinal] + reservationCount * (Integer) usage[2]);
+            }
+        }
+        // 対応がない商品は同じ名前の品物を1つずつ使う（該当する品物がなければ対象外）
+        for (Map.Entry<String, Long> entry : reservationCounts.entrySet()) {
+            if (!mappedProducts.contains(entry.getKey())) {
+                Integer ordinal = items.ordinalsByName().get(entry.getKey());
+                if (ordinal != null) {
+                    required[ordinal] = Math.toIntExact(required[ordinal] + entry.getValue());
+                }
+            }
+        }
+        return required;
+    }
+
+    private ItemIndex loadItems() {
+        List<Object[]> rows = itemRepository.findAllIdsAndNamesOrderByName();
+        UUID[] ids = new UUID[rows.size()];
+        String[] names = new String[rows.size()];
+        Map<UUID, Integer> ordinals = new HashMap<>(rows.size() * 2);
+        Map<String, Integer> ordinalsByName = new HashMap<>(rows.size() * 2);
+        for (int i = 0; i < rows.size(); i++) {
+            ids[i] = (UUID) rows.get(i)[0];
+            names[i] = (String) rows.get(i)[1];
+            ordinals.put(ids[i], i);
+            ordinalsByName.putIfAbsent(names[i], i);
+        }
+        return new ItemIndex(ids, names, ordinals, ordinalsByName);
+    }
+
+    /**
+     * 業務日付の在庫ステータスを品物の添字の配列に展開する（在庫ステータスがない品物は在庫数0）
+     */
+    private CurrentStatuses loadStatuses(ItemIndex items, LocalDate businessDate) {
+        CurrentStatuses current = new CurrentStatuses(new UUID[items.size()], new int[items.size()],
+                new Integer[items.size()], new String[items.size()]);
+        for (Object[] row : inventoryStatusRepository.findReplenishmentStatesByBusinessDate(businessDate)) {
+            int ordinal = items.ordinalOf((UUID) row[1]);
+            current.ids()[ordinal] = (UUID) row[0];
+            current.inventory()[ordinal] = row[2] != null ? (Integer) row[2] : 0;
+            current.replenishmentCounts()[ordinal] = (Integer) row[3];
+            current.preparationStatuses()[ordinal] = (String) row[4];
+        }
+        return current;
+    }
+
+    private List<ReplenishmentSuggestion> toSuggestions(ItemIndex items, int[] required, int[] inventory,
+                                                        int[] replenishment) {
+        List<ReplenishmentSuggestion> suggestions = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            suggestions.add(new ReplenishmentSuggestion(items.ids()[i], items.names()[i], required[i], inventory[i],
+                    replenishment[i], preparationStatus(replenishment[i])));
+        }
+        return suggestions;
+    }
+
+    private InventoryStatus newInventoryStatus(LocalDate businessDate, UUID itemId,
+                                               int replenishmentCount, String preparationStatus) {
+        InventoryStatus status = new InventoryStatus();
+        status.setBusinessDate(businessDate);
+        status.setItem(itemRepository.getReferenceById(itemId));
+        status.setInventoryCheckStatus("未確認");
+        status.setReplenishmentStatus("補充不要");
+        status.setPreparationStatus(preparationStatus);
+        status.setOrderRequestStatus("発注不要");
+        status.setInventoryCount(0);
+        status.setReplenishmentCount(replenishmentCount);
+        return status;
+    }
+
+    /**
+     * 全品物を算出した業務日付の状態（品物の添字ごとの必要数・算出済みの補充数と、品物の補充パターン）
+     *
+     * @param applied 算出結果を在庫ステータスに反映済み（false は算出のみ）
+     */
+    private record DayState(ItemIndex items, int[] required, int[] replenishment,
+                            Map<UUID, List<UUID>> replenishmentIdsByItem, boolean applied) {
+    }
+
+    /**
+     * 業務日付の在庫ステータス（品物の添字ごと。在庫ステータスがない品物のIDはnull）
+     */
+    private record CurrentStatuses(UUID[] ids, int[] inventory,
+                                   Integer[] replenishmentCounts, String[] preparationStatuses) {
+    }
+
+    /**
+     * 品物の添字（名前順）とIDの対応
+     */
+    private record ItemIndex(UUID[] ids, String[] names,
+                             Map<UUID, Integer> ordinals, Map<String, Integer> ordinalsByName) {
+
+        int size() {
+            return ids.length;
+        }
+
+        int ordinalOf(UUID itemId) {
+            return ordinals.get(itemId);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.restaurant.operationsprepare.service;
+
+import com.restaurant.operationsprepare.dto.ItemView;
+import com.restaurant.operationsprepare.dto.PlaceView;
+import com.restaurant.operationsprepare.dto.ReplenishmentGraph;
+import com.restaurant.operationsprepare.entity.Item;
+import com.restaurant.operationsprepare.entity.ItemReplenishment;
+import com.restaurant.operationsprepare.entity.Place;
+import com.restaurant.operationsprepare.repository.ItemReplenishmentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 補充経路グラフ（品物・場所・補充パターン）の作成とキャッシュ
+ *
+ * 補充パターンを品物・補充元・補充先と結合した1クエリで取得してグラフを作り、
+ * マスタが変更されるか有効期限が過ぎるまで（MasterDataCacheVersion）メモリ上に保持する。
+ * SQL での直接の変更や他のインスタンスでの変更は、有効期限が過ぎるまで反映されない。
+ * キャッシュ済みの場合はDBコネクションを使わない。
+ */
+@Service
+public class ReplenishmentGraphService {
+
+    @Autowired
+    private ItemReplenishmentRepository itemReplenishmentRepository;
+
+    @Autowired
+    private MasterDataCacheVersion masterDataCacheVersion;
+
+    private volatile CachedGraph cached;
+
+    public ReplenishmentGraph getGraph() {
+        CachedGraph current = cached;
+        if (current != null && masterDataCacheVersion.isCurrent(current.version())) {
+            return current.graph();
+        }
+        // 作成中にマスタが変更された場合は、次回の取得で古い版として作り直される
+        MasterDataCacheVersion.Stamp version = masterDataCacheVersion.current();
+        ReplenishmentGraph graph = build(itemReplenishmentRepository.findAllWithItemAndPlaces());
+        cached = new CachedGraph(version, graph);
+        return graph;
+    }
+
+    static ReplenishmentGraph build(List<ItemReplenishment> replenishments) {
+        List<ItemView> items = new ArrayList<>();
+        List<PlaceView> places = new ArrayList<>();
+        List<ReplenishmentGraph.Edge> edges = new ArrayList<>(replenishments.size());
+        Map<UUID, Integer> itemIndexes = new HashMap<>();
+        Map<UUID, Integer> placeIndexes = new HashMap<>();
+
+        for (ItemReplenishment replenishment : replenishments) {
+            Item item = replenishment.getItem();
+            int itemIndex = itemIndexes.computeIfAbsent(item.getId(), id -> {
+                items.add(new ItemView(item.getId(), item.getName(), item.getDescription(), item.getUnit(),
+                        item.getCreatedAt(), item.getUpdatedAt()));
+                return items.size() - 1;
+            });
+            int sourceIndex = placeIndex(replenishment.getSourceLocation(), places, placeIndexes);
+            int destinationIndex = placeIndex(replenishment.getDestinationLocation(), places, placeIndexes);
+            edges.add(new ReplenishmentGraph.Edge(replenishment.getId(), itemIndex, sourceIndex, destinationIndex,
+                    replenishment.getReplenishmentType(), replenishment.getOrderRequestDestination()));
+        }
+        return new ReplenishmentGraph(List.copyOf(items), List.copyOf(places), List.copyOf(edges));
+    }
+
+    private static int placeIndex(Place place, List<PlaceView> places, Map<UUID, Integer> placeIndexes) {
+        return placeIndexes.computeIfAbsent(place.getId(), id -> {
+            places.add(new PlaceView(place.getId(), place.getType(), place.getName(), place.getDisplayOrder()));
+            return places.size() - 1;
+        });
+    }
+
+    private record CachedGraph(MasterDataCacheVersion.Stamp version, ReplenishmentGraph graph) {
+    }
+}
@@ -0,0 +1,257 @@
+package com.restaurant.operationsprepare.service;
+
+import com.restaurant.operationsprepare.dto.ReservationImportResult;
+import com.restaurant.operationsprepare.event.ReservationChangedEvent;
+import com.restaurant.operationsprepare.repository.ReservationBatchRepository.ReservationRow;
+import com.restaurant.operationsprepare.repository.ReservationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 予約システムから出力した予約（CSV/TSV）の取り込み
+ *
+ * ファイル全体を読み込まずに1行ずつ検証し、batch-size 件ごとにJDBCバッチで reservation に登録する。
+ * ファイルに含まれる業務日付の予約は、その日付の最初の行を読んだ時点で削除して置き換える。
+ * 取り込みは1トランザクションで行うため、途中で失敗した場合はどの業務日付も置き換わらない。
+ * 不正な行は取り込まずに行番号とともに結果に含め、残りの行の取り込みを続ける。
+ */
+@Service
+public class ReservationImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReservationImportService.class);
+
+    // yyyy-MM-dd と yyyy/M/d を受け付ける（/ は - に置き換えて解析する）
+    private static final DateTimeFormatter DATE_FORMAT =
+            DateTimeFormatter.ofPattern("uuuu-M-d").withResolverStyle(ResolverStyle.STRICT);
+
+    private static final int BUSINESS_DATE = 0;
+
+    private static final int PRODUCT_NAME = 1;
+
+    private static final int RESERVATION_COUNT = 2;
+
+    // 見出しの列名（小文字）と列の種類
+    private static final Map<String, Integer> HEADER_NAMES = Map.of(
+            "business_date", BUSINESS_DATE, "businessdate", BUSINESS_DATE, "業務日付", BUSINESS_DATE,
+            "product_name", PRODUCT_NAME, "productname", PRODUCT_NAME, "商品名", PRODUCT_NAME,
+            "reservation_count", RESERVATION_COUNT, "reservationcount", RESERVATION_COUNT, "予約数", RESERVATION_COUNT);
+
+    private static final String[] COLUMN_LABELS = {"業務日付", "商品名", "予約数"};
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // 1回のJDBCバッチで登録する行数
+    @Value("${app.reservation-import.batch-size:5000}")
+    private int batchSize;
+
+    // 結果に含める不正な行の最大件数（件数は上限を超えても数える）
+    @Value("${app.reservation-import.max-reported-errors:100}")
+    private int maxReportedErrors;
+
+    /**
+     * 取り込むファイルの形式
+     */
+    public enum Format {
+        CSV(',', true),
+        TSV('\t', false);
+
+        private final char delimiter;
+
+        private final boolean quoted;
+
+        Format(char delimiter, boolean quoted) {
+            this.delimiter = delimiter;
+            this.quoted = quoted;
+        }
+    }
+
+    /**
+     * 予約を取り込み、ファイルに含まれる業務日付の予約を置き換える
+     *
+     * 列は「業務日付, 商品名, 予約数」の順。1行目が見出しの場合は列名（business_date / product_name /
+     * reservation_count、または 業務日付 / 商品名 / 予約数）で列の位置を決める。
+     *
+     * @param reader 取り込むファイル
+     * @param format ファイルの形式
+     * @return 取り込み結果
+     * @throws IOException ファイルの読み込みに失敗した場合（取り込みは取り消す）
+     */
+    @Transactional(rollbackFor = IOException.class)
+    public ReservationImportResult importReservations(Reader reader, Format format) throws IOException {
+        DelimitedRecordReader records = new DelimitedRecordReader(reader, format.delimiter, format.quoted);
+        ImportState state = new ImportState();
+
+        List<String> fields = records.next();
+        int[] columns = {0, 1, 2};
+        if (fields != null && isHeader(fields)) {
+            columns = resolveColumns(fields, records.recordLine(), state);
+            if (columns == null) {
+                return state.toResult();
+            }
+            fields = records.next();
+        }
+        try {
+            while (fields != null) {
+                importRecord(fields, columns, records.recordLine(), state);
+                fields = records.next();
+            }
+        } catch (DelimitedRecordReader.MalformedRecordException e) {
+            // 引用符が閉じられていない場合、以降は区切りが分からないため読み込みを終える
+            state.addError(records.recordLine(), e.getMessage() + "（以降の行は取り込んでいません）");
+        }
+        state.flush();
+
+        for (LocalDate businessDate : state.businessDates) {
+            eventPublisher.publishEvent(new ReservationChangedEvent(businessDate));
+        }
+        logger.info("Imported {} reservations for {} ({} rejected rows)",
+                state.importedCount, state.businessDates, state.errorCount);
+        return state.toResult();
+    }
+
+    private void importRecord(List<String> fields, int[] columns, long line, ImportState state) {
+        int required = Math.max(columns[BUSINESS_DATE], Math.max(columns[PRODUCT_NAME], columns[RESERVATION_COUNT])) + 1;
+        if (fields.size() < required) {
+            state.addError(line, "列が足りません（" + required + "列必要、" + fields.size() + "列）");
+            return;
+        }
+
+        String dateText = fields.get(columns[BUSINESS_DATE]).trim();
+        LocalDate businessDate;
+        if (dateText.equals(state.lastDateText)) {
+            businessDate = state.lastDate;
+        } else {
+            try {
+                businessDate = LocalDate.parse(dateText.replace('/', '-'), DATE_FORMAT);
+            } catch (DateTimeParseException e) {
+                state.addError(line, "業務日付が不正です: " + dateText);
+                return;
+            }
+            state.lastDateText = dateText;
+            state.lastDate = businessDate;
+        }
+
+        String productName = fields.get(columns[PRODUCT_NAME]).trim();
+        if (productName.isEmpty()) {
+            state.addError(line, "商品名がありません");
+            return;
+        }
+
+        String countText = fields.get(columns[RESERVATION_COUNT]).trim();
+        int reservationCount;
+        try {
+            reservationCount = Integer.parseInt(countText);
+        } catch (NumberFormatException e) {
+            state.addError(line, "予約数が数値ではありません: " + countText);
+            return;
+        }
+        if (reservationCount < 0) {
+            state.addError(line, "予約数が負の値です: " + countText);
+            return;
+        }
+
+        // 業務日付の最初の行で、その日付の既存の予約を削除する
+        if (state.businessDates.add(businessDate)) {
+            reservationRepository.deleteAllByBusinessDate(businessDate);
+        }
+        state.add(new ReservationRow(businessDate, productName, reservationCount));
+    }
+
+    private static boolean isHeader(List<String> fields) {
+        for (String field : fields) {
+            if (HEADER_NAMES.containsKey(normalizeHeader(field))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 見出しから列の位置を決める（足りない列がある場合はエラーを追加して null を返す）
+     */
+    private static int[] resolveColumns(List<String> header, long line, ImportState state) {
+        int[] columns = {-1, -1, -1};
+        for (int i = 0; i < header.size(); i++) {
+            Integer column = HEADER_NAMES.get(normalizeHeader(header.get(i)));
+            if (column != null && columns[column] < 0) {
+                columns[column] = i;
+            }
+        }
+        for (int column = 0; column < columns.length; column++) {
+            if (columns[column] < 0) {
+                state.addError(line, "見出しに" + COLUMN_LABELS[column] + "の列がありません");
+                return null;
+            }
+        }
+        return columns;
+    }
+
+    private static String normalizeHeader(String field) {
+        return field.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 取り込み中の状態（登録待ちの行、置き換えた業務日付、不正な行）
+     */
+    private class ImportState {
+
+        private final List<ReservationRow> pending = new ArrayList<>(batchSize);
+
+        private final TreeSet<LocalDate> businessDates = new TreeSet<>();
+
+        private final List<ReservationImportResult.RowError> errors = new ArrayList<>();
+
+        private long importedCount;
+
+        private long errorCount;
+
+        // 同じ業務日付が続く場合に解析を省くため、直前の値を保持する
+        private String lastDateText;
+
+        private LocalDate lastDate;
+
+        void add(ReservationRow row) {
+            pending.add(row);
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            importedCount += reservationRepository.insertAll(pending);
+            pending.clear();
+        }
+
+        void addError(long line, String message) {
+            errorCount++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ReservationImportResult.RowError(line, message));
+            }
+        }
+
+        ReservationImportResult toResult() {
+            return new ReservationImportResult(importedCount, List.copyOf(businessDates), errorCount, errors);
+        }
+    }
+}
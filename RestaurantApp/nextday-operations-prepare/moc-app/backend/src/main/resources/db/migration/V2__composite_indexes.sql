@@ -0,0 +1,44 @@
+-- moc-app 既存DBのインデックスを、実際のクエリの形（InventoryStatusRepository ほか）に合わせた
+-- 複合インデックス・部分インデックスへ置き換える
+--
+-- CONCURRENTLY のためトランザクション外で1文ずつ実行する（V2__composite_indexes.sql.conf）。
+-- 書き込みを止めずに適用できる。途中で失敗した場合は INVALID のインデックスが残るため、
+-- DROP INDEX し、flyway_schema_history の失敗した行を削除してから再起動する。
+
+-- item_replenishment: 補充元/補充先で絞り込み item_id だけを参照する
+-- （在庫ステータスの補充元/補充先別一覧のサブクエリ、品物の補充元/補充先別一覧）
+-- item_id を含めることでテーブルを読まずにインデックスのみで結合できる
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_item_replenishment_source_item
+    ON item_replenishment (source_location_id, item_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_item_replenishment_destination_item
+    ON item_replenishment (destination_location_id, item_id);
+
+-- 先頭列が同じ複合インデックスで代替できる単一列インデックスを削除
+DROP INDEX CONCURRENTLY IF EXISTS idx_item_replenishment_source_location;
+DROP INDEX CONCURRENTLY IF EXISTS idx_item_replenishment_destination_location;
+
+-- inventory_status: 業務日付での検索は UNIQUE(business_date, item_id) のインデックスで足りる
+DROP INDEX CONCURRENTLY IF EXISTS idx_inventory_status_business_date;
+
+-- inventory_status: 未完了の作業がある在庫ステータス（findPending*ByBusinessDate の OR 条件）
+-- 条件に一致する行だけを持つため、完了済みの行が大半を占める過去日でも小さく保たれる
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_inventory_status_pending
+    ON inventory_status (business_date, item_id)
+    WHERE inventory_check_status = '未確認'
+       OR replenishment_status = '要補充'
+       OR preparation_status = '要作成'
+       OR order_request_status = '要発注依頼';
+
+-- place: 種別で絞り込み表示順に並べる（findByTypeOrderByDisplayOrderAsc）
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_place_type_display_order
+    ON place (type, display_order);
+DROP INDEX CONCURRENTLY IF EXISTS idx_place_type;
+DROP INDEX CONCURRENTLY IF EXISTS idx_place_display_order;
+
+-- item: 品物名順の一覧
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_item_name ON item (name);
+
+ANALYZE item_replenishment;
+ANALYZE inventory_status;
+ANALYZE place;
+ANALYZE item;
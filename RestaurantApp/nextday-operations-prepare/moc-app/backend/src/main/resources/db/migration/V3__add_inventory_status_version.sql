@@ -0,0 +1,15 @@
+-- inventory_status に楽観ロック用の version 列を追加する
+--
+-- 大きなテーブルでも書き込みを止めないよう、列の追加と既存行の埋め込みを分けて行う。
+--   V3: NULL 許可で列を追加し、新しい行の既定値だけを設定する（カタログの変更のみでテーブルを書き換えない）
+--   V4: 既存行の NULL を主キー順にチャンク単位で埋める（V4__BackfillInventoryStatusVersion）
+--   V5: NOT NULL 制約を検証済みの CHECK 制約経由で付与する
+-- ddl-auto: update で列が追加済みの既存DBでは何もしない。
+
+-- 実行中の長いトランザクションの後ろでロック待ちになり、後続の更新を止めないようにする
+SET lock_timeout = '5s';
+
+ALTER TABLE inventory_status ADD COLUMN IF NOT EXISTS version INTEGER;
+ALTER TABLE inventory_status ALTER COLUMN version SET DEFAULT 0;
+
+RESET lock_timeout;
@@ -0,0 +1,17 @@
+-- inventory_status.version に NOT NULL 制約を付与する
+--
+-- SET NOT NULL を直接実行すると ACCESS EXCLUSIVE ロックを保持したまま全行を走査する。
+-- 先に NOT VALID の CHECK 制約を追加し、書き込みを止めないロック（SHARE UPDATE EXCLUSIVE）で検証しておくと、
+-- SET NOT NULL は検証済みの制約を使って走査を省略する（PostgreSQL 12 以降）。
+-- 各文のロックを直後に解放するため、トランザクション外で1文ずつ実行する（V5__inventory_status_version_not_null.sql.conf）。
+
+SET lock_timeout = '5s';
+
+ALTER TABLE inventory_status DROP CONSTRAINT IF EXISTS inventory_status_version_not_null;
+ALTER TABLE inventory_status
+    ADD CONSTRAINT inventory_status_version_not_null CHECK (version IS NOT NULL) NOT VALID;
+ALTER TABLE inventory_status VALIDATE CONSTRAINT inventory_status_version_not_null;
+ALTER TABLE inventory_status ALTER COLUMN version SET NOT NULL;
+ALTER TABLE inventory_status DROP CONSTRAINT inventory_status_version_not_null;
+
+RESET lock_timeout;
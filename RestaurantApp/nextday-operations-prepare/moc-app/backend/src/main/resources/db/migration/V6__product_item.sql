@@ -0,0 +1,19 @@
+-- 商品と品物の対応表を追加する
+--
+-- 予約（reservation.product_name）の商品1つに使う品物と数量を持ち、
+-- 予約数 × 数量 を品物の必要数として補充数・作成ステータスの算出に使う（ReplenishmentComputationService）。
+-- 対応表にない商品は、同じ名前の品物を1つずつ使うものとして扱う。
+
+CREATE TABLE product_item (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    product_name TEXT NOT NULL, -- 商品名（reservation.product_name）
+    item_id UUID NOT NULL REFERENCES item(id),
+    quantity INTEGER NOT NULL DEFAULT 1, -- 商品1つあたりの品物の数量
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT NOW(),
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT NOW(),
+    UNIQUE(product_name, item_id)
+);
+
+CREATE INDEX idx_product_item_item_id ON product_item(item_id);
+
+CREATE TRIGGER update_product_item_updated_at BEFORE UPDATE ON product_item FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
@@ -1,6 +1,9 @@
 package com.restaurant.operationsprepare.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.operationsprepare.dto.InventoryStatusUpdateResponse;
+import com.restaurant.operationsprepare.dto.InventoryStatusView;
+import com.restaurant.operationsprepare.dto.ItemView;
 import com.restaurant.operationsprepare.entity.InventoryStatus;
 import com.restaurant.operationsprepare.entity.Item;
 import com.restaurant.operationsprepare.service.InventoryStatusService;
@@ -38,11 +41,11 @@ class InventoryStatusControllerTest {
     void testGetInventoryStatusByDate() throws Exception {
         // テストデータ準備
         UUID itemId = UUID.randomUUID();
-        Item item = new Item();
+        ItemView item = new ItemView();
         item.setId(itemId);
         item.setName("テスト品物");
 
-        InventoryStatus status = new InventoryStatus();
+        InventoryStatusView status = new InventoryStatusView();
         status.setId(UUID.randomUUID());
         status.setBusinessDate(LocalDate.of(2025, 9, 27));
         status.setItem(item);
@@ -55,8 +58,8 @@ class InventoryStatusControllerTest {
         status.setCreatedAt(LocalDateTime.now());
         status.setUpdatedAt(LocalDateTime.now());
 
-        List<InventoryStatus> statuses = Arrays.asList(status);
-        when(inventoryStatusService.getInventoryStatusByDate(any(LocalDate.class)))
+        List<InventoryStatusView> statuses = Arrays.asList(status);
+        when(inventoryStatusService.getInventoryStatusViewsByDate(any(LocalDate.class)))
                 .thenReturn(statuses);
 
         // テスト実行
@@ -74,18 +77,18 @@ class InventoryStatusControllerTest {
         UUID sourceId = UUID.randomUUID();
         UUID itemId = UUID.randomUUID();
         
-        Item item = new Item();
+        ItemView item = new ItemView();
         item.setId(itemId);
         item.setName("じゃがいも");
 
-        InventoryStatus status = new InventoryStatus();
+        InventoryStatusView status = new InventoryStatusView();
         status.setId(UUID.randomUUID());
         status.setBusinessDate(LocalDate.of(2025, 9, 27));
         status.setItem(item);
         status.setReplenishmentStatus("要補充");
 
-        List<InventoryStatus> statuses = Arrays.asList(status);
-        when(inventoryStatusService.getInventoryStatusByDateAndSource(any(LocalDate.class), eq(sourceId)))
+        List<InventoryStatusView> statuses = Arrays.asList(status);
+        when(inventoryStatusService.getInventoryStatusViewsByDateAndSource(any(LocalDate.class), eq(sourceId)))
                 .thenReturn(statuses);
 
         // テスト実行
@@ -150,8 +153,8 @@ class InventoryStatusControllerTest {
         updateStatus.setReplenishmentStatus("補充済");
         updateStatus.setUpdatedAt(LocalDateTime.now());
 
-        when(inventoryStatusService.saveInventoryStatus(any(InventoryStatus.class)))
-                .thenReturn(updateStatus);
+        when(inventoryStatusService.updateInventoryStatus(any(InventoryStatus.class)))
+                .thenReturn(new InventoryStatusUpdateResponse(updateStatus, List.of()));
 
         // テスト実行
         mockMvc.perform(put("/api/inventory-status/{id}", statusId)
@@ -0,0 +1,52 @@
+package com.restaurant.operationsprepare.integration;
+
+import com.restaurant.operationsprepare.OperationsPrepareMocApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * ベンチマーク用にアプリケーションを起動する（test プロファイル、空きポート、専用のH2データベース）
+ *
+ * 設定は SpringApplicationBuilder#properties ではなく起動引数で渡す。properties の値は既定値として扱われ、
+ * application.yml / application-test.yml の設定（open-in-view、SQL・リクエストのログ、データソースなど）に
+ * 上書きされるため。SQLとリクエストのログは計測に含まれないよう WARN にする。
+ */
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    /**
+     * 起動する
+     *
+     * @param databaseName H2のインメモリデータベース名（計測ごとに分ける）
+     * @param arguments    追加の設定（--name=value の形式。共通の設定より優先する）
+     */
+    static ConfigurableApplicationContext start(String databaseName, String... arguments) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.restaurant.operationsprepare=WARN",
+                "--logging.level.org.springframework.web=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                "--spring.datasource.url=jdbc:h2:mem:" + databaseName));
+        args.addAll(Arrays.asList(arguments));
+        return new SpringApplicationBuilder(OperationsPrepareMocApplication.class)
+                .profiles("test")
+                .run(args.toArray(String[]::new));
+    }
+
+    /**
+     * 起動したWebサーバーのポート
+     */
+    static int port(ConfigurableApplicationContext context) {
+        return ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+}
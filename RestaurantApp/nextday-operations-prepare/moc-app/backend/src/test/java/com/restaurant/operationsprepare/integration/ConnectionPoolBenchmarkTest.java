@@ -0,0 +1,206 @@
+package com.restaurant.operationsprepare.integration;
+
+import com.restaurant.operationsprepare.entity.Item;
+import com.restaurant.operationsprepare.entity.ItemReplenishment;
+import com.restaurant.operationsprepare.entity.Place;
+import com.restaurant.operationsprepare.repository.ItemReplenishmentRepository;
+import com.restaurant.operationsprepare.repository.ItemRepository;
+import com.restaurant.operationsprepare.repository.PlaceRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * open-in-view の有無によるコネクションプール使用状況の比較
+ *
+ * 同じAPI（補充パターン一覧）に同時にリクエストを送り、
+ * コネクション使用中の数・コネクション待ちのスレッド数・スループットを計測する。
+ * open-in-view が有効だとJSON変換とレスポンス書き込みの間もコネクションを保持するため、
+ * 小さいプールでは待ちが発生する。
+ *
+ * 通常のテストでは実行しない。以下で実行する:
+ * <pre>
+ * mvn test -Dtest=ConnectionPoolBenchmarkTest -Dbenchmark=true
+ * </pre>
+ * -Dbenchmark.clients=32 -Dbenchmark.requests=200 -Dbenchmark.pool=4 で条件を変更できる。
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("コネクションプール ベンチマーク")
+class ConnectionPoolBenchmarkTest {
+
+    private static final int REPLENISHMENT_COUNT = 300;
+
+    @Test
+    @DisplayName("open-in-view 有効/無効でコネクション保持状況を比較する")
+    void compareOpenInView() throws Exception {
+        Result withOsiv = run(true);
+        Result withoutOsiv = run(false);
+
+        System.out.printf("%-18s %10s %12s %12s %12s%n",
+                "open-in-view", "req/s", "active(avg)", "active(max)", "waiting(max)");
+        print("true", withOsiv);
+        print("false", withoutOsiv);
+
+        assertThat(withoutOsiv.averageActive).isLessThan(withOsiv.averageActive);
+    }
+
+    private Result run(boolean openInView) throws Exception {
+        int clients = Integer.getInteger("benchmark.clients", 32);
+        int requestsPerClient = Integer.getInteger("benchmark.requests", 200);
+        int poolSize = Integer.getInteger("benchmark.pool", 4);
+
+        try (ConfigurableApplicationContext context = BenchmarkApplication.start("pool-benchmark-" + openInView,
+                "--spring.jpa.open-in-view=" + openInView,
+                "--spring.datasource.hikari.maximum-pool-size=" + poolSize)) {
+            createData(context);
+
+            int port = BenchmarkApplication.port(context);
+            URI uri = URI.create("http://localhost:" + port + "/api/item-replenishment");
+            HikariPoolMXBean pool = context.getBean(DataSource.class)
+                    .unwrap(HikariDataSource.class).getHikariPoolMXBean();
+            HttpClient client = HttpClient.newHttpClient();
+
+            // ウォームアップ
+            for (int i = 0; i < 200; i++) {
+                send(client, uri);
+            }
+
+            AtomicBoolean running = new AtomicBoolean(true);
+            Sampler sampler = new Sampler(pool, running);
+            Thread samplerThread = new Thread(sampler);
+            ExecutorService executor = Executors.newFixedThreadPool(clients);
+            try {
+                samplerThread.start();
+                long start = System.nanoTime();
+                List<Future<?>> futures = new ArrayList<>();
+                for (int c = 0; c < clients; c++) {
+                    futures.add(executor.submit(() -> {
+                        for (int r = 0; r < requestsPerClient; r++) {
+                            send(client, uri);
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+                long elapsedNanos = System.nanoTime() - start;
+                running.set(false);
+                samplerThread.join();
+
+                double requestsPerSecond = (double) clients * requestsPerClient / (elapsedNanos / 1e9);
+                return new Result(requestsPerSecond, sampler.averageActive(), sampler.maxActive, sampler.maxWaiting);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private static void send(HttpClient client, URI uri) throws Exception {
+        HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri).GET().build(),
+                HttpResponse.BodyHandlers.discarding());
+        assertThat(response.statusCode()).isEqualTo(200);
+    }
+
+    private static void createData(ConfigurableApplicationContext context) {
+        ItemRepository itemRepository = context.getBean(ItemRepository.class);
+        PlaceRepository placeRepository = context.getBean(PlaceRepository.class);
+        ItemReplenishmentRepository itemReplenishmentRepository = context.getBean(ItemReplenishmentRepository.class);
+
+        Place source = new Place();
+        source.setType("補充元");
+        source.setName("倉庫");
+        source = placeRepository.save(source);
+        Place destination = new Place();
+        destination.setType("補充先");
+        destination.setName("厨房");
+        destination = placeRepository.save(destination);
+
+        List<ItemReplenishment> replenishments = new ArrayList<>();
+        for (int i = 0; i < REPLENISHMENT_COUNT; i++) {
+            Item item = new Item();
+            item.setName(String.format("品物%04d", i));
+            item.setDescription("ベンチマーク用の品物です");
+            item.setUnit("個");
+            item = itemRepository.save(item);
+
+            ItemReplenishment replenishment = new ItemReplenishment();
+            replenishment.setItem(item);
+            replenishment.setSourceLocation(source);
+            replenishment.setDestinationLocation(destination);
+            replenishment.setReplenishmentType("補充");
+            replenishments.add(replenishment);
+        }
+        itemReplenishmentRepository.saveAll(replenishments);
+    }
+
+    private static void print(String label, Result result) {
+        System.out.printf("%-18s %10.0f %12.2f %12d %12d%n",
+                label, result.requestsPerSecond, result.averageActive, result.maxActive, result.maxWaiting);
+    }
+
+    private record Result(double requestsPerSecond, double averageActive, int maxActive, int maxWaiting) {
+    }
+
+    /**
+     * プールの使用中コネクション数とコネクション待ちスレッド数を定期的に記録する
+     */
+    private static class Sampler implements Runnable {
+
+        private final HikariPoolMXBean pool;
+
+        private final AtomicBoolean running;
+
+        private long samples;
+
+        private long activeTotal;
+
+        private int maxActive;
+
+        private int maxWaiting;
+
+        Sampler(HikariPoolMXBean pool, AtomicBoolean running) {
+            this.pool = pool;
+            this.running = running;
+        }
+
+        @Override
+        public void run() {
+            while (running.get()) {
+                int active = pool.getActiveConnections();
+                int waiting = pool.getThreadsAwaitingConnection();
+                samples++;
+                activeTotal += active;
+                maxActive = Math.max(maxActive, active);
+                maxWaiting = Math.max(maxWaiting, waiting);
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        double averageActive() {
+            return samples == 0 ? 0 : (double) activeTotal / samples;
+        }
+    }
+}
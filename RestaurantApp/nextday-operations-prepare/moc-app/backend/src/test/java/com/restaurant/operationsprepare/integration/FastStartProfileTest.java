@@ -0,0 +1,54 @@
+package com.restaurant.operationsprepare.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springdoc.webmvc.api.OpenApiWebMvcResource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * fast-start プロファイルで springdoc のBeanを遅延初期化し、業務のBeanは起動時に作ることを確認する
+ */
+@SpringBootTest
+@ActiveProfiles({"test", "fast-start"})
+class FastStartProfileTest {
+
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Test
+    void springdocBeansAreLazy() {
+        List<String> springdocBeans = Arrays.stream(beanFactory.getBeanNamesForType(OpenApiWebMvcResource.class, true, false))
+                .toList();
+
+        assertThat(springdocBeans).isNotEmpty();
+        assertThat(springdocBeans).allSatisfy(name ->
+                assertThat(beanFactory.getBeanDefinition(name).isLazyInit()).isTrue());
+        assertThat(beanFactory.getBeanDefinition("itemController").isLazyInit()).isFalse();
+        assertThat(beanFactory.getBeanDefinition("inventoryStatusService").isLazyInit()).isFalse();
+    }
+
+    @Test
+    void openApiIsGeneratedOnFirstRequest() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+
+        mockMvc.perform(get("/api-docs"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.paths['/api/items']").exists());
+    }
+}
@@ -0,0 +1,137 @@
+package com.restaurant.operationsprepare.integration;
+
+import com.restaurant.operationsprepare.entity.InventoryStatus;
+import com.restaurant.operationsprepare.entity.Item;
+import com.restaurant.operationsprepare.repository.InventoryStatusRepository;
+import com.restaurant.operationsprepare.repository.ItemRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDate;
+
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * fields パラメータで指定した項目だけを返し、指定できない項目は 400 にすることを確認する
+ */
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class FieldSelectionTest {
+
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2025, 10, 1);
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private InventoryStatusRepository inventoryStatusRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+
+        Item rice = itemRepository.save(item("項目テストご飯"));
+        Item soup = itemRepository.save(item("項目テスト味噌汁"));
+        inventoryStatusRepository.save(inventoryStatus(rice, 2));
+        inventoryStatusRepository.save(inventoryStatus(soup, 0));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void inventoryStatusReturnsOnlySelectedFields() throws Exception {
+        mockMvc.perform(get("/api/inventory-status")
+                        .param("businessDate", "2025-10-01")
+                        .param("fields", "inventoryCount, version"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").exists())
+                .andExpect(jsonPath("$[0].inventoryCount").value(2))
+                .andExpect(jsonPath("$[0].version").value(0))
+                .andExpect(jsonPath("$[1].inventoryCount").value(0))
+                .andExpect(jsonPath("$[0].businessDate").doesNotExist())
+                .andExpect(jsonPath("$[0].replenishmentStatus").doesNotExist())
+                .andExpect(jsonPath("$[0].item").doesNotExist());
+    }
+
+    @Test
+    void inventoryStatusIncludesItemOnlyWhenSelected() throws Exception {
+        mockMvc.perform(get("/api/inventory-status")
+                        .param("businessDate", "2025-10-01")
+                        .param("fields", "item,replenishmentStatus"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].item.name").value("項目テストご飯"))
+                .andExpect(jsonPath("$[0].item.unit").value("個"))
+                .andExpect(jsonPath("$[1].item.name").value("項目テスト味噌汁"))
+                .andExpect(jsonPath("$[0].replenishmentStatus").value("補充不要"))
+                .andExpect(jsonPath("$[0].inventoryCount").doesNotExist());
+    }
+
+    @Test
+    void itemsAndPlacesReturnOnlySelectedFields() throws Exception {
+        mockMvc.perform(get("/api/items").param("fields", "name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*]", everyItem(hasKey("id"))))
+                .andExpect(jsonPath("$[*]", everyItem(hasKey("name"))))
+                .andExpect(jsonPath("$[*]", everyItem(not(hasKey("unit")))));
+
+        mockMvc.perform(get("/api/places").param("fields", "name,displayOrder"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*]", everyItem(not(hasKey("type")))))
+                .andExpect(jsonPath("$[*]", everyItem(not(hasKey("createdAt")))));
+    }
+
+    @Test
+    void unknownFieldIsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/inventory-status")
+                        .param("businessDate", "2025-10-01")
+                        .param("fields", "inventoryCount,item.name"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").exists());
+
+        mockMvc.perform(get("/api/items").param("fields", "patternType"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private Item item(String name) {
+        Item item = new Item();
+        item.setName(name);
+        item.setUnit("個");
+        return item;
+    }
+
+    private InventoryStatus inventoryStatus(Item item, int inventoryCount) {
+        InventoryStatus status = new InventoryStatus();
+        status.setBusinessDate(BUSINESS_DATE);
+        status.setItem(item);
+        status.setInventoryCheckStatus("確認済");
+        status.setReplenishmentStatus("補充不要");
+        status.setPreparationStatus("作成不要");
+        status.setOrderRequestStatus("発注不要");
+        status.setInventoryCount(inventoryCount);
+        status.setReplenishmentCount(0);
+        return status;
+    }
+}
@@ -0,0 +1,159 @@
+package com.restaurant.operationsprepare.integration;
+
+import com.restaurant.operationsprepare.entity.InventoryStatus;
+import com.restaurant.operationsprepare.entity.Item;
+import com.restaurant.operationsprepare.exception.InvalidRequestException;
+import com.restaurant.operationsprepare.exception.OptimisticLockException;
+import com.restaurant.operationsprepare.repository.InventoryStatusRepository;
+import com.restaurant.operationsprepare.repository.ItemRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 在庫ステータス一括保存のSQL発行数（1,000件あたり）を Hibernate 統計で計測する
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+@ActiveProfiles("test")
+class InventoryStatusBatchSaveTest {
+
+    private static final int ROWS = 1000;
+
+    private static final int BATCH_SIZE = 50;
+
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2025, 9, 27);
+
+    @Autowired
+    private InventoryStatusRepository inventoryStatusRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private List<Item> items;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        items = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            Item item = new Item();
+            item.setName(String.format("品物%04d", i));
+            items.add(item);
+        }
+        items = itemRepository.saveAll(items);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    void saveAllInBatchInsertsAndUpdatesWithoutPerRowSelect() {
+        // 新規登録（idなし）
+        List<InventoryStatus> inserted = inventoryStatusRepository.saveAllInBatch(newStatuses("要補充"));
+        long insertStatements = statistics.getPrepareStatementCount();
+
+        assertThat(inserted).hasSize(ROWS);
+        assertThat(inserted.get(0).getItem().getName()).isEqualTo("品物0000");
+        assertThat(inserted.get(ROWS - 1).getItem().getName()).isEqualTo("品物0999");
+
+        // 更新（idあり、永続化コンテキスト外から受け取った想定）
+        entityManager.clear();
+        statistics.clear();
+        inserted.forEach(status -> status.setReplenishmentStatus("補充済"));
+        List<InventoryStatus> updated = inventoryStatusRepository.saveAllInBatch(inserted);
+        long updateStatements = statistics.getPrepareStatementCount();
+
+        assertThat(updated).extracting(InventoryStatus::getReplenishmentStatus).containsOnly("補充済");
+        assertThat(updated).extracting(InventoryStatus::getId)
+                .containsExactlyElementsOf(inserted.stream().map(InventoryStatus::getId).toList());
+
+        assertThat(updated).extracting(InventoryStatus::getVersion).containsOnly(1);
+
+        // 登録は batch_size ごとに1文、読み直しは500件ごとに1文
+        assertThat(insertStatements).isLessThanOrEqualTo(ROWS / BATCH_SIZE + ROWS / 500);
+        // 更新はバージョンの確認と読み直しがそれぞれ500件ごとに1文
+        // （UPDATE自体は Hibernate を通さないJDBCバッチのため統計に含まれない）
+        assertThat(updateStatements).isLessThanOrEqualTo(2L * ROWS / 500);
+    }
+
+    @Test
+    void saveAllMergeIssuesSelectPerRowForComparison() {
+        List<InventoryStatus> inserted = inventoryStatusRepository.saveAllInBatch(newStatuses("要補充"));
+        inserted.forEach(status -> status.setReplenishmentStatus("補充済"));
+        entityManager.clear();
+        statistics.clear();
+
+        // 従来の saveAll（id ありは merge となり、1件ごとに SELECT が発行される）
+        inventoryStatusRepository.saveAll(inserted);
+        entityManager.flush();
+        long mergeStatements = statistics.getPrepareStatementCount();
+
+        assertThat(mergeStatements).isGreaterThanOrEqualTo(ROWS);
+    }
+
+    @Test
+    void saveAllInBatchRejectsStaleVersionWithoutWriting() {
+        List<InventoryStatus> inserted = inventoryStatusRepository.saveAllInBatch(newStatuses("要補充"));
+        entityManager.clear();
+
+        // 1件だけ他の端末が先に更新した（バージョン0→1）
+        List<InventoryStatus> stale = inventoryStatusRepository.saveAllInBatch(List.of(inserted.get(ROWS - 1)));
+        entityManager.clear();
+        inserted.forEach(status -> status.setReplenishmentStatus("補充済"));
+
+        assertThatThrownBy(() -> inventoryStatusRepository.saveAllInBatch(inserted))
+                .isInstanceOf(OptimisticLockException.class)
+                .hasMessageContaining(stale.get(0).getId().toString());
+        assertThat(inventoryStatusRepository.findById(inserted.get(0).getId()))
+                .get().extracting(InventoryStatus::getReplenishmentStatus).isEqualTo("要補充");
+    }
+
+    @Test
+    void saveAllInBatchRequiresVersionForUpdate() {
+        List<InventoryStatus> inserted = inventoryStatusRepository.saveAllInBatch(newStatuses("要補充"));
+        entityManager.clear();
+        inserted.get(0).setVersion(null);
+
+        assertThatThrownBy(() -> inventoryStatusRepository.saveAllInBatch(inserted))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    private List<InventoryStatus> newStatuses(String replenishmentStatus) {
+        List<InventoryStatus> statuses = new ArrayList<>(ROWS);
+        for (Item item : items) {
+            InventoryStatus status = new InventoryStatus();
+            status.setBusinessDate(BUSINESS_DATE);
+            status.setItem(item);
+            status.setInventoryCheckStatus("未確認");
+            status.setReplenishmentStatus(replenishmentStatus);
+            status.setPreparationStatus("作成不要");
+            status.setOrderRequestStatus("発注不要");
+            statuses.add(status);
+        }
+        return statuses;
+    }
+}
@@ -1,6 +1,7 @@
 package com.restaurant.operationsprepare.integration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.restaurant.operationsprepare.entity.InventoryStatus;
 import com.restaurant.operationsprepare.entity.Item;
 import com.restaurant.operationsprepare.entity.Place;
@@ -20,7 +21,9 @@ import org.springframework.web.context.WebApplicationContext;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -129,6 +132,96 @@ class InventoryStatusIntegrationTest {
                 .andExpect(jsonPath("$.replenishmentStatus").value("補充済"));
     }
 
+    @Test
+    void testUpdateInventoryStatusVersionConflictIntegration() throws Exception {
+        // 他の端末が先に更新（バージョン0→1）
+        String staleBody = objectMapper.writeValueAsString(testStatus);
+        testStatus.setInventoryCount(7);
+        inventoryStatusRepository.saveAndFlush(testStatus);
+
+        mockMvc.perform(put("/api/inventory-status/{id}", testStatus.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(staleBody))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").exists());
+    }
+
+    @Test
+    void testMergeInventoryStatusIntegration() throws Exception {
+        // 他の端末が補充ステータスを更新（バージョン0→1）
+        testStatus.setReplenishmentStatus("補充済");
+        inventoryStatusRepository.saveAndFlush(testStatus);
+
+        // 編集開始時（バージョン0）の在庫数だけを変更する
+        String body = """
+                {"version": 0, "changes": {"inventoryCount": 8}, "original": {"inventoryCount": 5}}
+                """;
+        mockMvc.perform(patch("/api/inventory-status/{id}", testStatus.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.inventoryCount").value(8))
+                .andExpect(jsonPath("$.replenishmentStatus").value("補充済"))
+                .andExpect(jsonPath("$.version").value(2));
+    }
+
+    @Test
+    void testMergeInventoryStatusConflictIntegration() throws Exception {
+        // 他の端末が在庫数を更新（バージョン0→1）
+        testStatus.setInventoryCount(7);
+        inventoryStatusRepository.saveAndFlush(testStatus);
+
+        String body = """
+                {"version": 0, "changes": {"inventoryCount": 8}, "original": {"inventoryCount": 5}}
+                """;
+        mockMvc.perform(patch("/api/inventory-status/{id}", testStatus.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.conflicts[0]").value("inventoryCount"))
+                .andExpect(jsonPath("$.current.inventoryCount").value(7))
+                .andExpect(jsonPath("$.current.version").value(1));
+    }
+
+    @Test
+    void testBatchSaveInventoryStatusIntegration() throws Exception {
+        // testStatus は同じトランザクションで管理されているため、変更はリクエスト本文のみに加える
+        ObjectNode request = objectMapper.valueToTree(testStatus);
+        request.put("replenishmentStatus", "補充済");
+
+        mockMvc.perform(post("/api/inventory-status/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(request))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].replenishmentStatus").value("補充済"))
+                .andExpect(jsonPath("$[0].version").value(1));
+    }
+
+    @Test
+    void testBatchSaveInventoryStatusVersionConflictIntegration() throws Exception {
+        // 他の端末が先に更新（バージョン0→1）
+        String staleBody = objectMapper.writeValueAsString(List.of(testStatus));
+        testStatus.setInventoryCount(7);
+        inventoryStatusRepository.saveAndFlush(testStatus);
+
+        mockMvc.perform(post("/api/inventory-status/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(staleBody))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value(containsString(testStatus.getId().toString())));
+    }
+
+    @Test
+    void testBatchSaveInventoryStatusWithoutVersionIntegration() throws Exception {
+        testStatus.setVersion(null);
+
+        mockMvc.perform(post("/api/inventory-status/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(testStatus))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").exists());
+    }
+
     @Test
     void testDeleteInventoryStatusIntegration() throws Exception {
         mockMvc.perform(delete("/api/inventory-status/{id}", testStatus.getId()))
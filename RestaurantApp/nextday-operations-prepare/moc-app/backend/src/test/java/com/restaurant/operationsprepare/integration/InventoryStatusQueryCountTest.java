@@ -0,0 +1,166 @@
+package com.restaurant.operationsprepare.integration;
+
+import com.restaurant.operationsprepare.entity.InventoryStatus;
+import com.restaurant.operationsprepare.entity.Item;
+import com.restaurant.operationsprepare.entity.ItemReplenishment;
+import com.restaurant.operationsprepare.entity.Place;
+import com.restaurant.operationsprepare.repository.InventoryStatusRepository;
+import com.restaurant.operationsprepare.repository.ItemReplenishmentRepository;
+import com.restaurant.operationsprepare.repository.ItemRepository;
+import com.restaurant.operationsprepare.repository.PlaceRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 在庫ステータス取得時のSQL発行数が品物数によらず一定であることを
+ * Hibernate統計で確認する（N+1の検出）
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+@ActiveProfiles("test")
+class InventoryStatusQueryCountTest {
+
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2025, 9, 27);
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private InventoryStatusRepository inventoryStatusRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private ItemReplenishmentRepository itemReplenishmentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private MockMvc mockMvc;
+
+    private Statistics statistics;
+
+    private Place sourcePlace;
+
+    private Place destinationPlace;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        sourcePlace = placeRepository.save(place("補充元", "倉庫"));
+        destinationPlace = placeRepository.save(place("補充先", "厨房"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 30})
+    void listEndpointsIssueOneStatementRegardlessOfItemCount(int itemCount) throws Exception {
+        createStatuses(itemCount);
+
+        assertStatementCount("/api/inventory-status?businessDate=2025-09-27", itemCount);
+        assertStatementCount("/api/inventory-status/pending?businessDate=2025-09-27", itemCount);
+        assertStatementCount("/api/inventory-status/source/" + sourcePlace.getId() + "?businessDate=2025-09-27", itemCount);
+        assertStatementCount("/api/inventory-status/destination/" + destinationPlace.getId() + "?businessDate=2025-09-27", itemCount);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 30})
+    void entityQueriesFetchItemsInSameStatement(int itemCount) {
+        createStatuses(itemCount);
+        clearPersistenceContext();
+
+        List<InventoryStatus> byDate = inventoryStatusRepository.findByBusinessDateOrderByItemName(BUSINESS_DATE);
+        List<InventoryStatus> pending = inventoryStatusRepository.findPendingItemsByBusinessDate(BUSINESS_DATE);
+        List<InventoryStatus> bySource = inventoryStatusRepository
+                .findByBusinessDateAndSourceLocationId(BUSINESS_DATE, sourcePlace.getId());
+        byDate.forEach(status -> status.getItem().getName());
+
+        assertThat(byDate).hasSize(itemCount);
+        assertThat(pending).hasSize(itemCount);
+        assertThat(bySource).hasSize(itemCount);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    private void assertStatementCount(String url, int itemCount) throws Exception {
+        clearPersistenceContext();
+
+        mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(itemCount))
+                .andExpect(jsonPath("$[0].item.name").exists());
+
+        assertThat(statistics.getPrepareStatementCount())
+                .as("SQL発行数: %s", url)
+                .isEqualTo(1);
+    }
+
+    private void createStatuses(int itemCount) {
+        for (int i = 0; i < itemCount; i++) {
+            Item item = new Item();
+            item.setName(String.format("品物%03d", i));
+            item.setUnit("個");
+            item = itemRepository.save(item);
+
+            ItemReplenishment replenishment = new ItemReplenishment();
+            replenishment.setItem(item);
+            replenishment.setSourceLocation(sourcePlace);
+            replenishment.setDestinationLocation(destinationPlace);
+            replenishment.setReplenishmentType("補充");
+            itemReplenishmentRepository.save(replenishment);
+
+            InventoryStatus status = new InventoryStatus();
+            status.setBusinessDate(BUSINESS_DATE);
+            status.setItem(item);
+            status.setInventoryCheckStatus("未確認");
+            status.setReplenishmentStatus("要補充");
+            status.setPreparationStatus("作成不要");
+            status.setOrderRequestStatus("発注不要");
+            inventoryStatusRepository.save(status);
+        }
+    }
+
+    /**
+     * 永続化コンテキストの品物キャッシュに頼らず、実際の取得SQLを数えるためにクリアする
+     */
+    private void clearPersistenceContext() {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    private Place place(String type, String name) {
+        Place place = new Place();
+        place.setType(type);
+        place.setName(name);
+        place.setDisplayOrder(1);
+        return place;
+    }
+}
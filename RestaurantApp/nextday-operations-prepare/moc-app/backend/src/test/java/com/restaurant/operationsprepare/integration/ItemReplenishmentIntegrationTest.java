@@ -0,0 +1,120 @@
+package com.restaurant.operationsprepare.integration;
+
+import com.restaurant.operationsprepare.entity.Item;
+import com.restaurant.operationsprepare.entity.ItemReplenishment;
+import com.restaurant.operationsprepare.entity.Place;
+import com.restaurant.operationsprepare.repository.ItemReplenishmentRepository;
+import com.restaurant.operationsprepare.repository.ItemRepository;
+import com.restaurant.operationsprepare.repository.PlaceRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 補充パターンAPIが初期化済みのDTOを1クエリで返すこと、
+ * 読み取り専用トランザクションでHibernateセッションが読み取り専用になることを確認する
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ItemReplenishmentIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private ItemReplenishmentRepository itemReplenishmentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @Transactional
+    void listEndpointReturnsInitializedAssociationsInOneStatement() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        Place source = placeRepository.save(place("補充元", "倉庫"));
+        Place destination = placeRepository.save(place("補充先", "厨房"));
+        for (int i = 0; i < 10; i++) {
+            Item item = new Item();
+            item.setName(String.format("品物%02d", i));
+            item = itemRepository.save(item);
+
+            ItemReplenishment replenishment = new ItemReplenishment();
+            replenishment.setItem(item);
+            replenishment.setSourceLocation(source);
+            replenishment.setDestinationLocation(destination);
+            replenishment.setReplenishmentType("補充");
+            itemReplenishmentRepository.save(replenishment);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/api/item-replenishment/source/{sourceId}", source.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(10))
+                .andExpect(jsonPath("$[0].itemName").value("品物00"))
+                .andExpect(jsonPath("$[0].sourceLocationId").value(source.getId().toString()))
+                .andExpect(jsonPath("$[0].destinationLocationName").value("厨房"));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void readOnlyTransactionUsesManualFlushAndReadOnlySession() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        readOnly.executeWithoutResult(tx -> {
+            Session session = entityManager.unwrap(Session.class);
+            assertThat(session.getHibernateFlushMode()).isEqualTo(FlushMode.MANUAL);
+            assertThat(session.isDefaultReadOnly()).isTrue();
+        });
+
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+        readWrite.executeWithoutResult(tx -> {
+            Session session = entityManager.unwrap(Session.class);
+            assertThat(session.getHibernateFlushMode()).isEqualTo(FlushMode.AUTO);
+            assertThat(session.isDefaultReadOnly()).isFalse();
+        });
+    }
+
+    private Place place(String type, String name) {
+        Place place = new Place();
+        place.setType(type);
+        place.setName(name);
+        place.setDisplayOrder(1);
+        return place;
+    }
+}
@@ -0,0 +1,143 @@
+package com.restaurant.operationsprepare.integration;
+
+import com.restaurant.operationsprepare.entity.Item;
+import com.restaurant.operationsprepare.entity.ItemReplenishment;
+import com.restaurant.operationsprepare.entity.Place;
+import com.restaurant.operationsprepare.repository.ItemReplenishmentRepository;
+import com.restaurant.operationsprepare.repository.ItemRepository;
+import com.restaurant.operationsprepare.repository.PlaceRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * マスタをSQLで直接変更した場合（MasterDataChangedEvent が発行されない場合）も、
+ * マスタから作ったキャッシュが有効期限（app.master-data-cache.ttl）の経過後に作り直されることを確認する
+ *
+ * 2次キャッシュのエンティティは有効期限の経過を待たずに破棄し、このテストの対象のキャッシュだけを確認する
+ */
+@SpringBootTest(properties = "app.master-data-cache.ttl=500ms")
+@ActiveProfiles("test")
+class MasterDataCacheExpiryTest {
+
+    private static final long TTL_MILLIS = 500;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private ItemReplenishmentRepository itemReplenishmentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private MockMvc mockMvc;
+
+    private Item item;
+
+    private Place source;
+
+    private Place destination;
+
+    private ItemReplenishment replenishment;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+
+        item = new Item();
+        item.setName("期限テスト品物");
+        item = itemRepository.save(item);
+        source = placeRepository.save(place("補充元", "期限テスト倉庫"));
+        destination = placeRepository.save(place("補充先", "期限テスト厨房"));
+        replenishment = new ItemReplenishment();
+        replenishment.setItem(item);
+        replenishment.setSourceLocation(source);
+        replenishment.setDestinationLocation(destination);
+        replenishment.setReplenishmentType("補充");
+        replenishment = itemReplenishmentRepository.save(replenishment);
+
+        // 前のテストのキャッシュが期限切れになるのを待つ
+        Thread.sleep(TTL_MILLIS + 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        itemReplenishmentRepository.delete(replenishment);
+        itemRepository.deleteById(item.getId());
+        placeRepository.deleteById(source.getId());
+        placeRepository.deleteById(destination.getId());
+    }
+
+    @Test
+    void graphIsRebuiltAfterTtlWithoutEvent() throws Exception {
+        mockMvc.perform(get("/api/item-replenishment/graph"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[?(@.name == '期限テスト品物')]").exists());
+
+        renameItemWithSql("期限テスト品物（変更後）");
+
+        // 有効期限内はキャッシュから返す
+        mockMvc.perform(get("/api/item-replenishment/graph"))
+                .andExpect(jsonPath("$.items[?(@.name == '期限テスト品物')]").exists());
+
+        Thread.sleep(TTL_MILLIS + 100);
+        mockMvc.perform(get("/api/item-replenishment/graph"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[?(@.name == '期限テスト品物（変更後）')]").exists())
+                .andExpect(jsonPath("$.items[?(@.name == '期限テスト品物')]").doesNotExist());
+    }
+
+    @Test
+    void itemsResponseIsRebuiltAfterTtlWithoutEvent() throws Exception {
+        mockMvc.perform(get("/api/items"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.name == '期限テスト品物')]").exists());
+
+        renameItemWithSql("期限テスト品物（変更後）");
+
+        // 有効期限内は変換済みのレスポンスを返す
+        mockMvc.perform(get("/api/items"))
+                .andExpect(jsonPath("$[?(@.name == '期限テスト品物')]").exists());
+
+        Thread.sleep(TTL_MILLIS + 100);
+        mockMvc.perform(get("/api/items"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.name == '期限テスト品物（変更後）')]").exists())
+                .andExpect(jsonPath("$[?(@.name == '期限テスト品物')]").doesNotExist());
+    }
+
+    private void renameItemWithSql(String name) {
+        jdbcTemplate.update("UPDATE item SET name = ? WHERE id = ?", name, item.getId());
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    private Place place(String type, String name) {
+        Place place = new Place();
+        place.setType(type);
+        place.setName(name);
+        place.setDisplayOrder(1);
+        return place;
+    }
+}
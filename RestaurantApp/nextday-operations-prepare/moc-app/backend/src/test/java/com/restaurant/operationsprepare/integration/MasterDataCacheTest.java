@@ -0,0 +1,144 @@
+package com.restaurant.operationsprepare.integration;
+
+import com.restaurant.operationsprepare.entity.InventoryStatus;
+import com.restaurant.operationsprepare.entity.Item;
+import com.restaurant.operationsprepare.entity.Place;
+import com.restaurant.operationsprepare.repository.InventoryStatusRepository;
+import com.restaurant.operationsprepare.repository.ItemRepository;
+import com.restaurant.operationsprepare.repository.PlaceRepository;
+import com.restaurant.operationsprepare.service.InventoryStatusService;
+import com.restaurant.operationsprepare.service.PlaceService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * マスタ（品物・場所）が2次キャッシュ・クエリキャッシュから返されることを
+ * Hibernate統計で確認する
+ *
+ * 2次キャッシュへの格納はコミット後に行われるため、このテストはトランザクションをロールバックせず、
+ * 作成したデータを後始末する
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class MasterDataCacheTest {
+
+    @Autowired
+    private PlaceService placeService;
+
+    @Autowired
+    private InventoryStatusService inventoryStatusService;
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private InventoryStatusRepository inventoryStatusRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    private Place sourcePlace;
+
+    private Item item;
+
+    private InventoryStatus inventoryStatus;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        sourcePlace = new Place();
+        sourcePlace.setType("補充元");
+        sourcePlace.setName("キャッシュテスト倉庫");
+        sourcePlace.setDisplayOrder(1);
+        sourcePlace = placeRepository.save(sourcePlace);
+
+        item = new Item();
+        item.setName("キャッシュテスト品物");
+        item.setUnit("個");
+        item = itemRepository.save(item);
+
+        inventoryStatus = new InventoryStatus();
+        inventoryStatus.setBusinessDate(LocalDate.of(2025, 9, 27));
+        inventoryStatus.setItem(item);
+        inventoryStatus.setInventoryCheckStatus("未確認");
+        inventoryStatus.setReplenishmentStatus("要補充");
+        inventoryStatus.setPreparationStatus("作成不要");
+        inventoryStatus.setOrderRequestStatus("発注不要");
+        inventoryStatus = inventoryStatusRepository.save(inventoryStatus);
+    }
+
+    @AfterEach
+    void tearDown() {
+        inventoryStatusRepository.deleteById(inventoryStatus.getId());
+        itemRepository.deleteById(item.getId());
+        placeRepository.deleteById(sourcePlace.getId());
+    }
+
+    @Test
+    void sourcePlacesAreServedFromQueryCache() {
+        placeService.getSourcePlaces();
+
+        statistics.clear();
+        List<Place> places = placeService.getSourcePlaces();
+
+        assertThat(places).extracting(Place::getId).contains(sourcePlace.getId());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void queryCacheIsInvalidatedWhenPlaceIsUpdated() {
+        placeService.getSourcePlaces();
+
+        sourcePlace.setName("キャッシュテスト倉庫（改）");
+        placeService.savePlace(sourcePlace);
+
+        List<Place> places = placeService.getSourcePlaces();
+
+        assertThat(places).extracting(Place::getName).contains("キャッシュテスト倉庫（改）");
+    }
+
+    @Test
+    void inventoryStatusItemIsResolvedFromSecondLevelCache() {
+        statistics.clear();
+        InventoryStatus found = inventoryStatusService
+                .getInventoryStatusByDateAndItem(LocalDate.of(2025, 9, 27), item.getId())
+                .orElseThrow();
+
+        // 在庫ステータスのSELECTのみで、品物はキャッシュから解決される
+        assertThat(found.getItem().getName()).isEqualTo("キャッシュテスト品物");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getDomainDataRegionStatistics("item").getHitCount()).isPositive();
+    }
+
+    @Test
+    void cacheStatisticsArePublishedAsMetrics() {
+        placeService.getSourcePlaces();
+
+        assertThat(meterRegistry.find("hibernate.second.level.cache.requests").tag("region", "place").meters())
+                .isNotEmpty();
+        assertThat(meterRegistry.find("hibernate.cache.query.requests").meters()).isNotEmpty();
+    }
+}
@@ -0,0 +1,156 @@
+package com.restaurant.operationsprepare.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.restaurant.operationsprepare.entity.Item;
+import com.restaurant.operationsprepare.event.MasterDataChangedEvent;
+import com.restaurant.operationsprepare.repository.ItemRepository;
+import com.restaurant.operationsprepare.service.ItemService;
+import com.restaurant.operationsprepare.service.MasterDataCacheVersion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 品物一覧のJSONレスポンスを圧縮済みのまま使い回し、マスタ変更で作り直すことを確認する
+ *
+ * キャッシュの破棄はマスタ変更のコミット後に行われるため、このテストはトランザクションをロールバックせず、
+ * 作成したデータを後始末する
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class MasterDataResponseCacheTest {
+
+    private static final int ITEM_COUNT = 30;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private MasterDataCacheVersion masterDataCacheVersion;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    private MockMvc mockMvc;
+
+    private final List<Item> items = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            Item item = new Item();
+            item.setName(String.format("圧縮テスト品物%02d", i));
+            item.setDescription("レスポンス圧縮のテスト用の品物です");
+            item.setUnit("個");
+            items.add(itemRepository.save(item));
+        }
+        masterDataCacheVersion.onMasterDataChanged(new MasterDataChangedEvent(MasterDataChangedEvent.ITEM));
+    }
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAll(items);
+        masterDataCacheVersion.onMasterDataChanged(new MasterDataChangedEvent(MasterDataChangedEvent.ITEM));
+    }
+
+    @Test
+    void gzipResponseHasSameContentAsPlainJson() throws Exception {
+        MockHttpServletResponse compressed = mockMvc.perform(get("/api/items")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                .andReturn().getResponse();
+        MockHttpServletResponse plain = mockMvc.perform(get("/api/items"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn().getResponse();
+
+        byte[] json = plain.getContentAsByteArray();
+        assertThat(gunzip(compressed.getContentAsByteArray())).isEqualTo(json);
+        assertThat(compressed.getContentAsByteArray().length).isLessThan(json.length);
+        assertThat(names(objectMapper.readTree(json))).contains("圧縮テスト品物00", "圧縮テスト品物29");
+    }
+
+    @Test
+    void gzipExcludedByQualityIsNotUsed() throws Exception {
+        mockMvc.perform(get("/api/items").header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void responseIsReusedUntilMasterDataChanges() throws Exception {
+        mockMvc.perform(get("/api/items")).andExpect(status().isOk());
+
+        // イベントを通さない変更はキャッシュに反映されない
+        Item direct = new Item();
+        direct.setName("圧縮テスト直接登録");
+        items.add(itemRepository.save(direct));
+        assertThat(names(fetchItems())).doesNotContain("圧縮テスト直接登録");
+
+        // サービス経由の変更（コミット後のイベント）でキャッシュを破棄する
+        Item added = new Item();
+        added.setName("圧縮テスト追加");
+        items.add(itemService.saveItem(added));
+        assertThat(names(fetchItems())).contains("圧縮テスト直接登録", "圧縮テスト追加");
+    }
+
+    @Test
+    void cborIsServedWithoutCache() throws Exception {
+        byte[] body = mockMvc.perform(get("/api/items").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_CBOR_VALUE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(names(new ObjectMapper(new CBORFactory()).readTree(body))).contains("圧縮テスト品物00");
+    }
+
+    private JsonNode fetchItems() throws Exception {
+        return objectMapper.readTree(mockMvc.perform(get("/api/items"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray());
+    }
+
+    private static List<String> names(JsonNode items) {
+        List<String> names = new ArrayList<>();
+        items.forEach(item -> names.add(item.get("name").asText()));
+        return names;
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws Exception {
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return input.readAllBytes();
+        }
+    }
+}
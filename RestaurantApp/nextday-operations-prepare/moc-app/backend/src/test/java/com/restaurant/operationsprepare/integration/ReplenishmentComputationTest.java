@@ -0,0 +1,398 @@
+package com.restaurant.operationsprepare.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.operationsprepare.dto.ReplenishmentSuggestion;
+import com.restaurant.operationsprepare.entity.InventoryStatus;
+import com.restaurant.operationsprepare.entity.Item;
+import com.restaurant.operationsprepare.entity.ItemReplenishment;
+import com.restaurant.operationsprepare.entity.Place;
+import com.restaurant.operationsprepare.entity.ProductItem;
+import com.restaurant.operationsprepare.entity.Reservation;
+import com.restaurant.operationsprepare.event.MasterDataChangedEvent;
+import com.restaurant.operationsprepare.repository.InventoryStatusRepository;
+import com.restaurant.operationsprepare.repository.ItemReplenishmentRepository;
+import com.restaurant.operationsprepare.repository.ItemRepository;
+import com.restaurant.operationsprepare.repository.PlaceRepository;
+import com.restaurant.operationsprepare.repository.ProductItemRepository;
+import com.restaurant.operationsprepare.repository.ReservationRepository;
+import com.restaurant.operationsprepare.service.InventoryStatusService;
+import com.restaurant.operationsprepare.service.MasterDataCacheVersion;
+import com.restaurant.operationsprepare.service.ReplenishmentComputationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 予約から品物ごとの補充数・作成ステータスを算出し、在庫ステータスに反映できることを確認する
+ *
+ * 在庫ステータス1件の更新では、その品物だけを算出し直した差分がレスポンスに含まれること、
+ * 反映済みの業務日付ではその差分が在庫ステータスにも書き込まれることも確認する。
+ * 算出結果の保持はトランザクションのコミット後に行われるため、このテストはトランザクションをロールバックせず、
+ * 作成したデータを後始末する。補充経路グラフと算出結果の保持もテストごとに破棄する
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ReplenishmentComputationTest {
+
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2025, 10, 1);
+
+    @Autowired
+    private ReplenishmentComputationService replenishmentComputationService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ProductItemRepository productItemRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private InventoryStatusRepository inventoryStatusRepository;
+
+    @Autowired
+    private ItemReplenishmentRepository itemReplenishmentRepository;
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private MasterDataCacheVersion masterDataCacheVersion;
+
+    @Autowired
+    private InventoryStatusService inventoryStatusService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private MockMvc mockMvc;
+
+    private Item rice;
+
+    private Item karaage;
+
+    private Item salad;
+
+    private InventoryStatus riceStatus;
+
+    private InventoryStatus karaageStatus;
+
+    private ItemReplenishment riceReplenishment;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+
+        rice = itemRepository.save(item("算出テストご飯"));
+        karaage = itemRepository.save(item("算出テスト唐揚げ"));
+        salad = itemRepository.save(item("算出テストサラダ"));
+
+        // 唐揚げ弁当1つにご飯1つ・唐揚げ2つを使う（サラダは対応表になく、同じ名前の品物を使う）
+        productItemRepository.save(productItem("算出テスト唐揚げ弁当", rice, 1));
+        productItemRepository.save(productItem("算出テスト唐揚げ弁当", karaage, 2));
+
+        reservationRepository.save(reservation("算出テスト唐揚げ弁当", 3));
+        reservationRepository.save(reservation("算出テスト唐揚げ弁当", 2));
+        reservationRepository.save(reservation("算出テストサラダ", 4));
+        reservationRepository.save(reservation("算出テスト対応なし商品", 9));
+
+        riceStatus = inventoryStatusRepository.save(inventoryStatus(rice, 2));
+        karaageStatus = inventoryStatusRepository.save(inventoryStatus(karaage, 20));
+
+        Place warehouse = placeRepository.save(place("補充元", "算出テスト倉庫"));
+        Place kitchen = placeRepository.save(place("補充先", "算出テスト厨房"));
+        riceReplenishment = itemReplenishmentRepository.save(replenishment(rice, warehouse, kitchen));
+        clearCaches();
+    }
+
+    @AfterEach
+    void tearDown() {
+        List<UUID> itemIds = List.of(rice.getId(), karaage.getId(), salad.getId());
+        for (String table : List.of("inventory_status", "item_replenishment", "product_item")) {
+            itemIds.forEach(id -> jdbcTemplate.update("DELETE FROM " + table + " WHERE item_id = ?", id));
+        }
+        jdbcTemplate.update("DELETE FROM reservation WHERE product_name LIKE '算出テスト%'");
+        jdbcTemplate.update("DELETE FROM place WHERE name LIKE '算出テスト%'");
+        itemIds.forEach(itemRepository::deleteById);
+        clearCaches();
+    }
+
+    @Test
+    void suggestionsSubtractInventoryFromReservedUsage() {
+        Map<UUID, ReplenishmentSuggestion> suggestions = byItemId(
+                replenishmentComputationService.computeSuggestions(BUSINESS_DATE));
+
+        assertThat(suggestions.get(rice.getId()))
+                .extracting("requiredCount", "inventoryCount", "replenishmentCount", "preparationStatus")
+                .containsExactly(5, 2, 3, "要作成");
+        assertThat(suggestions.get(karaage.getId()))
+                .extracting("requiredCount", "inventoryCount", "replenishmentCount", "preparationStatus")
+                .containsExactly(10, 20, 0, "作成不要");
+        assertThat(suggestions.get(salad.getId()))
+                .extracting("requiredCount", "inventoryCount", "replenishmentCount", "preparationStatus")
+                .containsExactly(4, 0, 4, "要作成");
+
+        // 算出のみで在庫ステータスは変更しない
+        assertThat(inventoryStatusRepository.findById(riceStatus.getId()).orElseThrow().getReplenishmentCount())
+                .isZero();
+    }
+
+    @Test
+    void applyUpdatesStatusesAndCreatesMissingOnes() {
+        int versionBefore = riceStatus.getVersion();
+        replenishmentComputationService.applySuggestions(BUSINESS_DATE);
+
+        InventoryStatus updatedRice = inventoryStatusRepository.findById(riceStatus.getId()).orElseThrow();
+        assertThat(updatedRice.getReplenishmentCount()).isEqualTo(3);
+        assertThat(updatedRice.getPreparationStatus()).isEqualTo("要作成");
+        assertThat(updatedRice.getVersion()).isEqualTo(versionBefore + 1);
+
+        InventoryStatus createdSalad = inventoryStatusRepository
+                .findByBusinessDateAndItemId(BUSINESS_DATE, salad.getId()).orElseThrow();
+        assertThat(createdSalad.getReplenishmentCount()).isEqualTo(4);
+        assertThat(createdSalad.getPreparationStatus()).isEqualTo("要作成");
+        assertThat(createdSalad.getInventoryCheckStatus()).isEqualTo("未確認");
+    }
+
+    @Test
+    void updateReturnsDeltaOfEditedItemOnly() throws Exception {
+        replenishmentComputationService.computeSuggestions(BUSINESS_DATE);
+
+        riceStatus.setInventoryCount(4);
+        mockMvc.perform(put("/api/inventory-status/{id}", riceStatus.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(riceStatus)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.inventoryCount").value(4))
+                .andExpect(jsonPath("$.version").value(1))
+                .andExpect(jsonPath("$.replenishmentDeltas.length()").value(1))
+                .andExpect(jsonPath("$.replenishmentDeltas[0].itemId").value(rice.getId().toString()))
+                .andExpect(jsonPath("$.replenishmentDeltas[0].requiredCount").value(5))
+                .andExpect(jsonPath("$.replenishmentDeltas[0].replenishmentCount").value(1))
+                .andExpect(jsonPath("$.replenishmentDeltas[0].preparationStatus").value("要作成"))
+                .andExpect(jsonPath("$.replenishmentDeltas[0].replenishmentIds[0]")
+                        .value(riceReplenishment.getId().toString()));
+
+        // 在庫が足りている品物の在庫数を変えても算出結果は変わらない
+        karaageStatus.setInventoryCount(15);
+        mockMvc.perform(put("/api/inventory-status/{id}", karaageStatus.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(karaageStatus)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.inventoryCount").value(15))
+                .andExpect(jsonPath("$.replenishmentDeltas").doesNotExist());
+
+        // 算出のみの業務日付では在庫ステータスの補充数は変更しない
+        assertThat(inventoryStatusRepository.findById(riceStatus.getId()).orElseThrow())
+                .extracting("replenishmentCount", "version")
+                .containsExactly(0, 1);
+    }
+
+    @Test
+    void updateOfAppliedDayWritesDeltaInSameTransaction() throws Exception {
+        replenishmentComputationService.applySuggestions(BUSINESS_DATE);
+
+        // 反映でバージョン1、補充数3（必要数5 - 在庫数2）
+        InventoryStatus applied = inventoryStatusRepository.findById(riceStatus.getId()).orElseThrow();
+        applied.setInventoryCount(4);
+        String body = objectMapper.writeValueAsString(applied);
+
+        mockMvc.perform(put("/api/inventory-status/{id}", riceStatus.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.inventoryCount").value(4))
+                .andExpect(jsonPath("$.replenishmentCount").value(1))
+                .andExpect(jsonPath("$.preparationStatus").value("要作成"))
+                .andExpect(jsonPath("$.version").value(3))
+                .andExpect(jsonPath("$.replenishmentDeltas[0].replenishmentCount").value(1));
+
+        assertThat(inventoryStatusRepository.findById(riceStatus.getId()).orElseThrow())
+                .extracting("inventoryCount", "replenishmentCount", "version")
+                .containsExactly(4, 1, 3);
+    }
+
+    @Test
+    void computeAfterApplyKeepsDayApplied() throws Exception {
+        replenishmentComputationService.applySuggestions(BUSINESS_DATE);
+        replenishmentComputationService.computeSuggestions(BUSINESS_DATE);
+
+        InventoryStatus applied = inventoryStatusRepository.findById(riceStatus.getId()).orElseThrow();
+        applied.setInventoryCount(5);
+        String body = objectMapper.writeValueAsString(applied);
+
+        mockMvc.perform(put("/api/inventory-status/{id}", riceStatus.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.replenishmentCount").value(0))
+                .andExpect(jsonPath("$.preparationStatus").value("作成不要"));
+    }
+
+    @Test
+    void updateWithoutFullComputationReturnsNoDelta() throws Exception {
+        riceStatus.setInventoryCount(4);
+        mockMvc.perform(put("/api/inventory-status/{id}", riceStatus.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(riceStatus)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.replenishmentDeltas").doesNotExist());
+    }
+
+    @Test
+    void rolledBackUpdateDoesNotChangeRetainedState() throws Exception {
+        replenishmentComputationService.applySuggestions(BUSINESS_DATE);
+
+        // 在庫数4への更新（補充数3 → 1）をロールバックする
+        InventoryStatus applied = inventoryStatusRepository.findById(riceStatus.getId()).orElseThrow();
+        applied.setInventoryCount(4);
+        String body = objectMapper.writeValueAsString(applied);
+        new TransactionTemplate(transactionManager).executeWithoutResult(transaction -> {
+            assertThat(inventoryStatusService.updateInventoryStatus(applied).getReplenishmentDeltas()).hasSize(1);
+            transaction.setRollbackOnly();
+        });
+        assertThat(inventoryStatusRepository.findById(riceStatus.getId()).orElseThrow())
+                .extracting("inventoryCount", "replenishmentCount", "version")
+                .containsExactly(2, 3, 1);
+
+        // 保持している補充数はロールバック前の3のままのため、同じ更新で差分を返し、書き込む
+        mockMvc.perform(put("/api/inventory-status/{id}", riceStatus.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.replenishmentCount").value(1))
+                .andExpect(jsonPath("$.replenishmentDeltas[0].replenishmentCount").value(1));
+    }
+
+    @Test
+    void rolledBackApplyDoesNotMarkDayApplied() throws Exception {
+        new TransactionTemplate(transactionManager).executeWithoutResult(transaction -> {
+            replenishmentComputationService.applySuggestions(BUSINESS_DATE);
+            transaction.setRollbackOnly();
+        });
+
+        // 反映も算出結果の保持もされていないため、差分を返さず補充数も書き込まない
+        riceStatus.setInventoryCount(4);
+        mockMvc.perform(put("/api/inventory-status/{id}", riceStatus.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(riceStatus)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.replenishmentCount").value(0))
+                .andExpect(jsonPath("$.replenishmentDeltas").doesNotExist());
+    }
+
+    @Test
+    void requestedReplenishmentCountIsNotOverwritten() throws Exception {
+        replenishmentComputationService.applySuggestions(BUSINESS_DATE);
+
+        // 在庫数と合わせて補充数を7に変更した場合は、算出結果（1）で上書きしない
+        InventoryStatus applied = inventoryStatusRepository.findById(riceStatus.getId()).orElseThrow();
+        applied.setInventoryCount(4);
+        applied.setReplenishmentCount(7);
+        mockMvc.perform(put("/api/inventory-status/{id}", riceStatus.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(applied)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.replenishmentCount").value(7))
+                .andExpect(jsonPath("$.version").value(2))
+                .andExpect(jsonPath("$.replenishmentDeltas[0].replenishmentCount").value(1));
+
+        assertThat(inventoryStatusRepository.findById(riceStatus.getId()).orElseThrow())
+                .extracting("inventoryCount", "replenishmentCount", "version")
+                .containsExactly(4, 7, 2);
+    }
+
+    private void clearCaches() {
+        MasterDataChangedEvent event = new MasterDataChangedEvent(MasterDataChangedEvent.ITEM_REPLENISHMENT);
+        masterDataCacheVersion.onMasterDataChanged(event);
+        replenishmentComputationService.onMasterDataChanged(event);
+    }
+
+    private Map<UUID, ReplenishmentSuggestion> byItemId(List<ReplenishmentSuggestion> suggestions) {
+        return suggestions.stream().collect(Collectors.toMap(ReplenishmentSuggestion::getItemId, Function.identity()));
+    }
+
+    private Item item(String name) {
+        Item item = new Item();
+        item.setName(name);
+        return item;
+    }
+
+    private Place place(String type, String name) {
+        Place place = new Place();
+        place.setType(type);
+        place.setName(name);
+        place.setDisplayOrder(1);
+        return place;
+    }
+
+    private ItemReplenishment replenishment(Item item, Place source, Place destination) {
+        ItemReplenishment replenishment = new ItemReplenishment();
+        replenishment.setItem(item);
+        replenishment.setSourceLocation(source);
+        replenishment.setDestinationLocation(destination);
+        replenishment.setReplenishmentType("補充");
+        return replenishment;
+    }
+
+    private ProductItem productItem(String productName, Item item, int quantity) {
+        ProductItem productItem = new ProductItem();
+        productItem.setProductName(productName);
+        productItem.setItem(item);
+        productItem.setQuantity(quantity);
+        return productItem;
+    }
+
+    private Reservation reservation(String productName, int count) {
+        Reservation reservation = new Reservation();
+        reservation.setBusinessDate(BUSINESS_DATE);
+        reservation.setProductName(productName);
+        reservation.setReservationCount(count);
+        return reservation;
+    }
+
+    private InventoryStatus inventoryStatus(Item item, int inventoryCount) {
+        InventoryStatus status = new InventoryStatus();
+        status.setBusinessDate(BUSINESS_DATE);
+        status.setItem(item);
+        status.setInventoryCheckStatus("確認済");
+        status.setReplenishmentStatus("補充不要");
+        status.setPreparationStatus("作成不要");
+        status.setOrderRequestStatus("発注不要");
+        status.setInventoryCount(inventoryCount);
+        status.setReplenishmentCount(0);
+        return status;
+    }
+}
@@ -0,0 +1,153 @@
+package com.restaurant.operationsprepare.integration;
+
+import com.restaurant.operationsprepare.entity.Item;
+import com.restaurant.operationsprepare.entity.ItemReplenishment;
+import com.restaurant.operationsprepare.entity.Place;
+import com.restaurant.operationsprepare.repository.ItemReplenishmentRepository;
+import com.restaurant.operationsprepare.repository.ItemRepository;
+import com.restaurant.operationsprepare.repository.PlaceRepository;
+import com.restaurant.operationsprepare.service.PlaceService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 補充経路グラフAPIが1クエリで作成され、マスタ変更まではキャッシュから返されることを確認する
+ *
+ * キャッシュの破棄はコミット後に行われるため、このテストはトランザクションをロールバックせず、
+ * 作成したデータを後始末する
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ReplenishmentGraphTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private PlaceService placeService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private ItemReplenishmentRepository itemReplenishmentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private MockMvc mockMvc;
+
+    private Statistics statistics;
+
+    private Place warehouse;
+
+    private final List<Item> items = new ArrayList<>();
+
+    private final List<ItemReplenishment> replenishments = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        warehouse = placeService.savePlace(place("補充元", "グラフテスト倉庫", 1));
+        Place kitchen = placeService.savePlace(place("補充先", "グラフテスト厨房", 1));
+        Place hall = placeService.savePlace(place("補充先", "グラフテストホール", 2));
+
+        for (int i = 0; i < 3; i++) {
+            Item item = new Item();
+            item.setName(String.format("グラフテスト品物%d", i));
+            items.add(itemRepository.save(item));
+            replenishments.add(itemReplenishmentRepository.save(replenishment(items.get(i), warehouse, kitchen)));
+            replenishments.add(itemReplenishmentRepository.save(replenishment(items.get(i), warehouse, hall)));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        replenishments.forEach(itemReplenishmentRepository::delete);
+        items.forEach(itemRepository::delete);
+        placeRepository.findAll().stream()
+                .filter(place -> place.getName().startsWith("グラフテスト"))
+                .forEach(place -> placeService.deletePlace(place.getId()));
+    }
+
+    @Test
+    void graphReferencesItemsAndPlacesByIndex() throws Exception {
+        statistics.clear();
+
+        mockMvc.perform(get("/api/item-replenishment/graph"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(3))
+                .andExpect(jsonPath("$.places.length()").value(3))
+                .andExpect(jsonPath("$.edges.length()").value(6))
+                .andExpect(jsonPath("$.items[0].name").value("グラフテスト品物0"))
+                .andExpect(jsonPath("$.edges[0].item").value(0))
+                .andExpect(jsonPath("$.edges[1].item").value(0))
+                .andExpect(jsonPath("$.places[0].name").value("グラフテスト倉庫"))
+                .andExpect(jsonPath("$.edges[0].source").value(0))
+                .andExpect(jsonPath("$.edges[0].destination").value(1))
+                .andExpect(jsonPath("$.edges[1].destination").value(2))
+                .andExpect(jsonPath("$.edges[0].replenishmentType").value("補充"));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        // 2回目はキャッシュから返す
+        statistics.clear();
+        mockMvc.perform(get("/api/item-replenishment/graph"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.edges.length()").value(6));
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void graphIsRebuiltAfterMasterDataChanges() throws Exception {
+        mockMvc.perform(get("/api/item-replenishment/graph"))
+                .andExpect(jsonPath("$.places[0].name").value("グラフテスト倉庫"));
+
+        warehouse.setName("グラフテスト第二倉庫");
+        placeService.savePlace(warehouse);
+
+        mockMvc.perform(get("/api/item-replenishment/graph"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.places[0].name").value("グラフテスト第二倉庫"));
+    }
+
+    private Place place(String type, String name, int displayOrder) {
+        Place place = new Place();
+        place.setType(type);
+        place.setName(name);
+        place.setDisplayOrder(displayOrder);
+        return place;
+    }
+
+    private ItemReplenishment replenishment(Item item, Place source, Place destination) {
+        ItemReplenishment replenishment = new ItemReplenishment();
+        replenishment.setItem(item);
+        replenishment.setSourceLocation(source);
+        replenishment.setDestinationLocation(destination);
+        replenishment.setReplenishmentType("補充");
+        return replenishment;
+    }
+}
@@ -0,0 +1,167 @@
+package com.restaurant.operationsprepare.integration;
+
+import com.restaurant.operationsprepare.entity.Reservation;
+import com.restaurant.operationsprepare.repository.ReservationRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 予約のCSV/TSVを取り込み、ファイルに含まれる業務日付の予約を置き換えられることを確認する
+ */
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class ReservationImportTest {
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2025, 10, 1);
+
+    private static final LocalDate SECOND_DATE = LocalDate.of(2025, 10, 2);
+
+    private static final LocalDate OTHER_DATE = LocalDate.of(2025, 10, 3);
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+
+        reservationRepository.save(reservation(FIRST_DATE, "取り込み前の商品", 9));
+        reservationRepository.save(reservation(OTHER_DATE, "別の日の商品", 1));
+        entityManager.flush();
+    }
+
+    @Test
+    void csvReplacesReservationsOfIncludedDates() throws Exception {
+        String csv = """
+                business_date,product_name,reservation_count
+                2025-10-01,唐揚げ弁当,3
+                2025-10-01,"幕の内弁当、大盛り",2
+                2025/10/2,"お茶""特選"" 2本",5
+                """;
+
+        mockMvc.perform(post("/api/reservations/import")
+                        .contentType("text/csv")
+                        .content(csv.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importedCount").value(3))
+                .andExpect(jsonPath("$.businessDates[0]").value("2025-10-01"))
+                .andExpect(jsonPath("$.businessDates[1]").value("2025-10-02"))
+                .andExpect(jsonPath("$.errorCount").value(0));
+
+        entityManager.clear();
+        assertThat(reservationRepository.findByBusinessDateOrderByProductName(FIRST_DATE))
+                .extracting(Reservation::getProductName, Reservation::getReservationCount)
+                .containsExactlyInAnyOrder(tuple("唐揚げ弁当", 3), tuple("幕の内弁当、大盛り", 2));
+        assertThat(reservationRepository.findByBusinessDateOrderByProductName(SECOND_DATE))
+                .extracting(Reservation::getProductName, Reservation::getReservationCount)
+                .containsExactly(tuple("お茶\"特選\" 2本", 5));
+        // ファイルに含まれない業務日付は変更しない
+        assertThat(reservationRepository.findByBusinessDateOrderByProductName(OTHER_DATE)).hasSize(1);
+    }
+
+    @Test
+    void malformedRowsAreReportedWithLineNumbers() throws Exception {
+        String csv = """
+                2025-10-01,唐揚げ弁当,3
+                2025-13-01,日付が不正,1
+
+                2025-10-01,予約数が不正,abc
+                2025-10-01,予約数が負,-1
+                2025-10-01,列が足りない
+                2025-10-01, ,1
+                2025-10-01,サラダ,4
+                """;
+
+        mockMvc.perform(post("/api/reservations/import")
+                        .contentType("text/csv")
+                        .content(csv.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importedCount").value(2))
+                .andExpect(jsonPath("$.errorCount").value(5))
+                .andExpect(jsonPath("$.errors[0].lineNumber").value(2))
+                .andExpect(jsonPath("$.errors[1].lineNumber").value(4))
+                .andExpect(jsonPath("$.errors[2].lineNumber").value(5))
+                .andExpect(jsonPath("$.errors[3].lineNumber").value(6))
+                .andExpect(jsonPath("$.errors[4].lineNumber").value(7));
+
+        entityManager.clear();
+        assertThat(reservationRepository.findByBusinessDateOrderByProductName(FIRST_DATE))
+                .extracting(Reservation::getProductName)
+                .containsExactly("サラダ", "唐揚げ弁当");
+    }
+
+    @Test
+    void tsvWithJapaneseHeaderResolvesColumnsByName() throws Exception {
+        String tsv = "商品名\t予約数\t業務日付\n"
+                + "唐揚げ\"大\"\t7\t2025-10-01\n";
+
+        mockMvc.perform(post("/api/reservations/import")
+                        .contentType("text/tab-separated-values")
+                        .content(tsv.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importedCount").value(1))
+                .andExpect(jsonPath("$.errorCount").value(0));
+
+        entityManager.clear();
+        assertThat(reservationRepository.findByBusinessDateOrderByProductName(FIRST_DATE))
+                .extracting(Reservation::getProductName, Reservation::getReservationCount)
+                .containsExactly(tuple("唐揚げ\"大\"", 7));
+    }
+
+    @Test
+    void unsupportedCharsetIsRejected() throws Exception {
+        mockMvc.perform(post("/api/reservations/import")
+                        .header("Content-Type", "text/csv; charset=x-no-such-charset")
+                        .content("2025-10-01,唐揚げ弁当,3\n".getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("x-no-such-charset")));
+
+        // 対応していないメディアタイプは従来どおり415
+        mockMvc.perform(post("/api/reservations/import")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isUnsupportedMediaType());
+
+        // 取り込まず、既存の予約はそのまま残る
+        entityManager.clear();
+        assertThat(reservationRepository.findByBusinessDateOrderByProductName(FIRST_DATE))
+                .extracting(Reservation::getProductName)
+                .containsExactly("取り込み前の商品");
+    }
+
+    private Reservation reservation(LocalDate businessDate, String productName, int count) {
+        Reservation reservation = new Reservation();
+        reservation.setBusinessDate(businessDate);
+        reservation.setProductName(productName);
+        reservation.setReservationCount(count);
+        return reservation;
+    }
+}
@@ -0,0 +1,120 @@
+package com.restaurant.operationsprepare.integration;
+
+import com.restaurant.operationsprepare.entity.Item;
+import com.restaurant.operationsprepare.repository.ItemRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * レスポンス圧縮の有無による転送量とCPU時間の比較
+ *
+ * 品物一覧（/api/items）に Accept-Encoding: gzip で繰り返しリクエストを送り、
+ * 1リクエストあたりの転送バイト数（レスポンス本文）とプロセスのCPU時間を計測する。
+ * - 圧縮なし: server.compression 無効、レスポンスのキャッシュ無効
+ * - 都度圧縮: server.compression 有効、レスポンスのキャッシュ無効（リクエストごとにJSON変換・圧縮）
+ * - 圧縮済みキャッシュ: server.compression 有効、MasterDataResponseCache が圧縮済みのレスポンスを返す
+ * CPU時間はクライアント（同じプロセス）の受信処理も含む。
+ *
+ * 通常のテストでは実行しない。以下で実行する:
+ * <pre>
+ * mvn test -Dtest=ResponseCompressionBenchmarkTest -Dbenchmark=true
+ * </pre>
+ * -Dbenchmark.items=1000 -Dbenchmark.requests=2000 で条件を変更できる。
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("レスポンス圧縮 ベンチマーク")
+class ResponseCompressionBenchmarkTest {
+
+    @Test
+    @DisplayName("圧縮なし/都度圧縮/圧縮済みキャッシュで転送量とCPU時間を比較する")
+    void compareCompression() throws Exception {
+        Result uncompressed = run("uncompressed", false, false);
+        Result compressed = run("compressed", true, false);
+        Result cached = run("precompressed", true, true);
+
+        System.out.printf("%-16s %14s %16s %10s%n", "mode", "bytes/request", "cpu(us)/request", "req/s");
+        print("uncompressed", uncompressed);
+        print("compressed", compressed);
+        print("precompressed", cached);
+
+        assertThat(compressed.bytesPerRequest).isLessThan(uncompressed.bytesPerRequest / 2);
+        assertThat(cached.bytesPerRequest).isLessThan(uncompressed.bytesPerRequest / 2);
+        assertThat(cached.cpuMicrosPerRequest).isLessThan(compressed.cpuMicrosPerRequest);
+    }
+
+    private Result run(String name, boolean compression, boolean cache) throws Exception {
+        int itemCount = Integer.getInteger("benchmark.items", 1000);
+        int requests = Integer.getInteger("benchmark.requests", 2000);
+
+        try (ConfigurableApplicationContext context = BenchmarkApplication.start("compression-benchmark-" + name,
+                "--server.compression.enabled=" + compression,
+                "--app.master-data-response-cache.enabled=" + cache)) {
+            createData(context, itemCount);
+
+            int port = BenchmarkApplication.port(context);
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/items"))
+                    .header("Accept-Encoding", "gzip")
+                    .GET()
+                    .build();
+            HttpClient client = HttpClient.newHttpClient();
+
+            // ウォームアップ
+            for (int i = 0; i < 500; i++) {
+                send(client, request);
+            }
+
+            com.sun.management.OperatingSystemMXBean os =
+                    (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+            long bytes = 0;
+            long cpuStart = os.getProcessCpuTime();
+            long start = System.nanoTime();
+            for (int i = 0; i < requests; i++) {
+                bytes += send(client, request);
+            }
+            long elapsedNanos = System.nanoTime() - start;
+            long cpuNanos = os.getProcessCpuTime() - cpuStart;
+
+            return new Result((double) bytes / requests, cpuNanos / 1e3 / requests,
+                    requests / (elapsedNanos / 1e9));
+        }
+    }
+
+    private static int send(HttpClient client, HttpRequest request) throws Exception {
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return response.body().length;
+    }
+
+    private static void createData(ConfigurableApplicationContext context, int itemCount) {
+        ItemRepository itemRepository = context.getBean(ItemRepository.class);
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            Item item = new Item();
+            item.setName(String.format("品物%04d", i));
+            item.setDescription("ベンチマーク用の品物です");
+            item.setUnit("個");
+            items.add(item);
+        }
+        itemRepository.saveAll(items);
+    }
+
+    private static void print(String label, Result result) {
+        System.out.printf("%-16s %14.0f %16.0f %10.0f%n",
+                label, result.bytesPerRequest, result.cpuMicrosPerRequest, result.requestsPerSecond);
+    }
+
+    private record Result(double bytesPerRequest, double cpuMicrosPerRequest, double requestsPerSecond) {
+    }
+}
@@ -0,0 +1,169 @@
+package com.restaurant.operationsprepare.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+/**
+ * 起動方法による最初のリクエストまでの時間の比較
+ *
+ * ビルドしたjarを別のプロセスで起動し、起動から品物一覧（/api/items）が最初に 200 を返すまでの時間を計測する。
+ * - 通常: 実行可能jar（target/*.jar）をデフォルトの設定で起動
+ * - fast-start: target/fast-start のjarを fast-start プロファイルで起動（springdoc の遅延初期化など）
+ * - AOT: fast-start に加えて Spring AOT で処理したBean定義を使う
+ * - AOT+CDS: AOT に加えてクラスデータ共有のアーカイブ（app.jsa）を使う（ない場合は試行起動で作成する）
+ * 接続するDBはマイグレーション済みであること（fast-start プロファイルではマイグレーションしない）。
+ *
+ * 通常のテストでは実行しない。以下で実行する:
+ * <pre>
+ * mvn -Pfast-start package -DskipTests
+ * mvn test -Dtest=StartupBenchmarkTest -Dbenchmark=true
+ * </pre>
+ * -Dbenchmark.runs=5 で起動の回数（中央値を表示）、
+ * -Dbenchmark.datasource-url=jdbc:postgresql://... で接続するDBを変更できる。
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("起動時間 ベンチマーク")
+class StartupBenchmarkTest {
+
+    private static final Path TARGET = Path.of("target");
+    private static final Path FAST_START = TARGET.resolve("fast-start");
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+
+    @Test
+    @DisplayName("通常/fast-start/AOT/AOT+CDS で最初のリクエストまでの時間を比較する")
+    void compareStartup() throws Exception {
+        Path executableJar = TARGET.resolve("operations-prepare-moc-1.0.0.jar");
+        Path fastStartJar = FAST_START.resolve("operations-prepare-moc-1.0.0-fast-start.jar");
+        assumeThat(Files.exists(executableJar) && Files.exists(fastStartJar))
+                .as("mvn -Pfast-start package でjarを作成しておく")
+                .isTrue();
+
+        String fastStart = fastStartJar.getFileName().toString();
+        if (!Files.exists(FAST_START.resolve("app.jsa"))) {
+            createCdsArchive(fastStart);
+        }
+        long standard = median("standard", TARGET,
+                List.of("-jar", executableJar.getFileName().toString()));
+        long lazy = median("fast-start", FAST_START,
+                List.of("-jar", fastStart, "--spring.profiles.active=fast-start"));
+        long aot = median("aot", FAST_START,
+                List.of("-Dspring.aot.enabled=true", "-jar", fastStart, "--spring.profiles.active=fast-start"));
+        long aotCds = median("aot+cds", FAST_START,
+                List.of("-XX:SharedArchiveFile=app.jsa", "-Xlog:cds=error", "-Dspring.aot.enabled=true",
+                        "-jar", fastStart, "--spring.profiles.active=fast-start"));
+
+        System.out.printf("%-12s %22s%n", "mode", "time-to-first-request");
+        print("standard", standard);
+        print("fast-start", lazy);
+        print("aot", aot);
+        print("aot+cds", aotCds);
+
+        assertThat(aotCds).isLessThan(standard);
+    }
+
+    /**
+     * デプロイ先での手順（application-fast-start.yml）と同じ試行起動で app.jsa を作成する
+     */
+    private void createCdsArchive(String fastStart) throws Exception {
+        File log = Files.createTempFile("startup-benchmark-cds", ".log").toFile();
+        Process process = new ProcessBuilder(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-XX:ArchiveClassesAtExit=app.jsa", "-Xlog:cds=error", "-Dspring.aot.enabled=true",
+                "-Dspring.context.exit=onRefresh", "-jar", fastStart, "--spring.profiles.active=fast-start",
+                "--spring.jpa.hibernate.ddl-auto=none",
+                "--spring.jpa.properties.hibernate.temp.use_jdbc_metadata_defaults=false")
+                .directory(FAST_START.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log)
+                .start();
+        assertThat(process.waitFor(STARTUP_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS))
+                .as("試行起動が終了しなかった（ログ: %s）", log).isTrue();
+        assertThat(FAST_START.resolve("app.jsa")).as("アーカイブを作成できなかった（ログ: %s）", log).exists();
+    }
+
+    /**
+     * 指定の回数起動し、最初のリクエストまでの時間（ミリ秒）の中央値を返す
+     */
+    private long median(String name, Path workingDirectory, List<String> arguments) throws Exception {
+        int runs = Integer.getInteger("benchmark.runs", 3);
+        List<Long> millis = new ArrayList<>();
+        for (int i = 0; i < runs; i++) {
+            millis.add(timeToFirstRequest(name, workingDirectory, arguments));
+        }
+        Collections.sort(millis);
+        return millis.get(runs / 2);
+    }
+
+    private long timeToFirstRequest(String name, Path workingDirectory, List<String> arguments) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(arguments);
+        command.add("--server.port=" + port);
+        command.add("--logging.level.root=WARN");
+        String datasourceUrl = System.getProperty("benchmark.datasource-url");
+        if (datasourceUrl != null) {
+            command.add("--spring.datasource.url=" + datasourceUrl);
+        }
+
+        File log = Files.createTempFile("startup-benchmark-" + name, ".log").toFile();
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/items"))
+                .timeout(Duration.ofSeconds(10))
+                .GET()
+                .build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(workingDirectory.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log)
+                .start();
+        try {
+            while (System.nanoTime() - start < STARTUP_TIMEOUT.toNanos()) {
+                assertThat(process.isAlive()).as("起動に失敗した（ログ: %s）", log).isTrue();
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return (System.nanoTime() - start) / 1_000_000;
+                    }
+                } catch (IOException e) {
+                    // 起動中（ポートをまだ開いていない）
+                }
+                Thread.sleep(50);
+            }
+            throw new AssertionError(name + " が " + STARTUP_TIMEOUT + " 以内に起動しなかった（ログ: " + log + "）");
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static int freePort() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static void print(String label, long millis) {
+        System.out.printf("%-12s %19d ms%n", label, millis);
+    }
+}
@@ -0,0 +1,158 @@
+package com.restaurant.operationsprepare.integration;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restaurant.operationsprepare.dto.InventoryStatusDictionary;
+import com.restaurant.operationsprepare.dto.InventoryStatusView;
+import com.restaurant.operationsprepare.entity.InventoryStatus;
+import com.restaurant.operationsprepare.entity.Item;
+import com.restaurant.operationsprepare.repository.InventoryStatusRepository;
+import com.restaurant.operationsprepare.repository.ItemRepository;
+import com.restaurant.operationsprepare.service.InventoryStatusService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * レスポンスの形式（JSON / CBOR / Smile、一覧 / 辞書形式）ごとのサイズと変換時間の比較
+ *
+ * 業務日付1日分の在庫ステータスを、アプリケーションが使う変換（spring.jackson.* の設定を含む）で
+ * 書き出し・読み込みし、サイズと1回あたりの時間を計測する。
+ *
+ * 通常のテストでは実行しない。以下で実行する:
+ * <pre>
+ * mvn test -Dtest=WireFormatBenchmarkTest -Dbenchmark=true
+ * </pre>
+ * -Dbenchmark.items=2000 -Dbenchmark.iterations=200 で条件を変更できる。
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("レスポンス形式 ベンチマーク")
+class WireFormatBenchmarkTest {
+
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2025, 10, 1);
+
+    private static final String[] CHECK_STATUSES = {"未確認", "確認済"};
+
+    private static final String[] REPLENISHMENT_STATUSES = {"要補充", "補充済", "補充不要"};
+
+    private static final String[] PREPARATION_STATUSES = {"要作成", "作成済", "作成不要"};
+
+    private static final String[] ORDER_REQUEST_STATUSES = {"要発注", "発注済", "発注不要"};
+
+    @Test
+    @DisplayName("形式ごとにサイズと書き出し・読み込み時間を比較する")
+    void compareWireFormats() throws Exception {
+        int itemCount = Integer.getInteger("benchmark.items", 2000);
+        int iterations = Integer.getInteger("benchmark.iterations", 200);
+
+        try (ConfigurableApplicationContext context = BenchmarkApplication.start("wire-format-benchmark")) {
+            createData(context, itemCount);
+
+            InventoryStatusService service = context.getBean(InventoryStatusService.class);
+            List<InventoryStatusView> list = service.getInventoryStatusViewsByDate(BUSINESS_DATE);
+            InventoryStatusDictionary dictionary = service.getInventoryStatusDictionaryByDate(BUSINESS_DATE);
+
+            List<HttpMessageConverter<?>> converters =
+                    context.getBean(RequestMappingHandlerAdapter.class).getMessageConverters();
+            ObjectMapper json = mapper(converters, MappingJackson2HttpMessageConverter.class);
+            ObjectMapper cbor = mapper(converters, MappingJackson2CborHttpMessageConverter.class);
+            ObjectMapper smile = mapper(converters, MappingJackson2SmileHttpMessageConverter.class);
+            JavaType listType = json.getTypeFactory().constructType(new TypeReference<List<InventoryStatusView>>() {
+            });
+            JavaType dictionaryType = json.getTypeFactory().constructType(InventoryStatusDictionary.class);
+
+            System.out.printf("%d rows, %d iterations%n", list.size(), iterations);
+            System.out.printf("%-18s %12s %12s %12s%n", "format", "bytes", "encode(us)", "decode(us)");
+            Result jsonList = run("json", json, list, listType, iterations);
+            Result cborList = run("cbor", cbor, list, listType, iterations);
+            Result smileList = run("smile", smile, list, listType, iterations);
+            Result jsonDictionary = run("json+dictionary", json, dictionary, dictionaryType, iterations);
+            Result cborDictionary = run("cbor+dictionary", cbor, dictionary, dictionaryType, iterations);
+            Result smileDictionary = run("smile+dictionary", smile, dictionary, dictionaryType, iterations);
+
+            assertThat(cborList.bytes).isLessThan(jsonList.bytes);
+            assertThat(smileList.bytes).isLessThan(jsonList.bytes);
+            assertThat(jsonDictionary.bytes).isLessThan(jsonList.bytes);
+            assertThat(cborDictionary.bytes).isLessThan(cborList.bytes);
+            assertThat(smileDictionary.bytes).isLessThan(smileList.bytes);
+        }
+    }
+
+    private static Result run(String label, ObjectMapper mapper, Object value, JavaType type, int iterations)
+            throws Exception {
+        byte[] encoded = mapper.writeValueAsBytes(value);
+        assertThat(mapper.writeValueAsBytes(mapper.readValue(encoded, type))).isEqualTo(encoded);
+
+        // ウォームアップ
+        for (int i = 0; i < iterations; i++) {
+            mapper.writeValueAsBytes(value);
+            mapper.readValue(encoded, type);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            mapper.writeValueAsBytes(value);
+        }
+        double encodeMicros = (System.nanoTime() - start) / 1e3 / iterations;
+
+        start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            mapper.readValue(encoded, type);
+        }
+        double decodeMicros = (System.nanoTime() - start) / 1e3 / iterations;
+
+        System.out.printf("%-18s %12d %12.0f %12.0f%n", label, encoded.length, encodeMicros, decodeMicros);
+        return new Result(encoded.length, encodeMicros, decodeMicros);
+    }
+
+    private static ObjectMapper mapper(List<HttpMessageConverter<?>> converters, Class<?> converterType) {
+        return converters.stream()
+                .filter(converter -> converter.getClass() == converterType)
+                .map(converter -> ((AbstractJackson2HttpMessageConverter) converter).getObjectMapper())
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static void createData(ConfigurableApplicationContext context, int itemCount) {
+        ItemRepository itemRepository = context.getBean(ItemRepository.class);
+        InventoryStatusRepository inventoryStatusRepository = context.getBean(InventoryStatusRepository.class);
+
+        List<InventoryStatus> statuses = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            Item item = new Item();
+            item.setName(String.format("品物%04d", i));
+            item.setDescription("ベンチマーク用の品物です");
+            item.setUnit("個");
+            item = itemRepository.save(item);
+
+            InventoryStatus status = new InventoryStatus();
+            status.setBusinessDate(BUSINESS_DATE);
+            status.setItem(item);
+            status.setInventoryCheckStatus(CHECK_STATUSES[i % CHECK_STATUSES.length]);
+            status.setReplenishmentStatus(REPLENISHMENT_STATUSES[i % REPLENISHMENT_STATUSES.length]);
+            status.setPreparationStatus(PREPARATION_STATUSES[i % PREPARATION_STATUSES.length]);
+            status.setOrderRequestStatus(ORDER_REQUEST_STATUSES[i % ORDER_REQUEST_STATUSES.length]);
+            status.setInventoryCount(i % 50);
+            status.setReplenishmentCount(i % 7);
+            statuses.add(status);
+        }
+        inventoryStatusRepository.saveAll(statuses);
+    }
+
+    private record Result(int bytes, double encodeMicros, double decodeMicros) {
+    }
+}
@@ -0,0 +1,145 @@
+package com.restaurant.operationsprepare.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.restaurant.operationsprepare.entity.InventoryStatus;
+import com.restaurant.operationsprepare.entity.Item;
+import com.restaurant.operationsprepare.repository.InventoryStatusRepository;
+import com.restaurant.operationsprepare.repository.ItemRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Accept に応じてJSON・CBOR・Smileで返し、辞書形式で品物とステータスを1回だけ返すことを確認する
+ */
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class WireFormatTest {
+
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2025, 10, 1);
+
+    private static final MediaType APPLICATION_SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private InventoryStatusRepository inventoryStatusRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    private MockMvc mockMvc;
+
+    private Item rice;
+
+    private Item soup;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+
+        rice = itemRepository.save(item("形式テストご飯"));
+        soup = itemRepository.save(item("形式テスト味噌汁"));
+        inventoryStatusRepository.save(inventoryStatus(rice, "確認済", 2));
+        inventoryStatusRepository.save(inventoryStatus(soup, "未確認", 0));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void defaultAcceptReturnsJson() throws Exception {
+        mockMvc.perform(get("/api/inventory-status").param("businessDate", "2025-10-01")
+                        .accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    @Test
+    void cborAndSmileHaveSameContentAsJson() throws Exception {
+        JsonNode json = new ObjectMapper().readTree(fetch(MediaType.APPLICATION_JSON));
+        JsonNode cbor = new ObjectMapper(new CBORFactory()).readTree(fetch(MediaType.APPLICATION_CBOR));
+        JsonNode smile = new ObjectMapper(new SmileFactory()).readTree(fetch(APPLICATION_SMILE));
+
+        assertThat(cbor).isEqualTo(json);
+        assertThat(smile).isEqualTo(json);
+        // JSONと同じ設定（日付は文字列、項目名はcamelCase）で変換する
+        assertThat(cbor.get(0).get("businessDate").asText()).isEqualTo("2025-10-01");
+        assertThat(cbor.get(0).get("item").get("name").asText()).isEqualTo("形式テストご飯");
+    }
+
+    @Test
+    void dictionaryEncodingReferencesItemsAndCodesByIndex() throws Exception {
+        mockMvc.perform(get("/api/inventory-status")
+                        .param("businessDate", "2025-10-01")
+                        .param("encoding", "dictionary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.businessDate").value("2025-10-01"))
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].name").value("形式テストご飯"))
+                .andExpect(jsonPath("$.items[1].name").value("形式テスト味噌汁"))
+                .andExpect(jsonPath("$.codes.length()").value(5))
+                .andExpect(jsonPath("$.codes[0]").value("確認済"))
+                .andExpect(jsonPath("$.codes[4]").value("未確認"))
+                .andExpect(jsonPath("$.rows.length()").value(2))
+                .andExpect(jsonPath("$.rows[0].item").value(0))
+                .andExpect(jsonPath("$.rows[0].inventoryCheckStatus").value(0))
+                .andExpect(jsonPath("$.rows[0].replenishmentStatus").value(1))
+                .andExpect(jsonPath("$.rows[0].inventoryCount").value(2))
+                .andExpect(jsonPath("$.rows[1].item").value(1))
+                .andExpect(jsonPath("$.rows[1].inventoryCheckStatus").value(4))
+                .andExpect(jsonPath("$.rows[1].replenishmentStatus").value(1));
+    }
+
+    private byte[] fetch(MediaType mediaType) throws Exception {
+        return mockMvc.perform(get("/api/inventory-status").param("businessDate", "2025-10-01")
+                        .accept(mediaType))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(mediaType))
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+
+    private Item item(String name) {
+        Item item = new Item();
+        item.setName(name);
+        item.setUnit("個");
+        return item;
+    }
+
+    private InventoryStatus inventoryStatus(Item item, String inventoryCheckStatus, int inventoryCount) {
+        InventoryStatus status = new InventoryStatus();
+        status.setBusinessDate(BUSINESS_DATE);
+        status.setItem(item);
+        status.setInventoryCheckStatus(inventoryCheckStatus);
+        status.setReplenishmentStatus("補充不要");
+        status.setPreparationStatus("作成不要");
+        status.setOrderRequestStatus("発注不要");
+        status.setInventoryCount(inventoryCount);
+        status.setReplenishmentCount(0);
+        return status;
+    }
+}
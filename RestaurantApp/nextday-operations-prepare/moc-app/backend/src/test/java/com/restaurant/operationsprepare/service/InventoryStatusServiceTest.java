@@ -1,7 +1,10 @@
 package com.restaurant.operationsprepare.service;
 
+import com.restaurant.operationsprepare.dto.InventoryStatusPatchRequest;
 import com.restaurant.operationsprepare.entity.InventoryStatus;
 import com.restaurant.operationsprepare.entity.Item;
+import com.restaurant.operationsprepare.exception.MergeConflictException;
+import com.restaurant.operationsprepare.exception.OptimisticLockException;
 import com.restaurant.operationsprepare.repository.InventoryStatusRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -110,6 +113,7 @@ class InventoryStatusServiceTest {
     @Test
     void testSaveInventoryStatus() {
         // Given
+        testStatus.setId(null);
         when(inventoryStatusRepository.save(any(InventoryStatus.class)))
                 .thenReturn(testStatus);
 
@@ -122,6 +126,106 @@ class InventoryStatusServiceTest {
         verify(inventoryStatusRepository).save(testStatus);
     }
 
+    @Test
+    void testUpdateInventoryStatus() {
+        // Given
+        testStatus.setVersion(3);
+        InventoryStatus request = copyOf(testStatus);
+        request.setReplenishmentStatus("補充済");
+        when(inventoryStatusRepository.findById(testStatus.getId())).thenReturn(Optional.of(testStatus));
+        when(inventoryStatusRepository.saveAndFlush(testStatus)).thenReturn(testStatus);
+
+        // When
+        InventoryStatus result = inventoryStatusService.saveInventoryStatus(request);
+
+        // Then
+        assertEquals("補充済", result.getReplenishmentStatus());
+        verify(inventoryStatusRepository).saveAndFlush(testStatus);
+    }
+
+    @Test
+    void testUpdateInventoryStatusVersionMismatch() {
+        // Given
+        testStatus.setVersion(4);
+        InventoryStatus request = copyOf(testStatus);
+        request.setVersion(3);
+        request.setReplenishmentStatus("補充済");
+        when(inventoryStatusRepository.findById(testStatus.getId())).thenReturn(Optional.of(testStatus));
+
+        // When & Then
+        assertThrows(OptimisticLockException.class, () -> inventoryStatusService.saveInventoryStatus(request));
+        assertEquals("要補充", testStatus.getReplenishmentStatus());
+        verify(inventoryStatusRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void testMergeInventoryStatusWithoutConflict() {
+        // Given: 他の端末が補充ステータスを更新済み（バージョン3→4）
+        testStatus.setVersion(4);
+        testStatus.setReplenishmentStatus("補充済");
+        when(inventoryStatusRepository.findById(testStatus.getId())).thenReturn(Optional.of(testStatus));
+        when(inventoryStatusRepository.saveAndFlush(testStatus)).thenReturn(testStatus);
+
+        InventoryStatusPatchRequest request = new InventoryStatusPatchRequest();
+        request.setVersion(3);
+        request.setChanges(new InventoryStatusPatchRequest.Fields());
+        request.getChanges().setInventoryCount(8);
+        request.setOriginal(new InventoryStatusPatchRequest.Fields());
+        request.getOriginal().setInventoryCount(5);
+
+        // When
+        InventoryStatus result = inventoryStatusService.mergeInventoryStatus(testStatus.getId(), request);
+
+        // Then: 別の項目の変更はどちらも残る
+        assertEquals(8, result.getInventoryCount());
+        assertEquals("補充済", result.getReplenishmentStatus());
+    }
+
+    @Test
+    void testMergeInventoryStatusWithConflict() {
+        // Given: 他の端末が在庫数と補充ステータスを更新済み
+        testStatus.setVersion(4);
+        testStatus.setInventoryCount(7);
+        testStatus.setReplenishmentStatus("補充済");
+        when(inventoryStatusRepository.findById(testStatus.getId())).thenReturn(Optional.of(testStatus));
+
+        InventoryStatusPatchRequest request = new InventoryStatusPatchRequest();
+        request.setVersion(3);
+        request.setChanges(new InventoryStatusPatchRequest.Fields());
+        request.getChanges().setInventoryCount(8);
+        request.getChanges().setReplenishmentStatus("補充済");
+        request.getChanges().setReplenishmentNote("追加分あり");
+        request.setOriginal(new InventoryStatusPatchRequest.Fields());
+        request.getOriginal().setInventoryCount(5);
+        request.getOriginal().setReplenishmentStatus("要補充");
+
+        // When
+        MergeConflictException e = assertThrows(MergeConflictException.class,
+                () -> inventoryStatusService.mergeInventoryStatus(testStatus.getId(), request));
+
+        // Then: 同じ値への変更は競合しない。競合があれば何も反映しない
+        assertEquals(List.of("inventoryCount"), e.getConflicts());
+        assertEquals(7, testStatus.getInventoryCount());
+        assertNull(testStatus.getReplenishmentNote());
+        verify(inventoryStatusRepository, never()).saveAndFlush(any());
+    }
+
+    private static InventoryStatus copyOf(InventoryStatus source) {
+        InventoryStatus copy = new InventoryStatus();
+        copy.setId(source.getId());
+        copy.setBusinessDate(source.getBusinessDate());
+        copy.setItem(source.getItem());
+        copy.setInventoryCheckStatus(source.getInventoryCheckStatus());
+        copy.setReplenishmentStatus(source.getReplenishmentStatus());
+        copy.setPreparationStatus(source.getPreparationStatus());
+        copy.setOrderRequestStatus(source.getOrderRequestStatus());
+        copy.setInventoryCount(source.getInventoryCount());
+        copy.setReplenishmentCount(source.getReplenishmentCount());
+        copy.setReplenishmentNote(source.getReplenishmentNote());
+        copy.setVersion(source.getVersion());
+        return copy;
+    }
+
     @Test
     void testDeleteInventoryStatus() {
         // Given
@@ -1,4 +1,6 @@
 -- 営業準備業務データベーススキーマ
+-- 最新のスキーマ全体（参照・ER図生成用）。変更履歴は backend/src/main/resources/db/migration で管理し、
+-- アプリケーション起動時に Flyway が適用する。スキーマを変更する場合はマイグレーションを追加し、このファイルにも反映する。
 
 -- 場所マスタ
 CREATE TABLE place (
@@ -53,6 +55,7 @@ CREATE TABLE inventory_status (
     inventory_count INTEGER DEFAULT 0, -- 在庫数
     replenishment_count INTEGER DEFAULT 0, -- 補充数
     replenishment_note TEXT, -- 補充メモ
+    version INTEGER DEFAULT 0 NOT NULL, -- 楽観ロック用バージョン列
     created_at TIMESTAMP WITH TIME ZONE DEFAULT NOW(),
     updated_at TIMESTAMP WITH TIME ZONE DEFAULT NOW(),
     UNIQUE(business_date, item_id)
@@ -77,16 +80,37 @@ CREATE TABLE reservation_status (
     updated_at TIMESTAMP WITH TIME ZONE DEFAULT NOW()
 );
 
+-- 商品品物対応マスタ（予約の商品1つに使う品物と数量）
+CREATE TABLE product_item (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    product_name TEXT NOT NULL, -- 商品名（reservation.product_name）
+    item_id UUID NOT NULL REFERENCES item(id),
+    quantity INTEGER NOT NULL DEFAULT 1, -- 商品1つあたりの品物の数量
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT NOW(),
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT NOW(),
+    UNIQUE(product_name, item_id)
+);
+
 -- インデックス
-CREATE INDEX idx_place_type ON place(type);
-CREATE INDEX idx_place_display_order ON place(display_order);
+-- 種別で絞り込み表示順に並べる
+CREATE INDEX idx_place_type_display_order ON place(type, display_order);
+-- 品物名順の一覧
+CREATE INDEX idx_item_name ON item(name);
 CREATE INDEX idx_item_replenishment_item_id ON item_replenishment(item_id);
-CREATE INDEX idx_item_replenishment_source_location ON item_replenishment(source_location_id);
-CREATE INDEX idx_item_replenishment_destination_location ON item_replenishment(destination_location_id);
-CREATE INDEX idx_inventory_status_business_date ON inventory_status(business_date);
+-- 補充元/補充先で絞り込み item_id のみ参照するため、item_id を含めてインデックスのみで結合する
+CREATE INDEX idx_item_replenishment_source_item ON item_replenishment(source_location_id, item_id);
+CREATE INDEX idx_item_replenishment_destination_item ON item_replenishment(destination_location_id, item_id);
+-- 業務日付での検索は UNIQUE(business_date, item_id) のインデックスを使う
 CREATE INDEX idx_inventory_status_item_id ON inventory_status(item_id);
+-- 未完了の作業がある在庫ステータスのみ（findPending*ByBusinessDate の OR 条件）
+CREATE INDEX idx_inventory_status_pending ON inventory_status(business_date, item_id)
+    WHERE inventory_check_status = '未確認'
+       OR replenishment_status = '要補充'
+       OR preparation_status = '要作成'
+       OR order_request_status = '要発注依頼';
 CREATE INDEX idx_reservation_business_date ON reservation(business_date);
 CREATE INDEX idx_reservation_status_business_date ON reservation_status(business_date);
+CREATE INDEX idx_product_item_item_id ON product_item(item_id);
 
 -- 更新日時の自動更新トリガー関数
 CREATE OR REPLACE FUNCTION update_updated_at_column()
@@ -105,3 +129,4 @@ CREATE TRIGGER update_item_preparation_updated_at BEFORE UPDATE ON item_preparat
 CREATE TRIGGER update_inventory_status_updated_at BEFORE UPDATE ON inventory_status FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
 CREATE TRIGGER update_reservation_updated_at BEFORE UPDATE ON reservation FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
 CREATE TRIGGER update_reservation_status_updated_at BEFORE UPDATE ON reservation_status FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+CREATE TRIGGER update_product_item_updated_at BEFORE UPDATE ON product_item FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
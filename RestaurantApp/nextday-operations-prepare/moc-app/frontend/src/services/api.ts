@@ -1,5 +1,5 @@
 import axios from 'axios'
-import type { Place, InventoryStatus, Reservation, ReservationStatus } from '@/types'
+import type { Place, InventoryStatus, InventoryStatusUpdateResult, Reservation, ReservationStatus } from '@/types'
 
 const api = axios.create({
   baseURL: '/api',
@@ -59,7 +59,7 @@ export const inventoryStatusApi = {
   create: (inventoryStatus: Partial<InventoryStatus>): Promise<InventoryStatus> =>
     api.post('/inventory-status', inventoryStatus).then(res => res.data),
   
-  update: (id: string, inventoryStatus: Partial<InventoryStatus>): Promise<InventoryStatus> =>
+  update: (id: string, inventoryStatus: Partial<InventoryStatus>): Promise<InventoryStatusUpdateResult> =>
     api.put(`/inventory-status/${id}`, inventoryStatus).then(res => res.data),
   
   saveBatch: (inventoryStatuses: Partial<InventoryStatus>[]): Promise<InventoryStatus[]> =>
@@ -19,8 +19,11 @@ export interface Item {
 export interface ItemReplenishment {
   id: string
   itemId: string
+  itemName?: string
   sourceLocationId: string
+  sourceLocationName?: string
   destinationLocationId: string
+  destinationLocationName?: string
   replenishmentType: string // 補充パターン区分
   orderRequestDestination?: string // 作成・発注依頼先
   createdAt: string
@@ -46,10 +49,25 @@ export interface InventoryStatus {
   inventoryCount?: number // 在庫数
   replenishmentCount?: number // 補充数
   replenishmentNote?: string // 補充メモ
+  version?: number // 楽観ロック用バージョン列
   createdAt: string
   updatedAt: string
 }
 
+// 在庫数の変更で補充数の算出結果が変わった品物（在庫ステータス更新のレスポンスに含まれる）
+export interface ReplenishmentDelta {
+  itemId: string
+  requiredCount: number // 必要数
+  inventoryCount: number // 在庫数
+  replenishmentCount: number // 補充数
+  preparationStatus: string // 作成ステータス
+  replenishmentIds: string[] // 品物の補充パターンのID
+}
+
+export interface InventoryStatusUpdateResult extends InventoryStatus {
+  replenishmentDeltas?: ReplenishmentDelta[]
+}
+
 export interface Reservation {
   id: string
   businessDate: string
@@ -0,0 +1,27 @@
+package com.restaurant.operationsprepare.config;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+/**
+ * マスタ一覧のHTTPキャッシュ
+ *
+ * 品物一覧（GET /api/items）はレスポンス本文のハッシュを ETag として返し、
+ * If-None-Match が一致する場合は本文なしの 304 Not Modified を返す。
+ * 品物は在庫ステータス一覧（view=slim）から itemId で参照する辞書として1回だけ取得し、
+ * 以降は変更の有無だけを確認する。
+ */
+@Configuration
+public class HttpCacheConfig {
+
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> itemEtagFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration =
+                new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        registration.addUrlPatterns("/api/items");
+        registration.setName("itemEtagFilter");
+        return registration;
+    }
+}
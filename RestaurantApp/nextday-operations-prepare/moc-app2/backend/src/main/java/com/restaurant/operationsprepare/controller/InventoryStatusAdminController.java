@@ -0,0 +1,111 @@
+package com.restaurant.operationsprepare.controller;
+
+import com.restaurant.operationsprepare.dto.InventoryStatusImportResult;
+import com.restaurant.operationsprepare.repository.InventoryStatusCopyRepository.Format;
+import com.restaurant.operationsprepare.service.InventoryStatusCopyService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/admin/inventory-status")
+@Tag(name = "在庫ステータス（管理）", description = "在庫ステータスの一括取り込み・出力API（データ移行、夜間の出力用）")
+public class InventoryStatusAdminController {
+
+    private static final String TEXT_CSV = "text/csv";
+
+    @Autowired
+    private InventoryStatusCopyService copyService;
+
+    @Operation(
+            summary = "在庫ステータスを一括取り込み",
+            description = """
+            リクエスト本文の在庫ステータスを PostgreSQL の COPY で inventory_status に取り込みます。
+            
+            ## 処理フロー
+            1. リクエスト本文を先頭から読みながら COPY FROM STDIN に渡す（本文全体をメモリに読み込まない）
+            2. 取り込んだ行数・バイト数・所要時間を返却
+            
+            ## 形式
+            - `format=CSV`（既定）: 見出し行付きのCSV。列は出力APIと同じ
+              （id, business_date, item_id, inventory_check_status, replenishment_status, preparation_status,
+              order_request_status, inventory_count, replenishment_count, replenishment_note, version, created_at, updated_at）
+            - `format=BINARY`: COPY のバイナリ形式（出力APIで BINARY を指定したもの）
+            
+            ## 注意事項
+            - 1文で取り込むため、不正な行が1行でもあればすべて取り込まない
+            - 既存の行と業務日付・品物が重複する場合は一意制約違反になる
+            - パーティションのない月の行は inventory_status_default に入る
+            - 進捗は `/actuator/metrics/inventory_status.copy.bytes?tag=direction:import` で確認できる
+            
+            ## レスポンス
+            - 成功時: 200 OK - 取り込み結果
+            - データが不正な場合: 400 Bad Request（メッセージに COPY の行番号を含む）
+            - エラー時: 500 Internal Server Error
+            """
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "取り込み成功"),
+        @ApiResponse(responseCode = "400", description = "データが不正"),
+        @ApiResponse(responseCode = "500", description = "サーバーエラー")
+    })
+    @PostMapping(value = "/import", consumes = {TEXT_CSV, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<InventoryStatusImportResult> importStatuses(
+            @Parameter(description = "形式（CSV / BINARY）", example = "CSV")
+            @RequestParam(defaultValue = "CSV") Format format,
+            HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(copyService.importStatuses(request.getInputStream(), format));
+    }
+
+    @Operation(
+            summary = "在庫ステータスを一括出力",
+            description = """
+            業務日付の範囲の在庫ステータスを PostgreSQL の COPY で出力します。
+            
+            ## 処理フロー
+            1. COPY TO STDOUT の出力をそのままレスポンスに書き込む（結果全体をメモリに保持しない）
+            2. 業務日付・品物の順に出力
+            
+            ## クエリパラメータ
+            - `from`: 開始日（YYYY-MM-DD形式、オプション）
+            - `to`: 終了日（YYYY-MM-DD形式、オプション）
+            - `format`: CSV（既定、見出し行付き）または BINARY
+            
+            ## 注意事項
+            - 出力したファイルは取り込みAPIにそのまま渡せる
+            - 進捗は `/actuator/metrics/inventory_status.copy.bytes?tag=direction:export` で確認できる
+            """
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "出力成功"),
+        @ApiResponse(responseCode = "500", description = "サーバーエラー")
+    })
+    @GetMapping("/export")
+    public void exportStatuses(
+            @Parameter(description = "開始日（YYYY-MM-DD形式、オプション）", example = "2025-09-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "終了日（YYYY-MM-DD形式、オプション）", example = "2025-09-30")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "形式（CSV / BINARY）", example = "CSV")
+            @RequestParam(defaultValue = "CSV") Format format,
+            HttpServletResponse response) throws IOException {
+        boolean csv = format == Format.CSV;
+        response.setContentType(csv ? TEXT_CSV + ";charset=UTF-8" : MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"inventory_status" + (csv ? ".csv" : ".bin") + "\"");
+        copyService.exportStatuses(from, to, format, response.getOutputStream());
+    }
+}
@@ -1,6 +1,8 @@
 package com.restaurant.operationsprepare.controller;
 
 import com.restaurant.operationsprepare.entity.InventoryStatus;
+import com.restaurant.operationsprepare.entity.InventoryStatusDailySummary;
+import com.restaurant.operationsprepare.service.InventoryStatusRetentionService;
 import com.restaurant.operationsprepare.service.InventoryStatusService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -27,6 +29,9 @@ public class InventoryStatusController {
     @Autowired
     private InventoryStatusService inventoryStatusService;
 
+    @Autowired
+    private InventoryStatusRetentionService inventoryStatusRetentionService;
+
     @Operation(
             summary = "業務日付で在庫ステータスを取得",
             description = """
@@ -38,23 +43,97 @@ public class InventoryStatusController {
             3. 品物情報（Item）をJOINして取得
             4. 在庫ステータスリストを返却
             
+            ## クエリパラメータ
+            - `fields`: 返却する項目（カンマ区切り、オプション。例: `id,itemId,replenishmentStatus,version`）
+              指定しなかった項目の列はSQLで取得せず、レスポンスにも含めない（id は常に返す）。
+              品物情報は `item` を指定した場合だけ取得する
+            
             ## レスポンス
             - 成功時: 200 OK - 在庫ステータスリスト（空の場合は空配列）
+            - `fields` に指定できない項目がある場合: 400 Bad Request
             - エラー時: 500 Internal Server Error
             """
     )
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "取得成功"),
+        @ApiResponse(responseCode = "400", description = "指定できない項目"),
         @ApiResponse(responseCode = "500", description = "サーバーエラー")
     })
     @GetMapping
     public ResponseEntity<List<InventoryStatus>> getInventoryStatusByDate(
+            @Parameter(description = "業務日付（YYYY-MM-DD形式）", required = true, example = "2025-09-27")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate businessDate,
+            @Parameter(description = "返却する項目（カンマ区切り、オプション）", example = "id,itemId,replenishmentStatus,version")
+            @RequestParam(required = false) String fields) {
+        List<InventoryStatus> statuses = fields != null
+                ? inventoryStatusService.getInventoryStatusByDate(businessDate, fields)
+                : inventoryStatusService.getInventoryStatusByDate(businessDate);
+        return ResponseEntity.ok(statuses);
+    }
+
+    @Operation(
+            summary = "業務日付で在庫ステータスを取得（品物情報なし）",
+            description = """
+            `view=slim` を指定した場合、品物情報（item）を含めずに在庫ステータスを返します。
+            
+            ## 処理フロー
+            1. 在庫ステータスの列だけを取得（品物の列は取得しない）
+            2. 品物名の昇順で返却（通常の一覧と同じ並び順）
+            
+            ## 品物情報
+            - 各在庫ステータスの itemId で参照する
+            - 品物は GET /api/items で1回だけ取得する（ETag で変更がなければ 304 Not Modified）
+            
+            ## レスポンス
+            - 成功時: 200 OK - 在庫ステータスリスト（空の場合は空配列）
+            - エラー時: 500 Internal Server Error
+            """
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "取得成功"),
+        @ApiResponse(responseCode = "500", description = "サーバーエラー")
+    })
+    @GetMapping(params = "view=slim")
+    public ResponseEntity<List<InventoryStatus>> getInventoryStatusSlimByDate(
             @Parameter(description = "業務日付（YYYY-MM-DD形式）", required = true, example = "2025-09-27")
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate businessDate) {
-        List<InventoryStatus> statuses = inventoryStatusService.getInventoryStatusByDate(businessDate);
+        List<InventoryStatus> statuses = inventoryStatusService.getInventoryStatusSlimByDate(businessDate);
         return ResponseEntity.ok(statuses);
     }
 
+    @Operation(
+            summary = "在庫ステータスの日次集計を取得",
+            description = """
+            保持期間を過ぎてアーカイブされた業務日付の日次集計を取得します。
+            
+            ## 処理フロー
+            1. リクエストパラメータから期間（開始日・終了日）を取得
+            2. Service層で期間内の日次集計を検索（業務日付順）
+            3. 日次集計リストを返却
+            
+            ## 集計の作成
+            - 保持日数（app.inventory-retention.retention-days）より前の在庫ステータスは、
+              毎日定時に inventory_status_archive へ移動され、業務日付ごとに集計される
+            - 保持期間内の業務日付は集計されていないため、このAPIでは返却されない
+            
+            ## レスポンス
+            - 成功時: 200 OK - 日次集計リスト（空の場合は空配列）
+            - エラー時: 500 Internal Server Error
+            """
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "取得成功"),
+        @ApiResponse(responseCode = "500", description = "サーバーエラー")
+    })
+    @GetMapping("/daily-summary")
+    public ResponseEntity<List<InventoryStatusDailySummary>> getDailySummaries(
+            @Parameter(description = "開始日（YYYY-MM-DD形式、省略時は制限なし）", example = "2025-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "終了日（YYYY-MM-DD形式、省略時は制限なし）", example = "2025-03-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(inventoryStatusRetentionService.getDailySummaries(from, to));
+    }
+
     @Operation(
             summary = "IDで在庫ステータスを取得",
             description = """
@@ -174,7 +253,8 @@ public class InventoryStatusController {
             3. リクエストボディのIDをパスパラメータのIDで上書き（整合性確保）
             4. Service層で楽観ロックチェック付き更新を実行
                - SQL: `UPDATE inventory_status SET ... WHERE id = ? AND version = ?`
-               - 更新件数が0の場合、楽観ロックエラー（409 Conflict）
+               - 更新件数が0の場合、IDだけで読み直して原因を判定する
+                 （存在しない: 404、業務日付が保存済みの値と異なる: 400、それ以外: 409 Conflict）
             5. 更新成功時、最新の在庫ステータス（品物情報含む）を再取得して返却
             
             ## 楽観ロックの仕組み
@@ -191,6 +271,7 @@ public class InventoryStatusController {
             ## レスポンス
             - 成功時: 200 OK - 更新された在庫ステータス（品物情報含む、versionは+1された値）
             - 楽観ロックエラー時: 409 Conflict - エラーメッセージ（"Version mismatch. The data has been updated by another user."）
+            - 業務日付が保存済みの値と異なる場合: 400 Bad Request（業務日付は変更できない）
             - 存在しない場合: 404 Not Found
             - エラー時: 500 Internal Server Error
             
@@ -202,6 +283,7 @@ public class InventoryStatusController {
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "更新成功", content = @Content(schema = @Schema(implementation = InventoryStatus.class))),
         @ApiResponse(responseCode = "409", description = "楽観ロックエラー（他のユーザーが更新済み）", content = @Content(schema = @Schema(example = "{\"message\": \"Conflict: Version mismatch. The data has been updated by another user.\"}"))),
+        @ApiResponse(responseCode = "400", description = "業務日付が保存済みの値と異なる"),
         @ApiResponse(responseCode = "404", description = "在庫ステータスが見つかりません"),
         @ApiResponse(responseCode = "500", description = "サーバーエラー")
     })
@@ -8,6 +8,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -41,18 +42,23 @@ public class ItemController {
             - `placeId`: 場所ID（UUID形式、オプション）
             - `destinationId`: 補充先ID（UUID形式、オプション）
             - `sourceId`: 補充元ID（UUID形式、オプション）
+            - `fields`: 返却する項目（カンマ区切り、オプション。全品物の取得のみ。例: `id,name,unit`）
             
             ## 注意事項
             - 複数のパラメータを同時に指定した場合、優先順位は `placeId` > `destinationId` > `sourceId`
             - パラメータなしの場合は全品物を取得
+            - 全品物の取得では ETag を返す。If-None-Match が一致する場合は 304 Not Modified（本文なし）
+            - `fields` を指定した場合、指定しなかった項目の列はSQLで取得せず、レスポンスにも含めない（id は常に返す）
             
             ## レスポンス
             - 成功時: 200 OK - 品物リスト（空の場合は空配列）
+            - `fields` に指定できない項目がある場合: 400 Bad Request
             - エラー時: 500 Internal Server Error
             """
     )
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "取得成功"),
+        @ApiResponse(responseCode = "400", description = "指定できない項目"),
         @ApiResponse(responseCode = "500", description = "サーバーエラー")
     })
     @GetMapping
@@ -62,7 +68,9 @@ public class ItemController {
             @Parameter(description = "補充先ID（UUID形式、オプション）", example = "10000000-0000-0000-0000-000000000001")
             @RequestParam(required = false) String destinationId,
             @Parameter(description = "補充元ID（UUID形式、オプション）", example = "10000000-0000-0000-0000-000000000001")
-            @RequestParam(required = false) String sourceId) {
+            @RequestParam(required = false) String sourceId,
+            @Parameter(description = "返却する項目（カンマ区切り、オプション）", example = "id,name,unit")
+            @RequestParam(required = false) String fields) {
         if (placeId != null) {
             return ResponseEntity.ok(itemService.getItemsByPlaceId(UUID.fromString(placeId)));
         } else if (destinationId != null) {
@@ -70,7 +78,10 @@ public class ItemController {
         } else if (sourceId != null) {
             return ResponseEntity.ok(itemService.getItemsBySourceId(UUID.fromString(sourceId)));
         } else {
-            return ResponseEntity.ok(itemService.getAllItems());
+            // ETag（HttpCacheConfig）で毎回変更を確認させる
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache())
+                    .body(fields != null ? itemService.getAllItems(fields) : itemService.getAllItems());
         }
     }
 
@@ -0,0 +1,60 @@
+package com.restaurant.operationsprepare.controller;
+
+import com.restaurant.operationsprepare.dto.PickListSourceDto;
+import com.restaurant.operationsprepare.service.PickListService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/pick-lists")
+@CrossOrigin(origins = "http://localhost:3000")
+@Tag(name = "ピッキングリスト", description = "補充業務のピッキングリストAPI")
+public class PickListController {
+
+    @Autowired
+    private PickListService pickListService;
+
+    @Operation(
+            summary = "業務日付でピッキングリストを取得",
+            description = """
+            指定した業務日付で補充が必要な品物を、補充元・補充先ごとにまとめて取得します。
+            
+            ## 処理フロー
+            1. リクエストパラメータから業務日付を取得
+            2. 補充ステータスが要補充の在庫ステータスを、補充パターン・補充元・補充先・品物と結合して1回で取得
+            3. 補充元 → 補充先 → 品物の入れ子にして返却
+            
+            ## 並び順
+            - 補充元・補充先: 表示順序（未設定は最後）、場所名の順
+            - 品物: 品物名の順
+            
+            ## 注意事項
+            - 結果は業務日付ごとにサーバーで保持し、その業務日付の在庫ステータスが登録・更新・削除されると作り直す
+            - 補充先が複数ある品物は、補充先ごとに含まれる
+            
+            ## レスポンス
+            - 成功時: 200 OK - 補充元リスト（空の場合は空配列）
+            - エラー時: 500 Internal Server Error
+            """
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "取得成功"),
+        @ApiResponse(responseCode = "500", description = "サーバーエラー")
+    })
+    @GetMapping
+    public ResponseEntity<List<PickListSourceDto>> getPickList(
+            @Parameter(description = "業務日付（YYYY-MM-DD形式）", required = true, example = "2025-09-27")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate businessDate) {
+        return ResponseEntity.ok(pickListService.getPickList(businessDate));
+    }
+}
@@ -31,19 +31,27 @@ public class PlaceController {
             1. Service層で全場所マスタを検索
             2. 場所リストを返却
             
+            ## クエリパラメータ
+            - `fields`: 返却する項目（カンマ区切り、オプション。例: `id,name`）
+              指定しなかった項目の列はSQLで取得せず、レスポンスにも含めない（id は常に返す）
+            
             ## レスポンス
             - 成功時: 200 OK - 場所リスト（空の場合は空配列）
+            - `fields` に指定できない項目がある場合: 400 Bad Request
             - エラー時: 500 Internal Server Error
             """
     )
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "取得成功"),
+        @ApiResponse(responseCode = "400", description = "指定できない項目"),
         @ApiResponse(responseCode = "500", description = "サーバーエラー")
     })
     @GetMapping
-    public ResponseEntity<List<Place>> getAllPlaces() {
+    public ResponseEntity<List<Place>> getAllPlaces(
+            @Parameter(description = "返却する項目（カンマ区切り、オプション）", example = "id,name")
+            @RequestParam(required = false) String fields) {
         try {
-            List<Place> places = placeService.getAllPlaces();
+            List<Place> places = fields != null ? placeService.getAllPlaces(fields) : placeService.getAllPlaces();
             return ResponseEntity.ok(places);
         } catch (Exception e) {
             e.printStackTrace();
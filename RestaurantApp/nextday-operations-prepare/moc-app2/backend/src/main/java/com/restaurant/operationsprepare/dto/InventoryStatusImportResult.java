@@ -0,0 +1,24 @@
+package com.restaurant.operationsprepare.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 在庫ステータスの一括取り込み結果
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryStatusImportResult {
+
+    @JsonProperty("rows")
+    private long rows; // 取り込んだ行数
+
+    @JsonProperty("bytes")
+    private long bytes; // 読み込んだバイト数
+
+    @JsonProperty("elapsedMillis")
+    private long elapsedMillis; // 所要時間（ミリ秒）
+}
@@ -0,0 +1,30 @@
+package com.restaurant.operationsprepare.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * ピッキングリストの補充先（補充元から運ぶ品物を持つ）
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PickListDestinationDto {
+
+    @JsonProperty("destinationId")
+    private UUID destinationId;
+
+    @JsonProperty("destinationName")
+    private String destinationName;
+
+    @JsonProperty("displayOrder")
+    private Integer displayOrder;
+
+    @JsonProperty("items")
+    private List<PickListItemDto> items;
+}
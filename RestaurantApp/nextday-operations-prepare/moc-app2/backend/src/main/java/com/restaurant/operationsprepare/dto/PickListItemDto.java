@@ -0,0 +1,41 @@
+package com.restaurant.operationsprepare.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * ピッキングリストの品物（補充が必要な在庫ステータス）
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PickListItemDto {
+
+    @JsonProperty("inventoryStatusId")
+    private UUID inventoryStatusId;
+
+    @JsonProperty("itemId")
+    private UUID itemId;
+
+    @JsonProperty("itemName")
+    private String itemName;
+
+    @JsonProperty("unit")
+    private String unit;
+
+    @JsonProperty("inventoryCount")
+    private Integer inventoryCount;
+
+    @JsonProperty("replenishmentCount")
+    private Integer replenishmentCount;
+
+    @JsonProperty("replenishmentNote")
+    private String replenishmentNote;
+
+    @JsonProperty("version")
+    private Integer version;
+}
@@ -0,0 +1,41 @@
+package com.restaurant.operationsprepare.dto;
+
+import lombok.Data;
+
+import java.util.UUID;
+
+/**
+ * ピッキングリストのSQL結果（在庫ステータス × 補充パターン の1行）用DTO
+ * カラム名はsnake_caseのまま（InventoryStatusWithItemDto と同じ）
+ */
+@Data
+public class PickListRowDto {
+
+    private UUID source_id;
+
+    private String source_name;
+
+    private Integer source_display_order;
+
+    private UUID destination_id;
+
+    private String destination_name;
+
+    private Integer destination_display_order;
+
+    private UUID item_id;
+
+    private String item_name;
+
+    private String item_unit;
+
+    private UUID inventory_status_id;
+
+    private Integer inventory_count;
+
+    private Integer replenishment_count;
+
+    private String replenishment_note;
+
+    private Integer version;
+}
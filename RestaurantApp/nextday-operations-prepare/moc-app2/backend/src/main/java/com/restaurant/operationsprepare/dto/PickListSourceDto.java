@@ -0,0 +1,30 @@
+package com.restaurant.operationsprepare.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * ピッキングリストの補充元（補充先ごとの品物を持つ）
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PickListSourceDto {
+
+    @JsonProperty("sourceId")
+    private UUID sourceId;
+
+    @JsonProperty("sourceName")
+    private String sourceName;
+
+    @JsonProperty("displayOrder")
+    private Integer displayOrder;
+
+    @JsonProperty("destinations")
+    private List<PickListDestinationDto> destinations;
+}
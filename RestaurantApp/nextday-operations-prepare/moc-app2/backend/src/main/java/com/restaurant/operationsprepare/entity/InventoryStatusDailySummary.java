@@ -0,0 +1,42 @@
+package com.restaurant.operationsprepare.entity;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 在庫補充状況の日次集計
+ * アーカイブ済みの業務日付ごとに1行（inventory_status_daily_summary）
+ */
+@Data
+public class InventoryStatusDailySummary {
+
+    @JsonProperty("businessDate")
+    private LocalDate businessDate;
+
+    @JsonProperty("itemCount")
+    private Integer itemCount; // 品物数
+
+    @JsonProperty("totalInventoryCount")
+    private Long totalInventoryCount; // 在庫数の合計
+
+    @JsonProperty("totalReplenishmentCount")
+    private Long totalReplenishmentCount; // 補充数の合計
+
+    @JsonProperty("uncheckedCount")
+    private Integer uncheckedCount; // 在庫確認が未確認のまま残った品物数
+
+    @JsonProperty("replenishmentRequiredCount")
+    private Integer replenishmentRequiredCount; // 補充が必要だった品物数
+
+    @JsonProperty("preparationRequiredCount")
+    private Integer preparationRequiredCount; // 作成が必要だった品物数
+
+    @JsonProperty("orderRequestRequiredCount")
+    private Integer orderRequestRequiredCount; // 発注依頼が必要だった品物数
+
+    @JsonProperty("summarizedAt")
+    private LocalDateTime summarizedAt;
+}
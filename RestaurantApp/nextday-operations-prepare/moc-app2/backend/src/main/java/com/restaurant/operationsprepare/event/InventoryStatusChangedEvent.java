@@ -0,0 +1,13 @@
+package com.restaurant.operationsprepare.event;
+
+import java.time.LocalDate;
+
+/**
+ * 在庫ステータスが登録・更新・削除されたことを通知するイベント
+ *
+ * 在庫ステータスから作成したキャッシュ（ピッキングリスト）の無効化に使う
+ *
+ * @param businessDate 変更された業務日付（不明な場合は null。すべての業務日付を対象にする）
+ */
+public record InventoryStatusChangedEvent(LocalDate businessDate) {
+}
@@ -0,0 +1,14 @@
+package com.restaurant.operationsprepare.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * COPY で取り込むデータが不正な場合（形式の誤り、一意制約・外部キー違反など）
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class CopyDataException extends RuntimeException {
+    public CopyDataException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,14 @@
+package com.restaurant.operationsprepare.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * リクエストの内容が不正な場合（更新する在庫ステータスと業務日付が一致しないなど）
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidRequestException extends RuntimeException {
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,87 @@
+package com.restaurant.operationsprepare.repository;
+
+import com.restaurant.operationsprepare.exception.InvalidFieldsException;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 一覧APIの fields パラメータで選択された項目（JSONの項目名）
+ *
+ * SQLには "fields" として渡し、2WaySQLの IF コメント（fields.contains("name") など）で
+ * 選択されていない列を SELECT 句から除く。選択されていない項目は null のままになり、
+ * JSONには出力されない（default-property-inclusion: NON_NULL）。
+ * id は行を識別するため常に含める。
+ */
+public final class FieldSelection {
+
+    private static final String ID = "id";
+
+    private final Set<String> fields;
+
+    private FieldSelection(Set<String> fields) {
+        this.fields = Collections.unmodifiableSet(fields);
+    }
+
+    /**
+     * すべての項目を選択する
+     */
+    public static FieldSelection all(Set<String> allowed) {
+        return new FieldSelection(new LinkedHashSet<>(allowed));
+    }
+
+    /**
+     * fields パラメータ（カンマ区切りの項目名）を解析する
+     *
+     * @param fields  fields パラメータ（null または空の場合はすべての項目）
+     * @param allowed 指定できる項目名
+     * @throws InvalidFieldsException 指定できない項目名が含まれる場合
+     */
+    public static FieldSelection parse(String fields, Set<String> allowed) {
+        if (fields == null || fields.isBlank()) {
+            return all(allowed);
+        }
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add(ID);
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!allowed.contains(name)) {
+                throw new InvalidFieldsException("指定できない項目です: " + name + "（指定できる項目: "
+                        + String.join(", ", allowed) + "）");
+            }
+            selected.add(name);
+        }
+        return new FieldSelection(selected);
+    }
+
+    public boolean contains(String field) {
+        return fields.contains(field);
+    }
+
+    /**
+     * SQLの "fields" パラメータに渡す項目名
+     */
+    public Set<String> getFields() {
+        return fields;
+    }
+
+    /**
+     * 結果セットに含まれる列名（ASエイリアスがある場合はエイリアス名）
+     */
+    static Set<String> columnLabels(ResultSet rs) throws SQLException {
+        ResultSetMetaData metaData = rs.getMetaData();
+        Set<String> labels = new HashSet<>();
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            labels.add(metaData.getColumnLabel(i));
+        }
+        return labels;
+    }
+}
@@ -0,0 +1,112 @@
+package com.restaurant.operationsprepare.repository;
+
+import com.restaurant.operationsprepare.entity.InventoryStatusDailySummary;
+import jp.co.future.uroborosql.SqlAgent;
+import jp.co.future.uroborosql.config.SqlConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 在庫ステータスのアーカイブと日次集計
+ *
+ * 移動・集計は1回の呼び出しごとに独立したトランザクションでコミットする
+ * （大量の行を1トランザクションで移動しないため）。
+ */
+@Repository
+public class InventoryStatusArchiveRepository {
+
+    @Autowired
+    private SqlConfig uroboroSQL;
+
+    /**
+     * 基準日より前の業務日付のうち、指定日付より後で最も古いものを取得
+     *
+     * @param cutoffDate 基準日（この日付より前が対象）
+     * @param afterDate この日付より後を対象にする（null の場合は制限なし）
+     */
+    public Optional<LocalDate> findNextBusinessDateBefore(LocalDate cutoffDate, LocalDate afterDate) {
+        try (SqlAgent agent = uroboroSQL.agent();
+             ResultSet rs = agent.query("inventory_status_archive/select_next_business_date")
+                     .param("cutoffDate", cutoffDate)
+                     .param("afterDate", afterDate)
+                     .resultSet()) {
+            Date businessDate = rs.next() ? rs.getDate("business_date") : null;
+            return Optional.ofNullable(businessDate).map(Date::toLocalDate);
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * 指定業務日付の在庫ステータスを最大 batchSize 件アーカイブテーブルへ移動
+     *
+     * @return 移動した件数（0の場合は移動できる行が残っていない）
+     */
+    public int moveBatch(LocalDate businessDate, int batchSize) {
+        try (SqlAgent agent = uroboroSQL.agent()) {
+            return agent.requiresNew(() -> agent.update("inventory_status_archive/move_by_business_date")
+                    .param("businessDate", businessDate)
+                    .param("batchSize", batchSize)
+                    .count());
+        }
+    }
+
+    /**
+     * アーカイブ済みの行から指定業務日付の日次集計を作成（作成済みの場合は再集計）
+     */
+    public void summarize(LocalDate businessDate) {
+        try (SqlAgent agent = uroboroSQL.agent()) {
+            agent.requiresNew(() -> agent.update("inventory_status_daily_summary/upsert_by_business_date")
+                    .param("businessDate", businessDate)
+                    .count());
+        }
+    }
+
+    /**
+     * 期間で日次集計を取得
+     *
+     * @param fromDate 開始日（null の場合は制限なし）
+     * @param toDate 終了日（null の場合は制限なし）
+     */
+    public List<InventoryStatusDailySummary> findSummaries(LocalDate fromDate, LocalDate toDate) {
+        try (SqlAgent agent = uroboroSQL.agent();
+             ResultSet rs = agent.query("inventory_status_daily_summary/select_by_period")
+                     .param("fromDate", fromDate)
+                     .param("toDate", toDate)
+                     .resultSet()) {
+            List<InventoryStatusDailySummary> summaries = new ArrayList<>();
+            while (rs.next()) {
+                summaries.add(mapSummary(rs));
+            }
+            return summaries;
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private InventoryStatusDailySummary mapSummary(ResultSet rs) throws SQLException {
+        InventoryStatusDailySummary summary = new InventoryStatusDailySummary();
+        summary.setBusinessDate(rs.getDate("business_date").toLocalDate());
+        summary.setItemCount(rs.getInt("item_count"));
+        summary.setTotalInventoryCount(rs.getLong("total_inventory_count"));
+        summary.setTotalReplenishmentCount(rs.getLong("total_replenishment_count"));
+        summary.setUncheckedCount(rs.getInt("unchecked_count"));
+        summary.setReplenishmentRequiredCount(rs.getInt("replenishment_required_count"));
+        summary.setPreparationRequiredCount(rs.getInt("preparation_required_count"));
+        summary.setOrderRequestRequiredCount(rs.getInt("order_request_required_count"));
+        Timestamp summarizedAt = rs.getTimestamp("summarized_at");
+        if (summarizedAt != null) {
+            summary.setSummarizedAt(summarizedAt.toLocalDateTime());
+        }
+        return summary;
+    }
+}
@@ -0,0 +1,109 @@
+package com.restaurant.operationsprepare.repository;
+
+import com.restaurant.operationsprepare.exception.CopyDataException;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PostgreSQL の COPY による在庫ステータスの一括取り込み・出力
+ *
+ * pgjdbc の CopyManager でストリームとDBの間を固定長のバッファで受け渡すため、
+ * 行数に関わらずメモリ使用量は一定になる。COPY はバインド変数を使えないため、
+ * 条件の日付は LocalDate の ISO 形式の文字列として埋め込む。
+ */
+@Repository
+public class InventoryStatusCopyRepository {
+
+    // 出力と取り込みで同じ列の並びを使う（出力したファイルをそのまま取り込める）
+    static final String COLUMNS = "id, business_date, item_id, inventory_check_status, replenishment_status,"
+            + " preparation_status, order_request_status, inventory_count, replenishment_count,"
+            + " replenishment_note, version, created_at, updated_at";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Autowired
+    private DataSource dataSource;
+
+    /**
+     * 取り込み・出力の形式
+     */
+    public enum Format {
+        CSV("FORMAT csv, HEADER true"),
+        BINARY("FORMAT binary");
+
+        private final String options;
+
+        Format(String options) {
+            this.options = options;
+        }
+    }
+
+    /**
+     * ストリームの内容を inventory_status に取り込む
+     *
+     * COPY は1文で実行されるため、途中で失敗した場合は1行も取り込まれない。
+     *
+     * @return 取り込んだ行数
+     * @throws CopyDataException データが不正な場合（メッセージに COPY の行番号を含む）
+     */
+    public long copyIn(InputStream in, Format format) throws IOException {
+        String sql = "COPY inventory_status (" + COLUMNS + ") FROM STDIN WITH (" + format.options + ")";
+        try (Connection connection = dataSource.getConnection()) {
+            return copyManager(connection).copyIn(sql, in, BUFFER_SIZE);
+        } catch (SQLException e) {
+            throw translate(e);
+        }
+    }
+
+    /**
+     * 業務日付の範囲の在庫ステータスを業務日付・品物の順にストリームへ出力する
+     *
+     * @param fromDate 開始日（null の場合は制限なし）
+     * @param toDate 終了日（null の場合は制限なし）
+     * @return 出力した行数
+     */
+    public long copyOut(LocalDate fromDate, LocalDate toDate, Format format, OutputStream out) throws IOException {
+        List<String> conditions = new ArrayList<>();
+        if (fromDate != null) {
+            conditions.add("business_date >= DATE '" + fromDate + "'");
+        }
+        if (toDate != null) {
+            conditions.add("business_date <= DATE '" + toDate + "'");
+        }
+        String where = conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+        String sql = "COPY (SELECT " + COLUMNS + " FROM inventory_status" + where
+                + " ORDER BY business_date, item_id) TO STDOUT WITH (" + format.options + ")";
+        try (Connection connection = dataSource.getConnection()) {
+            return copyManager(connection).copyOut(sql, out);
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static CopyManager copyManager(Connection connection) throws SQLException {
+        return connection.unwrap(PGConnection.class).getCopyAPI();
+    }
+
+    /**
+     * データの誤り（SQLSTATE 22: データ例外、23: 整合性制約違反）は入力の誤りとして扱う
+     */
+    private static RuntimeException translate(SQLException e) {
+        String sqlState = e.getSQLState();
+        if (sqlState != null && (sqlState.startsWith("22") || sqlState.startsWith("23"))) {
+            return new CopyDataException(e.getMessage(), e);
+        }
+        return new RuntimeException(e);
+    }
+}
@@ -8,15 +8,27 @@ import jp.co.future.uroborosql.config.SqlConfig;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Repository
 public class InventoryStatusRepository {
 
+    /** fields パラメータで指定できる項目（JSONの項目名。item は品物情報のすべての項目） */
+    public static final Set<String> FIELDS = Collections.unmodifiableSet(new LinkedHashSet<>(List.of(
+            "id", "businessDate", "itemId", "item", "inventoryCheckStatus", "replenishmentStatus",
+            "preparationStatus", "orderRequestStatus", "inventoryCount", "replenishmentCount",
+            "replenishmentNote", "version", "createdAt", "updatedAt")));
+
     @Autowired
     private SqlConfig uroboroSQL;
 
@@ -59,8 +71,32 @@ public class InventoryStatusRepository {
      * 業務日付で在庫ステータスを取得（item情報をJOIN）
      */
     public List<InventoryStatus> findByBusinessDate(LocalDate businessDate) {
+        return findByBusinessDate(businessDate, FieldSelection.all(FIELDS));
+    }
+
+    /**
+     * 業務日付で在庫ステータスを取得（選択された項目の列だけを取得する）
+     * 品物の列は fields に "item" が含まれる場合だけ取得する
+     */
+    public List<InventoryStatus> findByBusinessDate(LocalDate businessDate, FieldSelection fields) {
         try (SqlAgent agent = uroboroSQL.agent()) {
             List<InventoryStatusWithItemDto> dtos = agent.query("inventory_status/select_by_business_date")
+                    .param("businessDate", businessDate)
+                    .param("fields", fields.getFields())
+                    .collect(InventoryStatusWithItemDto.class);
+
+            return dtos.stream()
+                    .map(this::convertToInventoryStatus)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * 業務日付で在庫ステータスを取得（品物の列を取得せず、item は設定しない）
+     */
+    public List<InventoryStatus> findSlimByBusinessDate(LocalDate businessDate) {
+        try (SqlAgent agent = uroboroSQL.agent()) {
+            List<InventoryStatusWithItemDto> dtos = agent.query("inventory_status/select_slim_by_business_date")
                     .param("businessDate", businessDate)
                     .collect(InventoryStatusWithItemDto.class);
 
@@ -74,9 +110,20 @@ public class InventoryStatusRepository {
      * IDで在庫ステータスを取得
      */
     public Optional<InventoryStatus> findById(UUID id) {
+        return findById(id, null);
+    }
+
+    /**
+     * IDと業務日付で在庫ステータスを取得
+     * 業務日付を指定すると、その月のパーティションだけを検索する
+     *
+     * @param businessDate 業務日付（null の場合はすべてのパーティションを検索）
+     */
+    public Optional<InventoryStatus> findById(UUID id, LocalDate businessDate) {
         try (SqlAgent agent = uroboroSQL.agent()) {
             List<InventoryStatusWithItemDto> dtos = agent.query("inventory_status/select_by_id")
                     .param("id", id)
+                    .param("businessDate", businessDate)
                     .collect(InventoryStatusWithItemDto.class);
 
             return dtos.isEmpty()
@@ -115,6 +162,7 @@ public class InventoryStatusRepository {
 
     /**
      * 在庫ステータスを更新（楽観ロック対応）
+     * 業務日付が指定されている場合は、その月のパーティションだけを更新対象にする
      *
      * @return 更新件数（0の場合は楽観ロックエラー）
      */
@@ -122,6 +170,7 @@ public class InventoryStatusRepository {
         try (SqlAgent agent = uroboroSQL.agent()) {
             return agent.update("inventory_status/update")
                     .param("id", inventoryStatus.getId())
+                    .param("businessDate", inventoryStatus.getBusinessDate())
                     .param("inventoryCheckStatus", inventoryStatus.getInventoryCheckStatus())
                     .param("replenishmentStatus", inventoryStatus.getReplenishmentStatus())
                     .param("preparationStatus", inventoryStatus.getPreparationStatus())
@@ -135,13 +184,77 @@ public class InventoryStatusRepository {
     }
 
     /**
-     * 在庫ステータスを削除
+     * 指定日付を含む月のパーティションを作成（作成済みの場合は何もしない）
+     *
+     * @return パーティション名
      */
-    public void delete(UUID id) {
+    public String ensurePartition(LocalDate targetDate) {
         try (SqlAgent agent = uroboroSQL.agent()) {
-            agent.update("inventory_status/delete")
-                    .param("id", id)
-                    .count();
+            return agent.requiresNew(() -> {
+                try (ResultSet rs = agent.query("inventory_status/ensure_partition")
+                        .param("targetDate", targetDate)
+                        .resultSet()) {
+                    rs.next();
+                    return rs.getString("partition_name");
+                }
+            });
+        }
+    }
+
+    /**
+     * 基準日より前に終わる月のパーティション名を古い順に取得
+     */
+    public List<String> findPartitionsEndingBefore(LocalDate cutoffDate) {
+        try (SqlAgent agent = uroboroSQL.agent();
+             ResultSet rs = agent.query("inventory_status/select_expired_partitions")
+                     .param("cutoffDate", cutoffDate)
+                     .resultSet()) {
+            List<String> partitions = new ArrayList<>();
+            while (rs.next()) {
+                partitions.add(rs.getString("partition_name"));
+            }
+            return partitions;
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * パーティションが空の場合に切り離して削除（行が残っている場合は何もしない）
+     * 切り離しの間は親テーブルを排他ロックするため、ロックを待つ時間を lockTimeout で制限する
+     *
+     * @param lockTimeout ロックを待つ時間（PostgreSQL の lock_timeout の形式。例: 5s）
+     * @return 削除した場合は true
+     */
+    public boolean dropPartitionIfEmpty(String partitionName, String lockTimeout) {
+        try (SqlAgent agent = uroboroSQL.agent()) {
+            return agent.requiresNew(() -> {
+                try (ResultSet rs = agent.query("inventory_status/drop_empty_partition")
+                        .param("partitionName", partitionName)
+                        .param("lockTimeout", lockTimeout)
+                        .resultSet()) {
+                    rs.next();
+                    return rs.getBoolean("dropped");
+                }
+            });
+        }
+    }
+
+    /**
+     * 在庫ステータスを削除
+     *
+     * @return 削除した在庫ステータスの業務日付（該当する行がない場合は空）
+     */
+    public Optional<LocalDate> delete(UUID id) {
+        try (SqlAgent agent = uroboroSQL.agent();
+             ResultSet rs = agent.query("inventory_status/delete")
+                     .param("id", id)
+                     .resultSet()) {
+            return rs.next()
+                    ? Optional.of(rs.getDate("business_date").toLocalDate())
+                    : Optional.empty();
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
         }
     }
 }
@@ -9,67 +9,82 @@ import org.springframework.stereotype.Repository;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
 public class ItemRepository {
 
+    /** fields パラメータで指定できる項目（JSONの項目名） */
+    public static final Set<String> FIELDS = Collections.unmodifiableSet(new LinkedHashSet<>(List.of(
+            "id", "name", "description", "unit", "patternType", "createdAt", "updatedAt")));
+
     @Autowired
     private SqlConfig uroboroSQL;
 
-    private Item mapRow(ResultSet rs) throws SQLException {
+    private Item mapRow(ResultSet rs, Set<String> columns) throws SQLException {
         Item item = new Item();
         item.setId((UUID) rs.getObject("id"));
-        item.setName(rs.getString("name"));
-        item.setDescription(rs.getString("description"));
-        item.setUnit(rs.getString("unit"));
-        // ASエイリアスを使用している場合はエイリアス名で取得
-        try {
-            String patternType = rs.getString("patternType");
-            if (patternType == null) {
-                patternType = rs.getString("pattern_type");
-            }
-            item.setPatternType(patternType);
-        } catch (SQLException e) {
-            // エイリアスがない場合はスキップ
+        // fields で選択されなかった列は結果に含まれないため、列がある場合だけ設定する
+        if (columns.contains("name")) {
+            item.setName(rs.getString("name"));
         }
-        try {
-            Timestamp createdAt = rs.getTimestamp("createdAt");
-            if (createdAt == null) {
-                createdAt = rs.getTimestamp("created_at");
-            }
-            if (createdAt != null) {
-                item.setCreatedAt(createdAt.toLocalDateTime());
-            }
-        } catch (SQLException e) {
-            // エイリアスがない場合はスキップ
+        if (columns.contains("description")) {
+            item.setDescription(rs.getString("description"));
         }
-        try {
-            Timestamp updatedAt = rs.getTimestamp("updatedAt");
-            if (updatedAt == null) {
-                updatedAt = rs.getTimestamp("updated_at");
-            }
-            if (updatedAt != null) {
-                item.setUpdatedAt(updatedAt.toLocalDateTime());
-            }
-        } catch (SQLException e) {
-            // エイリアスがない場合はスキップ
+        if (columns.contains("unit")) {
+            item.setUnit(rs.getString("unit"));
         }
+        // ASエイリアスを使用している場合はエイリアス名で取得
+        if (columns.contains("patternType")) {
+            item.setPatternType(rs.getString("patternType"));
+        } else if (columns.contains("pattern_type")) {
+            item.setPatternType(rs.getString("pattern_type"));
+        }
+        item.setCreatedAt(getDateTime(rs, columns, "createdAt", "created_at"));
+        item.setUpdatedAt(getDateTime(rs, columns, "updatedAt", "updated_at"));
         return item;
     }
 
+    private static LocalDateTime getDateTime(ResultSet rs, Set<String> columns, String alias, String column)
+            throws SQLException {
+        String label = columns.contains(alias) ? alias : columns.contains(column) ? column : null;
+        if (label == null) {
+            return null;
+        }
+        Timestamp timestamp = rs.getTimestamp(label);
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private List<Item> mapRows(ResultSet rs) throws SQLException {
+        Set<String> columns = FieldSelection.columnLabels(rs);
+        List<Item> items = new ArrayList<>();
+        while (rs.next()) {
+            items.add(mapRow(rs, columns));
+        }
+        return items;
+    }
+
     public List<Item> findAll() {
+        return findAll(FieldSelection.all(FIELDS));
+    }
+
+    /**
+     * 品物を全件取得（選択された項目の列だけを取得する）
+     */
+    public List<Item> findAll(FieldSelection fields) {
         try (SqlAgent agent = uroboroSQL.agent()) {
-            List<Item> items = new ArrayList<>();
-            try (ResultSet rs = agent.query("item/select_all").resultSet()) {
-                while (rs.next()) {
-                    items.add(mapRow(rs));
-                }
+            try (ResultSet rs = agent.query("item/select_all")
+                    .param("fields", fields.getFields())
+                    .resultSet()) {
+                return mapRows(rs);
             }
-            return items;
         } catch (SQLException e) {
             throw new RuntimeException(e);
         }
@@ -77,15 +92,12 @@ public class ItemRepository {
 
     public Optional<Item> findById(UUID id) {
         try (SqlAgent agent = uroboroSQL.agent()) {
-            List<Item> items = new ArrayList<>();
             try (ResultSet rs = agent.query("item/select_by_id")
                     .param("id", id)
                     .resultSet()) {
-                while (rs.next()) {
-                    items.add(mapRow(rs));
-                }
+                List<Item> items = mapRows(rs);
+                return items.isEmpty() ? Optional.empty() : Optional.of(items.get(0));
             }
-            return items.isEmpty() ? Optional.empty() : Optional.of(items.get(0));
         } catch (SQLException e) {
             throw new RuntimeException(e);
         }
@@ -93,15 +105,11 @@ public class ItemRepository {
 
     public List<Item> findByPlaceId(UUID placeId) {
         try (SqlAgent agent = uroboroSQL.agent()) {
-            List<Item> items = new ArrayList<>();
             try (ResultSet rs = agent.query("item/select_by_place_id")
                     .param("placeId", placeId)
                     .resultSet()) {
-                while (rs.next()) {
-                    items.add(mapRow(rs));
-                }
+                return mapRows(rs);
             }
-            return items;
         } catch (SQLException e) {
             throw new RuntimeException(e);
         }
@@ -109,15 +117,11 @@ public class ItemRepository {
 
     public List<Item> findByDestinationId(UUID destinationId) {
         try (SqlAgent agent = uroboroSQL.agent()) {
-            List<Item> items = new ArrayList<>();
             try (ResultSet rs = agent.query("item/select_by_destination_id")
                     .param("destinationId", destinationId)
                     .resultSet()) {
-                while (rs.next()) {
-                    items.add(mapRow(rs));
-                }
+                return mapRows(rs);
             }
-            return items;
         } catch (SQLException e) {
             throw new RuntimeException(e);
         }
@@ -125,15 +129,11 @@ public class ItemRepository {
 
     public List<Item> findBySourceId(UUID sourceId) {
         try (SqlAgent agent = uroboroSQL.agent()) {
-            List<Item> items = new ArrayList<>();
             try (ResultSet rs = agent.query("item/select_by_source_id")
                     .param("sourceId", sourceId)
                     .resultSet()) {
-                while (rs.next()) {
-                    items.add(mapRow(rs));
-                }
+                return mapRows(rs);
             }
-            return items;
         } catch (SQLException e) {
             throw new RuntimeException(e);
         }
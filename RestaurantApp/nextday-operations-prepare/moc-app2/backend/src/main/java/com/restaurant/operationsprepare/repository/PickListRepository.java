@@ -0,0 +1,28 @@
+package com.restaurant.operationsprepare.repository;
+
+import com.restaurant.operationsprepare.dto.PickListRowDto;
+import jp.co.future.uroborosql.SqlAgent;
+import jp.co.future.uroborosql.config.SqlConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public class PickListRepository {
+
+    @Autowired
+    private SqlConfig uroboroSQL;
+
+    /**
+     * 業務日付の補充が必要な品物を補充元・補充先・品物の順で取得
+     */
+    public List<PickListRowDto> findByBusinessDate(LocalDate businessDate) {
+        try (SqlAgent agent = uroboroSQL.agent()) {
+            return agent.query("pick_list/select_by_business_date")
+                    .param("businessDate", businessDate)
+                    .collect(PickListRowDto.class);
+        }
+    }
+}
@@ -9,67 +9,78 @@ import org.springframework.stereotype.Repository;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
 public class PlaceRepository {
 
+    /** fields パラメータで指定できる項目（JSONの項目名） */
+    public static final Set<String> FIELDS = Collections.unmodifiableSet(new LinkedHashSet<>(List.of(
+            "id", "type", "name", "displayOrder", "createdAt", "updatedAt")));
+
     @Autowired
     private SqlConfig uroboroSQL;
 
-    private Place mapRow(ResultSet rs) throws SQLException {
+    private Place mapRow(ResultSet rs, Set<String> columns) throws SQLException {
         Place place = new Place();
         place.setId((UUID) rs.getObject("id"));
-        place.setType(rs.getString("type"));
-        place.setName(rs.getString("name"));
-        // ASエイリアスを使用している場合はエイリアス名で取得
-        try {
-            Object displayOrder = rs.getObject("displayOrder");
-            if (displayOrder == null) {
-                displayOrder = rs.getObject("display_order");
-            }
-            if (displayOrder != null) {
-                place.setDisplayOrder((Integer) displayOrder);
-            }
-        } catch (SQLException e) {
-            // エイリアスがない場合はスキップ
+        // fields で選択されなかった列は結果に含まれないため、列がある場合だけ設定する
+        if (columns.contains("type")) {
+            place.setType(rs.getString("type"));
         }
-        try {
-            Timestamp createdAt = rs.getTimestamp("createdAt");
-            if (createdAt == null) {
-                createdAt = rs.getTimestamp("created_at");
-            }
-            if (createdAt != null) {
-                place.setCreatedAt(createdAt.toLocalDateTime());
-            }
-        } catch (SQLException e) {
-            // エイリアスがない場合はスキップ
+        if (columns.contains("name")) {
+            place.setName(rs.getString("name"));
         }
-        try {
-            Timestamp updatedAt = rs.getTimestamp("updatedAt");
-            if (updatedAt == null) {
-                updatedAt = rs.getTimestamp("updated_at");
-            }
-            if (updatedAt != null) {
-                place.setUpdatedAt(updatedAt.toLocalDateTime());
-            }
-        } catch (SQLException e) {
-            // エイリアスがない場合はスキップ
+        // ASエイリアスを使用している場合はエイリアス名で取得
+        String displayOrder = columns.contains("displayOrder") ? "displayOrder"
+                : columns.contains("display_order") ? "display_order" : null;
+        if (displayOrder != null) {
+            place.setDisplayOrder((Integer) rs.getObject(displayOrder));
         }
+        place.setCreatedAt(getDateTime(rs, columns, "createdAt", "created_at"));
+        place.setUpdatedAt(getDateTime(rs, columns, "updatedAt", "updated_at"));
         return place;
     }
 
+    private static LocalDateTime getDateTime(ResultSet rs, Set<String> columns, String alias, String column)
+            throws SQLException {
+        String label = columns.contains(alias) ? alias : columns.contains(column) ? column : null;
+        if (label == null) {
+            return null;
+        }
+        Timestamp timestamp = rs.getTimestamp(label);
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private List<Place> mapRows(ResultSet rs) throws SQLException {
+        Set<String> columns = FieldSelection.columnLabels(rs);
+        List<Place> places = new ArrayList<>();
+        while (rs.next()) {
+            places.add(mapRow(rs, columns));
+        }
+        return places;
+    }
+
     public List<Place> findAll() {
+        return findAll(FieldSelection.all(FIELDS));
+    }
+
+    /**
+     * 場所を全件取得（選択された項目の列だけを取得する）
+     */
+    public List<Place> findAll(FieldSelection fields) {
         try (SqlAgent agent = uroboroSQL.agent()) {
-            List<Place> places = new ArrayList<>();
-            try (ResultSet rs = agent.query("place/select_all").resultSet()) {
-                while (rs.next()) {
-                    places.add(mapRow(rs));
-                }
+            try (ResultSet rs = agent.query("place/select_all")
+                    .param("fields", fields.getFields())
+                    .resultSet()) {
+                return mapRows(rs);
             }
-            return places;
         } catch (SQLException e) {
             throw new RuntimeException(e);
         }
@@ -77,15 +88,11 @@ public class PlaceRepository {
 
     public List<Place> findByType(String type) {
         try (SqlAgent agent = uroboroSQL.agent()) {
-            List<Place> places = new ArrayList<>();
             try (ResultSet rs = agent.query("place/select_by_type")
                     .param("type", type)
                     .resultSet()) {
-                while (rs.next()) {
-                    places.add(mapRow(rs));
-                }
+                return mapRows(rs);
             }
-            return places;
         } catch (SQLException e) {
             throw new RuntimeException(e);
         }
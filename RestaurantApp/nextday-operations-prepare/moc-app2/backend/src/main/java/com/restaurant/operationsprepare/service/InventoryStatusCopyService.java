@@ -0,0 +1,210 @@
+package com.restaurant.operationsprepare.service;
+
+import com.restaurant.operationsprepare.dto.InventoryStatusImportResult;
+import com.restaurant.operationsprepare.event.InventoryStatusChangedEvent;
+import com.restaurant.operationsprepare.repository.InventoryStatusCopyRepository;
+import com.restaurant.operationsprepare.repository.InventoryStatusCopyRepository.Format;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 在庫ステータスの一括取り込み・出力（データ移行、夜間の出力用）
+ *
+ * COPY でストリームとDBの間を直接受け渡し、1行ずつINSERTしない。
+ * 進捗は次のメトリクス（/actuator/metrics）で確認できる。
+ * <ul>
+ *   <li>inventory_status.copy.bytes: 読み書きしたバイト数（転送中も増える）</li>
+ *   <li>inventory_status.copy.rows: 取り込み・出力を終えた行数</li>
+ *   <li>inventory_status.copy.active: 実行中の取り込み・出力の数</li>
+ *   <li>inventory_status.copy: 1回の取り込み・出力の所要時間</li>
+ * </ul>
+ * いずれも direction（import / export）タグで区別する。
+ */
+@Service
+public class InventoryStatusCopyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(InventoryStatusCopyService.class);
+
+    private static final String IMPORT = "import";
+
+    private static final String EXPORT = "export";
+
+    @Autowired
+    private InventoryStatusCopyRepository copyRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // 実行中の取り込み・出力の数（direction タグごとのゲージで公開する）
+    private final AtomicInteger activeImports = new AtomicInteger();
+
+    private final AtomicInteger activeExports = new AtomicInteger();
+
+    /**
+     * ストリームの内容を在庫ステータスに取り込む（出力と同じ列の並び）
+     */
+    public InventoryStatusImportResult importStatuses(InputStream in, Format format) throws IOException {
+        CountingInputStream counting = new CountingInputStream(in, bytesCounter(IMPORT));
+        long startNanos = System.nanoTime();
+        String outcome = "error";
+        begin(IMPORT);
+        try {
+            long rows = copyRepository.copyIn(counting, format);
+            rowsCounter(IMPORT).increment(rows);
+            outcome = "success";
+            // 取り込んだ業務日付は分からないため、すべての業務日付のキャッシュを破棄する
+            eventPublisher.publishEvent(new InventoryStatusChangedEvent(null));
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            logger.info("Imported {} inventory_status rows ({} bytes) in {} ms", rows, counting.count, elapsedMillis);
+            return new InventoryStatusImportResult(rows, counting.count, elapsedMillis);
+        } finally {
+            end(IMPORT, format, outcome, startNanos);
+        }
+    }
+
+    /**
+     * 業務日付の範囲の在庫ステータスをストリームへ出力する
+     *
+     * @return 出力した行数
+     */
+    public long exportStatuses(LocalDate fromDate, LocalDate toDate, Format format, OutputStream out)
+            throws IOException {
+        CountingOutputStream counting = new CountingOutputStream(out, bytesCounter(EXPORT));
+        long startNanos = System.nanoTime();
+        String outcome = "error";
+        begin(EXPORT);
+        try {
+            long rows = copyRepository.copyOut(fromDate, toDate, format, counting);
+            counting.flush();
+            rowsCounter(EXPORT).increment(rows);
+            outcome = "success";
+            logger.info("Exported {} inventory_status rows ({} bytes) for {}..{}", rows, counting.count,
+                    fromDate, toDate);
+            return rows;
+        } finally {
+            end(EXPORT, format, outcome, startNanos);
+        }
+    }
+
+    private void begin(String direction) {
+        meterRegistry.gauge("inventory_status.copy.active", Tags.of("direction", direction), active(direction));
+        active(direction).incrementAndGet();
+    }
+
+    private void end(String direction, Format format, String outcome, long startNanos) {
+        active(direction).decrementAndGet();
+        Timer.builder("inventory_status.copy")
+                .tag("direction", direction)
+                .tag("format", format.name().toLowerCase())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private AtomicInteger active(String direction) {
+        return IMPORT.equals(direction) ? activeImports : activeExports;
+    }
+
+    private Counter bytesCounter(String direction) {
+        return Counter.builder("inventory_status.copy.bytes")
+                .baseUnit("bytes")
+                .tag("direction", direction)
+                .register(meterRegistry);
+    }
+
+    private Counter rowsCounter(String direction) {
+        return Counter.builder("inventory_status.copy.rows")
+                .tag("direction", direction)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 読み込んだバイト数を数える（メトリクスは読み込みのたびに増やす）
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private final Counter counter;
+
+        private long count;
+
+        CountingInputStream(InputStream in, Counter counter) {
+            super(in);
+            this.counter = counter;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                add(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                add(n);
+            }
+            return n;
+        }
+
+        private void add(long n) {
+            count += n;
+            counter.increment(n);
+        }
+    }
+
+    /**
+     * 書き込んだバイト数を数える（メトリクスは書き込みのたびに増やす）
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private final Counter counter;
+
+        private long count;
+
+        CountingOutputStream(OutputStream out, Counter counter) {
+            super(out);
+            this.counter = counter;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            add(1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            // FilterOutputStream の既定の実装は1バイトずつ書き込むため、まとめて渡す
+            out.write(b, off, len);
+            add(len);
+        }
+
+        private void add(long n) {
+            count += n;
+            counter.increment(n);
+        }
+    }
+}
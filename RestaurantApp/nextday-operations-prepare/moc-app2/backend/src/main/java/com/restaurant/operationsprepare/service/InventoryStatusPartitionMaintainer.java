@@ -0,0 +1,84 @@
+package com.restaurant.operationsprepare.service;
+
+import com.restaurant.operationsprepare.repository.InventoryStatusRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+/**
+ * inventory_status の月単位パーティションの保守
+ *
+ * 当月から指定か月先までのパーティションを事前に作成する。
+ * 作成前の月の行は inventory_status_default に入り、その月のパーティションを作成した時に移される。
+ *
+ * 保持期間（app.inventory-retention.retention-days）より前に終わる月のパーティションは、
+ * InventoryStatusRetentionService がすべての行をアーカイブへ移して空になった後に切り離して削除する。
+ * 行が残っている月（アーカイブが無効、または更新中で読み飛ばした行がある）はそのまま残し、次回に再確認する。
+ */
+@Component
+public class InventoryStatusPartitionMaintainer {
+
+    private static final Logger logger = LoggerFactory.getLogger(InventoryStatusPartitionMaintainer.class);
+
+    @Autowired
+    private InventoryStatusRepository inventoryStatusRepository;
+
+    // 事前に作成する月数（当月を除く）
+    @Value("${app.inventory-partition.months-ahead:2}")
+    private int monthsAhead;
+
+    // 保持する日数（InventoryStatusRetentionService と同じ設定。この日数より前に終わる月が削除の対象）
+    @Value("${app.inventory-retention.retention-days:90}")
+    private int retentionDays;
+
+    // 削除の切り離しで親テーブルのロックを待つ時間（待つ間は在庫ステータスの読み書きも待たされる）
+    @Value("${app.inventory-partition.lock-timeout:5s}")
+    private String lockTimeout;
+
+    private Clock clock = Clock.systemDefaultZone();
+
+    /**
+     * 起動時と毎日定時にパーティションを作成し、保持期間を過ぎた空のパーティションを削除
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.inventory-partition.cron:0 0 3 * * *}")
+    public void maintain() {
+        LocalDate firstDay = LocalDate.now(clock).withDayOfMonth(1);
+        for (int i = 0; i <= monthsAhead; i++) {
+            String partition = inventoryStatusRepository.ensurePartition(firstDay.plusMonths(i));
+            logger.debug("Ensured inventory_status partition: {}", partition);
+        }
+        dropExpiredPartitions(LocalDate.now(clock).minusDays(retentionDays));
+    }
+
+    /**
+     * 基準日より前に終わる月のパーティションのうち、空のものを削除
+     * ロックを待ちきれなかった場合は警告を出して次のパーティションへ進む（次回の実行で再試行する）
+     *
+     * @return 削除したパーティションの数
+     */
+    int dropExpiredPartitions(LocalDate cutoffDate) {
+        int dropped = 0;
+        for (String partition : inventoryStatusRepository.findPartitionsEndingBefore(cutoffDate)) {
+            try {
+                if (inventoryStatusRepository.dropPartitionIfEmpty(partition, lockTimeout)) {
+                    dropped++;
+                    logger.info("Dropped expired inventory_status partition: {}", partition);
+                } else {
+                    logger.debug("Kept expired inventory_status partition with remaining rows: {}", partition);
+                }
+            } catch (RuntimeException e) {
+                logger.warn("Failed to drop expired inventory_status partition {}: {}", partition, e.getMessage());
+            }
+        }
+        return dropped;
+    }
+}
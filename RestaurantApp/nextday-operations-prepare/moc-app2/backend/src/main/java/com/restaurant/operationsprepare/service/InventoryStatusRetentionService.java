@@ -0,0 +1,113 @@
+package com.restaurant.operationsprepare.service;
+
+import com.restaurant.operationsprepare.entity.InventoryStatusDailySummary;
+import com.restaurant.operationsprepare.event.InventoryStatusChangedEvent;
+import com.restaurant.operationsprepare.repository.InventoryStatusArchiveRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 在庫ステータスの保持期間管理
+ *
+ * 保持日数を過ぎた業務日付の在庫ステータスを、古い日付から順に inventory_status_archive へ移動し、
+ * 日付ごとの集計を inventory_status_daily_summary に残す。
+ * 移動は batch-size 件ずつコミットし、その間に pause-ms 待つため、稼働中の更新を長く止めない。
+ * inventory_status には保持期間内の行だけが残るため、テーブルとインデックスの大きさが一定に保たれる。
+ *
+ * 定時実行は app.inventory-retention.enabled=true の場合のみ行う。
+ */
+@Service
+public class InventoryStatusRetentionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(InventoryStatusRetentionService.class);
+
+    @Autowired
+    private InventoryStatusArchiveRepository archiveRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.inventory-retention.enabled:false}")
+    private boolean enabled;
+
+    // 保持する日数（当日を含まない。この日数より前の業務日付を移動する）
+    @Value("${app.inventory-retention.retention-days:90}")
+    private int retentionDays;
+
+    @Value("${app.inventory-retention.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.inventory-retention.pause-ms:100}")
+    private long pauseMillis;
+
+    /**
+     * 毎日定時に保持期間を過ぎた在庫ステータスを移動
+     */
+    @Scheduled(cron = "${app.inventory-retention.cron:0 30 3 * * *}")
+    public void archiveExpired() {
+        if (!enabled) {
+            return;
+        }
+        archiveBefore(LocalDate.now().minusDays(retentionDays));
+    }
+
+    /**
+     * 基準日より前の在庫ステータスを業務日付ごとに移動し、日次集計を作成
+     *
+     * @param cutoffDate 基準日（この日付より前の業務日付が対象）
+     * @return 移動した件数
+     */
+    public long archiveBefore(LocalDate cutoffDate) {
+        long archivedTotal = 0;
+        LocalDate businessDate = null;
+        Optional<LocalDate> next;
+        while ((next = archiveRepository.findNextBusinessDateBefore(cutoffDate, businessDate)).isPresent()) {
+            businessDate = next.get();
+            long archived = archiveBusinessDate(businessDate);
+            archiveRepository.summarize(businessDate);
+            eventPublisher.publishEvent(new InventoryStatusChangedEvent(businessDate));
+            archivedTotal += archived;
+            logger.info("Archived inventory_status for {}: {} rows", businessDate, archived);
+        }
+        return archivedTotal;
+    }
+
+    /**
+     * 期間で日次集計を取得
+     */
+    public List<InventoryStatusDailySummary> getDailySummaries(LocalDate fromDate, LocalDate toDate) {
+        return archiveRepository.findSummaries(fromDate, toDate);
+    }
+
+    private long archiveBusinessDate(LocalDate businessDate) {
+        long archived = 0;
+        int moved;
+        // 更新中で読み飛ばした行は次回の実行で移動する（集計はその時に作り直す）
+        while ((moved = archiveRepository.moveBatch(businessDate, batchSize)) > 0) {
+            archived += moved;
+            pause();
+        }
+        return archived;
+    }
+
+    private void pause() {
+        if (pauseMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Inventory status archiving was interrupted", e);
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package com.restaurant.operationsprepare.service;
 
 import com.restaurant.operationsprepare.entity.InventoryStatus;
+import com.restaurant.operationsprepare.event.InventoryStatusChangedEvent;
+import com.restaurant.operationsprepare.exception.InvalidRequestException;
 import com.restaurant.operationsprepare.exception.OptimisticLockException;
+import com.restaurant.operationsprepare.exception.ResourceNotFoundException;
+import com.restaurant.operationsprepare.repository.FieldSelection;
 import com.restaurant.operationsprepare.repository.InventoryStatusRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,11 +24,33 @@ public class InventoryStatusService {
     @Autowired
     private InventoryStatusRepository inventoryStatusRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Transactional(readOnly = true)
     public List<InventoryStatus> getInventoryStatusByDate(LocalDate businessDate) {
         return inventoryStatusRepository.findByBusinessDate(businessDate);
     }
 
+    /**
+     * 業務日付の在庫ステータスを取得する（fields で指定した項目だけを取得・返却する）
+     *
+     * @param fields カンマ区切りの項目名（null または空の場合はすべての項目。item は品物情報）
+     */
+    @Transactional(readOnly = true)
+    public List<InventoryStatus> getInventoryStatusByDate(LocalDate businessDate, String fields) {
+        return inventoryStatusRepository.findByBusinessDate(businessDate,
+                FieldSelection.parse(fields, InventoryStatusRepository.FIELDS));
+    }
+
+    /**
+     * 業務日付の在庫ステータスを品物情報なしで取得する（品物は itemId で参照する）
+     */
+    @Transactional(readOnly = true)
+    public List<InventoryStatus> getInventoryStatusSlimByDate(LocalDate businessDate) {
+        return inventoryStatusRepository.findSlimByBusinessDate(businessDate);
+    }
+
     @Transactional(readOnly = true)
     public Optional<InventoryStatus> getInventoryStatusById(UUID id) {
         return inventoryStatusRepository.findById(id);
@@ -33,21 +60,42 @@ public class InventoryStatusService {
         if (inventoryStatus.getId() == null) {
             // 新規作成
             inventoryStatusRepository.insert(inventoryStatus);
+            eventPublisher.publishEvent(new InventoryStatusChangedEvent(inventoryStatus.getBusinessDate()));
             // 作成後に再取得（item情報を含む）
-            return inventoryStatusRepository.findById(inventoryStatus.getId())
+            return inventoryStatusRepository.findById(inventoryStatus.getId(), inventoryStatus.getBusinessDate())
                     .orElseThrow(() -> new RuntimeException("Failed to create inventory status"));
         } else {
             // 更新（楽観ロック対応）
             int updated = inventoryStatusRepository.update(inventoryStatus);
             if (updated == 0) {
-                throw new OptimisticLockException("Version mismatch. The data has been updated by another user.");
+                throw updateFailure(inventoryStatus);
             }
+            eventPublisher.publishEvent(new InventoryStatusChangedEvent(inventoryStatus.getBusinessDate()));
             // 更新後に再取得（item情報を含む）
-            return inventoryStatusRepository.findById(inventoryStatus.getId())
+            return inventoryStatusRepository.findById(inventoryStatus.getId(), inventoryStatus.getBusinessDate())
                     .orElseThrow(() -> new RuntimeException("Failed to update inventory status"));
         }
     }
 
+    /**
+     * 更新件数が0だった原因に応じた例外
+     * 更新は業務日付でパーティションを絞り込むため、0件には版の不一致のほかに
+     * 行が存在しない場合と業務日付が保存済みの値と異なる場合が含まれる。
+     * 失敗時だけ業務日付を指定せずに読み直して区別する。
+     */
+    private RuntimeException updateFailure(InventoryStatus inventoryStatus) {
+        Optional<InventoryStatus> stored = inventoryStatusRepository.findById(inventoryStatus.getId());
+        if (stored.isEmpty()) {
+            return new ResourceNotFoundException("Inventory status not found: " + inventoryStatus.getId());
+        }
+        LocalDate storedDate = stored.get().getBusinessDate();
+        if (inventoryStatus.getBusinessDate() != null && !inventoryStatus.getBusinessDate().equals(storedDate)) {
+            return new InvalidRequestException("businessDate " + inventoryStatus.getBusinessDate()
+                    + " does not match the stored inventory status (" + storedDate + "): " + inventoryStatus.getId());
+        }
+        return new OptimisticLockException("Version mismatch. The data has been updated by another user.");
+    }
+
     public void saveInventoryStatusesBulk(List<InventoryStatus> inventoryStatuses) {
         for (InventoryStatus status : inventoryStatuses) {
             saveInventoryStatus(status);
@@ -55,6 +103,8 @@ public class InventoryStatusService {
     }
 
     public void deleteInventoryStatus(UUID id) {
-        inventoryStatusRepository.delete(id);
+        // 削除した行の業務日付だけを対象にする（該当する行がなければ何も変わらない）
+        inventoryStatusRepository.delete(id)
+                .ifPresent(businessDate -> eventPublisher.publishEvent(new InventoryStatusChangedEvent(businessDate)));
     }
 }
@@ -1,6 +1,7 @@
 package com.restaurant.operationsprepare.service;
 
 import com.restaurant.operationsprepare.entity.Item;
+import com.restaurant.operationsprepare.repository.FieldSelection;
 import com.restaurant.operationsprepare.repository.ItemRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -22,6 +23,16 @@ public class ItemService {
         return itemRepository.findAll();
     }
 
+    /**
+     * 全品物を取得する（fields で指定した項目だけを取得・返却する）
+     *
+     * @param fields カンマ区切りの項目名（null または空の場合はすべての項目）
+     */
+    @Transactional(readOnly = true)
+    public List<Item> getAllItems(String fields) {
+        return itemRepository.findAll(FieldSelection.parse(fields, ItemRepository.FIELDS));
+    }
+
     @Transactional(readOnly = true)
     public Optional<Item> getItemById(UUID id) {
         return itemRepository.findById(id);
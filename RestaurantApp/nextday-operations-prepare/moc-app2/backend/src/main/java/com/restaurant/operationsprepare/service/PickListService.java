@@ -0,0 +1,101 @@
+package com.restaurant.operationsprepare.service;
+
+import com.restaurant.operationsprepare.dto.PickListDestinationDto;
+import com.restaurant.operationsprepare.dto.PickListItemDto;
+import com.restaurant.operationsprepare.dto.PickListRowDto;
+import com.restaurant.operationsprepare.dto.PickListSourceDto;
+import com.restaurant.operationsprepare.event.InventoryStatusChangedEvent;
+import com.restaurant.operationsprepare.repository.PickListRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 業務日付のピッキングリストの作成とキャッシュ
+ *
+ * 補充が必要な品物を1クエリで取得して補充元 → 補充先 → 品物の入れ子にし、
+ * その業務日付の在庫ステータスが変更される（InventoryStatusChangedEvent）までメモリ上に保持する。
+ * キャッシュ済みの場合はDBコネクションを使わない。
+ */
+@Service
+public class PickListService {
+
+    @Autowired
+    private PickListRepository pickListRepository;
+
+    // キャッシュする業務日付の数の上限（超えた場合はすべて破棄する）
+    @Value("${app.pick-list.cache-max-dates:31}")
+    private int cacheMaxDates;
+
+    // 在庫ステータス変更のたびに進める世代番号（作成中に変更された古いリストをキャッシュしないため）
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Map<LocalDate, List<PickListSourceDto>> cache = new ConcurrentHashMap<>();
+
+    public List<PickListSourceDto> getPickList(LocalDate businessDate) {
+        List<PickListSourceDto> cached = cache.get(businessDate);
+        if (cached != null) {
+            return cached;
+        }
+        long currentGeneration = generation.get();
+        List<PickListSourceDto> pickList = build(pickListRepository.findByBusinessDate(businessDate));
+        if (cache.size() >= cacheMaxDates) {
+            cache.clear();
+        }
+        cache.put(businessDate, pickList);
+        // 作成中から格納までの間に変更された場合は、格納したリストを破棄する
+        // （格納後の変更はイベントの処理で破棄されるため、古いリストが残らない）
+        if (generation.get() != currentGeneration) {
+            cache.remove(businessDate, pickList);
+        }
+        return pickList;
+    }
+
+    /**
+     * 在庫ステータス変更のコミット後に該当する業務日付のキャッシュを破棄する
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInventoryStatusChanged(InventoryStatusChangedEvent event) {
+        generation.incrementAndGet();
+        if (event.businessDate() == null) {
+            cache.clear();
+        } else {
+            cache.remove(event.businessDate());
+        }
+    }
+
+    /**
+     * 補充元 → 補充先 → 品物の順に並んだ行を入れ子にする（並び順はSQLのまま）
+     */
+    static List<PickListSourceDto> build(List<PickListRowDto> rows) {
+        List<PickListSourceDto> sources = new ArrayList<>();
+        PickListSourceDto source = null;
+        PickListDestinationDto destination = null;
+        for (PickListRowDto row : rows) {
+            if (source == null || !Objects.equals(source.getSourceId(), row.getSource_id())) {
+                source = new PickListSourceDto(row.getSource_id(), row.getSource_name(),
+                        row.getSource_display_order(), new ArrayList<>());
+                sources.add(source);
+                destination = null;
+            }
+            if (destination == null || !Objects.equals(destination.getDestinationId(), row.getDestination_id())) {
+                destination = new PickListDestinationDto(row.getDestination_id(), row.getDestination_name(),
+                        row.getDestination_display_order(), new ArrayList<>());
+                source.getDestinations().add(destination);
+            }
+            destination.getItems().add(new PickListItemDto(row.getInventory_status_id(), row.getItem_id(),
+                    row.getItem_name(), row.getItem_unit(), row.getInventory_count(),
+                    row.getReplenishment_count(), row.getReplenishment_note(), row.getVersion()));
+        }
+        return List.copyOf(sources);
+    }
+}
@@ -1,6 +1,7 @@
 package com.restaurant.operationsprepare.service;
 
 import com.restaurant.operationsprepare.entity.Place;
+import com.restaurant.operationsprepare.repository.FieldSelection;
 import com.restaurant.operationsprepare.repository.PlaceRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -20,6 +21,16 @@ public class PlaceService {
         return placeRepository.findAll();
     }
 
+    /**
+     * 全場所を取得する（fields で指定した項目だけを取得・返却する）
+     *
+     * @param fields カンマ区切りの項目名（null または空の場合はすべての項目）
+     */
+    @Transactional(readOnly = true)
+    public List<Place> getAllPlaces(String fields) {
+        return placeRepository.findAll(FieldSelection.parse(fields, PlaceRepository.FIELDS));
+    }
+
     @Transactional(readOnly = true)
     public List<Place> getPlacesByType(String type) {
         return placeRepository.findByType(type);
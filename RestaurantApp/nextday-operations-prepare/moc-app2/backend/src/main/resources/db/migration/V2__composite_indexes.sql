@@ -0,0 +1,33 @@
+-- moc-app2 既存DBのインデックスを、実際のクエリの形（src/main/resources/sql）に合わせた複合インデックスへ置き換える
+--
+-- CONCURRENTLY のためトランザクション外で1文ずつ実行する（V2__composite_indexes.sql.conf）。
+-- 書き込みを止めずに適用できる。途中で失敗した場合は INVALID のインデックスが残るため、
+-- DROP INDEX し、flyway_schema_history の失敗した行を削除してから再起動する。
+
+-- item_replenishment: 補充元/補充先で絞り込み item_id だけを参照する（item/select_by_*_id.sql）
+-- item_id を含めることでテーブルを読まずにインデックスのみで結合できる
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_item_replenishment_source_item
+    ON item_replenishment (source_location_id, item_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_item_replenishment_destination_item
+    ON item_replenishment (destination_location_id, item_id);
+
+-- 先頭列が同じ複合インデックスで代替できる単一列インデックスを削除
+DROP INDEX CONCURRENTLY IF EXISTS idx_item_replenishment_source_location;
+DROP INDEX CONCURRENTLY IF EXISTS idx_item_replenishment_destination_location;
+
+-- inventory_status: 業務日付での検索は UNIQUE(business_date, item_id) のインデックスで足りる
+DROP INDEX CONCURRENTLY IF EXISTS idx_inventory_status_business_date;
+
+-- place: 種別で絞り込み表示順に並べる（place/select_by_type.sql）
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_place_type_display_order
+    ON place (type, display_order NULLS LAST, name);
+DROP INDEX CONCURRENTLY IF EXISTS idx_place_type;
+DROP INDEX CONCURRENTLY IF EXISTS idx_place_display_order;
+
+-- item: 品物名順の一覧（item/select_all.sql と各一覧の並び順）
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_item_name ON item (name);
+
+ANALYZE item_replenishment;
+ANALYZE inventory_status;
+ANALYZE place;
+ANALYZE item;
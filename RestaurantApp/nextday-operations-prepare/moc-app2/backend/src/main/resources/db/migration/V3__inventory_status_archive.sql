@@ -0,0 +1,33 @@
+-- 保持期間を過ぎた在庫ステータスの移動先と日次集計のテーブルを追加する
+-- （InventoryStatusRetentionService が業務日付ごとに移動・集計する）
+-- database/schema.sql で作成したDBには作成済みのため、存在する場合は何もしない
+
+-- 在庫補充状況アーカイブ（保持期間を過ぎた inventory_status の移動先）
+-- 参照のみのため、業務日付と品物の主キー以外のインデックスや外部キーは持たない
+CREATE TABLE IF NOT EXISTS inventory_status_archive (
+    business_date DATE NOT NULL, -- 業務日付
+    item_id UUID NOT NULL, -- 品物ID（品物の削除後も残すため外部キーなし）
+    inventory_check_status VARCHAR(50) NOT NULL, -- 在庫確認ステータス（code）
+    replenishment_status VARCHAR(50) NOT NULL, -- 補充ステータス（code）
+    preparation_status VARCHAR(50) NOT NULL, -- 作成ステータス（code）
+    order_request_status VARCHAR(50) NOT NULL, -- 発注依頼ステータス（code）
+    inventory_count INTEGER, -- 在庫数
+    replenishment_count INTEGER, -- 補充数
+    replenishment_note TEXT, -- 補充メモ
+    updated_at TIMESTAMP WITH TIME ZONE, -- 移動前の最終更新日時
+    archived_at TIMESTAMP WITH TIME ZONE DEFAULT NOW(),
+    PRIMARY KEY (business_date, item_id)
+);
+
+-- 在庫補充状況の日次集計（アーカイブ済みの業務日付ごと）
+CREATE TABLE IF NOT EXISTS inventory_status_daily_summary (
+    business_date DATE PRIMARY KEY, -- 業務日付
+    item_count INTEGER NOT NULL, -- 品物数
+    total_inventory_count BIGINT NOT NULL, -- 在庫数の合計
+    total_replenishment_count BIGINT NOT NULL, -- 補充数の合計
+    unchecked_count INTEGER NOT NULL, -- 在庫確認が未確認（01）のまま残った品物数
+    replenishment_required_count INTEGER NOT NULL, -- 補充が必要（99以外）だった品物数
+    preparation_required_count INTEGER NOT NULL, -- 作成が必要（99以外）だった品物数
+    order_request_required_count INTEGER NOT NULL, -- 発注依頼が必要（99以外）だった品物数
+    summarized_at TIMESTAMP WITH TIME ZONE DEFAULT NOW()
+);
@@ -0,0 +1,96 @@
+-- inventory_status を業務日付の月単位のパーティションテーブルへ移行する
+--
+-- すべての検索・更新が業務日付で絞り込むため、対象の月のパーティションだけを読む（パーティションプルーニング）。
+-- 既存の行を新しいテーブルへ複製するため、移行中は書き込みを止めること
+-- （全インスタンスを停止し、migrate プロファイルで実行する）。
+--
+-- パーティションテーブルの主キー・一意制約にはパーティションキーを含める必要があるため、
+-- 主キーを (id, business_date) とする。UNIQUE(business_date, item_id) は各パーティションで有効。
+-- database/schema.sql で作成したDBは作成時からパーティションテーブルのため何もしない。
+
+DO $migration$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = 'inventory_status'::regclass) THEN
+        RETURN;
+    END IF;
+
+    -- 既存テーブルを退避（インデックス名は新テーブルで使うため変更する）
+    ALTER TABLE inventory_status RENAME TO inventory_status_unpartitioned;
+    ALTER INDEX inventory_status_pkey RENAME TO inventory_status_unpartitioned_pkey;
+    ALTER INDEX inventory_status_business_date_item_id_key RENAME TO inventory_status_unpartitioned_business_date_item_id_key;
+    ALTER INDEX IF EXISTS idx_inventory_status_item_id RENAME TO idx_inventory_status_unpartitioned_item_id;
+
+    CREATE TABLE inventory_status (
+        id UUID NOT NULL DEFAULT gen_random_uuid(),
+        business_date DATE NOT NULL, -- 業務日付
+        item_id UUID NOT NULL REFERENCES item(id),
+        inventory_check_status VARCHAR(50) NOT NULL DEFAULT '01', -- 在庫確認ステータス（code）
+        replenishment_status VARCHAR(50) NOT NULL DEFAULT '99', -- 補充ステータス（code）
+        preparation_status VARCHAR(50) NOT NULL DEFAULT '99', -- 作成ステータス（code）
+        order_request_status VARCHAR(50) NOT NULL DEFAULT '99', -- 発注依頼ステータス（code）
+        inventory_count INTEGER DEFAULT 0, -- 在庫数
+        replenishment_count INTEGER DEFAULT 0, -- 補充数
+        replenishment_note TEXT, -- 補充メモ
+        version INTEGER DEFAULT 0 NOT NULL, -- 楽観ロック用バージョン列
+        created_at TIMESTAMP WITH TIME ZONE DEFAULT NOW(),
+        updated_at TIMESTAMP WITH TIME ZONE DEFAULT NOW(),
+        PRIMARY KEY (id, business_date),
+        UNIQUE (business_date, item_id)
+    ) PARTITION BY RANGE (business_date);
+
+    CREATE INDEX idx_inventory_status_item_id ON inventory_status(item_id);
+
+    -- 指定日付を含む月のパーティション（inventory_status_YYYYMM）を作成（作成済みの場合は何もしない）
+    -- 既定パーティションにその月の行が入っている場合は、新しいパーティションへ移してから接続する
+    -- アプリケーションの InventoryStatusPartitionMaintainer が先の月の分を定期的に作成する
+    CREATE OR REPLACE FUNCTION ensure_inventory_status_partition(target_date DATE) RETURNS TEXT AS $$
+    DECLARE
+        month_start DATE := date_trunc('month', target_date)::DATE;
+        month_end DATE := (date_trunc('month', target_date) + INTERVAL '1 month')::DATE;
+        partition_name TEXT := 'inventory_status_' || to_char(month_start, 'YYYYMM');
+    BEGIN
+        IF to_regclass(partition_name) IS NOT NULL THEN
+            RETURN partition_name;
+        END IF;
+        IF to_regclass('inventory_status_default') IS NOT NULL THEN
+            IF EXISTS (SELECT 1 FROM inventory_status_default
+                       WHERE business_date >= month_start AND business_date < month_end) THEN
+                EXECUTE format('CREATE TABLE %I (LIKE inventory_status INCLUDING DEFAULTS)', partition_name);
+                EXECUTE format('WITH moved AS (DELETE FROM inventory_status_default'
+                               || ' WHERE business_date >= %L AND business_date < %L RETURNING *)'
+                               || ' INSERT INTO %I SELECT * FROM moved',
+                               month_start, month_end, partition_name);
+                EXECUTE format('ALTER TABLE inventory_status ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                               partition_name, month_start, month_end);
+                RETURN partition_name;
+            END IF;
+        END IF;
+        EXECUTE format('CREATE TABLE %I PARTITION OF inventory_status FOR VALUES FROM (%L) TO (%L)',
+                       partition_name, month_start, month_end);
+        RETURN partition_name;
+    END;
+    $$ LANGUAGE plpgsql;
+
+    -- 既存データのある月と、当月から2か月先までのパーティションを作成
+    PERFORM ensure_inventory_status_partition(month::DATE)
+    FROM (
+        SELECT DISTINCT date_trunc('month', business_date) AS month
+        FROM inventory_status_unpartitioned
+        UNION
+        SELECT date_trunc('month', CURRENT_DATE + (n || ' month')::INTERVAL)
+        FROM generate_series(0, 2) AS n
+    ) AS months;
+
+    -- どの月のパーティションにも入らない日付の受け皿（作成時に該当する月のパーティションへ移す）
+    CREATE TABLE inventory_status_default PARTITION OF inventory_status DEFAULT;
+
+    INSERT INTO inventory_status
+    SELECT * FROM inventory_status_unpartitioned;
+
+    DROP TABLE inventory_status_unpartitioned;
+
+    CREATE TRIGGER update_inventory_status_updated_at BEFORE UPDATE ON inventory_status FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+END
+$migration$;
+
+ANALYZE inventory_status;
@@ -0,0 +1,31 @@
+-- 保持期間を過ぎて空になった月のパーティションを削除する関数を追加する
+-- （InventoryStatusRetentionService が行をアーカイブへ移した後、InventoryStatusPartitionMaintainer が呼び出す）
+
+-- 指定した月のパーティションが空の場合に切り離して削除する（行が残っている場合・存在しない場合は何もしない）
+-- 切り離しは親テーブルの排他ロックを取るため、ロックを待つ時間を lock_timeout で制限する。
+-- 既定パーティションがあるため DETACH PARTITION CONCURRENTLY は使えない。
+CREATE OR REPLACE FUNCTION drop_empty_inventory_status_partition(partition_name TEXT, lock_wait TEXT)
+RETURNS BOOLEAN AS $$
+DECLARE
+    has_rows BOOLEAN;
+BEGIN
+    IF to_regclass(partition_name) IS NULL THEN
+        RETURN FALSE;
+    END IF;
+    -- 行が残っている場合は親テーブルをロックせずに終える
+    EXECUTE format('SELECT EXISTS (SELECT 1 FROM %I)', partition_name) INTO has_rows;
+    IF has_rows THEN
+        RETURN FALSE;
+    END IF;
+    PERFORM set_config('lock_timeout', lock_wait, true);
+    EXECUTE 'LOCK TABLE inventory_status IN ACCESS EXCLUSIVE MODE';
+    -- ロックを待つ間に書き込まれた行がないことを確かめる
+    EXECUTE format('SELECT EXISTS (SELECT 1 FROM %I)', partition_name) INTO has_rows;
+    IF has_rows THEN
+        RETURN FALSE;
+    END IF;
+    EXECUTE format('ALTER TABLE inventory_status DETACH PARTITION %I', partition_name);
+    EXECUTE format('DROP TABLE %I', partition_name);
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
@@ -1,5 +1,6 @@
--- 在庫ステータスを削除
+-- 在庫ステータスを削除（削除した行の業務日付を返す。該当する行がない場合は0行）
 DELETE FROM inventory_status
 WHERE
     id = /*id*/'00000000-0000-0000-0000-000000000000'::uuid
-
+RETURNING
+    business_date
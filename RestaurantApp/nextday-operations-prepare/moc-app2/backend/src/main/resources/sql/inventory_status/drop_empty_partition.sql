@@ -0,0 +1,2 @@
+-- 空のパーティションを切り離して削除（行が残っている場合は何もしない）
+SELECT drop_empty_inventory_status_partition(/*partitionName*/'inventory_status_202501', /*lockTimeout*/'5s') AS dropped
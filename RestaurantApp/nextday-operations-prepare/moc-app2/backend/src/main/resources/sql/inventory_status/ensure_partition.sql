@@ -0,0 +1,2 @@
+-- 指定日付を含む月のパーティションを作成（作成済みの場合は何もしない）
+SELECT ensure_inventory_status_partition(/*targetDate*/'2025-01-01'::date) AS partition_name
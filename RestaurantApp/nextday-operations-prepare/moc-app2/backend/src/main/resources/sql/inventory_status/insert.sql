@@ -1,4 +1,6 @@
 -- 在庫ステータスを新規作成
+-- 業務日付の月のパーティションへ格納される（未作成の月は inventory_status_default に入り、
+-- ensure_inventory_status_partition でその月のパーティションを作成した時に移される）
 INSERT INTO inventory_status (
     id,
     business_date,
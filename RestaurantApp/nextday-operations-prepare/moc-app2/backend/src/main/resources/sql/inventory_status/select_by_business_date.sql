@@ -1,25 +1,54 @@
 -- 業務日付で在庫ステータスを取得（item情報をJOIN）
+-- inventory_status は業務日付の月単位のパーティションテーブルのため、該当する月のパーティションだけを読む
+-- fields（選択された項目名）に含まれない列は取得しない（id は常に取得する）
+-- item は品物名の並び順のため常にJOINし、fields に "item" がある場合だけ品物の列を取得する
 SELECT
-    ins.id,
-    ins.business_date,
-    ins.item_id,
-    ins.inventory_check_status,
-    ins.replenishment_status,
-    ins.preparation_status,
-    ins.order_request_status,
-    ins.inventory_count,
-    ins.replenishment_count,
-    ins.replenishment_note,
-    ins.version,
-    ins.created_at,
-    ins.updated_at,
-    i.id AS "item_id2",
-    i.name AS "item_name",
-    i.description AS "item_description",
-    i.unit AS "item_unit",
-    i.pattern_type AS "item_pattern_type",
-    i.created_at AS "item_created_at",
-    i.updated_at AS "item_updated_at"
+    ins.id
+/*IF fields.contains("businessDate")*/
+    , ins.business_date
+/*END*/
+/*IF fields.contains("itemId")*/
+    , ins.item_id
+/*END*/
+/*IF fields.contains("inventoryCheckStatus")*/
+    , ins.inventory_check_status
+/*END*/
+/*IF fields.contains("replenishmentStatus")*/
+    , ins.replenishment_status
+/*END*/
+/*IF fields.contains("preparationStatus")*/
+    , ins.preparation_status
+/*END*/
+/*IF fields.contains("orderRequestStatus")*/
+    , ins.order_request_status
+/*END*/
+/*IF fields.contains("inventoryCount")*/
+    , ins.inventory_count
+/*END*/
+/*IF fields.contains("replenishmentCount")*/
+    , ins.replenishment_count
+/*END*/
+/*IF fields.contains("replenishmentNote")*/
+    , ins.replenishment_note
+/*END*/
+/*IF fields.contains("version")*/
+    , ins.version
+/*END*/
+/*IF fields.contains("createdAt")*/
+    , ins.created_at
+/*END*/
+/*IF fields.contains("updatedAt")*/
+    , ins.updated_at
+/*END*/
+/*IF fields.contains("item")*/
+    , i.id AS "item_id2"
+    , i.name AS "item_name"
+    , i.description AS "item_description"
+    , i.unit AS "item_unit"
+    , i.pattern_type AS "item_pattern_type"
+    , i.created_at AS "item_created_at"
+    , i.updated_at AS "item_updated_at"
+/*END*/
 FROM
     inventory_status ins
     INNER JOIN item i ON ins.item_id = i.id
@@ -27,4 +56,3 @@ WHERE
     ins.business_date = /*businessDate*/'2025-01-01'
 ORDER BY
     i.name ASC
-
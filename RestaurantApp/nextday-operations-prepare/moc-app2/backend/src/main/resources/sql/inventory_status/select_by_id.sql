@@ -1,4 +1,5 @@
 -- IDで在庫ステータスを取得（item情報をJOIN）
+-- 業務日付を指定しない場合はすべてのパーティションの主キーを検索する
 SELECT
     ins.id,
     ins.business_date,
@@ -25,4 +26,8 @@ FROM
     INNER JOIN item i ON ins.item_id = i.id
 WHERE
     ins.id = /*id*/'00000000-0000-0000-0000-000000000000'::uuid
+/*IF businessDate != null*/
+    -- 業務日付が分かる場合は該当する月のパーティションだけを読む
+    AND ins.business_date = /*businessDate*/'2025-01-01'
+/*END*/
 
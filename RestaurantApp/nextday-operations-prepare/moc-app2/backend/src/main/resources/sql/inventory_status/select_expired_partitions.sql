@@ -0,0 +1,12 @@
+-- 基準日より前に終わる月のパーティション（inventory_status_YYYYMM）を古い順に取得
+SELECT
+    c.relname AS partition_name
+FROM
+    pg_inherits i
+    INNER JOIN pg_class c ON c.oid = i.inhrelid
+WHERE
+    i.inhparent = 'inventory_status'::regclass
+    AND c.relname ~ '^inventory_status_[0-9]{6}$'
+    AND (to_date(right(c.relname, 6), 'YYYYMM') + INTERVAL '1 month')::DATE <= /*cutoffDate*/'2025-01-01'::date
+ORDER BY
+    c.relname
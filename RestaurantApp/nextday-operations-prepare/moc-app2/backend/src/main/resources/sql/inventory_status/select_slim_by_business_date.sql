@@ -0,0 +1,23 @@
+-- 業務日付で在庫ステータスを取得（品物の列を含まない一覧用）
+-- 品物は item/select_all で別に取得し、item_id で参照する。item は並び順（品物名）のためだけに結合する
+SELECT
+    ins.id,
+    ins.business_date,
+    ins.item_id,
+    ins.inventory_check_status,
+    ins.replenishment_status,
+    ins.preparation_status,
+    ins.order_request_status,
+    ins.inventory_count,
+    ins.replenishment_count,
+    ins.replenishment_note,
+    ins.version,
+    ins.created_at,
+    ins.updated_at
+FROM
+    inventory_status ins
+    INNER JOIN item i ON ins.item_id = i.id
+WHERE
+    ins.business_date = /*businessDate*/'2025-01-01'
+ORDER BY
+    i.name ASC
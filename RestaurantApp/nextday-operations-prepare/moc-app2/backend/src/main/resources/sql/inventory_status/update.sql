@@ -12,5 +12,9 @@ SET
     updated_at = NOW()
 WHERE
     id = /*id*/'00000000-0000-0000-0000-000000000000'::uuid
+/*IF businessDate != null*/
+    -- 業務日付が分かる場合は該当する月のパーティションだけを更新対象にする
+    AND business_date = /*businessDate*/'2025-01-01'
+/*END*/
     AND version = /*version*/0
 
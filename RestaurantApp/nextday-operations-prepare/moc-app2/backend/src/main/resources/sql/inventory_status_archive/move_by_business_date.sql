@@ -0,0 +1,60 @@
+-- 指定業務日付の在庫ステータスを最大 batchSize 件、アーカイブテーブルへ移動する
+-- 削除と挿入を1文で行うため、途中で失敗しても行が失われたり重複したりしない。
+-- 更新中の行はロックを待たずに読み飛ばす（次回の実行で移動する）。
+WITH moved AS (
+    DELETE FROM inventory_status
+    WHERE id IN (
+        SELECT id
+        FROM inventory_status
+        WHERE business_date = /*businessDate*/'2025-01-01'
+        LIMIT /*batchSize*/1000
+        FOR UPDATE SKIP LOCKED
+    )
+    AND business_date = /*businessDate*/'2025-01-01'
+    RETURNING
+        business_date,
+        item_id,
+        inventory_check_status,
+        replenishment_status,
+        preparation_status,
+        order_request_status,
+        inventory_count,
+        replenishment_count,
+        replenishment_note,
+        updated_at
+)
+INSERT INTO inventory_status_archive (
+    business_date,
+    item_id,
+    inventory_check_status,
+    replenishment_status,
+    preparation_status,
+    order_request_status,
+    inventory_count,
+    replenishment_count,
+    replenishment_note,
+    updated_at
+)
+SELECT
+    business_date,
+    item_id,
+    inventory_check_status,
+    replenishment_status,
+    preparation_status,
+    order_request_status,
+    inventory_count,
+    replenishment_count,
+    replenishment_note,
+    updated_at
+FROM
+    moved
+ON CONFLICT (business_date, item_id) DO UPDATE SET
+    inventory_check_status = EXCLUDED.inventory_check_status,
+    replenishment_status = EXCLUDED.replenishment_status,
+    preparation_status = EXCLUDED.preparation_status,
+    order_request_status = EXCLUDED.order_request_status,
+    inventory_count = EXCLUDED.inventory_count,
+    replenishment_count = EXCLUDED.replenishment_count,
+    replenishment_note = EXCLUDED.replenishment_note,
+    updated_at = EXCLUDED.updated_at,
+    archived_at = NOW()
@@ -0,0 +1,11 @@
+-- アーカイブ対象の業務日付のうち、指定日付より後で最も古いものを取得
+-- （UNIQUE(business_date, item_id) のインデックスの先頭を読むだけで求まる）
+SELECT
+    MIN(business_date) AS business_date
+FROM
+    inventory_status
+WHERE
+    business_date < /*cutoffDate*/'2025-01-01'
+/*IF afterDate != null*/
+    AND business_date > /*afterDate*/'2024-01-01'
+/*END*/
@@ -0,0 +1,23 @@
+-- 期間で日次集計を取得（業務日付順）
+SELECT
+    business_date,
+    item_count,
+    total_inventory_count,
+    total_replenishment_count,
+    unchecked_count,
+    replenishment_required_count,
+    preparation_required_count,
+    order_request_required_count,
+    summarized_at
+FROM
+    inventory_status_daily_summary
+WHERE
+    1 = 1
+/*IF fromDate != null*/
+    AND business_date >= /*fromDate*/'2025-01-01'
+/*END*/
+/*IF toDate != null*/
+    AND business_date <= /*toDate*/'2025-12-31'
+/*END*/
+ORDER BY
+    business_date ASC
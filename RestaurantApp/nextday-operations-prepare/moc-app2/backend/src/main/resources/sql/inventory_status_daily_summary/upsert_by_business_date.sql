@@ -0,0 +1,35 @@
+-- アーカイブ済みの行から指定業務日付の日次集計を作成（作成済みの場合は再集計）
+INSERT INTO inventory_status_daily_summary (
+    business_date,
+    item_count,
+    total_inventory_count,
+    total_replenishment_count,
+    unchecked_count,
+    replenishment_required_count,
+    preparation_required_count,
+    order_request_required_count
+)
+SELECT
+    business_date,
+    COUNT(*),
+    COALESCE(SUM(inventory_count), 0),
+    COALESCE(SUM(replenishment_count), 0),
+    COUNT(*) FILTER (WHERE inventory_check_status = '01'),
+    COUNT(*) FILTER (WHERE replenishment_status <> '99'),
+    COUNT(*) FILTER (WHERE preparation_status <> '99'),
+    COUNT(*) FILTER (WHERE order_request_status <> '99')
+FROM
+    inventory_status_archive
+WHERE
+    business_date = /*businessDate*/'2025-01-01'
+GROUP BY
+    business_date
+ON CONFLICT (business_date) DO UPDATE SET
+    item_count = EXCLUDED.item_count,
+    total_inventory_count = EXCLUDED.total_inventory_count,
+    total_replenishment_count = EXCLUDED.total_replenishment_count,
+    unchecked_count = EXCLUDED.unchecked_count,
+    replenishment_required_count = EXCLUDED.replenishment_required_count,
+    preparation_required_count = EXCLUDED.preparation_required_count,
+    order_request_required_count = EXCLUDED.order_request_required_count,
+    summarized_at = NOW()
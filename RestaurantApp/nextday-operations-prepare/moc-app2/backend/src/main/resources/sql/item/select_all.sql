@@ -1,14 +1,27 @@
+-- 品物を全件取得
+-- fields（選択された項目名）に含まれない列は取得しない（id は常に取得する）
 SELECT
-    id,
-    name,
-    description,
-    unit,
-    pattern_type AS "patternType",
-    created_at AS "createdAt",
-    updated_at AS "updatedAt"
+    id
+/*IF fields.contains("name")*/
+    , name
+/*END*/
+/*IF fields.contains("description")*/
+    , description
+/*END*/
+/*IF fields.contains("unit")*/
+    , unit
+/*END*/
+/*IF fields.contains("patternType")*/
+    , pattern_type AS "patternType"
+/*END*/
+/*IF fields.contains("createdAt")*/
+    , created_at AS "createdAt"
+/*END*/
+/*IF fields.contains("updatedAt")*/
+    , updated_at AS "updatedAt"
+/*END*/
 FROM
     item
 ORDER BY
     name
 
-
@@ -0,0 +1,36 @@
+-- 業務日付のピッキングリスト（補充が必要な品物を補充元・補充先ごとに並べる）を取得
+-- 補充ステータスが要補充（'01'）の在庫ステータスを補充パターン・補充元（'02'）・補充先・品物と結合し、
+-- 補充元 → 補充先 → 品物 の順に並べる。グループ化は呼び出し側で行う
+SELECT
+    src.id AS "source_id",
+    src.name AS "source_name",
+    src.display_order AS "source_display_order",
+    dst.id AS "destination_id",
+    dst.name AS "destination_name",
+    dst.display_order AS "destination_display_order",
+    i.id AS "item_id",
+    i.name AS "item_name",
+    i.unit AS "item_unit",
+    ins.id AS "inventory_status_id",
+    ins.inventory_count,
+    ins.replenishment_count,
+    ins.replenishment_note,
+    ins.version
+FROM
+    inventory_status ins
+    INNER JOIN item_replenishment ir ON ir.item_id = ins.item_id
+    INNER JOIN place src ON src.id = ir.source_location_id AND src.type = '02'
+    INNER JOIN place dst ON dst.id = ir.destination_location_id
+    INNER JOIN item i ON i.id = ins.item_id
+WHERE
+    ins.business_date = /*businessDate*/'2025-01-01'
+    AND ins.replenishment_status = '01'
+ORDER BY
+    src.display_order ASC NULLS LAST,
+    src.name ASC,
+    src.id ASC,
+    dst.display_order ASC NULLS LAST,
+    dst.name ASC,
+    dst.id ASC,
+    i.name ASC,
+    i.id ASC
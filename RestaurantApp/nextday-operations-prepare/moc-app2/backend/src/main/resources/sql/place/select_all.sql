@@ -1,14 +1,25 @@
+-- 場所を全件取得
+-- fields（選択された項目名）に含まれない列は取得しない（id は常に取得する）
 SELECT
-    id,
-    type,
-    name,
-    display_order AS "displayOrder",
-    created_at AS "createdAt",
-    updated_at AS "updatedAt"
+    id
+/*IF fields.contains("type")*/
+    , type
+/*END*/
+/*IF fields.contains("name")*/
+    , name
+/*END*/
+/*IF fields.contains("displayOrder")*/
+    , display_order AS "displayOrder"
+/*END*/
+/*IF fields.contains("createdAt")*/
+    , created_at AS "createdAt"
+/*END*/
+/*IF fields.contains("updatedAt")*/
+    , updated_at AS "updatedAt"
+/*END*/
 FROM
     place
 ORDER BY
     display_order NULLS LAST,
     name
 
-
@@ -1,8 +1,12 @@
 package com.restaurant.operationsprepare.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import com.restaurant.operationsprepare.entity.InventoryStatus;
 import com.restaurant.operationsprepare.entity.Item;
+import com.restaurant.operationsprepare.exception.InvalidFieldsException;
+import com.restaurant.operationsprepare.service.InventoryStatusRetentionService;
 import com.restaurant.operationsprepare.service.InventoryStatusService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,6 +22,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -32,6 +37,9 @@ class InventoryStatusControllerTest {
     @MockBean
     private InventoryStatusService inventoryStatusService;
 
+    @MockBean
+    private InventoryStatusRetentionService inventoryStatusRetentionService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -71,6 +79,88 @@ class InventoryStatusControllerTest {
                 .andExpect(jsonPath("$[0].item.name").value("テスト品物"));
     }
 
+    @Test
+    void testGetInventoryStatusByDateAsCbor() throws Exception {
+        UUID statusId = UUID.randomUUID();
+        InventoryStatus status = new InventoryStatus();
+        status.setId(statusId);
+        status.setBusinessDate(LocalDate.of(2025, 9, 27));
+        status.setReplenishmentStatus("要補充");
+        status.setInventoryCount(5);
+        when(inventoryStatusService.getInventoryStatusByDate(any(LocalDate.class)))
+                .thenReturn(List.of(status));
+
+        byte[] body = mockMvc.perform(get("/api/inventory-status")
+                        .param("businessDate", "2025-09-27")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // JSONと同じ項目名・値（UUID・日付は文字列）で返す
+        JsonNode node = new ObjectMapper(new CBORFactory()).readTree(body);
+        assertEquals(statusId.toString(), node.get(0).get("id").asText());
+        assertEquals("2025-09-27", node.get(0).get("businessDate").asText());
+        assertEquals("要補充", node.get(0).get("replenishmentStatus").asText());
+        assertEquals(5, node.get(0).get("inventoryCount").asInt());
+    }
+
+    @Test
+    void testGetInventoryStatusSlimByDate() throws Exception {
+        UUID itemId = UUID.randomUUID();
+        InventoryStatus status = new InventoryStatus();
+        status.setId(UUID.randomUUID());
+        status.setBusinessDate(LocalDate.of(2025, 9, 27));
+        status.setItemId(itemId);
+        status.setReplenishmentStatus("要補充");
+        status.setVersion(0);
+        when(inventoryStatusService.getInventoryStatusSlimByDate(any(LocalDate.class)))
+                .thenReturn(List.of(status));
+
+        // 品物情報を含めず、itemId で参照する
+        mockMvc.perform(get("/api/inventory-status")
+                        .param("businessDate", "2025-09-27")
+                        .param("view", "slim"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].itemId").value(itemId.toString()))
+                .andExpect(jsonPath("$[0].replenishmentStatus").value("要補充"))
+                .andExpect(jsonPath("$[0].item").doesNotExist());
+    }
+
+    @Test
+    void testGetInventoryStatusByDateWithFields() throws Exception {
+        UUID itemId = UUID.randomUUID();
+        InventoryStatus status = new InventoryStatus();
+        status.setId(UUID.randomUUID());
+        status.setItemId(itemId);
+        status.setReplenishmentStatus("要補充");
+        when(inventoryStatusService.getInventoryStatusByDate(any(LocalDate.class), eq("itemId,replenishmentStatus")))
+                .thenReturn(List.of(status));
+
+        // 選択しなかった項目はレスポンスに含めない
+        mockMvc.perform(get("/api/inventory-status")
+                        .param("businessDate", "2025-09-27")
+                        .param("fields", "itemId,replenishmentStatus"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").exists())
+                .andExpect(jsonPath("$[0].itemId").value(itemId.toString()))
+                .andExpect(jsonPath("$[0].replenishmentStatus").value("要補充"))
+                .andExpect(jsonPath("$[0].businessDate").doesNotExist())
+                .andExpect(jsonPath("$[0].item").doesNotExist());
+    }
+
+    @Test
+    void testGetInventoryStatusByDateWithUnknownFields() throws Exception {
+        when(inventoryStatusService.getInventoryStatusByDate(any(LocalDate.class), eq("unknown")))
+                .thenThrow(new InvalidFieldsException("指定できない項目です: unknown"));
+
+        mockMvc.perform(get("/api/inventory-status")
+                        .param("businessDate", "2025-09-27")
+                        .param("fields", "unknown"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("指定できない項目です: unknown"));
+    }
+
     @Test
     void testGetInventoryStatusById() throws Exception {
         UUID statusId = UUID.randomUUID();
@@ -0,0 +1,73 @@
+package com.restaurant.operationsprepare.controller;
+
+import com.restaurant.operationsprepare.config.HttpCacheConfig;
+import com.restaurant.operationsprepare.entity.Item;
+import com.restaurant.operationsprepare.service.ItemService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ItemController.class)
+@Import(HttpCacheConfig.class)
+class ItemControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ItemService itemService;
+
+    @Test
+    void testGetAllItemsReturnsNotModifiedForSameEtag() throws Exception {
+        Item item = new Item();
+        item.setId(UUID.randomUUID());
+        item.setName("テスト品物");
+        item.setUnit("個");
+        when(itemService.getAllItems()).thenReturn(List.of(item));
+
+        String etag = mockMvc.perform(get("/api/items"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(jsonPath("$[0].name").value("テスト品物"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        // 品物が変わっていなければ本文なしの 304 を返す
+        byte[] body = mockMvc.perform(get("/api/items").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andReturn().getResponse().getContentAsByteArray();
+        assertEquals(0, body.length);
+
+        // 品物が変わった場合は新しい本文を返す
+        item.setName("テスト品物（改）");
+        mockMvc.perform(get("/api/items").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("テスト品物（改）"));
+    }
+
+    @Test
+    void testGetAllItemsWithFields() throws Exception {
+        Item item = new Item();
+        item.setId(UUID.randomUUID());
+        item.setName("テスト品物");
+        when(itemService.getAllItems("name")).thenReturn(List.of(item));
+
+        mockMvc.perform(get("/api/items").param("fields", "name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("テスト品物"))
+                .andExpect(jsonPath("$[0].unit").doesNotExist());
+    }
+}
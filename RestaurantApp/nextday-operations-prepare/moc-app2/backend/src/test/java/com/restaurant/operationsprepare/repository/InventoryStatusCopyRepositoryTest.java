@@ -0,0 +1,125 @@
+package com.restaurant.operationsprepare.repository;
+
+import com.restaurant.operationsprepare.exception.CopyDataException;
+import com.restaurant.operationsprepare.exception.GlobalExceptionHandler;
+import com.restaurant.operationsprepare.repository.InventoryStatusCopyRepository.Format;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * COPY による出力・取り込みの往復と、データの誤りの変換を実際の PostgreSQL で確認する
+ *
+ * COPY はテストのトランザクションとは別の接続で実行されるため、テストのトランザクションは使わず、
+ * 他のデータと重ならない業務日付の行を作成して後片付けする。
+ */
+@JdbcTest
+@Import(InventoryStatusCopyRepository.class)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class InventoryStatusCopyRepositoryTest {
+
+    private static final LocalDate FROM_DATE = LocalDate.of(2099, 1, 1);
+    private static final LocalDate TO_DATE = LocalDate.of(2099, 1, 2);
+
+    private static final String SELECT_ROWS = "SELECT " + InventoryStatusCopyRepository.COLUMNS
+            + " FROM inventory_status WHERE business_date BETWEEN ? AND ? ORDER BY business_date, item_id";
+
+    @Autowired
+    private InventoryStatusCopyRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID testItemId;
+
+    @BeforeEach
+    void setUp() {
+        testItemId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO item (id, name) VALUES (?, 'copy test')", testItemId);
+        jdbcTemplate.update("INSERT INTO inventory_status (business_date, item_id, inventory_count,"
+                + " replenishment_count, replenishment_note) VALUES (?, ?, 3, 5, 'a,\"b\"')", FROM_DATE, testItemId);
+        jdbcTemplate.update("INSERT INTO inventory_status (business_date, item_id, inventory_count,"
+                + " replenishment_count, replenishment_note) VALUES (?, ?, 0, NULL, NULL)", TO_DATE, testItemId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM inventory_status WHERE item_id = ?", testItemId);
+        jdbcTemplate.update("DELETE FROM item WHERE id = ?", testItemId);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Format.class)
+    void testCopyOutAndCopyIn_RoundTrip(Format format) throws Exception {
+        List<Map<String, Object>> expected = selectRows();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(2, repository.copyOut(FROM_DATE, TO_DATE, format, out));
+
+        jdbcTemplate.update("DELETE FROM inventory_status WHERE item_id = ?", testItemId);
+        assertEquals(2, repository.copyIn(new ByteArrayInputStream(out.toByteArray()), format));
+
+        assertEquals(expected, selectRows());
+    }
+
+    @ParameterizedTest
+    @EnumSource(Format.class)
+    void testCopyIn_DuplicateKey(Format format) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        repository.copyOut(FROM_DATE, TO_DATE, format, out);
+
+        // 出力した行が残ったまま取り込むと主キー違反（SQLSTATE 23505）になる
+        CopyDataException exception = assertThrows(CopyDataException.class,
+                () -> repository.copyIn(new ByteArrayInputStream(out.toByteArray()), format));
+        assertEquals("23505", sqlState(exception));
+        assertEquals(HttpStatus.BAD_REQUEST, new GlobalExceptionHandler().handleCopyDataException(exception).getStatusCode());
+        assertEquals(2, selectRows().size());
+    }
+
+    @Test
+    void testCopyIn_InvalidData() {
+        String csv = InventoryStatusCopyRepository.COLUMNS.replace(" ", "") + "\n"
+                + UUID.randomUUID() + ",2099-01-01," + testItemId + ",01,99,99,99,1,1,,0,,\n"
+                + UUID.randomUUID() + ",2099-13-01," + testItemId + ",01,99,99,99,1,1,,0,,\n";
+
+        // 不正な日付（SQLSTATE 22008）は1行目を含めて取り込まれない
+        CopyDataException exception = assertThrows(CopyDataException.class,
+                () -> repository.copyIn(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), Format.CSV));
+        assertTrue(sqlState(exception).startsWith("22"));
+        assertTrue(exception.getMessage().contains("line 3"));
+        assertEquals(HttpStatus.BAD_REQUEST, new GlobalExceptionHandler().handleCopyDataException(exception).getStatusCode());
+        assertEquals(2, selectRows().size());
+    }
+
+    private List<Map<String, Object>> selectRows() {
+        return jdbcTemplate.queryForList(SELECT_ROWS, FROM_DATE, TO_DATE);
+    }
+
+    private static String sqlState(CopyDataException exception) {
+        return ((SQLException) exception.getCause()).getSQLState();
+    }
+}
@@ -0,0 +1,135 @@
+package com.restaurant.operationsprepare.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * src/main/resources/sql の参照系SQL（select*.sql）の実行計画の回帰テスト
+ *
+ * 大量データ（explain/large-dataset.sql）を投入して ANALYZE した上で EXPLAIN し、
+ * 大きなテーブルを Seq Scan するSQLがあれば失敗する。
+ * インデックスの削除やSQLの変更でインデックスが使われなくなったことを検出する。
+ * データはテストのトランザクションでロールバックされる。
+ *
+ * このテストは実際のPostgreSQLデータベース接続が必要（schema.sql 適用済み）
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional
+class QueryPlanRegressionTest {
+
+    /** この件数以上のテーブルの Seq Scan を失敗とする */
+    private static final long LARGE_TABLE_ROWS = 10_000;
+
+    /** 2WaySQLのバインド変数に入れる値（large-dataset.sql に存在する値） */
+    private static final Map<String, String> PARAMETERS = Map.of(
+            "businessDate", "'2030-01-15'",
+            "id", "'10000000-0000-0000-0000-00000000000a'",
+            "sourceId", "'00000000-0000-0000-0000-000000000003'",
+            "destinationId", "'00000000-0000-0000-0000-000000000019'",
+            "placeId", "'00000000-0000-0000-0000-000000000003'",
+            "type", "'01'",
+            "cutoffDate", "'2030-01-16'",
+            "afterDate", "'2030-01-01'",
+            "fromDate", "'2030-01-01'",
+            "toDate", "'2030-01-31'");
+
+    // バインド変数のコメントと、その直後のテスト用の値（文字列リテラルまたは数値）
+    private static final Pattern BIND_VARIABLE =
+            Pattern.compile("/\\*(\\w+)\\*/('(?:[^']|'')*'|-?\\d+(?:\\.\\d+)?)");
+
+    // 条件分岐のコメント（IF/ELSE/END など。中の句は残す）
+    private static final Pattern CONDITION_COMMENT =
+            Pattern.compile("/\\*(?:IF [^*]*|ELIF [^*]*|ELSE|END|BEGIN)\\*/");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() {
+        // テストのトランザクションと同じコネクションで投入する（終了時にロールバック）
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        ScriptUtils.executeSqlScript(connection, new ClassPathResource("explain/large-dataset.sql"));
+    }
+
+    @Test
+    void selectQueriesDoNotSeqScanLargeTables() throws Exception {
+        Resource[] resources = new PathMatchingResourcePatternResolver()
+                .getResources("classpath:sql/**/select*.sql");
+        assertFalse(resources.length == 0, "参照系SQLが見つからない");
+
+        List<String> violations = new ArrayList<>();
+        for (Resource resource : resources) {
+            String name = resource.getURL().getPath().replaceFirst(".*/sql/", "");
+            String sql = bind(name, resource.getContentAsString(StandardCharsets.UTF_8));
+            JsonNode plan = objectMapper.readTree(
+                    jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + sql, String.class));
+            collectLargeSeqScans(plan.get(0).get("Plan"), name, violations);
+        }
+
+        assertTrue(violations.isEmpty(), "大きなテーブルの Seq Scan:\n" + String.join("\n", violations));
+    }
+
+    private void collectLargeSeqScans(JsonNode node, String name, List<String> violations) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            String relation = node.path("Relation Name").asText();
+            Long rows = jdbcTemplate.queryForObject(
+                    "SELECT reltuples::bigint FROM pg_class WHERE relname = ?", Long.class, relation);
+            if (rows != null && rows >= LARGE_TABLE_ROWS) {
+                violations.add(String.format("%s: Seq Scan on %s (%d rows)", name, relation, rows));
+            }
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectLargeSeqScans(child, name, violations);
+        }
+    }
+
+    /**
+     * 2WaySQLのバインド変数を PARAMETERS の値に置き換え、条件分岐のコメントを外す
+     */
+    private static String bind(String name, String sql) {
+        Matcher matcher = BIND_VARIABLE.matcher(sql);
+        StringBuilder bound = new StringBuilder();
+        while (matcher.find()) {
+            String value = PARAMETERS.get(matcher.group(1));
+            if (value == null) {
+                fail(name + ": バインド変数 " + matcher.group(1) + " の値を PARAMETERS に追加してください");
+            }
+            matcher.appendReplacement(bound, Matcher.quoteReplacement(value));
+        }
+        matcher.appendTail(bound);
+        return CONDITION_COMMENT.matcher(bound).replaceAll("");
+    }
+}
@@ -0,0 +1,114 @@
+package com.restaurant.operationsprepare.service;
+
+import com.restaurant.operationsprepare.dto.InventoryStatusImportResult;
+import com.restaurant.operationsprepare.event.InventoryStatusChangedEvent;
+import com.restaurant.operationsprepare.exception.CopyDataException;
+import com.restaurant.operationsprepare.repository.InventoryStatusCopyRepository;
+import com.restaurant.operationsprepare.repository.InventoryStatusCopyRepository.Format;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryStatusCopyServiceTest {
+
+    @Mock
+    private InventoryStatusCopyRepository copyRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private InventoryStatusCopyService copyService;
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ReflectionTestUtils.setField(copyService, "meterRegistry", meterRegistry);
+    }
+
+    @Test
+    void testImportStatuses_RecordsBytesAndRows() throws Exception {
+        byte[] csv = "id,business_date\n1,2025-09-27\n".getBytes(StandardCharsets.UTF_8);
+        when(copyRepository.copyIn(any(InputStream.class), eq(Format.CSV))).thenAnswer(invocation -> {
+            invocation.getArgument(0, InputStream.class).readAllBytes();
+            return 1L;
+        });
+
+        InventoryStatusImportResult result = copyService.importStatuses(new ByteArrayInputStream(csv), Format.CSV);
+
+        assertEquals(1, result.getRows());
+        assertEquals(csv.length, result.getBytes());
+        assertEquals(csv.length, meterRegistry.get("inventory_status.copy.bytes")
+                .tag("direction", "import").counter().count());
+        assertEquals(1, meterRegistry.get("inventory_status.copy.rows")
+                .tag("direction", "import").counter().count());
+        assertEquals(1, meterRegistry.get("inventory_status.copy")
+                .tags("direction", "import", "outcome", "success").timer().count());
+        assertEquals(0, meterRegistry.get("inventory_status.copy.active").tag("direction", "import").gauge().value());
+        verify(eventPublisher).publishEvent(new InventoryStatusChangedEvent(null));
+    }
+
+    @Test
+    void testImportStatuses_InvalidDataDoesNotInvalidateCache() throws Exception {
+        when(copyRepository.copyIn(any(InputStream.class), eq(Format.CSV)))
+                .thenThrow(new CopyDataException("duplicate key", null));
+
+        assertThrows(CopyDataException.class,
+                () -> copyService.importStatuses(new ByteArrayInputStream(new byte[0]), Format.CSV));
+
+        assertEquals(1, meterRegistry.get("inventory_status.copy")
+                .tags("direction", "import", "outcome", "error").timer().count());
+        assertEquals(0, meterRegistry.get("inventory_status.copy.active").tag("direction", "import").gauge().value());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void testExportStatuses_WritesThroughToResponse() throws Exception {
+        LocalDate from = LocalDate.of(2025, 9, 1);
+        LocalDate to = LocalDate.of(2025, 9, 30);
+        byte[] rows = "header\nrow1\nrow2\n".getBytes(StandardCharsets.UTF_8);
+        when(copyRepository.copyOut(eq(from), eq(to), eq(Format.BINARY), any(OutputStream.class)))
+                .thenAnswer(invocation -> {
+                    // 出力中は export のゲージだけが1になる
+                    assertEquals(1, meterRegistry.get("inventory_status.copy.active")
+                            .tag("direction", "export").gauge().value());
+                    assertNull(meterRegistry.find("inventory_status.copy.active")
+                            .tag("direction", "import").gauge());
+                    invocation.getArgument(3, OutputStream.class).write(rows, 0, rows.length);
+                    return 2L;
+                });
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long exported = copyService.exportStatuses(from, to, Format.BINARY, out);
+
+        assertEquals(2, exported);
+        assertArrayEquals(rows, out.toByteArray());
+        assertEquals(rows.length, meterRegistry.get("inventory_status.copy.bytes")
+                .tag("direction", "export").counter().count());
+        assertEquals(2, meterRegistry.get("inventory_status.copy.rows")
+                .tag("direction", "export").counter().count());
+        assertEquals(0, meterRegistry.get("inventory_status.copy.active")
+                .tag("direction", "export").gauge().value());
+    }
+}
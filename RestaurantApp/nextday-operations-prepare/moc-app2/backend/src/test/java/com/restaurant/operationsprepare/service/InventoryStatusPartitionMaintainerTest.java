@@ -0,0 +1,74 @@
+package com.restaurant.operationsprepare.service;
+
+import com.restaurant.operationsprepare.repository.InventoryStatusRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryStatusPartitionMaintainerTest {
+
+    @Mock
+    private InventoryStatusRepository inventoryStatusRepository;
+
+    @InjectMocks
+    private InventoryStatusPartitionMaintainer maintainer;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(maintainer, "monthsAhead", 2);
+        ReflectionTestUtils.setField(maintainer, "retentionDays", 90);
+        ReflectionTestUtils.setField(maintainer, "lockTimeout", "5s");
+        ReflectionTestUtils.setField(maintainer, "clock",
+                Clock.fixed(Instant.parse("2025-12-31T03:00:00Z"), ZoneId.of("UTC")));
+    }
+
+    @Test
+    void testMaintain_EnsuresCurrentAndFutureMonths() {
+        maintainer.maintain();
+
+        verify(inventoryStatusRepository).ensurePartition(LocalDate.of(2025, 12, 1));
+        verify(inventoryStatusRepository).ensurePartition(LocalDate.of(2026, 1, 1));
+        verify(inventoryStatusRepository).ensurePartition(LocalDate.of(2026, 2, 1));
+        verify(inventoryStatusRepository, times(3)).ensurePartition(any());
+    }
+
+    @Test
+    void testMaintain_DropsEmptyPartitionsEndingBeforeRetention() {
+        // 2025-12-31 の90日前（2025-10-02）より前に終わる月が対象
+        when(inventoryStatusRepository.findPartitionsEndingBefore(LocalDate.of(2025, 10, 2)))
+                .thenReturn(List.of("inventory_status_202508", "inventory_status_202509"));
+        when(inventoryStatusRepository.dropPartitionIfEmpty("inventory_status_202508", "5s")).thenReturn(true);
+        when(inventoryStatusRepository.dropPartitionIfEmpty("inventory_status_202509", "5s")).thenReturn(false);
+
+        maintainer.maintain();
+
+        verify(inventoryStatusRepository).dropPartitionIfEmpty("inventory_status_202508", "5s");
+        verify(inventoryStatusRepository).dropPartitionIfEmpty("inventory_status_202509", "5s");
+    }
+
+    @Test
+    void testDropExpiredPartitions_ContinuesAfterLockTimeout() {
+        when(inventoryStatusRepository.findPartitionsEndingBefore(LocalDate.of(2025, 10, 1)))
+                .thenReturn(List.of("inventory_status_202508", "inventory_status_202509"));
+        when(inventoryStatusRepository.dropPartitionIfEmpty("inventory_status_202508", "5s"))
+                .thenThrow(new RuntimeException("canceling statement due to lock timeout"));
+        when(inventoryStatusRepository.dropPartitionIfEmpty("inventory_status_202509", "5s")).thenReturn(true);
+
+        assertEquals(1, maintainer.dropExpiredPartitions(LocalDate.of(2025, 10, 1)));
+    }
+}
@@ -0,0 +1,95 @@
+package com.restaurant.operationsprepare.service;
+
+import com.restaurant.operationsprepare.repository.InventoryStatusArchiveRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryStatusRetentionServiceTest {
+
+    @Mock
+    private InventoryStatusArchiveRepository archiveRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private InventoryStatusRetentionService retentionService;
+
+    private final LocalDate cutoffDate = LocalDate.of(2025, 1, 1);
+    private final LocalDate firstDate = LocalDate.of(2024, 9, 1);
+    private final LocalDate secondDate = LocalDate.of(2024, 9, 2);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(retentionService, "batchSize", 1000);
+        ReflectionTestUtils.setField(retentionService, "pauseMillis", 0L);
+    }
+
+    @Test
+    void testArchiveBefore_MovesEachDateInBatchesThenSummarizes() {
+        when(archiveRepository.findNextBusinessDateBefore(cutoffDate, null)).thenReturn(Optional.of(firstDate));
+        when(archiveRepository.findNextBusinessDateBefore(cutoffDate, firstDate)).thenReturn(Optional.of(secondDate));
+        when(archiveRepository.findNextBusinessDateBefore(cutoffDate, secondDate)).thenReturn(Optional.empty());
+        when(archiveRepository.moveBatch(firstDate, 1000)).thenReturn(1000, 1000, 500, 0);
+        when(archiveRepository.moveBatch(secondDate, 1000)).thenReturn(10, 0);
+
+        long archived = retentionService.archiveBefore(cutoffDate);
+
+        assertEquals(2510, archived);
+        InOrder inOrder = inOrder(archiveRepository);
+        inOrder.verify(archiveRepository, times(4)).moveBatch(firstDate, 1000);
+        inOrder.verify(archiveRepository).summarize(firstDate);
+        inOrder.verify(archiveRepository, times(2)).moveBatch(secondDate, 1000);
+        inOrder.verify(archiveRepository).summarize(secondDate);
+    }
+
+    @Test
+    void testArchiveBefore_SkipsDateWithOnlyLockedRows() {
+        // 更新中の行しか残っていない日付は移動件数0で次の日付へ進む（同じ日付を繰り返さない）
+        when(archiveRepository.findNextBusinessDateBefore(cutoffDate, null)).thenReturn(Optional.of(firstDate));
+        when(archiveRepository.findNextBusinessDateBefore(cutoffDate, firstDate)).thenReturn(Optional.empty());
+        when(archiveRepository.moveBatch(firstDate, 1000)).thenReturn(0);
+
+        long archived = retentionService.archiveBefore(cutoffDate);
+
+        assertEquals(0, archived);
+        verify(archiveRepository, times(1)).moveBatch(firstDate, 1000);
+        verify(archiveRepository).findNextBusinessDateBefore(cutoffDate, firstDate);
+    }
+
+    @Test
+    void testArchiveExpired_Disabled() {
+        ReflectionTestUtils.setField(retentionService, "enabled", false);
+
+        retentionService.archiveExpired();
+
+        verifyNoInteractions(archiveRepository);
+    }
+
+    @Test
+    void testArchiveExpired_UsesRetentionDays() {
+        ReflectionTestUtils.setField(retentionService, "enabled", true);
+        ReflectionTestUtils.setField(retentionService, "retentionDays", 30);
+        when(archiveRepository.findNextBusinessDateBefore(any(), isNull())).thenReturn(Optional.empty());
+
+        retentionService.archiveExpired();
+
+        verify(archiveRepository).findNextBusinessDateBefore(LocalDate.now().minusDays(30), null);
+        verify(archiveRepository, never()).moveBatch(any(), anyInt());
+    }
+}
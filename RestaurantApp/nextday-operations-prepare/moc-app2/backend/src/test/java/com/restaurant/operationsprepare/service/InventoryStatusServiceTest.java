@@ -2,20 +2,28 @@ package com.restaurant.operationsprepare.service;
 
 import com.restaurant.operationsprepare.entity.InventoryStatus;
 import com.restaurant.operationsprepare.entity.Item;
+import com.restaurant.operationsprepare.event.InventoryStatusChangedEvent;
+import com.restaurant.operationsprepare.exception.InvalidFieldsException;
+import com.restaurant.operationsprepare.exception.InvalidRequestException;
 import com.restaurant.operationsprepare.exception.OptimisticLockException;
+import com.restaurant.operationsprepare.exception.ResourceNotFoundException;
+import com.restaurant.operationsprepare.repository.FieldSelection;
 import com.restaurant.operationsprepare.repository.InventoryStatusRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -28,6 +36,9 @@ class InventoryStatusServiceTest {
     @Mock
     private InventoryStatusRepository inventoryStatusRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private InventoryStatusService inventoryStatusService;
 
@@ -77,6 +88,44 @@ class InventoryStatusServiceTest {
         verify(inventoryStatusRepository).findByBusinessDate(any(LocalDate.class));
     }
 
+    @Test
+    void testGetInventoryStatusSlimByDate() {
+        InventoryStatus slimStatus = new InventoryStatus();
+        slimStatus.setId(statusId);
+        slimStatus.setItemId(itemId);
+        when(inventoryStatusRepository.findSlimByBusinessDate(LocalDate.of(2025, 9, 27)))
+                .thenReturn(List.of(slimStatus));
+
+        List<InventoryStatus> result = inventoryStatusService.getInventoryStatusSlimByDate(LocalDate.of(2025, 9, 27));
+
+        assertEquals(1, result.size());
+        assertEquals(itemId, result.get(0).getItemId());
+        assertNull(result.get(0).getItem());
+        verify(inventoryStatusRepository, never()).findByBusinessDate(any(LocalDate.class));
+    }
+
+    @Test
+    void testGetInventoryStatusByDateWithFields() {
+        when(inventoryStatusRepository.findByBusinessDate(eq(LocalDate.of(2025, 9, 27)), any(FieldSelection.class)))
+                .thenReturn(List.of(testStatus));
+
+        inventoryStatusService.getInventoryStatusByDate(LocalDate.of(2025, 9, 27), "itemId, replenishmentStatus,version");
+
+        // id は指定しなくても含め、品物（item）は指定した場合だけ取得する
+        ArgumentCaptor<FieldSelection> captor = ArgumentCaptor.forClass(FieldSelection.class);
+        verify(inventoryStatusRepository).findByBusinessDate(eq(LocalDate.of(2025, 9, 27)), captor.capture());
+        assertEquals(Set.of("id", "itemId", "replenishmentStatus", "version"), captor.getValue().getFields());
+        assertFalse(captor.getValue().contains("item"));
+    }
+
+    @Test
+    void testGetInventoryStatusByDateWithUnknownFields() {
+        assertThrows(InvalidFieldsException.class, () ->
+                inventoryStatusService.getInventoryStatusByDate(LocalDate.of(2025, 9, 27), "id,item_name"));
+
+        verify(inventoryStatusRepository, never()).findByBusinessDate(any(LocalDate.class), any(FieldSelection.class));
+    }
+
     @Test
     void testGetInventoryStatusById() {
         when(inventoryStatusRepository.findById(statusId))
@@ -107,48 +156,93 @@ class InventoryStatusServiceTest {
             return null;
         }).when(inventoryStatusRepository).insert(any(InventoryStatus.class));
 
-        when(inventoryStatusRepository.findById(statusId))
+        when(inventoryStatusRepository.findById(statusId, LocalDate.of(2025, 9, 27)))
                 .thenReturn(Optional.of(testStatus));
 
         InventoryStatus result = inventoryStatusService.saveInventoryStatus(newStatus);
 
         assertNotNull(result.getId());
         verify(inventoryStatusRepository).insert(any(InventoryStatus.class));
-        verify(inventoryStatusRepository).findById(statusId);
+        verify(inventoryStatusRepository).findById(statusId, LocalDate.of(2025, 9, 27));
     }
 
     @Test
     void testSaveInventoryStatus_Update() {
         testStatus.setVersion(0);
         when(inventoryStatusRepository.update(any(InventoryStatus.class))).thenReturn(1);
-        when(inventoryStatusRepository.findById(statusId))
+        when(inventoryStatusRepository.findById(statusId, LocalDate.of(2025, 9, 27)))
                 .thenReturn(Optional.of(testStatus));
 
         InventoryStatus result = inventoryStatusService.saveInventoryStatus(testStatus);
 
         assertEquals(statusId, result.getId());
         verify(inventoryStatusRepository).update(any(InventoryStatus.class));
-        verify(inventoryStatusRepository).findById(statusId);
+        verify(inventoryStatusRepository).findById(statusId, LocalDate.of(2025, 9, 27));
+        verify(eventPublisher).publishEvent(new InventoryStatusChangedEvent(LocalDate.of(2025, 9, 27)));
     }
 
     @Test
     void testSaveInventoryStatus_OptimisticLockException() {
         testStatus.setVersion(0);
         when(inventoryStatusRepository.update(any(InventoryStatus.class))).thenReturn(0);
+        when(inventoryStatusRepository.findById(statusId)).thenReturn(Optional.of(storedStatus(testStatus.getBusinessDate())));
 
         assertThrows(OptimisticLockException.class, () -> {
             inventoryStatusService.saveInventoryStatus(testStatus);
         });
 
         verify(inventoryStatusRepository).update(any(InventoryStatus.class));
-        verify(inventoryStatusRepository, never()).findById(any());
+        verify(inventoryStatusRepository, never()).findById(any(), any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void testSaveInventoryStatus_BusinessDateMismatch() {
+        when(inventoryStatusRepository.update(any(InventoryStatus.class))).thenReturn(0);
+        when(inventoryStatusRepository.findById(statusId)).thenReturn(Optional.of(storedStatus(LocalDate.of(2025, 9, 28))));
+
+        InvalidRequestException e = assertThrows(InvalidRequestException.class,
+                () -> inventoryStatusService.saveInventoryStatus(testStatus));
+
+        assertTrue(e.getMessage().contains("2025-09-28"));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void testSaveInventoryStatus_NotFound() {
+        when(inventoryStatusRepository.update(any(InventoryStatus.class))).thenReturn(0);
+        when(inventoryStatusRepository.findById(statusId)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> inventoryStatusService.saveInventoryStatus(testStatus));
+
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    private InventoryStatus storedStatus(LocalDate businessDate) {
+        InventoryStatus stored = new InventoryStatus();
+        stored.setId(statusId);
+        stored.setBusinessDate(businessDate);
+        stored.setVersion(1);
+        return stored;
     }
 
     @Test
     void testDeleteInventoryStatus() {
+        when(inventoryStatusRepository.delete(statusId)).thenReturn(Optional.of(LocalDate.of(2025, 9, 27)));
+
         inventoryStatusService.deleteInventoryStatus(statusId);
 
         verify(inventoryStatusRepository).delete(statusId);
+        verify(eventPublisher).publishEvent(new InventoryStatusChangedEvent(LocalDate.of(2025, 9, 27)));
+    }
+
+    @Test
+    void testDeleteInventoryStatus_NotFound() {
+        when(inventoryStatusRepository.delete(statusId)).thenReturn(Optional.empty());
+
+        inventoryStatusService.deleteInventoryStatus(statusId);
+
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 }
 
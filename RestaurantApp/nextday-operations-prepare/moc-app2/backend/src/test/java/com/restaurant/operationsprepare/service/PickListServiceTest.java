@@ -0,0 +1,136 @@
+package com.restaurant.operationsprepare.service;
+
+import com.restaurant.operationsprepare.dto.PickListDestinationDto;
+import com.restaurant.operationsprepare.dto.PickListRowDto;
+import com.restaurant.operationsprepare.dto.PickListSourceDto;
+import com.restaurant.operationsprepare.event.InventoryStatusChangedEvent;
+import com.restaurant.operationsprepare.repository.PickListRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PickListServiceTest {
+
+    @Mock
+    private PickListRepository pickListRepository;
+
+    @InjectMocks
+    private PickListService pickListService;
+
+    private final LocalDate businessDate = LocalDate.of(2025, 9, 27);
+    private final UUID warehouseId = UUID.randomUUID();
+    private final UUID kitchenId = UUID.randomUUID();
+    private final UUID hallId = UUID.randomUUID();
+    private final UUID storeroomId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(pickListService, "cacheMaxDates", 31);
+    }
+
+    @Test
+    void testGetPickList_GroupsRowsBySourceAndDestination() {
+        when(pickListRepository.findByBusinessDate(businessDate)).thenReturn(List.of(
+                row(warehouseId, "倉庫", kitchenId, "厨房", "キャベツ"),
+                row(warehouseId, "倉庫", kitchenId, "厨房", "トマト"),
+                row(warehouseId, "倉庫", hallId, "ホール", "レタス"),
+                row(storeroomId, "食品庫", kitchenId, "厨房", "玉ねぎ")));
+
+        List<PickListSourceDto> pickList = pickListService.getPickList(businessDate);
+
+        assertEquals(2, pickList.size());
+        PickListSourceDto warehouse = pickList.get(0);
+        assertEquals(warehouseId, warehouse.getSourceId());
+        assertEquals(2, warehouse.getDestinations().size());
+        PickListDestinationDto kitchen = warehouse.getDestinations().get(0);
+        assertEquals(kitchenId, kitchen.getDestinationId());
+        assertEquals(List.of("キャベツ", "トマト"),
+                kitchen.getItems().stream().map(item -> item.getItemName()).toList());
+        assertEquals(hallId, warehouse.getDestinations().get(1).getDestinationId());
+        assertEquals(storeroomId, pickList.get(1).getSourceId());
+        assertEquals("玉ねぎ", pickList.get(1).getDestinations().get(0).getItems().get(0).getItemName());
+    }
+
+    @Test
+    void testGetPickList_CachesUntilStatusChanged() {
+        when(pickListRepository.findByBusinessDate(businessDate)).thenReturn(List.of());
+
+        pickListService.getPickList(businessDate);
+        pickListService.getPickList(businessDate);
+        verify(pickListRepository, times(1)).findByBusinessDate(businessDate);
+
+        // 別の業務日付の変更では破棄しない
+        pickListService.onInventoryStatusChanged(new InventoryStatusChangedEvent(businessDate.plusDays(1)));
+        pickListService.getPickList(businessDate);
+        verify(pickListRepository, times(1)).findByBusinessDate(businessDate);
+
+        pickListService.onInventoryStatusChanged(new InventoryStatusChangedEvent(businessDate));
+        pickListService.getPickList(businessDate);
+        verify(pickListRepository, times(2)).findByBusinessDate(businessDate);
+
+        // 業務日付が分からない変更ではすべて破棄する
+        pickListService.onInventoryStatusChanged(new InventoryStatusChangedEvent(null));
+        pickListService.getPickList(businessDate);
+        verify(pickListRepository, times(3)).findByBusinessDate(businessDate);
+    }
+
+    @Test
+    void testGetPickList_DoesNotCacheWhenChangedWhileLoading() {
+        when(pickListRepository.findByBusinessDate(businessDate)).thenAnswer(invocation -> {
+            pickListService.onInventoryStatusChanged(new InventoryStatusChangedEvent(businessDate));
+            return List.of();
+        }).thenReturn(List.of());
+
+        pickListService.getPickList(businessDate);
+        pickListService.getPickList(businessDate);
+
+        verify(pickListRepository, times(2)).findByBusinessDate(businessDate);
+    }
+
+    @Test
+    void testGetPickList_DoesNotCacheWhenChangedBeforePut() {
+        when(pickListRepository.findByBusinessDate(businessDate)).thenReturn(List.of());
+        // リストの作成後、キャッシュに格納する直前に変更のイベントを処理させる
+        ReflectionTestUtils.setField(pickListService, "cache", new ConcurrentHashMap<LocalDate, List<PickListSourceDto>>() {
+            @Override
+            public List<PickListSourceDto> put(LocalDate key, List<PickListSourceDto> value) {
+                pickListService.onInventoryStatusChanged(new InventoryStatusChangedEvent(key));
+                return super.put(key, value);
+            }
+        });
+
+        pickListService.getPickList(businessDate);
+        pickListService.getPickList(businessDate);
+
+        verify(pickListRepository, times(2)).findByBusinessDate(businessDate);
+    }
+
+    private PickListRowDto row(UUID sourceId, String sourceName, UUID destinationId, String destinationName,
+                               String itemName) {
+        PickListRowDto row = new PickListRowDto();
+        row.setSource_id(sourceId);
+        row.setSource_name(sourceName);
+        row.setDestination_id(destinationId);
+        row.setDestination_name(destinationName);
+        row.setItem_id(UUID.randomUUID());
+        row.setItem_name(itemName);
+        row.setInventory_status_id(UUID.randomUUID());
+        row.setInventory_count(1);
+        row.setReplenishment_count(2);
+        row.setVersion(0);
+        return row;
+    }
+}
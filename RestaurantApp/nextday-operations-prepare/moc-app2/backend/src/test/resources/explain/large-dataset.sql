@@ -0,0 +1,41 @@
+-- 実行計画の回帰テスト用の大量データ（品物5,000件 × 90日分の在庫ステータス）
+-- テストのトランザクション内で投入し、終了時にロールバックされる
+
+INSERT INTO place (id, type, name, display_order)
+SELECT ('00000000-0000-0000-0000-' || lpad(to_hex(n), 12, '0'))::uuid,
+       CASE WHEN n <= 20 THEN '02' ELSE '01' END,
+       'EXPLAIN場所' || n,
+       n
+FROM generate_series(1, 40) AS n;
+
+INSERT INTO item (id, name, description, unit, pattern_type)
+SELECT ('10000000-0000-0000-0000-' || lpad(to_hex(n), 12, '0'))::uuid,
+       'EXPLAIN品物' || lpad(n::text, 5, '0'),
+       '説明' || n,
+       '個',
+       CASE WHEN n % 2 = 0 THEN '01' ELSE '02' END
+FROM generate_series(1, 5000) AS n;
+
+-- 品物ごとに4経路（補充元1〜20 → 補充先21〜40）
+INSERT INTO item_replenishment (item_id, source_location_id, destination_location_id, replenishment_type)
+SELECT ('10000000-0000-0000-0000-' || lpad(to_hex(n), 12, '0'))::uuid,
+       ('00000000-0000-0000-0000-' || lpad(to_hex(1 + (n + r) % 20), 12, '0'))::uuid,
+       ('00000000-0000-0000-0000-' || lpad(to_hex(21 + (n * 7 + r) % 20), 12, '0'))::uuid,
+       '01'
+FROM generate_series(1, 5000) AS n, generate_series(0, 3) AS r;
+
+-- 2030年1月〜3月のパーティション
+SELECT ensure_inventory_status_partition((DATE '2030-01-01' + (m || ' month')::INTERVAL)::DATE)
+FROM generate_series(0, 2) AS m;
+
+INSERT INTO inventory_status (business_date, item_id, inventory_check_status, replenishment_status,
+                              preparation_status, order_request_status, inventory_count, replenishment_count)
+SELECT DATE '2030-01-01' + d,
+       ('10000000-0000-0000-0000-' || lpad(to_hex(n), 12, '0'))::uuid,
+       '02', '99', '99', '99', n % 10, 0
+FROM generate_series(0, 89) AS d, generate_series(1, 5000) AS n;
+
+ANALYZE place;
+ANALYZE item;
+ANALYZE item_replenishment;
+ANALYZE inventory_status;
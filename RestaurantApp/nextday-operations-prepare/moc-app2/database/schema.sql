@@ -1,5 +1,7 @@
 -- 営業準備業務データベーススキーマ（moc-app2用）
 -- moc-appと同じスキーマ + 楽観ロック対応（version列）
+-- 最新のスキーマ全体（参照・ER図生成用）。変更履歴は backend/src/main/resources/db/migration で管理し、
+-- アプリケーション起動時に Flyway が適用する。スキーマを変更する場合はマイグレーションを追加し、このファイルにも反映する。
 
 -- 場所マスタ
 CREATE TABLE place (
@@ -43,9 +45,10 @@ CREATE TABLE item_preparation (
     updated_at TIMESTAMP WITH TIME ZONE DEFAULT NOW()
 );
 
--- 在庫補充状況管理トラン
+-- 在庫補充状況管理トラン（業務日付の月単位のパーティションテーブル）
+-- パーティションテーブルの主キーにはパーティションキーを含める必要があるため (id, business_date) とする
 CREATE TABLE inventory_status (
-    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    id UUID NOT NULL DEFAULT gen_random_uuid(),
     business_date DATE NOT NULL, -- 業務日付
     item_id UUID NOT NULL REFERENCES item(id),
     inventory_check_status VARCHAR(50) NOT NULL DEFAULT '01', -- 在庫確認ステータス（code）
@@ -58,7 +61,106 @@ CREATE TABLE inventory_status (
     version INTEGER DEFAULT 0 NOT NULL, -- 楽観ロック用バージョン列
     created_at TIMESTAMP WITH TIME ZONE DEFAULT NOW(),
     updated_at TIMESTAMP WITH TIME ZONE DEFAULT NOW(),
-    UNIQUE(business_date, item_id)
+    PRIMARY KEY (id, business_date),
+    UNIQUE (business_date, item_id)
+) PARTITION BY RANGE (business_date);
+
+-- 指定日付を含む月のパーティション（inventory_status_YYYYMM）を作成（作成済みの場合は何もしない）
+-- 既定パーティションにその月の行が入っている場合は、新しいパーティションへ移してから接続する
+-- アプリケーションの InventoryStatusPartitionMaintainer が先の月の分を定期的に作成する
+CREATE OR REPLACE FUNCTION ensure_inventory_status_partition(target_date DATE) RETURNS TEXT AS $$
+DECLARE
+    month_start DATE := date_trunc('month', target_date)::DATE;
+    month_end DATE := (date_trunc('month', target_date) + INTERVAL '1 month')::DATE;
+    partition_name TEXT := 'inventory_status_' || to_char(month_start, 'YYYYMM');
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN partition_name;
+    END IF;
+    IF to_regclass('inventory_status_default') IS NOT NULL THEN
+        IF EXISTS (SELECT 1 FROM inventory_status_default
+                   WHERE business_date >= month_start AND business_date < month_end) THEN
+            EXECUTE format('CREATE TABLE %I (LIKE inventory_status INCLUDING DEFAULTS)', partition_name);
+            EXECUTE format('WITH moved AS (DELETE FROM inventory_status_default'
+                           || ' WHERE business_date >= %L AND business_date < %L RETURNING *)'
+                           || ' INSERT INTO %I SELECT * FROM moved',
+                           month_start, month_end, partition_name);
+            EXECUTE format('ALTER TABLE inventory_status ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                           partition_name, month_start, month_end);
+            RETURN partition_name;
+        END IF;
+    END IF;
+    EXECUTE format('CREATE TABLE %I PARTITION OF inventory_status FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, month_start, month_end);
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 指定した月のパーティションが空の場合に切り離して削除する（行が残っている場合・存在しない場合は何もしない）
+-- アプリケーションの InventoryStatusPartitionMaintainer がアーカイブ済みの月の分を削除する
+-- 切り離しは親テーブルの排他ロックを取るため、ロックを待つ時間を lock_timeout で制限する。
+-- 既定パーティションがあるため DETACH PARTITION CONCURRENTLY は使えない。
+CREATE OR REPLACE FUNCTION drop_empty_inventory_status_partition(partition_name TEXT, lock_wait TEXT)
+RETURNS BOOLEAN AS $$
+DECLARE
+    has_rows BOOLEAN;
+BEGIN
+    IF to_regclass(partition_name) IS NULL THEN
+        RETURN FALSE;
+    END IF;
+    -- 行が残っている場合は親テーブルをロックせずに終える
+    EXECUTE format('SELECT EXISTS (SELECT 1 FROM %I)', partition_name) INTO has_rows;
+    IF has_rows THEN
+        RETURN FALSE;
+    END IF;
+    PERFORM set_config('lock_timeout', lock_wait, true);
+    EXECUTE 'LOCK TABLE inventory_status IN ACCESS EXCLUSIVE MODE';
+    -- ロックを待つ間に書き込まれた行がないことを確かめる
+    EXECUTE format('SELECT EXISTS (SELECT 1 FROM %I)', partition_name) INTO has_rows;
+    IF has_rows THEN
+        RETURN FALSE;
+    END IF;
+    EXECUTE format('ALTER TABLE inventory_status DETACH PARTITION %I', partition_name);
+    EXECUTE format('DROP TABLE %I', partition_name);
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 当月から2か月先までのパーティション
+SELECT ensure_inventory_status_partition((CURRENT_DATE + (n || ' month')::INTERVAL)::DATE)
+FROM generate_series(0, 2) AS n;
+
+-- どの月のパーティションにも入らない日付の受け皿（作成時に該当する月のパーティションへ移す）
+CREATE TABLE inventory_status_default PARTITION OF inventory_status DEFAULT;
+
+-- 在庫補充状況アーカイブ（保持期間を過ぎた inventory_status の移動先）
+-- 参照のみのため、業務日付と品物の主キー以外のインデックスや外部キーは持たない
+CREATE TABLE inventory_status_archive (
+    business_date DATE NOT NULL, -- 業務日付
+    item_id UUID NOT NULL, -- 品物ID（品物の削除後も残すため外部キーなし）
+    inventory_check_status VARCHAR(50) NOT NULL, -- 在庫確認ステータス（code）
+    replenishment_status VARCHAR(50) NOT NULL, -- 補充ステータス（code）
+    preparation_status VARCHAR(50) NOT NULL, -- 作成ステータス（code）
+    order_request_status VARCHAR(50) NOT NULL, -- 発注依頼ステータス（code）
+    inventory_count INTEGER, -- 在庫数
+    replenishment_count INTEGER, -- 補充数
+    replenishment_note TEXT, -- 補充メモ
+    updated_at TIMESTAMP WITH TIME ZONE, -- 移動前の最終更新日時
+    archived_at TIMESTAMP WITH TIME ZONE DEFAULT NOW(),
+    PRIMARY KEY (business_date, item_id)
+);
+
+-- 在庫補充状況の日次集計（アーカイブ済みの業務日付ごと）
+CREATE TABLE inventory_status_daily_summary (
+    business_date DATE PRIMARY KEY, -- 業務日付
+    item_count INTEGER NOT NULL, -- 品物数
+    total_inventory_count BIGINT NOT NULL, -- 在庫数の合計
+    total_replenishment_count BIGINT NOT NULL, -- 補充数の合計
+    unchecked_count INTEGER NOT NULL, -- 在庫確認が未確認（01）のまま残った品物数
+    replenishment_required_count INTEGER NOT NULL, -- 補充が必要（99以外）だった品物数
+    preparation_required_count INTEGER NOT NULL, -- 作成が必要（99以外）だった品物数
+    order_request_required_count INTEGER NOT NULL, -- 発注依頼が必要（99以外）だった品物数
+    summarized_at TIMESTAMP WITH TIME ZONE DEFAULT NOW()
 );
 
 -- 商品予約トラン
@@ -81,12 +183,15 @@ CREATE TABLE reservation_status (
 );
 
 -- インデックス
-CREATE INDEX idx_place_type ON place(type);
-CREATE INDEX idx_place_display_order ON place(display_order);
+-- 種別で絞り込み表示順に並べる
+CREATE INDEX idx_place_type_display_order ON place(type, display_order NULLS LAST, name);
+-- 品物名順の一覧
+CREATE INDEX idx_item_name ON item(name);
 CREATE INDEX idx_item_replenishment_item_id ON item_replenishment(item_id);
-CREATE INDEX idx_item_replenishment_source_location ON item_replenishment(source_location_id);
-CREATE INDEX idx_item_replenishment_destination_location ON item_replenishment(destination_location_id);
-CREATE INDEX idx_inventory_status_business_date ON inventory_status(business_date);
+-- 補充元/補充先で絞り込み item_id のみ参照するため、item_id を含めてインデックスのみで結合する
+CREATE INDEX idx_item_replenishment_source_item ON item_replenishment(source_location_id, item_id);
+CREATE INDEX idx_item_replenishment_destination_item ON item_replenishment(destination_location_id, item_id);
+-- 業務日付での検索は UNIQUE(business_date, item_id) のインデックスを使う
 CREATE INDEX idx_inventory_status_item_id ON inventory_status(item_id);
 CREATE INDEX idx_reservation_business_date ON reservation(business_date);
 CREATE INDEX idx_reservation_status_business_date ON reservation_status(business_date);
@@ -1,5 +1,5 @@
 import axios from 'axios';
-import type { Place, InventoryStatus } from '@/types';
+import type { Place, InventoryStatus, PickListSource } from '@/types';
 
 const api = axios.create({
   baseURL: '/api',
@@ -38,6 +38,10 @@ export const inventoryStatusApi = {
   getByDate: (businessDate: string): Promise<InventoryStatus[]> =>
     api.get('/inventory-status', { params: { businessDate } }).then((res) => res.data),
 
+  // 品物情報（item）を含まない一覧。品物は itemsApi.getAll（@/lib/api/items）で1回だけ取得し、itemId で参照する
+  getSlimByDate: (businessDate: string): Promise<InventoryStatus[]> =>
+    api.get('/inventory-status', { params: { businessDate, view: 'slim' } }).then((res) => res.data),
+
   getById: (id: string): Promise<InventoryStatus> =>
     api.get(`/inventory-status/${id}`).then((res) => res.data),
 
@@ -51,4 +55,10 @@ export const inventoryStatusApi = {
     api.delete(`/inventory-status/${id}`).then(() => undefined),
 };
 
+// Pick List API
+export const pickListApi = {
+  getByDate: (businessDate: string): Promise<PickListSource[]> =>
+    api.get('/pick-lists', { params: { businessDate } }).then((res) => res.data),
+};
+
 export default api;
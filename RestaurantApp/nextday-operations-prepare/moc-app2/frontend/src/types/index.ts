@@ -35,6 +35,32 @@ export interface InventoryStatus {
   updatedAt: string;
 }
 
+// ピッキングリスト（補充元 → 補充先 → 補充が必要な品物）
+export interface PickListItem {
+  inventoryStatusId: string;
+  itemId: string;
+  itemName: string;
+  unit?: string;
+  inventoryCount?: number; // 在庫数
+  replenishmentCount?: number; // 補充数
+  replenishmentNote?: string; // 補充メモ
+  version: number;
+}
+
+export interface PickListDestination {
+  destinationId: string;
+  destinationName: string;
+  displayOrder?: number;
+  items: PickListItem[];
+}
+
+export interface PickListSource {
+  sourceId: string;
+  sourceName: string;
+  displayOrder?: number;
+  destinations: PickListDestination[];
+}
+
 // フィールド名のマッピング（snake_case ↔ camelCase）
 export interface InventoryStatusSnakeCase {
   id: string;
@@ -0,0 +1,80 @@
+-- minimum-sns-post-app1 既存DBの posts を月単位のパーティションテーブルへ移行
+-- PostgreSQL用DDL（schema.sql 適用前に作成された非パーティションの posts が対象）
+--
+-- 実行方法: psql -U postgres -d minimum_sns_post_app1 -f migrate_posts_partitioning.sql
+-- 移行中は posts への書き込みを止めること（アプリケーションを停止して実行する）
+
+BEGIN;
+
+-- 既存テーブルを退避（採番シーケンスは新テーブルで引き継ぐ）
+ALTER TABLE posts RENAME TO posts_unpartitioned;
+ALTER INDEX IF EXISTS idx_posts_created_at RENAME TO idx_posts_unpartitioned_created_at;
+
+CREATE TABLE posts (
+    id BIGINT NOT NULL DEFAULT nextval('posts_id_seq'),
+    content TEXT NOT NULL CHECK (LENGTH(content) > 0),
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE posts_id_seq OWNED BY posts.id;
+
+CREATE INDEX idx_posts_created_at ON posts (created_at DESC);
+
+-- 関数は schema.sql と同じ（posts_default に入った月の投稿は、その月のパーティションの作成時に移す）
+CREATE OR REPLACE FUNCTION ensure_posts_partition(target_date DATE) RETURNS TEXT AS $$
+DECLARE
+    month_start DATE := date_trunc('month', target_date)::DATE;
+    month_end DATE := (date_trunc('month', target_date) + INTERVAL '1 month')::DATE;
+    partition_name TEXT := 'posts_' || to_char(month_start, 'YYYYMM');
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN partition_name;
+    END IF;
+    IF to_regclass('posts_default') IS NOT NULL THEN
+        LOCK TABLE posts IN SHARE ROW EXCLUSIVE MODE;
+        IF EXISTS (SELECT 1 FROM posts_default
+                   WHERE created_at >= month_start AND created_at < month_end) THEN
+            EXECUTE format('CREATE TABLE %I (LIKE posts INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition_name);
+            EXECUTE format('WITH moved AS (DELETE FROM posts_default'
+                           || ' WHERE created_at >= %L AND created_at < %L RETURNING *)'
+                           || ' INSERT INTO %I SELECT * FROM moved',
+                           month_start, month_end, partition_name);
+            EXECUTE format('ALTER TABLE posts ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                           partition_name, month_start, month_end);
+            RETURN partition_name;
+        END IF;
+    END IF;
+    EXECUTE format('CREATE TABLE %I PARTITION OF posts FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, month_start, month_end);
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 既存データのある月と、当月から2か月先までのパーティションを作成
+SELECT ensure_posts_partition(month::DATE)
+FROM (
+    SELECT DISTINCT date_trunc('month', COALESCE(created_at, CURRENT_TIMESTAMP)) AS month
+    FROM posts_unpartitioned
+    UNION
+    SELECT date_trunc('month', CURRENT_DATE + (n || ' month')::INTERVAL)
+    FROM generate_series(0, 2) AS n
+) AS months;
+
+CREATE TABLE posts_default PARTITION OF posts DEFAULT;
+
+INSERT INTO posts (id, content, created_at)
+SELECT id, content, COALESCE(created_at, CURRENT_TIMESTAMP)
+FROM posts_unpartitioned;
+
+DROP TABLE posts_unpartitioned;
+
+-- 投稿フィンガープリント（schema.sql と同じ。重複判定の追加前に作成されたDBの場合に作成する）
+CREATE TABLE IF NOT EXISTS post_fingerprints (
+    content_hash VARCHAR(64) NOT NULL,
+    dedup_window BIGINT NOT NULL,
+    post_id BIGINT NOT NULL,
+    PRIMARY KEY (content_hash, dedup_window)
+);
+
+COMMIT;
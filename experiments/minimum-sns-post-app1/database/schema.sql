@@ -4,16 +4,67 @@
 -- データベース作成（必要に応じて実行）
 -- CREATE DATABASE minimum_sns_post_app1;
 
--- postsテーブル作成
+-- postsテーブル作成（created_at による月単位のレンジパーティション）
+-- パーティションキーを含める必要があるため、主キーは (id, created_at)
 CREATE TABLE IF NOT EXISTS posts (
-    id BIGSERIAL PRIMARY KEY,
+    id BIGSERIAL,
     content TEXT NOT NULL CHECK (LENGTH(content) > 0),
-    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
-);
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
 
--- インデックス作成（パフォーマンス向上のため）
+-- インデックス作成（パフォーマンス向上のため、各パーティションに自動作成される）
 CREATE INDEX IF NOT EXISTS idx_posts_created_at ON posts (created_at DESC);
 
+-- 指定日を含む月のパーティションを作成（作成済みの場合は何もしない）
+-- アプリケーションの PostPartitionMaintainer が先の月の分を定期的に作成する
+-- 作成漏れでその月の投稿が posts_default に入っている場合、CREATE TABLE ... PARTITION OF は
+-- 失敗するため、別テーブルとして作成してその月の行を posts_default から移し、パーティションとして追加する
+-- （移す間はその月の投稿が posts_default に追加されないよう、posts への書き込みを待たせる）
+CREATE OR REPLACE FUNCTION ensure_posts_partition(target_date DATE) RETURNS TEXT AS $$
+DECLARE
+    month_start DATE := date_trunc('month', target_date)::DATE;
+    month_end DATE := (date_trunc('month', target_date) + INTERVAL '1 month')::DATE;
+    partition_name TEXT := 'posts_' || to_char(month_start, 'YYYYMM');
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN partition_name;
+    END IF;
+    IF to_regclass('posts_default') IS NOT NULL THEN
+        LOCK TABLE posts IN SHARE ROW EXCLUSIVE MODE;
+        IF EXISTS (SELECT 1 FROM posts_default
+                   WHERE created_at >= month_start AND created_at < month_end) THEN
+            EXECUTE format('CREATE TABLE %I (LIKE posts INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition_name);
+            EXECUTE format('WITH moved AS (DELETE FROM posts_default'
+                           || ' WHERE created_at >= %L AND created_at < %L RETURNING *)'
+                           || ' INSERT INTO %I SELECT * FROM moved',
+                           month_start, month_end, partition_name);
+            EXECUTE format('ALTER TABLE posts ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                           partition_name, month_start, month_end);
+            RETURN partition_name;
+        END IF;
+    END IF;
+    EXECUTE format('CREATE TABLE %I PARTITION OF posts FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, month_start, month_end);
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 当月と翌月・翌々月のパーティションを作成
+SELECT ensure_posts_partition((CURRENT_DATE + (n || ' month')::INTERVAL)::DATE)
+FROM generate_series(0, 2) AS n;
+
+-- パーティション作成漏れ時の受け皿（通常は空のまま）
+CREATE TABLE IF NOT EXISTS posts_default PARTITION OF posts DEFAULT;
+
+-- 投稿フィンガープリント（同一内容の連続投稿の重複判定用）
+CREATE TABLE IF NOT EXISTS post_fingerprints (
+    content_hash VARCHAR(64) NOT NULL,
+    dedup_window BIGINT NOT NULL,
+    post_id BIGINT NOT NULL,
+    PRIMARY KEY (content_hash, dedup_window)
+);
+
 -- サンプルデータ（開発用）
 INSERT INTO posts (content) VALUES 
     ('First test post'),
@@ -2,11 +2,13 @@ package com.example.anonymousmemo;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * 匿名投稿メモアプリのメインアプリケーションクラス
  */
 @SpringBootApplication
+@EnableScheduling
 public class AnonymousMemoApplication {
     
     public static void main(String[] args) {
@@ -0,0 +1,27 @@
+package com.example.anonymousmemo.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ContextRefreshedEvent;
+
+/**
+ * 起動時間の短縮（mvn -Pfast-start package）のAppCDSの試行起動
+ *
+ * app.fast-start.exit-on-refresh=true の場合、コンテキストの作成後に終了する（Spring Boot 3.2 の
+ * spring.context.exit=onRefresh に相当）。ApplicationReadyEvent の処理（検索インデックスの再構築など）は
+ * DBへの接続が必要なため、その前に終了し、ビルド環境にDBがなくてもクラスのアーカイブを作れるようにする。
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.fast-start.exit-on-refresh", havingValue = "true")
+public class FastStartConfig {
+
+    @Bean
+    public ApplicationListener<ContextRefreshedEvent> exitOnRefresh() {
+        // JVMのシャットダウンフックより先に同じスレッドでコンテキストを閉じる
+        // （作成中のコンテキストをフックのスレッドで閉じようとすると終了を待ち合って止まる）
+        return event -> System.exit(SpringApplication.exit(event.getApplicationContext()));
+    }
+}
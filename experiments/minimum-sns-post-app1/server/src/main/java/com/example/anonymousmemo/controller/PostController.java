@@ -2,59 +2,119 @@ package com.example.anonymousmemo.controller;
 
 import com.example.anonymousmemo.dto.PostRequest;
 import com.example.anonymousmemo.dto.PostResponse;
+import com.example.anonymousmemo.dto.PostSearchResponse;
+import com.example.anonymousmemo.service.PostIngestLimiter;
+import com.example.anonymousmemo.service.PostPageCursor;
 import com.example.anonymousmemo.service.PostService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * 投稿REST APIコントローラー
  */
 @RestController
 @RequestMapping("/api/posts")
-@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:8081"})
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:8081"}, exposedHeaders = PostController.NEXT_CURSOR_HEADER)
 @Validated
 public class PostController {
     
+    /** 一覧の次ページ取得に使うカーソルのレスポンスヘッダー */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    
     private final PostService postService;
     
+    private final PostIngestLimiter postIngestLimiter;
+    
+    // X-Forwarded-For を信頼する接続元（ロードバランサーなど）のIPアドレス
+    private final Set<String> trustedProxies;
+    
     @Autowired
-    public PostController(PostService postService) {
+    public PostController(PostService postService, PostIngestLimiter postIngestLimiter,
+                          @Value("${app.post-ingest.trusted-proxies:}") List<String> trustedProxies) {
         this.postService = postService;
+        this.postIngestLimiter = postIngestLimiter;
+        this.trustedProxies = new HashSet<>();
+        for (String proxy : trustedProxies) {
+            if (!proxy.isBlank()) {
+                this.trustedProxies.add(proxy.trim());
+            }
+        }
     }
     
     /**
-     * すべての投稿を取得
-     * GET /api/posts
-     * @return 投稿リスト
+     * 投稿を新しい順に取得
+     * GET /api/posts（全件）
+     * GET /api/posts?limit=件数&cursor=前ページの X-Next-Cursor（ページ単位）
+     * @param limit 取得件数（省略時は全件、最大100）
+     * @param cursor 前ページのレスポンスの X-Next-Cursor ヘッダー（省略時は先頭ページ）
+     * @return 投稿リスト（ページ単位の場合、最後の投稿の位置を X-Next-Cursor ヘッダーに付ける）
      */
     @GetMapping
-    public ResponseEntity<List<PostResponse>> getAllPosts() {
-        List<PostResponse> posts = postService.getAllPosts();
-        return ResponseEntity.ok(posts);
+    public ResponseEntity<List<PostResponse>> getAllPosts(
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "cursor", required = false) String cursor) {
+        if (limit == null && cursor == null) {
+            return ResponseEntity.ok(postService.getAllPosts());
+        }
+        PostPageCursor before = cursor == null || cursor.isEmpty() ? null : PostPageCursor.parse(cursor);
+        List<PostResponse> posts = postService.getPosts(before, limit != null ? limit : 20);
+        if (posts.isEmpty()) {
+            return ResponseEntity.ok(posts);
+        }
+        PostResponse last = posts.get(posts.size() - 1);
+        return ResponseEntity.ok()
+                .header(NEXT_CURSOR_HEADER, new PostPageCursor(last.getCreatedAt(), last.getId()).toString())
+                .body(posts);
     }
     
     /**
      * 新しい投稿を作成
      * POST /api/posts
      * @param request 投稿作成リクエスト
+     * @param httpRequest クライアント識別用のHTTPリクエスト
      * @return 作成された投稿のID
      */
     @PostMapping
-    public ResponseEntity<Map<String, Long>> createPost(@Valid @RequestBody PostRequest request) {
-        PostResponse createdPost = postService.createPost(request);
+    public ResponseEntity<Map<String, Long>> createPost(@Valid @RequestBody PostRequest request,
+                                                       HttpServletRequest httpRequest) {
+        // トランザクション（DBコネクション取得）より前で受付制御する
+        PostResponse createdPost;
+        try (PostIngestLimiter.Permit permit = postIngestLimiter.acquire(clientKey(httpRequest))) {
+            createdPost = postService.createPost(request);
+        }
         
         // 仕様に従ってIDのみを返す
         Map<String, Long> response = Map.of("id", createdPost.getId());
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
     
+    /**
+     * 投稿内容を全文検索
+     * GET /api/posts/search?q=検索語&cursor=次ページカーソル&limit=件数
+     * @param q 検索クエリ
+     * @param cursor 前ページのnextCursor（省略時は先頭ページ）
+     * @param limit 取得件数（デフォルト20、最大100）
+     * @return 関連度順の投稿リストと次ページカーソル
+     */
+    @GetMapping("/search")
+    public ResponseEntity<PostSearchResponse> searchPosts(
+            @RequestParam("q") String q,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        return ResponseEntity.ok(postService.searchPosts(q, cursor, limit));
+    }
+    
     /**
      * ヘルスチェック用エンドポイント
      * GET /api/posts/health
@@ -68,4 +128,26 @@ public class PostController {
         );
         return ResponseEntity.ok(response);
     }
+    
+    /**
+     * クライアント識別キーを取得
+     * 接続元が信頼するプロキシの場合のみ X-Forwarded-For を末尾からたどり、信頼するプロキシ以外の最初の
+     * アドレスを使う。それ以外の接続元が送った X-Forwarded-For は偽装できるため使わない
+     */
+    private String clientKey(HttpServletRequest httpRequest) {
+        String client = httpRequest.getRemoteAddr();
+        String forwardedFor = httpRequest.getHeader("X-Forwarded-For");
+        if (forwardedFor == null || forwardedFor.isBlank()) {
+            return client;
+        }
+        String[] addresses = forwardedFor.split(",");
+        for (int i = addresses.length - 1; i >= 0 && trustedProxies.contains(client); i--) {
+            String address = addresses[i].trim();
+            if (address.isEmpty()) {
+                break;
+            }
+            client = address;
+        }
+        return client;
+    }
 }
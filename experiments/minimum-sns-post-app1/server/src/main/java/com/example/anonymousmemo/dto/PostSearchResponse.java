@@ -0,0 +1,48 @@
+package com.example.anonymousmemo.dto;
+
+import java.util.List;
+
+/**
+ * 投稿検索レスポンスDTO
+ */
+public class PostSearchResponse {
+
+    private List<PostResponse> posts;
+
+    // 次ページ取得用カーソル（最終ページの場合はnull）
+    private String nextCursor;
+
+    // デフォルトコンストラクタ
+    public PostSearchResponse() {}
+
+    // コンストラクタ
+    public PostSearchResponse(List<PostResponse> posts, String nextCursor) {
+        this.posts = posts;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getter/Setter
+    public List<PostResponse> getPosts() {
+        return posts;
+    }
+
+    public void setPosts(List<PostResponse> posts) {
+        this.posts = posts;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    @Override
+    public String toString() {
+        return "PostSearchResponse{" +
+                "posts=" + posts +
+                ", nextCursor='" + nextCursor + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.anonymousmemo.entity;
+
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+
+/**
+ * 投稿フィンガープリントエンティティクラス
+ *
+ * 同じ内容の投稿を一定時間内に1件へまとめるため、
+ * 投稿内容のハッシュと重複判定ウィンドウの組を一意に保持する。
+ * IDを自分で割り当てるため {@link Persistable} を実装し、保存を常に INSERT とする
+ * （merge による既存行の上書きではなく、一意制約違反で同時投稿を検出する）。
+ */
+@Entity
+@Table(name = "post_fingerprints")
+@IdClass(PostFingerprintId.class)
+public class PostFingerprint implements Persistable<PostFingerprintId> {
+
+    // 前後の空白を除去した投稿内容のSHA-256（16進64文字）
+    @Id
+    @Column(name = "content_hash", length = 64, nullable = false)
+    private String contentHash;
+
+    // 重複判定ウィンドウ番号（エポックからの経過時間 ÷ ウィンドウ長）
+    @Id
+    @Column(name = "dedup_window", nullable = false)
+    private Long dedupWindow;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    // 未保存か（DBから読み込んだもの・保存済みのものは false）
+    @Transient
+    private boolean newEntity = true;
+
+    // デフォルトコンストラクタ
+    public PostFingerprint() {}
+
+    // コンストラクタ
+    public PostFingerprint(String contentHash, Long dedupWindow, Long postId) {
+        this.contentHash = contentHash;
+        this.dedupWindow = dedupWindow;
+        this.postId = postId;
+    }
+
+    @Override
+    public PostFingerprintId getId() {
+        return new PostFingerprintId(contentHash, dedupWindow);
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
+    // Getter/Setter
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    public Long getDedupWindow() {
+        return dedupWindow;
+    }
+
+    public void setDedupWindow(Long dedupWindow) {
+        this.dedupWindow = dedupWindow;
+    }
+
+    public Long getPostId() {
+        return postId;
+    }
+
+    public void setPostId(Long postId) {
+        this.postId = postId;
+    }
+
+    @Override
+    public String toString() {
+        return "PostFingerprint{" +
+                "contentHash='" + contentHash + '\'' +
+                ", dedupWindow=" + dedupWindow +
+                ", postId=" + postId +
+                '}';
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.anonymousmemo.entity;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * 投稿フィンガープリントの複合主キー
+ */
+public class PostFingerprintId implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String contentHash;
+
+    private Long dedupWindow;
+
+    // デフォルトコンストラクタ
+    public PostFingerprintId() {}
+
+    // コンストラクタ
+    public PostFingerprintId(String contentHash, Long dedupWindow) {
+        this.contentHash = contentHash;
+        this.dedupWindow = dedupWindow;
+    }
+
+    // Getter
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public Long getDedupWindow() {
+        return dedupWindow;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PostFingerprintId)) {
+            return false;
+        }
+        PostFingerprintId that = (PostFingerprintId) o;
+        return Objects.equals(contentHash, that.contentHash) && Objects.equals(dedupWindow, that.dedupWindow);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(contentHash, dedupWindow);
+    }
+}
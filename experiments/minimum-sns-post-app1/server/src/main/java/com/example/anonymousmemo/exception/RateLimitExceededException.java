@@ -0,0 +1,19 @@
+package com.example.anonymousmemo.exception;
+
+/**
+ * 投稿の受付上限超過例外（429 Too Many Requests）
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    // 再試行までの待機秒数（Retry-Afterヘッダーに設定）
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
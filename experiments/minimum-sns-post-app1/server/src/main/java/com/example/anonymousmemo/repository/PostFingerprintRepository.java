@@ -0,0 +1,35 @@
+package com.example.anonymousmemo.repository;
+
+import com.example.anonymousmemo.entity.PostFingerprint;
+import com.example.anonymousmemo.entity.PostFingerprintId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 投稿フィンガープリントデータアクセスリポジトリ
+ */
+@Repository
+public interface PostFingerprintRepository extends JpaRepository<PostFingerprint, PostFingerprintId> {
+
+    /**
+     * 指定ウィンドウのコンテンツハッシュを取得（ブルームフィルタの初期化用）
+     * @param dedupWindow 重複判定ウィンドウ番号
+     * @return コンテンツハッシュのリスト
+     */
+    @Query("SELECT f.contentHash FROM PostFingerprint f WHERE f.dedupWindow = :dedupWindow")
+    List<String> findContentHashesByDedupWindow(@Param("dedupWindow") Long dedupWindow);
+
+    /**
+     * 指定ウィンドウより古いフィンガープリントを削除
+     * @param dedupWindow 重複判定ウィンドウ番号
+     * @return 削除件数
+     */
+    @Modifying
+    @Query("DELETE FROM PostFingerprint f WHERE f.dedupWindow < :dedupWindow")
+    int deleteByDedupWindowLessThan(@Param("dedupWindow") Long dedupWindow);
+}
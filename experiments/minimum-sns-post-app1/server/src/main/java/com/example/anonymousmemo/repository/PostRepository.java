@@ -1,10 +1,13 @@
 package com.example.anonymousmemo.repository;
 
 import com.example.anonymousmemo.entity.Post;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -19,4 +22,33 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      */
     @Query("SELECT p FROM Post p ORDER BY p.createdAt DESC")
     List<Post> findAllOrderByCreatedAtDesc();
+
+    /**
+     * 最新の投稿を新しい順に指定件数取得
+     * created_at の降順に各パーティションを順に読み、件数に達した時点で打ち切られる
+     * @param pageable 取得件数
+     * @return 投稿リスト
+     */
+    @Query("SELECT p FROM Post p ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findLatest(Pageable pageable);
+
+    /**
+     * 指定投稿より古い投稿を新しい順に指定件数取得（キーセットページング用）
+     * created_at の上限条件により、それより新しい月のパーティションは読まない
+     * @param createdAt 前ページ最後の投稿の作成日時
+     * @param id 前ページ最後の投稿ID
+     * @param pageable 取得件数
+     * @return 投稿リスト
+     */
+    @Query("SELECT p FROM Post p WHERE p.createdAt <= :createdAt AND (p.createdAt < :createdAt OR p.id < :id)"
+            + " ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findPageBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 指定IDより大きい投稿をID昇順で取得（キーセットページング用）
+     * @param id 前ページ最後の投稿ID
+     * @param pageable 取得件数
+     * @return 投稿リスト
+     */
+    List<Post> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 }
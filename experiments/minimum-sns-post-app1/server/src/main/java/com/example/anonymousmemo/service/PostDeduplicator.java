@@ -0,0 +1,252 @@
+package com.example.anonymousmemo.service;
+
+import com.example.anonymousmemo.entity.Post;
+import com.example.anonymousmemo.entity.PostFingerprint;
+import com.example.anonymousmemo.entity.PostFingerprintId;
+import com.example.anonymousmemo.repository.PostFingerprintRepository;
+import com.example.anonymousmemo.repository.PostRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * 同一内容の投稿の重複判定
+ *
+ * 投稿内容のSHA-256と時間ウィンドウ番号の組を post_fingerprints に一意に記録し、
+ * 同じウィンドウ内の同一内容は既存の投稿にまとめる。
+ * 大半を占める「重複していない投稿」でDB参照を省くため、現在のウィンドウ分を
+ * ブルームフィルタ（ロックなしのビット配列）で先に判定する。
+ * 偽陽性はDB参照で、他インスタンスとの競合は一意制約で防ぐ。
+ */
+@Component
+public class PostDeduplicator {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostDeduplicator.class);
+
+    /** 1件あたりに立てるビット数 */
+    private static final int HASH_FUNCTIONS = 4;
+
+    private final PostFingerprintRepository postFingerprintRepository;
+
+    private final PostRepository postRepository;
+
+    // 重複判定ウィンドウの長さ（ミリ秒）
+    private final long windowMillis;
+
+    // ブルームフィルタのビット数（2のべき乗）
+    private final int filterBits;
+
+    private final LongSupplier currentTimeMillis;
+
+    private final AtomicReference<WindowFilter> filter = new AtomicReference<>();
+
+    @Autowired
+    public PostDeduplicator(PostFingerprintRepository postFingerprintRepository,
+                            PostRepository postRepository,
+                            @Value("${app.post-dedup.window:10m}") Duration window,
+                            @Value("${app.post-dedup.filter-bits:1048576}") int filterBits) {
+        this(postFingerprintRepository, postRepository, window, filterBits, System::currentTimeMillis);
+    }
+
+    PostDeduplicator(PostFingerprintRepository postFingerprintRepository, PostRepository postRepository,
+                     Duration window, int filterBits, LongSupplier currentTimeMillis) {
+        if (window.toMillis() <= 0 || filterBits < 64 || Integer.bitCount(filterBits) != 1) {
+            throw new IllegalArgumentException("重複判定の設定値が不正です");
+        }
+        this.postFingerprintRepository = postFingerprintRepository;
+        this.postRepository = postRepository;
+        this.windowMillis = window.toMillis();
+        this.filterBits = filterBits;
+        this.currentTimeMillis = currentTimeMillis;
+    }
+
+    /**
+     * 現在の重複判定ウィンドウ番号
+     */
+    public long currentWindow() {
+        return currentTimeMillis.getAsLong() / windowMillis;
+    }
+
+    /**
+     * 投稿内容のハッシュ（SHA-256の16進表記）
+     * @param trimmedContent 前後の空白を除去した投稿内容
+     */
+    public static String contentHash(String trimmedContent) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(trimmedContent.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256が利用できません", e);
+        }
+    }
+
+    /**
+     * 同じウィンドウ内に同一内容の投稿があれば取得
+     * @param contentHash 投稿内容のハッシュ
+     * @param window 重複判定ウィンドウ番号
+     * @return 既存の投稿（重複なしの場合は空）
+     */
+    @Transactional(readOnly = true)
+    public Optional<Post> findDuplicate(String contentHash, long window) {
+        WindowFilter windowFilter = filterFor(window);
+        if (windowFilter != null && !windowFilter.mightContain(contentHash)) {
+            return Optional.empty();
+        }
+        return findFingerprintedPost(contentHash, window);
+    }
+
+    /**
+     * 記録済みのフィンガープリントの投稿をDBから取得
+     *
+     * ブルームフィルタを使わずに確認する。{@link #record} が一意制約違反となった後に、
+     * 先に記録した（他インスタンスを含む）投稿を取得するために使う。
+     * 見つかった場合は以降の判定でDBを参照するようフィルタに追加する。
+     * @param contentHash 投稿内容のハッシュ
+     * @param window 重複判定ウィンドウ番号
+     * @return 記録済みの投稿（記録がない場合は空）
+     */
+    @Transactional(readOnly = true)
+    public Optional<Post> findRecorded(String contentHash, long window) {
+        Optional<Post> recorded = findFingerprintedPost(contentHash, window);
+        WindowFilter windowFilter = filterFor(window);
+        if (recorded.isPresent() && windowFilter != null) {
+            windowFilter.put(contentHash);
+        }
+        return recorded;
+    }
+
+    /**
+     * 投稿のフィンガープリントを記録
+     *
+     * 同時に同じ内容が投稿された場合は一意制約違反
+     * （{@link org.springframework.dao.DataIntegrityViolationException}）となる。
+     * 呼び出し側はトランザクションをロールバックしてから {@link #findRecorded} で先に記録された投稿を取得する。
+     */
+    @Transactional
+    public void record(String contentHash, long window, Long postId) {
+        postFingerprintRepository.saveAndFlush(new PostFingerprint(contentHash, window, postId));
+        WindowFilter windowFilter = filterFor(window);
+        if (windowFilter != null) {
+            windowFilter.put(contentHash);
+        }
+    }
+
+    /**
+     * 起動完了時に現在のウィンドウ分をブルームフィルタへ読み込む
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        long window = currentWindow();
+        WindowFilter current = filterFor(window);
+        if (current == null) {
+            return;
+        }
+        int loaded = 0;
+        for (String contentHash : postFingerprintRepository.findContentHashesByDedupWindow(window)) {
+            current.put(contentHash);
+            loaded++;
+        }
+        logger.info("Post dedup filter warmed up: window={}, fingerprints={}", window, loaded);
+    }
+
+    /**
+     * 判定に使わなくなった古いフィンガープリントを削除
+     */
+    @Scheduled(initialDelayString = "${app.post-dedup.purge-interval:PT1H}",
+            fixedDelayString = "${app.post-dedup.purge-interval:PT1H}")
+    @Transactional
+    public void purgeExpired() {
+        // 直前のウィンドウまでは残し、それより古いものを削除
+        int deleted = postFingerprintRepository.deleteByDedupWindowLessThan(currentWindow() - 1);
+        if (deleted > 0) {
+            logger.info("Purged {} expired post fingerprints", deleted);
+        }
+    }
+
+    private Optional<Post> findFingerprintedPost(String contentHash, long window) {
+        return postFingerprintRepository.findById(new PostFingerprintId(contentHash, window))
+                .flatMap(fingerprint -> postRepository.findById(fingerprint.getPostId()));
+    }
+
+    /**
+     * 指定ウィンドウのブルームフィルタを取得（新しいウィンドウに入ったら作り直す）
+     * @return ブルームフィルタ（過去のウィンドウの場合はnull）
+     */
+    private WindowFilter filterFor(long window) {
+        while (true) {
+            WindowFilter current = filter.get();
+            if (current != null && current.window >= window) {
+                // 過去のウィンドウは保持していないためnull（呼び出し側でDB判定する）
+                return current.window == window ? current : null;
+            }
+            WindowFilter next = new WindowFilter(window, filterBits);
+            if (filter.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * 1ウィンドウ分のブルームフィルタ
+     */
+    private static final class WindowFilter {
+
+        final long window;
+
+        private final AtomicLongArray words;
+
+        private final int mask;
+
+        WindowFilter(long window, int bits) {
+            this.window = window;
+            this.words = new AtomicLongArray(bits / 64);
+            this.mask = bits - 1;
+        }
+
+        boolean mightContain(String contentHash) {
+            ByteBuffer hash = ByteBuffer.wrap(HexFormat.of().parseHex(contentHash));
+            for (int i = 0; i < HASH_FUNCTIONS; i++) {
+                int bit = (int) (hash.getLong(i * 8) & mask);
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void put(String contentHash) {
+            // SHA-256は一様に分布するため、8バイトずつをそれぞれ独立したハッシュ値として使う
+            ByteBuffer hash = ByteBuffer.wrap(HexFormat.of().parseHex(contentHash));
+            for (int i = 0; i < HASH_FUNCTIONS; i++) {
+                int bit = (int) (hash.getLong(i * 8) & mask);
+                long bitMask = 1L << bit;
+                int index = bit >>> 6;
+                long word;
+                do {
+                    word = words.get(index);
+                    if ((word & bitMask) != 0) {
+                        break;
+                    }
+                } while (!words.compareAndSet(index, word, word | bitMask));
+            }
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.anonymousmemo.service;
+
+import com.example.anonymousmemo.exception.RateLimitExceededException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 投稿作成の受付制御
+ *
+ * クライアントごとのトークンバケットと、全体の同時実行数の上限で投稿を制限する。
+ * 上限を超えた要求は待たせずに {@link RateLimitExceededException} で即時に拒否し、
+ * スパムの集中でDBコネクションプールが枯渇して参照系が止まることを防ぐ。
+ *
+ * トークンバケットはGCRA（次にトークンが満杯に戻る理論時刻を1つのAtomicLongで持つ方式）で実装し、
+ * ロックを使わずCASのみで更新する。
+ *
+ * クライアントごとの状態は件数上限付きのキャッシュに持つ。最後の要求から満杯に戻るまでの時間が過ぎた
+ * バケットは状態を持つ必要がないため期限切れとし、定期的な掃除で破棄する。多数の送信元から一斉に
+ * 要求された場合も上限件数を超えて保持せず、超えた分は使われていないものから破棄する
+ * （破棄されたクライアントは次の要求で満杯のバケットから始まる）。
+ */
+@Component
+public class PostIngestLimiter {
+
+    /** 同時実行数の上限による拒否時のRetry-After秒数 */
+    private static final long CONCURRENCY_RETRY_AFTER_SECONDS = 1L;
+
+    // トークン1つが補充されるまでの間隔
+    private final long emissionIntervalNanos;
+
+    // バースト許容量（満杯のバケットから連続で取り出せる時間幅）
+    private final long burstToleranceNanos;
+
+    private final LongSupplier nanoClock;
+
+    // クライアントキー → 理論到着時刻（ナノ秒）
+    private final Cache<String, AtomicLong> buckets;
+
+    private final Semaphore concurrency;
+
+    private final Counter admittedCounter;
+
+    private final Counter rateRejectedCounter;
+
+    private final Counter concurrencyRejectedCounter;
+
+    @Autowired
+    public PostIngestLimiter(
+            @Value("${app.post-ingest.rate-per-second:1.0}") double ratePerSecond,
+            @Value("${app.post-ingest.burst:10}") int burst,
+            @Value("${app.post-ingest.max-concurrent:5}") int maxConcurrent,
+            @Value("${app.post-ingest.max-clients:100000}") int maxClients,
+            MeterRegistry meterRegistry) {
+        this(ratePerSecond, burst, maxConcurrent, maxClients, meterRegistry, System::nanoTime);
+    }
+
+    PostIngestLimiter(double ratePerSecond, int burst, int maxConcurrent, int maxClients,
+                      MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        if (ratePerSecond <= 0 || burst < 1 || maxConcurrent < 1 || maxClients < 1) {
+            throw new IllegalArgumentException("投稿受付制限の設定値が不正です");
+        }
+        this.emissionIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * (burst - 1);
+        this.nanoClock = nanoClock;
+        // 最後の要求で理論到着時刻は最大で now + バースト許容量 + 間隔 まで進むため、その時間で満杯に戻る
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(Duration.ofNanos(burstToleranceNanos + emissionIntervalNanos))
+                .ticker(nanoClock::getAsLong)
+                .executor(Runnable::run)
+                .build();
+        this.concurrency = new Semaphore(maxConcurrent);
+
+        this.admittedCounter = Counter.builder("posts.ingest.requests")
+                .description("投稿作成の受付結果")
+                .tag("result", "admitted")
+                .register(meterRegistry);
+        this.rateRejectedCounter = Counter.builder("posts.ingest.requests")
+                .description("投稿作成の受付結果")
+                .tag("result", "rejected_rate")
+                .register(meterRegistry);
+        this.concurrencyRejectedCounter = Counter.builder("posts.ingest.requests")
+                .description("投稿作成の受付結果")
+                .tag("result", "rejected_concurrency")
+                .register(meterRegistry);
+        Gauge.builder("posts.ingest.in_flight", concurrency, s -> maxConcurrent - s.availablePermits())
+                .description("処理中の投稿作成数")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 投稿作成の受付を要求
+     *
+     * 受付できた場合は同時実行枠を確保した許可を返す。処理後に必ず close すること。
+     * @param clientKey クライアント識別キー（IPアドレスなど）
+     * @return 受付許可
+     * @throws RateLimitExceededException クライアントの投稿頻度または全体の同時実行数が上限を超えた場合
+     */
+    public Permit acquire(String clientKey) {
+        // 同時実行数で拒否した要求がクライアントのトークンを消費しないよう、先に同時実行枠を確保する
+        if (!concurrency.tryAcquire()) {
+            concurrencyRejectedCounter.increment();
+            throw new RateLimitExceededException("現在投稿が混み合っています。しばらくしてから再度お試しください",
+                    CONCURRENCY_RETRY_AFTER_SECONDS);
+        }
+        try {
+            consumeToken(clientKey);
+        } catch (RuntimeException e) {
+            concurrency.release();
+            throw e;
+        }
+        admittedCounter.increment();
+
+        AtomicBoolean released = new AtomicBoolean();
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                concurrency.release();
+            }
+        };
+    }
+
+    /**
+     * 満杯に戻ったバケットと上限件数を超えたバケットを破棄
+     *
+     * 要求の処理中にも少しずつ破棄されるが、要求が途絶えた後も保持し続けないよう定期的に実行する。
+     */
+    @Scheduled(initialDelayString = "${app.post-ingest.sweep-interval:PT1M}",
+            fixedDelayString = "${app.post-ingest.sweep-interval:PT1M}")
+    public void sweep() {
+        buckets.cleanUp();
+    }
+
+    /**
+     * 保持しているクライアント数
+     */
+    long clientCount() {
+        return buckets.estimatedSize();
+    }
+
+    private void consumeToken(String clientKey) {
+        long now = nanoClock.getAsLong();
+        AtomicLong theoreticalArrival = buckets.get(clientKey, k -> new AtomicLong(now));
+
+        while (true) {
+            long current = theoreticalArrival.get();
+            long base = Math.max(current, now);
+            long waitNanos = base - now - burstToleranceNanos;
+            if (waitNanos > 0) {
+                rateRejectedCounter.increment();
+                throw new RateLimitExceededException("投稿の頻度が高すぎます。しばらくしてから再度お試しください",
+                        Math.max(1L, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1)));
+            }
+            if (theoreticalArrival.compareAndSet(current, base + emissionIntervalNanos)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 受付許可（close で同時実行枠を返却する）
+     */
+    @FunctionalInterface
+    public interface Permit extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
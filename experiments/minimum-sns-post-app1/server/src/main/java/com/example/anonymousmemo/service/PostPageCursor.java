@@ -0,0 +1,69 @@
+package com.example.anonymousmemo.service;
+
+import com.example.anonymousmemo.entity.Post;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 投稿一覧のページ位置（前ページ最後の投稿の作成日時と投稿ID）
+ *
+ * 作成日時を含めることで、次ページの取得時に前ページ最後の投稿をIDで引き直さずに済む。
+ * 文字列表現は "作成日時のエポックマイクロ秒_投稿ID"（作成日時はタイムゾーンを持たないためUTCとして数える）。
+ */
+public final class PostPageCursor {
+
+    private static final long MICROS_PER_SECOND = TimeUnit.SECONDS.toMicros(1);
+
+    private final LocalDateTime createdAt;
+
+    private final long postId;
+
+    public PostPageCursor(LocalDateTime createdAt, long postId) {
+        this.createdAt = createdAt;
+        this.postId = postId;
+    }
+
+    /**
+     * 投稿の位置を表すカーソル
+     */
+    public static PostPageCursor of(Post post) {
+        return new PostPageCursor(post.getCreatedAt(), post.getId());
+    }
+
+    /**
+     * "作成日時のエポックマイクロ秒_投稿ID" 形式の文字列からカーソルを復元
+     * @throws IllegalArgumentException 形式が不正な場合
+     */
+    public static PostPageCursor parse(String value) {
+        int separator = value.indexOf('_');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("カーソルの形式が不正です");
+        }
+        try {
+            long micros = Long.parseLong(value.substring(0, separator));
+            LocalDateTime createdAt = LocalDateTime.ofEpochSecond(Math.floorDiv(micros, MICROS_PER_SECOND),
+                    (int) TimeUnit.MICROSECONDS.toNanos(Math.floorMod(micros, MICROS_PER_SECOND)), ZoneOffset.UTC);
+            return new PostPageCursor(createdAt, Long.parseLong(value.substring(separator + 1)));
+        } catch (NumberFormatException | DateTimeException e) {
+            throw new IllegalArgumentException("カーソルの形式が不正です", e);
+        }
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public long getPostId() {
+        return postId;
+    }
+
+    @Override
+    public String toString() {
+        long micros = createdAt.toEpochSecond(ZoneOffset.UTC) * MICROS_PER_SECOND
+                + TimeUnit.NANOSECONDS.toMicros(createdAt.getNano());
+        return micros + "_" + postId;
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.anonymousmemo.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * posts テーブルの月単位パーティションの保守
+ *
+ * 当月から指定か月先までのパーティションを事前に作成し、
+ * 保持期間を過ぎた月のパーティションは posts から切り離す（DETACH）。
+ * 切り離したテーブル（posts_YYYYMM）はそのまま残るため、アーカイブ後に手動で削除する。
+ * 大量のDELETEを行わずにパーティション単位で保持期間を管理できる。
+ *
+ * 切り離しは posts に ACCESS EXCLUSIVE ロックを取る（既定パーティション posts_default があるため
+ * DETACH PARTITION ... CONCURRENTLY は使えない）。ロックは切り離しの間だけで短いが、実行中の参照が
+ * 終わるのを待つ間は後続の参照・投稿もすべて待たされるため、待ち時間を lock_timeout で制限する。
+ * 時間内にロックを取れなかったパーティションは次回の保守で切り離す。
+ *
+ * PostgreSQL専用のため app.post-partition.enabled=true の場合のみ有効。
+ */
+@Component
+@ConditionalOnProperty(name = "app.post-partition.enabled", havingValue = "true")
+public class PostPartitionMaintainer {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostPartitionMaintainer.class);
+
+    /** パーティション名の形式（posts_YYYYMM） */
+    private static final Pattern PARTITION_NAME = Pattern.compile("posts_\\d{6}");
+
+    private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("'posts_'yyyyMM");
+
+    /** 切り離し時のロック待ちの上限 */
+    private static final String DETACH_LOCK_TIMEOUT = "5s";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    // 事前に作成する月数（当月を除く）
+    private final int monthsAhead;
+
+    // 保持する月数（当月を含む。0の場合は切り離さない）
+    private final int retentionMonths;
+
+    private final Clock clock;
+
+    @Autowired
+    public PostPartitionMaintainer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                   @Value("${app.post-partition.months-ahead:3}") int monthsAhead,
+                                   @Value("${app.post-partition.retention-months:0}") int retentionMonths) {
+        this(jdbcTemplate, transactionManager, monthsAhead, retentionMonths, Clock.systemDefaultZone());
+    }
+
+    PostPartitionMaintainer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                            int monthsAhead, int retentionMonths, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.clock = clock;
+    }
+
+    /**
+     * 起動時と毎日定時にパーティションを保守
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.post-partition.cron:0 0 3 * * *}")
+    public void maintain() {
+        createFuturePartitions();
+        if (retentionMonths > 0) {
+            detachExpiredPartitions();
+        }
+    }
+
+    /**
+     * 当月から指定か月先までのパーティションを作成
+     */
+    void createFuturePartitions() {
+        LocalDate firstDay = LocalDate.now(clock).withDayOfMonth(1);
+        for (int i = 0; i <= monthsAhead; i++) {
+            String partition = jdbcTemplate.queryForObject(
+                    "SELECT ensure_posts_partition(?)", String.class, firstDay.plusMonths(i));
+            logger.debug("Ensured posts partition: {}", partition);
+        }
+    }
+
+    /**
+     * 保持期間を過ぎた月のパーティションを切り離す
+     * @return 切り離したパーティション名（ロック待ちの上限を超えたものは含まない）
+     */
+    List<String> detachExpiredPartitions() {
+        String oldestRetained = YearMonth.now(clock).minusMonths(retentionMonths - 1L).format(PARTITION_MONTH);
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i"
+                        + " JOIN pg_class c ON c.oid = i.inhrelid"
+                        + " JOIN pg_class p ON p.oid = i.inhparent"
+                        + " WHERE p.relname = 'posts'",
+                String.class);
+
+        List<String> detached = new ArrayList<>();
+        for (String partition : partitions) {
+            // 名前形式が一致するもののみ対象（posts_default など他のパーティションは触らない）
+            if (PARTITION_NAME.matcher(partition).matches() && partition.compareTo(oldestRetained) < 0) {
+                try {
+                    detach(partition);
+                    detached.add(partition);
+                    logger.info("Detached expired posts partition: {}", partition);
+                } catch (DataAccessException e) {
+                    logger.warn("Failed to detach expired posts partition {} (retry at next maintenance): {}",
+                            partition, e.getMessage());
+                }
+            }
+        }
+        return detached;
+    }
+
+    /**
+     * 1つのパーティションを切り離す（SET LOCAL を効かせるため1トランザクションで実行）
+     */
+    private void detach(String partition) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("SET LOCAL lock_timeout = '" + DETACH_LOCK_TIMEOUT + "'");
+            jdbcTemplate.execute("ALTER TABLE posts DETACH PARTITION " + partition);
+        });
+    }
+}
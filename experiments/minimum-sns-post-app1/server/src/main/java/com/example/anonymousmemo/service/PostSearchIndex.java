@@ -0,0 +1,670 @@
+package com.example.anonymousmemo.service;
+
+import com.example.anonymousmemo.entity.Post;
+import com.example.anonymousmemo.repository.PostRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 投稿内容の部分一致検索用インメモリN-gramインデックス
+ *
+ * 日本語は空白で分かち書きされないため、単語ではなく文字単位のN-gram
+ * （1文字・2文字）をキーとして投稿IDの昇順リストを保持する。
+ * 投稿IDリストは差分＋可変長整数で圧縮して格納する。
+ * 起動時にDBから再構築し、以降は投稿作成時に追記する。
+ *
+ * N-gramの積集合は候補であり、語の並びまでは保証しないため、
+ * 最終的な一致判定は {@link #matches(String, String)} で本文に対して行う。
+ *
+ * 検索1回あたりの処理量を件数に依存させないため、候補は新しい投稿から順に
+ * 最大 {@link #MAX_SCANNED_POSTINGS} 件（最も短い投稿IDリストの要素数）まで走査し、
+ * その範囲で関連度順に並べる。よく使われる語では、それより古い投稿は検索結果に含まれない。
+ */
+@Component
+public class PostSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostSearchIndex.class);
+
+    /** 再構築時に1回で読み込む投稿件数 */
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    /** 検索1回で走査する候補（最も短い投稿IDリストの要素）の最大数 */
+    static final int MAX_SCANNED_POSTINGS = 50_000;
+
+    private final PostRepository postRepository;
+
+    private final int maxScannedPostings;
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Autowired
+    public PostSearchIndex(PostRepository postRepository) {
+        this(postRepository, MAX_SCANNED_POSTINGS);
+    }
+
+    PostSearchIndex(PostRepository postRepository, int maxScannedPostings) {
+        this.postRepository = postRepository;
+        this.maxScannedPostings = maxScannedPostings;
+    }
+
+    /**
+     * 起動完了時にインデックスを再構築
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        // IDのキーセットページングで全件を走査（OFFSETを使わない）
+        long lastId = 0L;
+        long indexed = 0L;
+        List<Post> page;
+        do {
+            page = postRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+            for (Post post : page) {
+                add(post.getId(), post.getContent());
+                lastId = post.getId();
+            }
+            indexed += page.size();
+        } while (page.size() == REBUILD_PAGE_SIZE);
+
+        logger.info("Post search index rebuilt: {} posts, {} grams, {} bytes",
+                indexed, termCount(), postingBytes());
+    }
+
+    /**
+     * 投稿をインデックスに追加（同じIDの再追加は上書き）
+     */
+    public void add(Long postId, String content) {
+        if (postId == null || content == null) {
+            return;
+        }
+        Map<String, Integer> gramFrequencies = gramFrequencies(content);
+        if (gramFrequencies.isEmpty()) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            gramFrequencies.forEach((gram, tf) ->
+                    postings.computeIfAbsent(gram, g -> new PostingList()).add(postId, tf));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 検索クエリのすべての文字列を含む可能性がある投稿を関連度順に取得
+     *
+     * 並び順は（スコア降順, ID降順）。afterを指定するとその位置より後ろのみを返す（キーセットページング）。
+     * スコアは各検索語について「その語のN-gramの出現回数の最小値」を合計したもの。
+     * 対象は新しい投稿から走査した最大 {@link #MAX_SCANNED_POSTINGS} 件の候補のうち、すべてのN-gramを含むもの。
+     * @param query 検索クエリ
+     * @param after 前ページ最後の位置（先頭ページはnull）
+     * @param limit 取得件数
+     * @return 検索結果ページ（候補。本文での一致確認は呼び出し側で行う）
+     */
+    public SearchPage search(String query, SearchCursor after, int limit) {
+        List<String> segments = segments(query);
+        if (segments.isEmpty() || limit <= 0) {
+            return new SearchPage(List.of(), null);
+        }
+
+        // 検索語ごとのN-gramを重複なく集め、語→N-gram番号の対応を作る
+        Map<String, Integer> gramIndexes = new LinkedHashMap<>();
+        int[][] segmentGrams = new int[segments.size()][];
+        for (int s = 0; s < segments.size(); s++) {
+            List<String> grams = queryGrams(segments.get(s));
+            segmentGrams[s] = new int[grams.size()];
+            for (int g = 0; g < grams.size(); g++) {
+                segmentGrams[s][g] = gramIndexes.computeIfAbsent(grams.get(g), k -> gramIndexes.size());
+            }
+        }
+
+        // 上位limit+1件だけを保持する最小ヒープ（ヒープ先頭が最も順位の低い結果）
+        PriorityQueue<SearchCursor> heap = new PriorityQueue<>(limit + 1, RANK_ORDER.reversed());
+
+        lock.readLock().lock();
+        try {
+            int gramCount = gramIndexes.size();
+            PostingList[] lists = new PostingList[gramCount];
+            for (Map.Entry<String, Integer> entry : gramIndexes.entrySet()) {
+                lists[entry.getValue()] = postings.get(entry.getKey());
+                if (lists[entry.getValue()] == null) {
+                    return new SearchPage(List.of(), null);
+                }
+            }
+
+            // 最短のリストを基準に、新しいIDから順に他のリストを読み進めて積集合を取る
+            Integer[] order = new Integer[gramCount];
+            for (int i = 0; i < gramCount; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparingInt(i -> lists[i].size()));
+            DescendingPostingIterator[] iterators = new DescendingPostingIterator[gramCount];
+            for (int i = 0; i < gramCount; i++) {
+                iterators[i] = lists[order[i]].descendingIterator();
+            }
+            int[] tfs = new int[gramCount];
+
+            DescendingPostingIterator driver = iterators[0];
+            int scanned = 0;
+            candidates:
+            while (scanned++ < maxScannedPostings && driver.next()) {
+                long id = driver.id();
+                tfs[order[0]] = driver.tf();
+                for (int i = 1; i < gramCount; i++) {
+                    if (!iterators[i].advanceTo(id)) {
+                        break candidates;
+                    }
+                    if (iterators[i].id() != id) {
+                        continue candidates;
+                    }
+                    tfs[order[i]] = iterators[i].tf();
+                }
+
+                int score = 0;
+                for (int[] grams : segmentGrams) {
+                    int segmentScore = Integer.MAX_VALUE;
+                    for (int g : grams) {
+                        segmentScore = Math.min(segmentScore, tfs[g]);
+                    }
+                    score += segmentScore;
+                }
+                SearchCursor hit = new SearchCursor(score, id);
+                if (after != null && RANK_ORDER.compare(hit, after) <= 0) {
+                    continue;
+                }
+                heap.offer(hit);
+                if (heap.size() > limit + 1) {
+                    heap.poll();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<SearchCursor> hits = new ArrayList<>(heap);
+        hits.sort(RANK_ORDER);
+        boolean hasMore = hits.size() > limit;
+        if (hasMore) {
+            hits = hits.subList(0, limit);
+        }
+        return new SearchPage(hits, hasMore ? hits.get(hits.size() - 1) : null);
+    }
+
+    /**
+     * インデックス済みのN-gramの数
+     */
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 圧縮済み投稿IDリストの合計バイト数
+     */
+    public long postingBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0L;
+            for (PostingList list : postings.values()) {
+                bytes += list.length;
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 本文が検索クエリのすべての語を部分文字列として含むか判定
+     *
+     * インデックスと同じ正規化（NFKC・小文字化）を行ってから比較する。
+     */
+    public static boolean matches(String content, String query) {
+        if (content == null) {
+            return false;
+        }
+        List<String> segments = segments(query);
+        if (segments.isEmpty()) {
+            return false;
+        }
+        String normalized = normalize(content);
+        for (String segment : segments) {
+            if (!normalized.contains(segment)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * テキストを1文字・2文字のN-gramに分解し、N-gramごとの出現回数を返す
+     *
+     * 文字・数字の連続ごとに分解し、記号や空白をまたぐN-gramは作らない。
+     */
+    static Map<String, Integer> gramFrequencies(String text) {
+        Map<String, Integer> frequencies = new LinkedHashMap<>();
+        for (String segment : segments(text)) {
+            int[] codePoints = segment.codePoints().toArray();
+            for (int i = 0; i < codePoints.length; i++) {
+                frequencies.merge(new String(codePoints, i, 1), 1, Integer::sum);
+                if (i + 1 < codePoints.length) {
+                    frequencies.merge(new String(codePoints, i, 2), 1, Integer::sum);
+                }
+            }
+        }
+        return frequencies;
+    }
+
+    /**
+     * 検索語を引くN-gram（1文字の語はその文字、2文字以上は2文字N-gram）
+     */
+    private static List<String> queryGrams(String segment) {
+        int[] codePoints = segment.codePoints().toArray();
+        if (codePoints.length == 1) {
+            return List.of(segment);
+        }
+        List<String> grams = new ArrayList<>(codePoints.length - 1);
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            String gram = new String(codePoints, i, 2);
+            if (!grams.contains(gram)) {
+                grams.add(gram);
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 正規化したテキストを文字・数字の連続ごとに分割
+     */
+    static List<String> segments(String text) {
+        List<String> segments = new ArrayList<>();
+        if (text == null) {
+            return segments;
+        }
+        String normalized = normalize(text);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); ) {
+            int codePoint = i < normalized.length() ? normalized.codePointAt(i) : -1;
+            boolean wordChar = codePoint >= 0 && Character.isLetterOrDigit(codePoint);
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                segments.add(normalized.substring(start, i));
+                start = -1;
+            }
+            i += codePoint >= 0 ? Character.charCount(codePoint) : 1;
+        }
+        return segments;
+    }
+
+    /**
+     * 全角英数・半角カナの揺れを吸収し、大文字小文字を区別しない形に正規化
+     */
+    private static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /** 関連度順（スコア降順, 同点はID降順＝新しい順） */
+    private static final Comparator<SearchCursor> RANK_ORDER =
+            Comparator.comparingInt(SearchCursor::getScore).reversed()
+                    .thenComparing(Comparator.comparingLong(SearchCursor::getPostId).reversed());
+
+    /**
+     * 1つのN-gramの投稿IDリスト（ID昇順）と出現回数
+     *
+     * 各要素を「前の投稿IDとの差分」「出現回数」の順に可変長整数（7bit単位）で格納する。
+     * 投稿IDは採番順に増えるため差分は小さく、多くは1〜2バイトに収まる。
+     * {@link #BLOCK_SIZE} 件ごとのブロックの先頭は差分ではなく投稿IDそのものを格納し、
+     * ブロックの開始位置と先頭IDを保持することで、新しい方から（末尾のブロックから）読めるようにする。
+     */
+    static final class PostingList {
+        static final int BLOCK_SIZE = 128;
+
+        private byte[] data = new byte[8];
+        private int length;
+        private int size;
+        private long lastId;
+        private int[] blockOffsets = new int[1];
+        private long[] blockFirstIds = new long[1];
+        private int blockCount;
+
+        int size() {
+            return size;
+        }
+
+        PostingIterator iterator() {
+            return new PostingIterator(data, length);
+        }
+
+        DescendingPostingIterator descendingIterator() {
+            return new DescendingPostingIterator(this);
+        }
+
+        void add(long id, int tf) {
+            if (size == 0 || lastId < id) {
+                append(id, tf);
+                return;
+            }
+            // ID順でない追加・再追加は稀なため、展開してから作り直す
+            long[] ids = new long[size + 1];
+            int[] tfs = new int[size + 1];
+            int count = 0;
+            boolean inserted = false;
+            PostingIterator iterator = iterator();
+            while (iterator.next()) {
+                if (!inserted && iterator.id() >= id) {
+                    ids[count] = id;
+                    tfs[count++] = tf;
+                    inserted = true;
+                    if (iterator.id() == id) {
+                        continue;
+                    }
+                }
+                ids[count] = iterator.id();
+                tfs[count++] = iterator.tf();
+            }
+            length = 0;
+            size = 0;
+            lastId = 0L;
+            blockCount = 0;
+            for (int i = 0; i < count; i++) {
+                append(ids[i], tfs[i]);
+            }
+        }
+
+        private void append(long id, int tf) {
+            if (length + 15 > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, length + 15));
+            }
+            if (size % BLOCK_SIZE == 0) {
+                if (blockCount == blockOffsets.length) {
+                    blockOffsets = Arrays.copyOf(blockOffsets, blockCount * 2);
+                    blockFirstIds = Arrays.copyOf(blockFirstIds, blockCount * 2);
+                }
+                blockOffsets[blockCount] = length;
+                blockFirstIds[blockCount++] = id;
+                writeVarLong(id);
+            } else {
+                writeVarLong(id - lastId);
+            }
+            writeVarLong(tf);
+            lastId = id;
+            size++;
+        }
+
+        private void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                data[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            data[length++] = (byte) value;
+        }
+    }
+
+    /**
+     * 圧縮済み投稿IDリストを先頭（またはブロックの先頭）から順に読み出すイテレータ
+     */
+    static final class PostingIterator {
+        private final byte[] data;
+        private final int length;
+        private int offset;
+        private int index;
+        private long id;
+        private int tf;
+
+        PostingIterator(byte[] data, int length) {
+            this(data, 0, length);
+        }
+
+        PostingIterator(byte[] data, int offset, int length) {
+            this.data = data;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        /**
+         * 次の要素へ進む
+         * @return 要素がなくなった場合はfalse
+         */
+        boolean next() {
+            if (offset >= length) {
+                return false;
+            }
+            // ブロックの先頭は投稿IDそのもの
+            long value = readVarLong();
+            id = index++ % PostingList.BLOCK_SIZE == 0 ? value : id + value;
+            tf = (int) readVarLong();
+            return true;
+        }
+
+        long id() {
+            return id;
+        }
+
+        int tf() {
+            return tf;
+        }
+
+        private long readVarLong() {
+            long value = 0L;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[offset++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+    }
+
+    /**
+     * 圧縮済み投稿IDリストを新しい方（末尾）から読み出すイテレータ
+     *
+     * 末尾のブロックから1ブロックずつ展開して逆順に返す。{@link #advanceTo(long)} は
+     * ブロックの先頭IDを二分探索して、途中のブロックを展開せずに読み飛ばす。
+     */
+    static final class DescendingPostingIterator {
+        private final PostingList list;
+        private final long[] ids = new long[PostingList.BLOCK_SIZE];
+        private final int[] tfs = new int[PostingList.BLOCK_SIZE];
+        /** 展開済みのブロック（list.blockCount は未展開） */
+        private int block;
+        /** 現在の要素のブロック内の位置 */
+        private int position;
+        private boolean positioned;
+
+        DescendingPostingIterator(PostingList list) {
+            this.list = list;
+            this.block = list.blockCount;
+        }
+
+        /**
+         * 次に古い要素へ進む
+         * @return 要素がなくなった場合はfalse
+         */
+        boolean next() {
+            if (positioned && position > 0) {
+                position--;
+                return true;
+            }
+            if (block == 0) {
+                positioned = false;
+                return false;
+            }
+            position = decode(--block) - 1;
+            positioned = true;
+            return true;
+        }
+
+        /**
+         * 現在位置が指定ID以下になるまで進む
+         * @return 指定ID以下の要素がない場合はfalse
+         */
+        boolean advanceTo(long target) {
+            if (positioned && ids[position] <= target) {
+                return true;
+            }
+            if (positioned && ids[0] <= target) {
+                position = floor(ids, position, target);
+                return true;
+            }
+            // 指定ID以下の要素を含むブロック（先頭IDが指定ID以下の最後のブロック）
+            int low = 0;
+            int high = block - 1;
+            int found = -1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (list.blockFirstIds[mid] <= target) {
+                    found = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            if (found < 0) {
+                block = 0;
+                positioned = false;
+                return false;
+            }
+            block = found;
+            position = floor(ids, decode(found), target);
+            positioned = true;
+            return true;
+        }
+
+        long id() {
+            return ids[position];
+        }
+
+        int tf() {
+            return tfs[position];
+        }
+
+        /**
+         * ブロックを展開する
+         * @return ブロックの要素数
+         */
+        private int decode(int blockIndex) {
+            int end = blockIndex + 1 < list.blockCount ? list.blockOffsets[blockIndex + 1] : list.length;
+            PostingIterator iterator = new PostingIterator(list.data, list.blockOffsets[blockIndex], end);
+            int count = 0;
+            while (iterator.next()) {
+                ids[count] = iterator.id();
+                tfs[count++] = iterator.tf();
+            }
+            return count;
+        }
+
+        /**
+         * ids[0..count) のうち指定ID以下の最後の位置（ids[0] は指定ID以下であること）
+         */
+        private static int floor(long[] ids, int count, long target) {
+            int low = 0;
+            int high = count - 1;
+            while (low < high) {
+                int mid = (low + high + 1) >>> 1;
+                if (ids[mid] <= target) {
+                    low = mid;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * 検索結果の位置（スコアと投稿ID）。次ページ取得用のカーソルも兼ねる
+     */
+    public static final class SearchCursor {
+        private final int score;
+        private final long postId;
+
+        public SearchCursor(int score, long postId) {
+            this.score = score;
+            this.postId = postId;
+        }
+
+        /**
+         * "スコア_投稿ID" 形式の文字列からカーソルを復元
+         * @throws IllegalArgumentException 形式が不正な場合
+         */
+        public static SearchCursor parse(String value) {
+            int separator = value.indexOf('_');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("カーソルの形式が不正です");
+            }
+            try {
+                return new SearchCursor(Integer.parseInt(value.substring(0, separator)),
+                        Long.parseLong(value.substring(separator + 1)));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("カーソルの形式が不正です", e);
+            }
+        }
+
+        public int getScore() {
+            return score;
+        }
+
+        public long getPostId() {
+            return postId;
+        }
+
+        @Override
+        public String toString() {
+            return score + "_" + postId;
+        }
+    }
+
+    /**
+     * 検索結果ページ
+     */
+    public static final class SearchPage {
+        private final List<SearchCursor> hits;
+        private final SearchCursor next;
+
+        public SearchPage(List<SearchCursor> hits, SearchCursor next) {
+            this.hits = hits;
+            this.next = next;
+        }
+
+        public List<SearchCursor> getHits() {
+            return hits;
+        }
+
+        public SearchCursor getNext() {
+            return next;
+        }
+    }
+}
@@ -2,13 +2,26 @@ package com.example.anonymousmemo.service;
 
 import com.example.anonymousmemo.dto.PostRequest;
 import com.example.anonymousmemo.dto.PostResponse;
+import com.example.anonymousmemo.dto.PostSearchResponse;
 import com.example.anonymousmemo.entity.Post;
 import com.example.anonymousmemo.repository.PostRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -18,11 +31,30 @@ import java.util.stream.Collectors;
 @Transactional
 public class PostService {
     
+    /** 検索1ページあたりの最大件数 */
+    public static final int MAX_SEARCH_LIMIT = 100;
+    
+    /** 一覧1ページあたりの最大件数 */
+    public static final int MAX_PAGE_LIMIT = 100;
+    
+    /** 検索1ページあたりのインデックス検索の最大回数（本文に一致しない候補の補充を含む） */
+    static final int MAX_SEARCH_ROUNDS = 3;
+    
     private final PostRepository postRepository;
     
+    private final PostSearchIndex postSearchIndex;
+    
+    private final PostDeduplicator postDeduplicator;
+    
+    private final TransactionTemplate transactionTemplate;
+    
     @Autowired
-    public PostService(PostRepository postRepository) {
+    public PostService(PostRepository postRepository, PostSearchIndex postSearchIndex,
+                       PostDeduplicator postDeduplicator, PlatformTransactionManager transactionManager) {
         this.postRepository = postRepository;
+        this.postSearchIndex = postSearchIndex;
+        this.postDeduplicator = postDeduplicator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
     
     /**
@@ -37,12 +69,32 @@ public class PostService {
                 .collect(Collectors.toList());
     }
     
+    /**
+     * 投稿を新しい順にページ単位で取得
+     * @param before 前ページ最後の投稿の位置（先頭ページはnull）
+     * @param limit 取得件数（1〜100に丸める）
+     * @return 投稿レスポンスリスト
+     */
+    @Transactional(readOnly = true)
+    public List<PostResponse> getPosts(PostPageCursor before, int limit) {
+        PageRequest page = PageRequest.of(0, Math.max(1, Math.min(limit, MAX_PAGE_LIMIT)));
+        List<Post> posts = before == null
+                ? postRepository.findLatest(page)
+                : postRepository.findPageBefore(before.getCreatedAt(), before.getPostId(), page);
+        return posts.stream()
+                .map(PostResponse::from)
+                .collect(Collectors.toList());
+    }
+    
     /**
      * 新しい投稿を作成
+     * 同じ内容が重複判定ウィンドウ内に投稿済みの場合は新規作成せず、既存の投稿を返す。
+     * 同じ内容が同時に投稿された場合も、先にフィンガープリントを記録した投稿を返す
      * @param request 投稿作成リクエスト
-     * @return 作成された投稿のレスポンス
+     * @return 作成された（または既存の）投稿のレスポンス
      * @throws IllegalArgumentException 投稿内容が無効な場合
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PostResponse createPost(PostRequest request) {
         // サービス層でもバリデーション実行（防御的プログラミング）
         String content = request.getContent();
@@ -60,8 +112,85 @@ public class PostService {
         // 前後の空白を除去
         String trimmedContent = content.trim();
         
-        Post post = new Post(trimmedContent);
-        Post savedPost = postRepository.save(post);
-        return PostResponse.from(savedPost);
+        // 同一内容の連続投稿は既存の投稿にまとめる
+        String contentHash = PostDeduplicator.contentHash(trimmedContent);
+        long dedupWindow = postDeduplicator.currentWindow();
+        Optional<Post> duplicate = postDeduplicator.findDuplicate(contentHash, dedupWindow);
+        if (duplicate.isPresent()) {
+            return PostResponse.from(duplicate.get());
+        }
+        
+        // 一意制約違反でトランザクションが使えなくなるため、作成と既存投稿の再取得は別のトランザクションで行う
+        try {
+            return transactionTemplate.execute(status -> {
+                Post savedPost = postRepository.save(new Post(trimmedContent));
+                postDeduplicator.record(contentHash, dedupWindow, savedPost.getId());
+                indexAfterCommit(savedPost);
+                return PostResponse.from(savedPost);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 同時に投稿された同じ内容に先を越された場合のみ、その投稿を返す（投稿の作成はロールバック済み）
+            return postDeduplicator.findRecorded(contentHash, dedupWindow)
+                    .map(PostResponse::from)
+                    .orElseThrow(() -> e);
+        }
+    }
+    
+    /**
+     * 投稿内容を部分一致検索（関連度順、キーセットページング）
+     * @param query 検索クエリ（空白区切りの語をすべて含む投稿が対象）
+     * @param cursor 前ページのnextCursor（先頭ページはnull）
+     * @param limit 取得件数（1〜100に丸める）
+     * @return 検索結果（本文に一致しない候補が多い場合は limit 件未満でも nextCursor を返す）
+     * @throws IllegalArgumentException カーソルの形式が不正な場合
+     */
+    @Transactional(readOnly = true)
+    public PostSearchResponse searchPosts(String query, String cursor, int limit) {
+        PostSearchIndex.SearchCursor position = cursor == null || cursor.isEmpty()
+                ? null
+                : PostSearchIndex.SearchCursor.parse(cursor);
+        int pageSize = Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT));
+        
+        List<PostResponse> posts = new ArrayList<>(pageSize);
+        PostSearchIndex.SearchPage page;
+        int rounds = 0;
+        do {
+            // N-gramの候補には語順の異なる投稿が混ざるため、本文で確認して不足分を次の候補から補う
+            page = postSearchIndex.search(query, position, pageSize - posts.size());
+            List<Long> ids = page.getHits().stream()
+                    .map(PostSearchIndex.SearchCursor::getPostId)
+                    .collect(Collectors.toList());
+            
+            // 本文はPKで一括取得し、インデックスの順位順に並べ直す
+            Map<Long, Post> postsById = postRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(Post::getId, Function.identity()));
+            ids.stream()
+                    .map(postsById::get)
+                    .filter(Objects::nonNull)
+                    .filter(post -> PostSearchIndex.matches(post.getContent(), query))
+                    .map(PostResponse::from)
+                    .forEach(posts::add);
+            position = page.getNext();
+            // 1ページの処理量を抑えるため、補充は MAX_SEARCH_ROUNDS 回までとし、残りは次ページで返す
+        } while (posts.size() < pageSize && position != null && ++rounds < MAX_SEARCH_ROUNDS);
+        
+        String nextCursor = page.getNext() != null ? page.getNext().toString() : null;
+        return new PostSearchResponse(posts, nextCursor);
+    }
+    
+    /**
+     * コミット後に検索インデックスへ追加（ロールバックされた投稿を索引しないため）
+     */
+    private void indexAfterCommit(Post post) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            postSearchIndex.add(post.getId(), post.getContent());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                postSearchIndex.add(post.getId(), post.getContent());
+            }
+        });
     }
 }
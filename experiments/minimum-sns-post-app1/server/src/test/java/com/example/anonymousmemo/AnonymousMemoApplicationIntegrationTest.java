@@ -1,7 +1,11 @@
 package com.example.anonymousmemo;
 
 import com.example.anonymousmemo.dto.PostRequest;
+import com.example.anonymousmemo.entity.Post;
+import com.example.anonymousmemo.entity.PostFingerprint;
+import com.example.anonymousmemo.repository.PostFingerprintRepository;
 import com.example.anonymousmemo.repository.PostRepository;
+import com.example.anonymousmemo.service.PostDeduplicator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,8 +16,8 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
-import org.springframework.transaction.annotation.Transactional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -22,7 +26,6 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
-@Transactional
 @DisplayName("アプリケーション統合テスト")
 class AnonymousMemoApplicationIntegrationTest {
 
@@ -32,12 +35,19 @@ class AnonymousMemoApplicationIntegrationTest {
     @Autowired
     private PostRepository postRepository;
 
+    @Autowired
+    private PostFingerprintRepository postFingerprintRepository;
+
+    @Autowired
+    private PostDeduplicator postDeduplicator;
+
     @Autowired
     private ObjectMapper objectMapper;
 
     @BeforeEach
     void setUp() {
-        // 各テスト前にデータベースをクリア
+        // 各テスト前にデータベースをクリア（投稿作成は独自のトランザクションでコミットされるため）
+        postFingerprintRepository.deleteAll();
         postRepository.deleteAll();
     }
 
@@ -208,4 +218,64 @@ class AnonymousMemoApplicationIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(3)));
     }
+
+    @Test
+    @DisplayName("同じ内容の連続投稿は1件にまとめられる")
+    void duplicatePosts_ShouldBeCollapsed() throws Exception {
+        PostRequest request = new PostRequest("スパム投稿");
+        PostRequest sameWithSpaces = new PostRequest("  スパム投稿  ");
+
+        String first = mockMvc.perform(post("/api/posts")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(post("/api/posts")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(sameWithSpaces)))
+                .andExpect(status().isCreated())
+                .andExpect(content().json(first));
+
+        mockMvc.perform(get("/api/posts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("X-Next-Cursor をたどって一覧を重複なくページ単位で取得できる")
+    void pagedPosts_ShouldFollowNextCursor() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            mockMvc.perform(post("/api/posts")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new PostRequest("ページ投稿" + i))))
+                    .andExpect(status().isCreated());
+        }
+
+        String cursor = mockMvc.perform(get("/api/posts").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].content", contains("ページ投稿3", "ページ投稿2")))
+                .andReturn().getResponse().getHeader("X-Next-Cursor");
+
+        mockMvc.perform(get("/api/posts").param("limit", "2").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].content", contains("ページ投稿1")));
+    }
+
+    @Test
+    @DisplayName("他のインスタンスが先に記録した同じ内容の投稿は、その投稿のIDを返す")
+    void duplicatePost_RecordedByOtherInstance_ShouldReturnExistingPost() throws Exception {
+        // このインスタンスのブルームフィルタには載っていないため、記録時の一意制約違反で検出される
+        Post existing = postRepository.save(new Post("他のインスタンスの投稿"));
+        postFingerprintRepository.save(new PostFingerprint(
+                PostDeduplicator.contentHash("他のインスタンスの投稿"), postDeduplicator.currentWindow(), existing.getId()));
+
+        mockMvc.perform(post("/api/posts")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new PostRequest("他のインスタンスの投稿"))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id", is(existing.getId().intValue())));
+
+        assertThat(postRepository.count()).isEqualTo(1L);
+    }
 }
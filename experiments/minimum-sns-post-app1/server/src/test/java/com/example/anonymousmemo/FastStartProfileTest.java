@@ -0,0 +1,45 @@
+package com.example.anonymousmemo;
+
+import com.example.anonymousmemo.config.FastStartConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@AutoConfigureMockMvc
+@ActiveProfiles({"test", "fast-start"})
+@DisplayName("fast-start プロファイルのテスト")
+class FastStartProfileTest {
+
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Beanを遅延初期化し、最初のリクエストでコントローラを作る")
+    void beansAreCreatedOnFirstRequest() throws Exception {
+        assertThat(beanFactory.getBeanDefinition("postController").isLazyInit()).isTrue();
+
+        mockMvc.perform(get("/api/posts/health"))
+                .andExpect(status().isOk());
+
+        assertThat(beanFactory.containsSingleton("postController")).isTrue();
+    }
+
+    @Test
+    @DisplayName("試行起動の指定がない場合はコンテキストの作成後に終了しない")
+    void exitOnRefreshIsDisabledByDefault() {
+        assertThat(beanFactory.getBeanNamesForType(FastStartConfig.class)).isEmpty();
+    }
+}
@@ -2,6 +2,10 @@ package com.example.anonymousmemo.controller;
 
 import com.example.anonymousmemo.dto.PostRequest;
 import com.example.anonymousmemo.dto.PostResponse;
+import com.example.anonymousmemo.dto.PostSearchResponse;
+import com.example.anonymousmemo.exception.RateLimitExceededException;
+import com.example.anonymousmemo.service.PostIngestLimiter;
+import com.example.anonymousmemo.service.PostPageCursor;
 import com.example.anonymousmemo.service.PostService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +16,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -20,13 +25,18 @@ import java.util.List;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.options;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@WebMvcTest(PostController.class)
+@WebMvcTest(controllers = PostController.class, properties = "app.post-ingest.trusted-proxies=10.0.0.1, 10.0.0.2")
 @DisplayName("PostController のテスト")
 class PostControllerTest {
 
@@ -36,6 +46,9 @@ class PostControllerTest {
     @MockBean
     private PostService postService;
 
+    @MockBean
+    private PostIngestLimiter postIngestLimiter;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -79,6 +92,70 @@ class PostControllerTest {
                 .andExpect(jsonPath("$", hasSize(0)));
     }
 
+    @Test
+    @DisplayName("GET /api/posts - limit と cursor を指定するとページ単位で取得し、次ページのカーソルを返す")
+    void getAllPosts_WithPaging_ShouldReturnPage() throws Exception {
+        // Given
+        when(postService.getPosts(argThat(cursor -> cursor.getPostId() == 2L
+                && cursor.getCreatedAt().equals(samplePost2.getCreatedAt())), eq(10)))
+                .thenReturn(Arrays.asList(samplePost1));
+
+        // When & Then
+        mockMvc.perform(get("/api/posts")
+                .param("limit", "10")
+                .param("cursor", new PostPageCursor(samplePost2.getCreatedAt(), 2L).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is(1)))
+                .andExpect(header().string(PostController.NEXT_CURSOR_HEADER,
+                        new PostPageCursor(samplePost1.getCreatedAt(), 1L).toString()));
+
+        verify(postService, never()).getAllPosts();
+    }
+
+    @Test
+    @DisplayName("GET /api/posts - 形式が不正な cursor は400エラーが返される")
+    void getAllPosts_WithInvalidCursor_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/posts")
+                .param("limit", "10")
+                .param("cursor", "invalid"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("カーソルの形式が不正です")));
+    }
+
+    @Test
+    @DisplayName("GET /api/posts/search - 検索結果と次ページカーソルを返す")
+    void searchPosts_ShouldReturnPostsAndNextCursor() throws Exception {
+        // Given
+        PostSearchResponse response = new PostSearchResponse(Arrays.asList(samplePost2, samplePost1), "1_1");
+        when(postService.searchPosts(eq("テスト"), isNull(), eq(2))).thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(get("/api/posts/search")
+                .param("q", "テスト")
+                .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.posts", hasSize(2)))
+                .andExpect(jsonPath("$.posts[0].id", is(2)))
+                .andExpect(jsonPath("$.posts[1].id", is(1)))
+                .andExpect(jsonPath("$.nextCursor", is("1_1")));
+    }
+
+    @Test
+    @DisplayName("GET /api/posts/search - 不正なカーソルでは400エラーが返される")
+    void searchPosts_WithInvalidCursor_ShouldReturnBadRequest() throws Exception {
+        // Given
+        when(postService.searchPosts(eq("テスト"), eq("invalid"), eq(20)))
+                .thenThrow(new IllegalArgumentException("カーソルの形式が不正です"));
+
+        // When & Then
+        mockMvc.perform(get("/api/posts/search")
+                .param("q", "テスト")
+                .param("cursor", "invalid"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("カーソルの形式が不正です")));
+    }
+
     @Test
     @DisplayName("POST /api/posts - 正常な投稿作成が成功する")
     void createPost_WithValidRequest_ShouldReturnCreatedPost() throws Exception {
@@ -94,6 +171,54 @@ class PostControllerTest {
                 .andExpect(jsonPath("$.id", is(1)));
     }
 
+    @Test
+    @DisplayName("POST /api/posts - 受付上限を超えた場合は429とRetry-Afterが返される")
+    void createPost_WhenRateLimited_ShouldReturnTooManyRequests() throws Exception {
+        // Given
+        PostRequest request = new PostRequest("新しい投稿内容");
+        when(postIngestLimiter.acquire("203.0.113.7"))
+                .thenThrow(new RateLimitExceededException("投稿の頻度が高すぎます。しばらくしてから再度お試しください", 3L));
+
+        // When & Then
+        mockMvc.perform(post("/api/posts")
+                .with(remoteAddr("10.0.0.1"))
+                .header("X-Forwarded-For", "198.51.100.1, 203.0.113.7, 10.0.0.2")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "3"))
+                .andExpect(jsonPath("$.status", is(429)));
+
+        verify(postService, never()).createPost(any(PostRequest.class));
+    }
+
+    @Test
+    @DisplayName("POST /api/posts - 信頼するプロキシ以外からの X-Forwarded-For は使わず接続元で制限する")
+    void createPost_FromUntrustedClient_ShouldIgnoreForwardedFor() throws Exception {
+        // Given
+        PostRequest request = new PostRequest("新しい投稿内容");
+        when(postIngestLimiter.acquire("192.0.2.50"))
+                .thenThrow(new RateLimitExceededException("投稿の頻度が高すぎます。しばらくしてから再度お試しください", 3L));
+
+        // When & Then
+        mockMvc.perform(post("/api/posts")
+                .with(remoteAddr("192.0.2.50"))
+                .header("X-Forwarded-For", "203.0.113.7")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isTooManyRequests());
+
+        verify(postIngestLimiter, never()).acquire("203.0.113.7");
+        verify(postService, never()).createPost(any(PostRequest.class));
+    }
+
+    private static RequestPostProcessor remoteAddr(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+
     @Test
     @DisplayName("POST /api/posts - 空の内容では400エラーが返される")
     void createPost_WithEmptyContent_ShouldReturnBadRequest() throws Exception {
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
@@ -50,6 +51,37 @@ class PostRepositoryIntegrationTest {
         assertThat(result.get(2).getContent()).isEqualTo("最初の投稿"); // 最古
     }
 
+    @Test
+    @DisplayName("findLatest - 新しい順に指定件数だけ取得する")
+    void findLatest_ShouldReturnNewestPostsUpToLimit() {
+        // When
+        List<Post> result = postRepository.findLatest(PageRequest.of(0, 2));
+
+        // Then
+        assertThat(result).extracting(Post::getContent).containsExactly("3番目の投稿", "2番目の投稿");
+    }
+
+    @Test
+    @DisplayName("findPageBefore - 作成日時が同じ投稿もIDで区切って重複・欠落なく取得する")
+    void findPageBefore_ShouldPaginateThroughSameCreatedAt() {
+        // Given - すべての投稿を同じ作成日時にする
+        LocalDateTime sameTime = LocalDateTime.of(2025, 8, 30, 12, 0, 0);
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE posts SET created_at = :createdAt")
+                .setParameter("createdAt", sameTime)
+                .executeUpdate();
+        entityManager.clear();
+
+        // When
+        List<Post> firstPage = postRepository.findLatest(PageRequest.of(0, 2));
+        Post last = firstPage.get(firstPage.size() - 1);
+        List<Post> secondPage = postRepository.findPageBefore(last.getCreatedAt(), last.getId(), PageRequest.of(0, 2));
+
+        // Then
+        assertThat(firstPage).extracting(Post::getContent).containsExactly("3番目の投稿", "2番目の投稿");
+        assertThat(secondPage).extracting(Post::getContent).containsExactly("最初の投稿");
+    }
+
     @Test
     @DisplayName("save - 新しい投稿を正しく保存できる")
     void save_ShouldPersistNewPost() {
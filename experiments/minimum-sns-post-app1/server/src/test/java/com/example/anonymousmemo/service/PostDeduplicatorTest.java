@@ -0,0 +1,139 @@
+package com.example.anonymousmemo.service;
+
+import com.example.anonymousmemo.entity.Post;
+import com.example.anonymousmemo.entity.PostFingerprint;
+import com.example.anonymousmemo.entity.PostFingerprintId;
+import com.example.anonymousmemo.repository.PostFingerprintRepository;
+import com.example.anonymousmemo.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostDeduplicator のテスト")
+class PostDeduplicatorTest {
+
+    @Mock
+    private PostFingerprintRepository postFingerprintRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    private AtomicLong clock;
+
+    private PostDeduplicator deduplicator;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(Duration.ofMinutes(100).toMillis());
+        deduplicator = new PostDeduplicator(postFingerprintRepository, postRepository,
+                Duration.ofMinutes(10), 1 << 16, clock::get);
+    }
+
+    @Test
+    @DisplayName("contentHash - SHA-256の16進表記を返す")
+    void contentHash_ShouldReturnSha256Hex() {
+        assertThat(PostDeduplicator.contentHash("abc"))
+                .isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+    }
+
+    @Test
+    @DisplayName("currentWindow - 経過時間をウィンドウ長で割った番号を返す")
+    void currentWindow_ShouldDivideByWindowLength() {
+        assertThat(deduplicator.currentWindow()).isEqualTo(10L);
+        clock.addAndGet(Duration.ofMinutes(10).toMillis());
+        assertThat(deduplicator.currentWindow()).isEqualTo(11L);
+    }
+
+    @Test
+    @DisplayName("findDuplicate - 記録のないハッシュはDBを参照せずに重複なしと判定する")
+    void findDuplicate_WithUnknownHash_ShouldSkipDatabase() {
+        Optional<Post> result = deduplicator.findDuplicate(PostDeduplicator.contentHash("新規"), 10L);
+
+        assertThat(result).isEmpty();
+        verify(postFingerprintRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("findDuplicate - 記録済みのハッシュはDBで確認して既存の投稿を返す")
+    void findDuplicate_WithRecordedHash_ShouldReturnExistingPost() {
+        // Given
+        String hash = PostDeduplicator.contentHash("スパム");
+        Post existing = new Post("スパム");
+        existing.setId(7L);
+        deduplicator.record(hash, 10L, 7L);
+        when(postFingerprintRepository.findById(new PostFingerprintId(hash, 10L)))
+                .thenReturn(Optional.of(new PostFingerprint(hash, 10L, 7L)));
+        when(postRepository.findById(7L)).thenReturn(Optional.of(existing));
+
+        // When & Then
+        assertThat(deduplicator.findDuplicate(hash, 10L)).containsSame(existing);
+        verify(postFingerprintRepository).saveAndFlush(any(PostFingerprint.class));
+    }
+
+    @Test
+    @DisplayName("findRecorded - フィルタに載っていなくてもDBで確認し、見つかればフィルタに追加する")
+    void findRecorded_ShouldCheckDatabaseAndUpdateFilter() {
+        // Given - 他インスタンスが記録したためフィルタには載っていない
+        String hash = PostDeduplicator.contentHash("同時投稿");
+        Post existing = new Post("同時投稿");
+        existing.setId(8L);
+        when(postFingerprintRepository.findById(new PostFingerprintId(hash, 10L)))
+                .thenReturn(Optional.of(new PostFingerprint(hash, 10L, 8L)));
+        when(postRepository.findById(8L)).thenReturn(Optional.of(existing));
+
+        // When & Then
+        assertThat(deduplicator.findRecorded(hash, 10L)).containsSame(existing);
+        assertThat(deduplicator.findDuplicate(hash, 10L)).containsSame(existing);
+        verify(postFingerprintRepository, times(2)).findById(new PostFingerprintId(hash, 10L));
+    }
+
+    @Test
+    @DisplayName("findDuplicate - 新しいウィンドウに入るとフィルタを作り直す")
+    void findDuplicate_InNewWindow_ShouldStartWithEmptyFilter() {
+        String hash = PostDeduplicator.contentHash("スパム");
+        deduplicator.record(hash, 10L, 7L);
+
+        assertThat(deduplicator.findDuplicate(hash, 11L)).isEmpty();
+        verify(postFingerprintRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("warmUp - 現在のウィンドウのハッシュをフィルタに読み込む")
+    void warmUp_ShouldLoadCurrentWindow() {
+        // Given
+        String hash = PostDeduplicator.contentHash("再起動前の投稿");
+        when(postFingerprintRepository.findContentHashesByDedupWindow(10L)).thenReturn(List.of(hash));
+        when(postFingerprintRepository.findById(new PostFingerprintId(hash, 10L))).thenReturn(Optional.empty());
+
+        // When
+        deduplicator.warmUp();
+        deduplicator.findDuplicate(hash, 10L);
+
+        // Then - フィルタに載っているためDBで確認される
+        verify(postFingerprintRepository).findById(new PostFingerprintId(hash, 10L));
+    }
+
+    @Test
+    @DisplayName("purgeExpired - 直前のウィンドウより古いフィンガープリントを削除する")
+    void purgeExpired_ShouldDeleteOlderThanPreviousWindow() {
+        deduplicator.purgeExpired();
+
+        verify(postFingerprintRepository).deleteByDedupWindowLessThan(9L);
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.anonymousmemo.service;
+
+import com.example.anonymousmemo.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PostIngestLimiter のテスト")
+class PostIngestLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private AtomicLong clock;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+    }
+
+    private PostIngestLimiter limiter(double ratePerSecond, int burst, int maxConcurrent, int maxClients) {
+        return new PostIngestLimiter(ratePerSecond, burst, maxConcurrent, maxClients, meterRegistry, clock::get);
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("posts.ingest.requests").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("acquire - バースト数までは連続で受け付け、超えると待機秒数付きで拒否する")
+    void acquire_ShouldAllowBurstThenReject() {
+        PostIngestLimiter limiter = limiter(0.5, 3, 10, 100);
+
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire("client").close();
+        }
+
+        assertThatThrownBy(() -> limiter.acquire("client"))
+                .isInstanceOf(RateLimitExceededException.class)
+                .extracting(e -> ((RateLimitExceededException) e).getRetryAfterSeconds())
+                .isEqualTo(2L);
+        assertThat(count("admitted")).isEqualTo(3.0);
+        assertThat(count("rejected_rate")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("acquire - 時間経過でトークンが補充される")
+    void acquire_ShouldRefillOverTime() {
+        PostIngestLimiter limiter = limiter(1.0, 1, 10, 100);
+        limiter.acquire("client").close();
+        assertThatThrownBy(() -> limiter.acquire("client")).isInstanceOf(RateLimitExceededException.class);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        limiter.acquire("client").close();
+        assertThat(count("admitted")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("acquire - クライアントごとに独立して制限する")
+    void acquire_ShouldLimitEachClientIndependently() {
+        PostIngestLimiter limiter = limiter(1.0, 1, 10, 100);
+        limiter.acquire("client-a").close();
+
+        limiter.acquire("client-b").close();
+        assertThatThrownBy(() -> limiter.acquire("client-a")).isInstanceOf(RateLimitExceededException.class);
+    }
+
+    @Test
+    @DisplayName("acquire - 同時実行数の上限を超えると拒否し、close後は再び受け付ける")
+    void acquire_ShouldLimitConcurrency() {
+        PostIngestLimiter limiter = limiter(100.0, 100, 2, 100);
+        PostIngestLimiter.Permit first = limiter.acquire("client-a");
+        PostIngestLimiter.Permit second = limiter.acquire("client-b");
+
+        assertThatThrownBy(() -> limiter.acquire("client-c"))
+                .isInstanceOf(RateLimitExceededException.class)
+                .extracting(e -> ((RateLimitExceededException) e).getRetryAfterSeconds())
+                .isEqualTo(1L);
+        assertThat(meterRegistry.get("posts.ingest.in_flight").gauge().value()).isEqualTo(2.0);
+
+        // 二重closeで枠が増えないこと
+        first.close();
+        first.close();
+        limiter.acquire("client-c");
+        assertThatThrownBy(() -> limiter.acquire("client-d")).isInstanceOf(RateLimitExceededException.class);
+        second.close();
+        assertThat(count("rejected_concurrency")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("acquire - 同時実行数の上限で拒否した要求はクライアントのトークンを消費しない")
+    void acquire_ShouldNotConsumeTokenWhenConcurrencyRejected() {
+        PostIngestLimiter limiter = limiter(1.0, 1, 1, 100);
+        PostIngestLimiter.Permit first = limiter.acquire("client-a");
+
+        assertThatThrownBy(() -> limiter.acquire("client-b")).isInstanceOf(RateLimitExceededException.class);
+        first.close();
+
+        limiter.acquire("client-b").close();
+        assertThat(count("rejected_concurrency")).isEqualTo(1.0);
+        assertThat(count("rejected_rate")).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("acquire - 頻度の上限で拒否した要求は同時実行枠を返却する")
+    void acquire_ShouldReleaseConcurrencyWhenRateRejected() {
+        PostIngestLimiter limiter = limiter(1.0, 1, 1, 100);
+        limiter.acquire("client-a").close();
+
+        assertThatThrownBy(() -> limiter.acquire("client-a")).isInstanceOf(RateLimitExceededException.class);
+
+        assertThat(meterRegistry.get("posts.ingest.in_flight").gauge().value()).isEqualTo(0.0);
+        limiter.acquire("client-b").close();
+    }
+
+    @Test
+    @DisplayName("sweep - 満杯に戻ったバケットを破棄する")
+    void sweep_ShouldEvictIdleBuckets() {
+        PostIngestLimiter limiter = limiter(1.0, 5, 10, 100);
+        limiter.acquire("client-a").close();
+        limiter.acquire("client-b").close();
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        limiter.acquire("client-c").close();
+        limiter.sweep();
+
+        assertThat(limiter.clientCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("sweep - クライアント数を上限件数までに抑える")
+    void sweep_ShouldCapClientCount() {
+        PostIngestLimiter limiter = limiter(1.0, 5, 10, 2);
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire("client-" + i).close();
+        }
+        limiter.sweep();
+
+        assertThat(limiter.clientCount()).isEqualTo(2L);
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.anonymousmemo.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostPartitionMaintainer のテスト")
+class PostPartitionMaintainerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private Clock clock;
+
+    @BeforeEach
+    void setUp() {
+        clock = Clock.fixed(Instant.parse("2025-08-30T03:00:00Z"), ZoneId.of("UTC"));
+    }
+
+    @Test
+    @DisplayName("maintain - 当月から指定か月先までのパーティションを作成する")
+    void maintain_ShouldEnsureCurrentAndFuturePartitions() {
+        PostPartitionMaintainer maintainer = new PostPartitionMaintainer(jdbcTemplate, transactionManager, 2, 0, clock);
+
+        maintainer.maintain();
+
+        verify(jdbcTemplate).queryForObject("SELECT ensure_posts_partition(?)", String.class, LocalDate.of(2025, 8, 1));
+        verify(jdbcTemplate).queryForObject("SELECT ensure_posts_partition(?)", String.class, LocalDate.of(2025, 9, 1));
+        verify(jdbcTemplate).queryForObject("SELECT ensure_posts_partition(?)", String.class, LocalDate.of(2025, 10, 1));
+        // 保持月数0の場合は切り離さない
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(String.class));
+    }
+
+    @Test
+    @DisplayName("detachExpiredPartitions - 保持期間を過ぎた月のパーティションのみ切り離す")
+    void detachExpiredPartitions_ShouldDetachOnlyExpiredMonthlyPartitions() {
+        // Given - 保持3か月（2025年6月〜8月）
+        PostPartitionMaintainer maintainer = new PostPartitionMaintainer(jdbcTemplate, transactionManager, 2, 3, clock);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class)))
+                .thenReturn(List.of("posts_202504", "posts_202505", "posts_202506", "posts_202509", "posts_default"));
+
+        // When
+        List<String> detached = maintainer.detachExpiredPartitions();
+
+        // Then
+        assertThat(detached).containsExactly("posts_202504", "posts_202505");
+        verify(jdbcTemplate).execute("ALTER TABLE posts DETACH PARTITION posts_202504");
+        verify(jdbcTemplate).execute("ALTER TABLE posts DETACH PARTITION posts_202505");
+        verify(jdbcTemplate, never()).execute("ALTER TABLE posts DETACH PARTITION posts_default");
+        // ロック待ちの上限はパーティションごとのトランザクション内で設定する
+        verify(jdbcTemplate, times(2)).execute("SET LOCAL lock_timeout = '5s'");
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("detachExpiredPartitions - ロックを取れなかったパーティションは飛ばして次回に回す")
+    void detachExpiredPartitions_WhenLockTimeout_ShouldSkipPartition() {
+        // Given
+        PostPartitionMaintainer maintainer = new PostPartitionMaintainer(jdbcTemplate, transactionManager, 2, 3, clock);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class)))
+                .thenReturn(List.of("posts_202504", "posts_202505"));
+        // 同じ execute の SET LOCAL 呼び出しは通常どおり（何もしない）
+        lenient().doThrow(new CannotAcquireLockException("canceling statement due to lock timeout"))
+                .when(jdbcTemplate).execute("ALTER TABLE posts DETACH PARTITION posts_202504");
+
+        // When
+        List<String> detached = maintainer.detachExpiredPartitions();
+
+        // Then
+        assertThat(detached).containsExactly("posts_202505");
+        verify(transactionManager).rollback(any());
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.anonymousmemo.service;
+
+import com.example.anonymousmemo.dto.PostResponse;
+import com.example.anonymousmemo.dto.PostSearchResponse;
+import com.example.anonymousmemo.entity.Post;
+import com.example.anonymousmemo.repository.PostRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * N-gramインデックスと逐次走査の検索性能比較
+ *
+ * 通常のテストでは実行しない。以下で実行する（500万件で数GBのヒープを使用）:
+ * <pre>
+ * mvn test -Dtest=PostSearchIndexBenchmarkTest -Dbenchmark=true -DargLine="-Xmx6g"
+ * </pre>
+ * 件数は -Dbenchmark.posts=1000000 のように変更できる。
+ * インデックス検索は PostService 経由で先頭ページ（20件）を取得し、本文に一致しない候補を補うための
+ * インデックス検索の回数（rounds）と、繰り返し実行したときの所要時間の中央値・最大値を表示する。
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("PostSearchIndex ベンチマーク")
+class PostSearchIndexBenchmarkTest {
+
+    private static final String[] WORDS = {
+            "今日", "東京", "京都", "大阪", "会議", "ランチ", "カフェ", "電車", "遅延", "天気",
+            "雨", "晴れ", "仕事", "休み", "映画", "音楽", "ラーメン", "寿司", "散歩", "読書",
+            "spring", "java", "vue", "開発", "テスト", "リリース", "バグ", "修正", "猫", "犬"
+    };
+
+    private static final String[] QUERIES = {"東京", "ラーメン", "京都 カフェ", "バグ修正", "猫"};
+
+    @Test
+    @DisplayName("インデックス検索と逐次走査の所要時間を比較する")
+    void compareIndexSearchWithSequentialScan() {
+        int postCount = Integer.getInteger("benchmark.posts", 5_000_000);
+        Random random = new Random(42);
+        String[] contents = new String[postCount];
+        PostRepository postRepository = mock(PostRepository.class);
+        int[] rounds = new int[1];
+        PostSearchIndex index = new PostSearchIndex(postRepository) {
+            @Override
+            public SearchPage search(String query, SearchCursor after, int limit) {
+                rounds[0]++;
+                return super.search(query, after, limit);
+            }
+        };
+        // 本文はPKで取得する（DBの代わりに配列から返す）
+        when(postRepository.findAllById(any())).thenAnswer(invocation -> {
+            List<Post> posts = new ArrayList<>();
+            for (Long id : invocation.<Iterable<Long>>getArgument(0)) {
+                Post post = new Post(contents[(int) (id - 1)]);
+                post.setId(id);
+                posts.add(post);
+            }
+            return posts;
+        });
+        PostService postService = new PostService(postRepository, index, mock(PostDeduplicator.class),
+                mock(PlatformTransactionManager.class));
+
+        long buildStart = System.nanoTime();
+        for (int i = 0; i < postCount; i++) {
+            StringBuilder content = new StringBuilder();
+            int wordCount = 3 + random.nextInt(5);
+            for (int w = 0; w < wordCount; w++) {
+                content.append(WORDS[random.nextInt(WORDS.length)]);
+                if (random.nextBoolean()) {
+                    content.append(' ');
+                }
+            }
+            contents[i] = content.toString();
+            index.add((long) i + 1, contents[i]);
+        }
+        long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+        System.out.printf("posts=%d build=%dms grams=%d postingBytes=%d%n",
+                postCount, buildMillis, index.termCount(), index.postingBytes());
+
+        for (String query : QUERIES) {
+            // 逐次走査: 全件の本文を部分一致で確認（DBの LIKE '%...%' 相当）
+            long scanStart = System.nanoTime();
+            int scanMatches = 0;
+            for (String content : contents) {
+                if (PostSearchIndex.matches(content, query)) {
+                    scanMatches++;
+                }
+            }
+            long scanMillis = (System.nanoTime() - scanStart) / 1_000_000;
+
+            // インデックス: PostService で先頭ページ20件を取得（本文での一致確認と不足分の補充を含む）
+            int repetitions = 20;
+            long[] pageMicros = new long[repetitions];
+            PostSearchResponse page = null;
+            for (int r = 0; r < repetitions; r++) {
+                rounds[0] = 0;
+                long indexStart = System.nanoTime();
+                page = postService.searchPosts(query, null, 20);
+                pageMicros[r] = (System.nanoTime() - indexStart) / 1_000;
+            }
+            Arrays.sort(pageMicros);
+            long verified = page.getPosts().stream()
+                    .map(PostResponse::getContent)
+                    .filter(content -> PostSearchIndex.matches(content, query))
+                    .count();
+
+            System.out.printf("query=%s scan=%dms (%d matches) page=%dus (max %dus) rounds=%d (%d posts, %d verified)%n",
+                    query, scanMillis, scanMatches, pageMicros[repetitions / 2], pageMicros[repetitions - 1],
+                    rounds[0], page.getPosts().size(), verified);
+            assertThat(verified).isEqualTo(page.getPosts().size());
+            assertThat(rounds[0]).isLessThanOrEqualTo(PostService.MAX_SEARCH_ROUNDS);
+            if (scanMatches > 0) {
+                assertThat(page.getPosts()).isNotEmpty();
+            }
+        }
+    }
+}
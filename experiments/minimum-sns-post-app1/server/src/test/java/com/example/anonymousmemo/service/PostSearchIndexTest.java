@@ -0,0 +1,197 @@
+package com.example.anonymousmemo.service;
+
+import com.example.anonymousmemo.entity.Post;
+import com.example.anonymousmemo.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostSearchIndex のテスト")
+class PostSearchIndexTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    private PostSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PostSearchIndex(postRepository);
+    }
+
+    private List<Long> searchIds(String query, PostSearchIndex.SearchCursor after, int limit) {
+        return index.search(query, after, limit).getHits().stream()
+                .map(PostSearchIndex.SearchCursor::getPostId)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("gramFrequencies - 文字・数字の連続ごとに1文字と2文字のN-gramを数える")
+    void gramFrequencies_ShouldCountUnigramsAndBigramsPerSegment() {
+        assertThat(PostSearchIndex.gramFrequencies("東京都、ＡＢ"))
+                .containsEntry("東", 1)
+                .containsEntry("京", 1)
+                .containsEntry("都", 1)
+                .containsEntry("東京", 1)
+                .containsEntry("京都", 1)
+                .containsEntry("a", 1)
+                .containsEntry("b", 1)
+                .containsEntry("ab", 1)
+                .doesNotContainKey("都a")
+                .hasSize(8);
+    }
+
+    @Test
+    @DisplayName("search - 分かち書きされない日本語を部分一致で検索できる")
+    void search_ShouldFindJapaneseSubstring() {
+        index.add(1L, "今日は東京で会議がありました");
+        index.add(2L, "京都に旅行します");
+        index.add(3L, "東京タワーに行きたい");
+
+        assertThat(searchIds("東京", null, 10)).containsExactly(3L, 1L);
+        assertThat(searchIds("京", null, 10)).containsExactly(3L, 2L, 1L);
+        assertThat(searchIds("京都 旅行", null, 10)).containsExactly(2L);
+        assertThat(searchIds("大阪", null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("matches - 正規化した本文に各語が部分文字列として含まれるか判定する")
+    void matches_ShouldVerifySubstringsAfterNormalization() {
+        assertThat(PostSearchIndex.matches("ＳＰＲＩＮＧで開発", "spring 開発")).isTrue();
+        // 「東京」「京都」のN-gramはすべて含むが「東京都」は含まない
+        assertThat(PostSearchIndex.matches("東京と京都", "東京都")).isFalse();
+        assertThat(PostSearchIndex.matches("東京と京都", "   ")).isFalse();
+    }
+
+    @Test
+    @DisplayName("postingBytes - 連番の投稿IDは1件あたり数バイトに圧縮される")
+    void postingBytes_ShouldCompressSequentialIds() {
+        for (long id = 1; id <= 1000; id++) {
+            index.add(id, "a");
+        }
+        index.add(5_000_000_000L, "a");
+
+        // 差分1と出現回数1がそれぞれ1バイト、最後の大きな差分のみ複数バイト
+        assertThat(index.postingBytes()).isLessThan(2_020L);
+        assertThat(searchIds("a", null, 2)).containsExactly(5_000_000_000L, 1000L);
+    }
+
+    @Test
+    @DisplayName("search - すべての語を含む投稿のみを返す")
+    void search_ShouldRequireAllTerms() {
+        index.add(1L, "spring boot");
+        index.add(2L, "spring");
+        index.add(3L, "boot spring vue");
+
+        assertThat(searchIds("spring boot", null, 10)).containsExactly(3L, 1L);
+        assertThat(searchIds("spring unknown", null, 10)).isEmpty();
+        assertThat(searchIds("   ", null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("search - 出現回数の多い順、同点は新しい順に並べる")
+    void search_ShouldOrderByScoreThenNewest() {
+        index.add(1L, "memo memo memo");
+        index.add(2L, "memo");
+        index.add(3L, "memo memo");
+        index.add(4L, "memo");
+
+        assertThat(searchIds("memo", null, 10)).containsExactly(1L, 3L, 4L, 2L);
+    }
+
+    @Test
+    @DisplayName("search - カーソル以降のページを重複なく返す")
+    void search_ShouldPaginateWithCursor() {
+        for (long id = 1; id <= 5; id++) {
+            index.add(id, "page");
+        }
+
+        PostSearchIndex.SearchPage first = index.search("page", null, 2);
+        assertThat(first.getHits()).extracting(PostSearchIndex.SearchCursor::getPostId).containsExactly(5L, 4L);
+        assertThat(first.getNext()).hasToString("1_4");
+
+        PostSearchIndex.SearchPage second = index.search("page", PostSearchIndex.SearchCursor.parse("1_4"), 2);
+        assertThat(second.getHits()).extracting(PostSearchIndex.SearchCursor::getPostId).containsExactly(3L, 2L);
+
+        PostSearchIndex.SearchPage last = index.search("page", second.getNext(), 2);
+        assertThat(last.getHits()).extracting(PostSearchIndex.SearchCursor::getPostId).containsExactly(1L);
+        assertThat(last.getNext()).isNull();
+    }
+
+    @Test
+    @DisplayName("add - ID順でない追加や再追加でも正しく検索できる")
+    void add_ShouldHandleOutOfOrderAndDuplicateIds() {
+        index.add(10L, "order");
+        index.add(5L, "order");
+        index.add(10L, "order order");
+
+        List<PostSearchIndex.SearchCursor> hits = index.search("order", null, 10).getHits();
+        assertThat(hits).extracting(PostSearchIndex.SearchCursor::getPostId).containsExactly(10L, 5L);
+        assertThat(hits.get(0).getScore()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("search - 複数ブロックにまたがる投稿IDリストの積集合を新しい順に取る")
+    void search_ShouldIntersectAcrossBlocks() {
+        // 「common」は全件、「rare」は7の倍数のみ（ブロックの先頭・末尾をまたぐ）
+        for (long id = 1; id <= 1000; id++) {
+            index.add(id, id % 7 == 0 ? "common rare" : "common");
+        }
+
+        List<Long> ids = searchIds("rare common", null, 1000);
+        assertThat(ids).hasSize(142);
+        assertThat(ids.get(0)).isEqualTo(994L);
+        assertThat(ids.get(ids.size() - 1)).isEqualTo(7L);
+        assertThat(ids).allMatch(id -> id % 7 == 0);
+    }
+
+    @Test
+    @DisplayName("search - 候補は新しい投稿から上限件数までを走査する")
+    void search_ShouldScanOnlyNewestPostingsUpToLimit() {
+        index = new PostSearchIndex(postRepository, 300);
+        for (long id = 1; id <= 1000; id++) {
+            index.add(id, id % 2 == 0 ? "scan scan" : "scan");
+        }
+
+        // 新しい300件（701〜1000）のうち、出現回数2回の偶数IDが上位
+        List<Long> ids = searchIds("scan", null, 1000);
+        assertThat(ids).hasSize(300);
+        assertThat(ids.get(0)).isEqualTo(1000L);
+        assertThat(ids.get(149)).isEqualTo(702L);
+        assertThat(ids.get(150)).isEqualTo(999L);
+        assertThat(ids).allMatch(id -> id > 700L);
+    }
+
+    @Test
+    @DisplayName("rebuild - DBの全投稿をページ単位で読み込む")
+    void rebuild_ShouldIndexAllPostsFromRepository() {
+        // Given
+        Post post1 = new Post("first memo");
+        post1.setId(1L);
+        Post post2 = new Post("second memo");
+        post2.setId(2L);
+        when(postRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(Arrays.asList(post1, post2));
+        index.add(99L, "stale memo");
+
+        // When
+        index.rebuild();
+
+        // Then
+        assertThat(searchIds("memo", null, 10)).containsExactly(2L, 1L);
+    }
+}
@@ -2,6 +2,7 @@ package com.example.anonymousmemo.service;
 
 import com.example.anonymousmemo.dto.PostRequest;
 import com.example.anonymousmemo.dto.PostResponse;
+import com.example.anonymousmemo.dto.PostSearchResponse;
 import com.example.anonymousmemo.entity.Post;
 import com.example.anonymousmemo.repository.PostRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,14 +12,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +36,15 @@ class PostServiceTest {
     @Mock
     private PostRepository postRepository;
 
+    @Mock
+    private PostSearchIndex postSearchIndex;
+
+    @Mock
+    private PostDeduplicator postDeduplicator;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private PostService postService;
 
@@ -81,6 +98,50 @@ class PostServiceTest {
         verify(postRepository, times(1)).findAllOrderByCreatedAtDesc();
     }
 
+    @Test
+    @DisplayName("getPosts - カーソル未指定時は最新の投稿を件数を丸めて取得する")
+    void getPosts_WithoutCursor_ShouldReturnLatestPosts() {
+        // Given
+        when(postRepository.findLatest(PageRequest.of(0, PostService.MAX_PAGE_LIMIT)))
+                .thenReturn(Arrays.asList(samplePost2, samplePost1));
+
+        // When
+        List<PostResponse> result = postService.getPosts(null, 1000);
+
+        // Then
+        assertThat(result).extracting(PostResponse::getId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("getPosts - カーソル指定時は投稿を引き直さずにその位置より古い投稿を取得する")
+    void getPosts_WithCursor_ShouldReturnOlderPosts() {
+        // Given
+        when(postRepository.findPageBefore(samplePost2.getCreatedAt(), 2L, PageRequest.of(0, 20)))
+                .thenReturn(Arrays.asList(samplePost1));
+
+        // When
+        List<PostResponse> result = postService.getPosts(PostPageCursor.of(samplePost2), 20);
+
+        // Then
+        assertThat(result).extracting(PostResponse::getId).containsExactly(1L);
+        verify(postRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("PostPageCursor - 作成日時をマイクロ秒まで保持して文字列と相互に変換できる")
+    void postPageCursor_ShouldRoundTripWithMicroseconds() {
+        PostPageCursor cursor = new PostPageCursor(LocalDateTime.of(2025, 8, 30, 11, 0, 0, 123_456_000), 2L);
+
+        assertThat(cursor).hasToString("1756551600123456_2");
+        PostPageCursor parsed = PostPageCursor.parse(cursor.toString());
+        assertThat(parsed.getCreatedAt()).isEqualTo(cursor.getCreatedAt());
+        assertThat(parsed.getPostId()).isEqualTo(2L);
+        assertThatThrownBy(() -> PostPageCursor.parse("2"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("カーソルの形式が不正です");
+        assertThatThrownBy(() -> PostPageCursor.parse("abc_2")).isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     @DisplayName("createPost - 正常な投稿作成が成功する")
     void createPost_WithValidRequest_ShouldCreateAndReturnPost() {
@@ -102,6 +163,65 @@ class PostServiceTest {
         assertThat(result.getCreatedAt()).isNotNull();
 
         verify(postRepository, times(1)).save(any(Post.class));
+        verify(postDeduplicator).record(eq(PostDeduplicator.contentHash("新しい投稿内容")), anyLong(), eq(1L));
+        verify(postSearchIndex).add(1L, "新しい投稿内容");
+    }
+
+    @Test
+    @DisplayName("createPost - 同じ内容の投稿が既にある場合は新規作成せず既存の投稿を返す")
+    void createPost_WithDuplicateContent_ShouldReturnExistingPost() {
+        // Given - 前後の空白は除去してから比較する
+        PostRequest request = new PostRequest("  テスト投稿1  ");
+        when(postDeduplicator.currentWindow()).thenReturn(42L);
+        when(postDeduplicator.findDuplicate(PostDeduplicator.contentHash("テスト投稿1"), 42L))
+                .thenReturn(Optional.of(samplePost1));
+
+        // When
+        PostResponse result = postService.createPost(request);
+
+        // Then
+        assertThat(result.getId()).isEqualTo(1L);
+        verify(postRepository, never()).save(any(Post.class));
+        verify(postDeduplicator, never()).record(any(), anyLong(), any());
+        verify(postSearchIndex, never()).add(any(), any());
+    }
+
+    @Test
+    @DisplayName("createPost - 同じ内容の同時投稿に先を越された場合はロールバックして先に記録された投稿を返す")
+    void createPost_WhenConcurrentDuplicateRecorded_ShouldReturnWinningPost() {
+        // Given
+        PostRequest request = new PostRequest("テスト投稿1");
+        String hash = PostDeduplicator.contentHash("テスト投稿1");
+        Post savedPost = new Post("テスト投稿1");
+        savedPost.setId(3L);
+        when(postDeduplicator.currentWindow()).thenReturn(42L);
+        when(postRepository.save(any(Post.class))).thenReturn(savedPost);
+        doThrow(new DataIntegrityViolationException("duplicate key"))
+                .when(postDeduplicator).record(hash, 42L, 3L);
+        when(postDeduplicator.findRecorded(hash, 42L)).thenReturn(Optional.of(samplePost1));
+
+        // When
+        PostResponse result = postService.createPost(request);
+
+        // Then
+        assertThat(result.getId()).isEqualTo(1L);
+        verify(transactionManager).rollback(any());
+        verify(postSearchIndex, never()).add(any(), any());
+    }
+
+    @Test
+    @DisplayName("createPost - フィンガープリントの記録がない一意制約違反はそのまま送出する")
+    void createPost_WhenOtherIntegrityViolation_ShouldRethrow() {
+        // Given
+        PostRequest request = new PostRequest("テスト投稿1");
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("other constraint");
+        when(postDeduplicator.currentWindow()).thenReturn(42L);
+        when(postRepository.save(any(Post.class))).thenThrow(violation);
+        when(postDeduplicator.findRecorded(PostDeduplicator.contentHash("テスト投稿1"), 42L))
+                .thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> postService.createPost(request)).isSameAs(violation);
     }
 
     @Test
@@ -218,4 +338,100 @@ class PostServiceTest {
         assertThat(response.getContent()).isEqualTo("変換テスト投稿");
         assertThat(response.getCreatedAt()).isEqualTo(LocalDateTime.of(2025, 8, 30, 15, 30, 45));
     }
+
+    @Test
+    @DisplayName("searchPosts - インデックスの順位順に投稿を返す")
+    void searchPosts_ShouldReturnPostsInIndexOrder() {
+        // Given - インデックスは ID=1 を上位、ID=2 を下位とし、次ページありと判定
+        PostSearchIndex.SearchCursor hit1 = new PostSearchIndex.SearchCursor(3, 1L);
+        PostSearchIndex.SearchCursor hit2 = new PostSearchIndex.SearchCursor(1, 2L);
+        when(postSearchIndex.search("テスト", null, 2))
+                .thenReturn(new PostSearchIndex.SearchPage(Arrays.asList(hit1, hit2), hit2));
+        when(postRepository.findAllById(Arrays.asList(1L, 2L)))
+                .thenReturn(Arrays.asList(samplePost2, samplePost1)); // DBの返却順は不定
+
+        // When
+        PostSearchResponse result = postService.searchPosts("テスト", null, 2);
+
+        // Then
+        assertThat(result.getPosts()).extracting(PostResponse::getId).containsExactly(1L, 2L);
+        assertThat(result.getNextCursor()).isEqualTo("1_2");
+    }
+
+    @Test
+    @DisplayName("searchPosts - 本文に一致しない候補を除き、不足分を次の候補から補う")
+    void searchPosts_ShouldSkipFalsePositivesAndFillPage() {
+        // Given - ID=3 は「テスト」のN-gramを含むが語としては一致しない候補
+        Post falsePositive = new Post();
+        falsePositive.setId(3L);
+        falsePositive.setContent("テスのストア");
+        PostSearchIndex.SearchCursor hit3 = new PostSearchIndex.SearchCursor(1, 3L);
+        PostSearchIndex.SearchCursor hit2 = new PostSearchIndex.SearchCursor(1, 2L);
+        PostSearchIndex.SearchCursor hit1 = new PostSearchIndex.SearchCursor(1, 1L);
+        when(postSearchIndex.search("テスト", null, 2))
+                .thenReturn(new PostSearchIndex.SearchPage(Arrays.asList(hit3, hit2), hit2));
+        when(postSearchIndex.search("テスト", hit2, 1))
+                .thenReturn(new PostSearchIndex.SearchPage(Arrays.asList(hit1), null));
+        when(postRepository.findAllById(Arrays.asList(3L, 2L)))
+                .thenReturn(Arrays.asList(falsePositive, samplePost2));
+        when(postRepository.findAllById(Arrays.asList(1L)))
+                .thenReturn(Arrays.asList(samplePost1));
+
+        // When
+        PostSearchResponse result = postService.searchPosts("テスト", null, 2);
+
+        // Then
+        assertThat(result.getPosts()).extracting(PostResponse::getId).containsExactly(2L, 1L);
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("searchPosts - 本文に一致しない候補が続く場合は補充の回数で打ち切り、次ページのカーソルを返す")
+    void searchPosts_ShouldStopAfterMaxRounds() {
+        // Given - 候補はすべて「テスト」を語として含まない
+        Post falsePositive = new Post();
+        falsePositive.setId(9L);
+        falsePositive.setContent("テスのストア");
+        PostSearchIndex.SearchCursor hit = new PostSearchIndex.SearchCursor(1, 9L);
+        when(postSearchIndex.search(eq("テスト"), any(), eq(2)))
+                .thenReturn(new PostSearchIndex.SearchPage(Arrays.asList(hit), hit));
+        when(postRepository.findAllById(Arrays.asList(9L)))
+                .thenReturn(Arrays.asList(falsePositive));
+
+        // When
+        PostSearchResponse result = postService.searchPosts("テスト", null, 2);
+
+        // Then
+        assertThat(result.getPosts()).isEmpty();
+        assertThat(result.getNextCursor()).isEqualTo("1_9");
+        verify(postSearchIndex, times(PostService.MAX_SEARCH_ROUNDS)).search(eq("テスト"), any(), eq(2));
+    }
+
+    @Test
+    @DisplayName("searchPosts - カーソルを復元し、件数を上限に丸めて検索する")
+    void searchPosts_ShouldParseCursorAndClampLimit() {
+        // Given
+        when(postSearchIndex.search(eq("テスト"), any(PostSearchIndex.SearchCursor.class), eq(PostService.MAX_SEARCH_LIMIT)))
+                .thenReturn(new PostSearchIndex.SearchPage(Arrays.asList(), null));
+
+        // When
+        PostSearchResponse result = postService.searchPosts("テスト", "5_10", 1000);
+
+        // Then
+        assertThat(result.getPosts()).isEmpty();
+        assertThat(result.getNextCursor()).isNull();
+        verify(postSearchIndex).search(eq("テスト"),
+                argThat(cursor -> cursor.getScore() == 5 && cursor.getPostId() == 10L),
+                eq(PostService.MAX_SEARCH_LIMIT));
+    }
+
+    @Test
+    @DisplayName("searchPosts - 不正なカーソルは例外が発生する")
+    void searchPosts_WithInvalidCursor_ShouldThrowException() {
+        assertThatThrownBy(() -> postService.searchPosts("テスト", "invalid", 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("カーソルの形式が不正です");
+
+        verify(postSearchIndex, never()).search(any(), any(), anyInt());
+    }
 }